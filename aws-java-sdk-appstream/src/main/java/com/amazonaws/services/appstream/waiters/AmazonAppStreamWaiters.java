@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class AmazonAppStreamWaiters {
@@ -32,6 +33,8 @@ public class AmazonAppStreamWaiters {
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AmazonAppStreamWaiters with the given client
      * 
@@ -40,7 +43,22 @@ public class AmazonAppStreamWaiters {
      */
     @SdkInternalApi
     public AmazonAppStreamWaiters(AmazonAppStream client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AmazonAppStreamWaiters with the given client, whose asynchronous waits are polled on the given
+     * scheduled executor service instead of holding a thread each. The scheduled executor service can be shared with
+     * other waiters and is not shut down by {@link #shutdown()}.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AmazonAppStreamWaiters(AmazonAppStream client, ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -53,7 +71,7 @@ public class AmazonAppStreamWaiters {
         return new WaiterBuilder<DescribeFleetsRequest, DescribeFleetsResult>().withSdkFunction(new DescribeFleetsFunction(client))
                 .withAcceptors(new FleetStarted.IsACTIVEMatcher(), new FleetStarted.IsPENDING_DEACTIVATEMatcher(), new FleetStarted.IsINACTIVEMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(40), new FixedDelayStrategy(30)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -66,7 +84,7 @@ public class AmazonAppStreamWaiters {
         return new WaiterBuilder<DescribeFleetsRequest, DescribeFleetsResult>().withSdkFunction(new DescribeFleetsFunction(client))
                 .withAcceptors(new FleetStopped.IsINACTIVEMatcher(), new FleetStopped.IsPENDING_ACTIVATEMatcher(), new FleetStopped.IsACTIVEMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(40), new FixedDelayStrategy(30)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     public void shutdown() {
@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class AmazonAutoScalingWaiters {
@@ -32,6 +33,8 @@ public class AmazonAutoScalingWaiters {
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AmazonAutoScalingWaiters with the given client
      * 
@@ -40,7 +43,22 @@ public class AmazonAutoScalingWaiters {
      */
     @SdkInternalApi
     public AmazonAutoScalingWaiters(AmazonAutoScaling client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AmazonAutoScalingWaiters with the given client, whose asynchronous waits are polled on the given
+     * scheduled executor service instead of holding a thread each. The scheduled executor service can be shared with
+     * other waiters and is not shut down by {@link #shutdown()}.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AmazonAutoScalingWaiters(AmazonAutoScaling client, ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -54,7 +72,7 @@ public class AmazonAutoScalingWaiters {
                 .withSdkFunction(new DescribeAutoScalingGroupsFunction(client))
                 .withAcceptors(new GroupInService.IsFalseMatcher(), new GroupInService.IsTrueMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(40), new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -68,7 +86,7 @@ public class AmazonAutoScalingWaiters {
                 .withSdkFunction(new DescribeAutoScalingGroupsFunction(client))
                 .withAcceptors(new GroupNotExists.IsFalseMatcher(), new GroupNotExists.IsTrueMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(40), new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -82,7 +100,7 @@ public class AmazonAutoScalingWaiters {
                 .withSdkFunction(new DescribeAutoScalingGroupsFunction(client))
                 .withAcceptors(new GroupExists.IsTrueMatcher(), new GroupExists.IsFalseMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(10), new FixedDelayStrategy(5)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     public void shutdown() {
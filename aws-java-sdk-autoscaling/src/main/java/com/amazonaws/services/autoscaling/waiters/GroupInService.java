@@ -47,6 +47,8 @@ class GroupInService {
                                 new JmesPathLiteral("\"InService\"")))), new JmesPathField("MinSize"))))), new JmesPathIdentity()),
                 new JmesPathLiteral("false"));
 
+        private static final CompiledJmesPathExpression compiledAst = CompiledJmesPathExpression.compile(ast);
+
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -57,8 +59,7 @@ class GroupInService {
          */
         @Override
         public boolean matches(DescribeAutoScalingGroupsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
+            JsonNode finalResult = compiledAst.evaluate(result);
             return AcceptorPathMatcher.path(expectedResult, finalResult);
         }
 
@@ -90,6 +91,8 @@ class GroupInService {
                                 new JmesPathLiteral("\"InService\"")))), new JmesPathField("MinSize"))))), new JmesPathIdentity()),
                 new JmesPathLiteral("false"));
 
+        private static final CompiledJmesPathExpression compiledAst = CompiledJmesPathExpression.compile(ast);
+
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -100,8 +103,7 @@ class GroupInService {
          */
         @Override
         public boolean matches(DescribeAutoScalingGroupsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
+            JsonNode finalResult = compiledAst.evaluate(result);
             return AcceptorPathMatcher.path(expectedResult, finalResult);
         }
 
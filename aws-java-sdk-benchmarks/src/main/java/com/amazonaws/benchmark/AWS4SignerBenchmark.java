@@ -0,0 +1,75 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.util.StringInputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link AWS4Signer#sign} for a DynamoDB PutItem shaped request. The payload is a
+ * fresh stream per invocation since signing hashes (and resets) the content.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AWS4SignerBenchmark {
+
+    @Param({"256", "16384"})
+    private int payloadSize;
+
+    private final AWSCredentials credentials = new BasicAWSCredentials("AKIDEXAMPLE",
+                                                                       "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+    private final AWS4Signer signer = new AWS4Signer();
+    private String payload;
+
+    @Setup
+    public void setup() {
+        signer.setServiceName("dynamodb");
+        signer.setRegionName("us-east-1");
+        payload = BenchmarkData.jsonPayload(payloadSize);
+    }
+
+    @Benchmark
+    public DefaultRequest<Void> sign() throws Exception {
+        DefaultRequest<Void> request = new DefaultRequest<Void>("AmazonDynamoDBv2");
+        request.setEndpoint(URI.create("https://dynamodb.us-east-1.amazonaws.com"));
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.PutItem");
+        request.setContent(new StringInputStream(payload));
+        signer.sign(request, credentials);
+        return request;
+    }
+}
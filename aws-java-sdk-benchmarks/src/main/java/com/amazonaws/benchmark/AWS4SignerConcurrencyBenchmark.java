@@ -0,0 +1,96 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpMethodName;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how {@link AWS4Signer#sign} scales when many threads sign concurrently, which is
+ * dominated by the lookup of the derived signing key. {@code sharedSigner} signs every request
+ * with one signer (as a client does); {@code signerPerRegion} rotates across signers for several
+ * regions so lookups also go through the JVM wide signing key cache. Compare runs with different
+ * thread counts, e.g. {@code -t 1}, {@code -t 8} and {@code -t 64}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class AWS4SignerConcurrencyBenchmark {
+
+    private static final String[] REGIONS = {"us-east-1", "us-west-2", "eu-west-1", "ap-northeast-1"};
+
+    private final AWSCredentials credentials = new BasicAWSCredentials("AKIDEXAMPLE",
+                                                                       "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+    private final AWS4Signer sharedSigner = newSigner("us-east-1");
+    private final AWS4Signer[] regionSigners = new AWS4Signer[REGIONS.length];
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < REGIONS.length; i++) {
+            regionSigners[i] = newSigner(REGIONS[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int next;
+    }
+
+    @Benchmark
+    public DefaultRequest<Void> sharedSigner() {
+        return sign(sharedSigner, "us-east-1");
+    }
+
+    @Benchmark
+    public DefaultRequest<Void> signerPerRegion(ThreadState state) {
+        int index = state.next++ % REGIONS.length;
+        return sign(regionSigners[index], REGIONS[index]);
+    }
+
+    private DefaultRequest<Void> sign(AWS4Signer signer, String region) {
+        DefaultRequest<Void> request = new DefaultRequest<Void>("AmazonDynamoDBv2");
+        request.setEndpoint(URI.create("https://dynamodb." + region + ".amazonaws.com"));
+        request.setHttpMethod(HttpMethodName.GET);
+        signer.sign(request, credentials);
+        return request;
+    }
+
+    private static AWS4Signer newSigner(String region) {
+        AWS4Signer signer = new AWS4Signer();
+        signer.setServiceName("dynamodb");
+        signer.setRegionName(region);
+        return signer;
+    }
+}
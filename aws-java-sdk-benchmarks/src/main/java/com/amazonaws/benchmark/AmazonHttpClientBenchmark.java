@@ -0,0 +1,146 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Response;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of {@link AmazonHttpClient} (request handlers, retry bookkeeping, metrics,
+ * connection pooling and response handling) against an in-process HTTP server that returns a
+ * canned response, so that network latency does not dominate the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmazonHttpClientBenchmark {
+
+    @Param({"256", "16384"})
+    private int responseSize;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private AmazonHttpClient client;
+    private URI endpoint;
+
+    private final HttpResponseHandler<AmazonWebServiceResponse<String>> responseHandler =
+            new HttpResponseHandler<AmazonWebServiceResponse<String>>() {
+                @Override
+                public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+                    AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+                    awsResponse.setResult(IOUtils.toString(response.getContent()));
+                    return awsResponse;
+                }
+
+                @Override
+                public boolean needsConnectionLeftOpen() {
+                    return false;
+                }
+            };
+
+    private final HttpResponseHandler<AmazonServiceException> errorResponseHandler =
+            new HttpResponseHandler<AmazonServiceException>() {
+                @Override
+                public AmazonServiceException handle(HttpResponse response) throws Exception {
+                    AmazonServiceException exception = new AmazonServiceException(response.getStatusText());
+                    exception.setStatusCode(response.getStatusCode());
+                    return exception;
+                }
+
+                @Override
+                public boolean needsConnectionLeftOpen() {
+                    return false;
+                }
+            };
+
+    @Setup
+    public void setup() throws IOException {
+        final byte[] body = BenchmarkData.jsonPayload(responseSize).getBytes(StringUtils.UTF8);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream requestBody = exchange.getRequestBody();
+                IOUtils.drainInputStream(requestBody);
+                requestBody.close();
+                exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.0");
+                exchange.getResponseHeaders().add("x-amzn-RequestId", "benchmark");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream responseBody = exchange.getResponseBody();
+                responseBody.write(body);
+                responseBody.close();
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        endpoint = URI.create("http://localhost:" + server.getAddress().getPort());
+        client = new AmazonHttpClient(new ClientConfiguration());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public Response<AmazonWebServiceResponse<String>> execute() {
+        DefaultRequest<Void> request = new DefaultRequest<Void>("benchmark");
+        request.setEndpoint(endpoint);
+        request.setResourcePath("/operation");
+        request.setHttpMethod(HttpMethodName.GET);
+        return client.requestExecutionBuilder()
+                     .request(request)
+                     .errorResponseHandler(errorResponseHandler)
+                     .execute(responseHandler);
+    }
+}
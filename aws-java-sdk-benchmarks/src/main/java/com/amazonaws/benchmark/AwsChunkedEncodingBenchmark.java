@@ -0,0 +1,84 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AwsChunkedEncodingInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading an S3 upload payload through {@link AwsChunkedEncodingInputStream}, i.e. the
+ * cost of SigV4 chunk signing and framing per payload, for several chunk sizes. Divide the payload
+ * size by the score to get the encoding throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AwsChunkedEncodingBenchmark {
+
+    private static final String DATE_TIME = "20180101T000000Z";
+    private static final String SCOPE = "20180101/us-east-1/s3/aws4_request";
+    private static final String HEADER_SIGNATURE =
+            "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Param({"16777216"})
+    private int payloadSize;
+
+    @Param({"131072", "1048576"})
+    private int chunkSize;
+
+    private final AWS4Signer signer = new AWS4Signer();
+    private final byte[] signingKey = new byte[32];
+    private final byte[] sink = new byte[64 * 1024];
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        random.nextBytes(signingKey);
+        payload = new byte[payloadSize];
+        random.nextBytes(payload);
+    }
+
+    @Benchmark
+    public long encode() throws IOException {
+        AwsChunkedEncodingInputStream stream = new AwsChunkedEncodingInputStream(
+                new ByteArrayInputStream(payload), Math.max(256 * 1024, chunkSize), chunkSize,
+                signingKey, DATE_TIME, SCOPE, HEADER_SIGNATURE, signer);
+        long total = 0;
+        int read;
+        while ((read = stream.read(sink, 0, sink.length)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+/**
+ * Generates the synthetic request and response documents used by the benchmarks so that their
+ * size can be parameterized.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @return A JSON object with a single string attribute, padded to roughly the given size.
+     */
+    static String jsonPayload(int size) {
+        StringBuilder value = new StringBuilder(size);
+        while (value.length() < size) {
+            value.append("abcdefghijklmnopqrstuvwxyz0123456789");
+        }
+        value.setLength(size);
+        return "{\"TableName\":\"benchmark\",\"Item\":{\"id\":{\"S\":\"" + value + "\"}}}";
+    }
+
+    /**
+     * @return A DynamoDB Query response with the given number of items.
+     */
+    static String dynamoDbQueryResponse(int items) {
+        StringBuilder json = new StringBuilder(items * 200);
+        json.append("{\"Count\":").append(items).append(",\"ScannedCount\":").append(items)
+            .append(",\"ConsumedCapacity\":{\"TableName\":\"benchmark\",\"CapacityUnits\":0.5},\"Items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"hashKey\":{\"S\":\"customer-").append(i).append("\"},")
+                .append("\"rangeKey\":{\"N\":\"").append(1500000000L + i).append("\"},")
+                .append("\"name\":{\"S\":\"Some customer name ").append(i).append("\"},")
+                .append("\"active\":{\"BOOL\":true},")
+                .append("\"tags\":{\"SS\":[\"red\",\"green\",\"blue\"]},")
+                .append("\"address\":{\"M\":{\"street\":{\"S\":\"").append(i)
+                .append(" Main Street\"},\"zip\":{\"N\":\"98101\"}}}}");
+        }
+        json.append("],\"LastEvaluatedKey\":{\"hashKey\":{\"S\":\"customer-").append(items)
+            .append("\"}}}");
+        return json.toString();
+    }
+
+    /**
+     * @return An EC2 DescribeInstances response with the given number of instances.
+     */
+    static String ec2DescribeInstancesResponse(int instances) {
+        StringBuilder xml = new StringBuilder(instances * 1500);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+           .append("<DescribeInstancesResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">")
+           .append("<requestId>8f7724cf-496f-496e-8fe3-example</requestId><reservationSet>");
+        for (int i = 0; i < instances; i++) {
+            xml.append("<item><reservationId>r-").append(i).append("</reservationId>")
+               .append("<ownerId>123456789012</ownerId><groupSet/><instancesSet><item>")
+               .append("<instanceId>i-").append(Integer.toHexString(0x1000000 + i)).append("</instanceId>")
+               .append("<imageId>ami-bff32ccc</imageId>")
+               .append("<instanceState><code>16</code><name>running</name></instanceState>")
+               .append("<privateDnsName>ip-192-168-1-88.eu-west-1.compute.internal</privateDnsName>")
+               .append("<dnsName>ec2-54-194-252-215.eu-west-1.compute.amazonaws.com</dnsName>")
+               .append("<reason/><keyName>my_keypair</keyName><amiLaunchIndex>0</amiLaunchIndex>")
+               .append("<productCodes/><instanceType>t2.micro</instanceType>")
+               .append("<launchTime>2018-01-10T12:34:56.000Z</launchTime>")
+               .append("<placement><availabilityZone>eu-west-1c</availabilityZone>")
+               .append("<groupName/><tenancy>default</tenancy></placement>")
+               .append("<monitoring><state>disabled</state></monitoring>")
+               .append("<subnetId>subnet-56f5f633</subnetId><vpcId>vpc-11112222</vpcId>")
+               .append("<privateIpAddress>192.168.1.88</privateIpAddress>")
+               .append("<ipAddress>54.194.252.215</ipAddress><sourceDestCheck>true</sourceDestCheck>")
+               .append("<groupSet><item><groupId>sg-e4076980</groupId><groupName>SecurityGroup1</groupName></item></groupSet>")
+               .append("<architecture>x86_64</architecture><rootDeviceType>ebs</rootDeviceType>")
+               .append("<rootDeviceName>/dev/xvda</rootDeviceName><blockDeviceMapping><item>")
+               .append("<deviceName>/dev/xvda</deviceName><ebs><volumeId>vol-1234567890abcdef0</volumeId>")
+               .append("<status>attached</status><attachTime>2018-01-10T12:34:57.000Z</attachTime>")
+               .append("<deleteOnTermination>true</deleteOnTermination></ebs></item></blockDeviceMapping>")
+               .append("<virtualizationType>hvm</virtualizationType><clientToken>xMcwG14507example</clientToken>")
+               .append("<tagSet><item><key>Name</key><value>Server_").append(i).append("</value></item></tagSet>")
+               .append("<hypervisor>xen</hypervisor><ebsOptimized>false</ebsOptimized>")
+               .append("</item></instancesSet></item>");
+        }
+        xml.append("</reservationSet></DescribeInstancesResponse>");
+        return xml.toString();
+    }
+
+    /**
+     * @return An S3 ListObjectsV2 response with the given number of keys.
+     */
+    static String s3ListObjectsV2Response(int keys) {
+        StringBuilder xml = new StringBuilder(keys * 400);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+           .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">\n")
+           .append("<Name>benchmark-bucket</Name><Prefix></Prefix><KeyCount>").append(keys)
+           .append("</KeyCount><MaxKeys>1000</MaxKeys><IsTruncated>true</IsTruncated>\n")
+           .append("<NextContinuationToken>1ueGcxLPRx1Tr/XYExHnhbYLgveDs2J/wm36Hy4vbOwM=</NextContinuationToken>\n");
+        for (int i = 0; i < keys; i++) {
+            xml.append("<Contents><Key>logs/2018/01/10/part-").append(i).append(".gz</Key>")
+               .append("<LastModified>2018-01-10T12:34:56.000Z</LastModified>")
+               .append("<ETag>&quot;fba9dede5f27731c9771645a39863328&quot;</ETag>")
+               .append("<Size>").append(434234 + i).append("</Size>")
+               .append("<StorageClass>STANDARD</StorageClass></Contents>\r\n");
+        }
+        xml.append("</ListBucketResult>");
+        return xml.toString();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel.DynamoDBAttributeType;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTyped;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-item cost of {@link DynamoDBMapper} on a bulk load or save of many items, split
+ * into the reflective property accessors alone and their full conversion to and from attribute
+ * values. The items hold booleans stored as strings, which go through the string to boolean
+ * converter on every load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamoDBMapperItemConversionBenchmark {
+
+    @Param({"1", "1000"})
+    private int itemCount;
+
+    private DynamoDBMapperTableModel<Flags> model;
+    private List<DynamoDBMapperFieldModel<Flags, Object>> fields;
+    private List<Flags> items;
+    private List<Map<String, AttributeValue>> attributes;
+
+    @Setup
+    public void setup() {
+        // No request is ever sent, the client is only needed to construct the mapper.
+        DynamoDBMapper mapper = new DynamoDBMapper(AmazonDynamoDBClientBuilder.standard()
+                .withRegion("us-east-1")
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("akid", "skid")))
+                .build());
+        model = mapper.getTableModel(Flags.class);
+        fields = new ArrayList<DynamoDBMapperFieldModel<Flags, Object>>(model.fields());
+
+        items = new ArrayList<Flags>(itemCount);
+        attributes = new ArrayList<Map<String, AttributeValue>>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Flags item = new Flags();
+            item.setId("item-" + i);
+            item.setCount(i);
+            item.setEnabled(i % 2 == 0);
+            item.setVisible(i % 3 == 0);
+            item.setArchived(i % 5 == 0);
+            items.add(item);
+            attributes.add(model.convert(item));
+        }
+    }
+
+    /**
+     * Reads every mapped property of every item, without converting the values.
+     */
+    @Benchmark
+    public void getProperties(Blackhole blackhole) {
+        for (Flags item : items) {
+            for (DynamoDBMapperFieldModel<Flags, Object> field : fields) {
+                blackhole.consume(field.get(item));
+            }
+        }
+    }
+
+    /**
+     * Writes every mapped property of every item with the value it already holds.
+     */
+    @Benchmark
+    public void setProperties() {
+        for (Flags item : items) {
+            for (DynamoDBMapperFieldModel<Flags, Object> field : fields) {
+                field.set(item, field.get(item));
+            }
+        }
+    }
+
+    @Benchmark
+    public void marshall(Blackhole blackhole) {
+        for (Flags item : items) {
+            blackhole.consume(model.convert(item));
+        }
+    }
+
+    @Benchmark
+    public void unmarshall(Blackhole blackhole) {
+        for (Map<String, AttributeValue> item : attributes) {
+            blackhole.consume(model.unconvert(item));
+        }
+    }
+
+    @DynamoDBTable(tableName = "benchmark")
+    public static class Flags {
+        private String id;
+        private Integer count;
+        private Boolean enabled;
+        private Boolean visible;
+        private Boolean archived;
+
+        @DynamoDBHashKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+
+        @DynamoDBTyped(DynamoDBAttributeType.S)
+        public Boolean getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @DynamoDBTyped(DynamoDBAttributeType.S)
+        public Boolean getVisible() {
+            return visible;
+        }
+
+        public void setVisible(Boolean visible) {
+            this.visible = visible;
+        }
+
+        @DynamoDBTyped(DynamoDBAttributeType.S)
+        public Boolean getArchived() {
+            return archived;
+        }
+
+        public void setArchived(Boolean archived) {
+            this.archived = archived;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import com.amazonaws.Request;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.transform.PutItemRequestProtocolMarshaller;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures marshalling of a DynamoDB PutItem request through the JSON protocol marshaller, the
+ * path taken by every JSON protocol service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonProtocolMarshallerBenchmark {
+
+    @Param({"5", "50"})
+    private int attributes;
+
+    private final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
+            new JsonClientMetadata().withProtocolVersion("1.0").withSupportsCbor(false).withSupportsIon(false));
+    private PutItemRequest putItemRequest;
+
+    @Setup
+    public void setup() {
+        Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("id", new AttributeValue().withS("customer-1"));
+        for (int i = 0; i < attributes; i++) {
+            switch (i % 4) {
+                case 0:
+                    item.put("string" + i, new AttributeValue().withS("Some string value " + i));
+                    break;
+                case 1:
+                    item.put("number" + i, new AttributeValue().withN(String.valueOf(1500000000L + i)));
+                    break;
+                case 2:
+                    item.put("set" + i, new AttributeValue().withSS("red", "green", "blue"));
+                    break;
+                default:
+                    item.put("binary" + i, new AttributeValue().withB(ByteBuffer.wrap(new byte[64])));
+                    break;
+            }
+        }
+        putItemRequest = new PutItemRequest().withTableName("benchmark").withItem(item);
+    }
+
+    @Benchmark
+    public Request<PutItemRequest> marshall() {
+        return new PutItemRequestProtocolMarshaller(protocolFactory).marshall(putItemRequest);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.JsonOperationMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.transform.QueryResultJsonUnmarshaller;
+import com.amazonaws.util.StringUtils;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures unmarshalling of a DynamoDB Query response through the JSON response handler, which
+ * drives the generated unmarshallers with a {@link com.amazonaws.transform.JsonUnmarshallerContextImpl}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUnmarshallerBenchmark {
+
+    @Param({"10", "100"})
+    private int items;
+
+    private byte[] response;
+    private HttpResponseHandler<AmazonWebServiceResponse<QueryResult>> responseHandler;
+
+    @Setup
+    public void setup() {
+        response = BenchmarkData.dynamoDbQueryResponse(items).getBytes(StringUtils.UTF8);
+        responseHandler = new SdkJsonProtocolFactory(
+                new JsonClientMetadata().withProtocolVersion("1.0").withSupportsCbor(false).withSupportsIon(false))
+                .createResponseHandler(new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false),
+                                       new QueryResultJsonUnmarshaller());
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<QueryResult> unmarshallQueryResult() throws Exception {
+        HttpResponse httpResponse = new HttpResponse(new DefaultRequest<Void>("AmazonDynamoDBv2"), null);
+        httpResponse.setStatusCode(200);
+        httpResponse.addHeader("Content-Type", "application/x-amz-json-1.0");
+        httpResponse.setContent(new ByteArrayInputStream(response));
+        return responseHandler.handle(httpResponse);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.transform.DescribeInstancesResultStaxUnmarshaller;
+import com.amazonaws.util.StringUtils;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures unmarshalling of an EC2 DescribeInstances response through the StAX response handler,
+ * which drives the generated unmarshallers with a {@link com.amazonaws.transform.StaxUnmarshallerContext}.
+ * Run with multiple threads ({@code -t}) to observe contention in the response handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaxUnmarshallerBenchmark {
+
+    @Param({"10", "100"})
+    private int instances;
+
+    private byte[] response;
+    private final StaxResponseHandler<DescribeInstancesResult> responseHandler =
+            new StaxResponseHandler<DescribeInstancesResult>(new DescribeInstancesResultStaxUnmarshaller());
+
+    @Setup
+    public void setup() {
+        response = BenchmarkData.ec2DescribeInstancesResponse(instances).getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<DescribeInstancesResult> unmarshallDescribeInstancesResult() throws Exception {
+        HttpResponse httpResponse = new HttpResponse(new DefaultRequest<Void>("AmazonEC2"), null);
+        httpResponse.setStatusCode(200);
+        httpResponse.setContent(new ByteArrayInputStream(response));
+        return responseHandler.handle(httpResponse);
+    }
+}
@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class AmazonCloudFormationWaiters {
@@ -32,6 +33,8 @@ public class AmazonCloudFormationWaiters {
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AmazonCloudFormationWaiters with the given client
      * 
@@ -40,7 +43,22 @@ public class AmazonCloudFormationWaiters {
      */
     @SdkInternalApi
     public AmazonCloudFormationWaiters(AmazonCloudFormation client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AmazonCloudFormationWaiters with the given client, whose asynchronous waits are polled on the
+     * given scheduled executor service instead of holding a thread each. The scheduled executor service can be shared
+     * with other waiters and is not shut down by {@link #shutdown()}.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AmazonCloudFormationWaiters(AmazonCloudFormation client, ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -53,7 +71,7 @@ public class AmazonCloudFormationWaiters {
         return new WaiterBuilder<DescribeStacksRequest, DescribeStacksResult>().withSdkFunction(new DescribeStacksFunction(client))
                 .withAcceptors(new HttpSuccessStatusAcceptor(WaiterState.SUCCESS), new StackExists.IsValidationErrorMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(20), new FixedDelayStrategy(5)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -70,7 +88,7 @@ public class AmazonCloudFormationWaiters {
                         new StackCreateComplete.IsROLLBACK_FAILEDMatcher(), new StackCreateComplete.IsROLLBACK_COMPLETEMatcher(),
                         new StackCreateComplete.IsValidationErrorMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(120), new FixedDelayStrategy(30)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -85,7 +103,7 @@ public class AmazonCloudFormationWaiters {
                 .withAcceptors(new ChangeSetCreateComplete.IsCREATE_COMPLETEMatcher(), new ChangeSetCreateComplete.IsFAILEDMatcher(),
                         new ChangeSetCreateComplete.IsValidationErrorMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(120), new FixedDelayStrategy(30)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -102,7 +120,7 @@ public class AmazonCloudFormationWaiters {
                         new StackDeleteComplete.IsROLLBACK_FAILEDMatcher(), new StackDeleteComplete.IsUPDATE_ROLLBACK_FAILEDMatcher(),
                         new StackDeleteComplete.IsUPDATE_ROLLBACK_IN_PROGRESSMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(120), new FixedDelayStrategy(30)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -118,7 +136,7 @@ public class AmazonCloudFormationWaiters {
                         new StackUpdateComplete.IsUPDATE_ROLLBACK_FAILEDMatcher(), new StackUpdateComplete.IsUPDATE_ROLLBACK_COMPLETEMatcher(),
                         new StackUpdateComplete.IsValidationErrorMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(120), new FixedDelayStrategy(30)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     public void shutdown() {
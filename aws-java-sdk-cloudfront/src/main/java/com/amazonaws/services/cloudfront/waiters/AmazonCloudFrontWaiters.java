@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class AmazonCloudFrontWaiters {
@@ -32,6 +33,8 @@ public class AmazonCloudFrontWaiters {
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AmazonCloudFrontWaiters with the given client
      * 
@@ -40,7 +43,22 @@ public class AmazonCloudFrontWaiters {
      */
     @SdkInternalApi
     public AmazonCloudFrontWaiters(AmazonCloudFront client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AmazonCloudFrontWaiters with the given client, whose asynchronous waits are polled on the given
+     * scheduled executor service instead of holding a thread each. The scheduled executor service can be shared with
+     * other waiters and is not shut down by {@link #shutdown()}.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AmazonCloudFrontWaiters(AmazonCloudFront client, ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -53,7 +71,7 @@ public class AmazonCloudFrontWaiters {
         return new WaiterBuilder<GetDistributionRequest, GetDistributionResult>().withSdkFunction(new GetDistributionFunction(client))
                 .withAcceptors(new DistributionDeployed.IsDeployedMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(25), new FixedDelayStrategy(60)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -66,7 +84,7 @@ public class AmazonCloudFrontWaiters {
         return new WaiterBuilder<GetStreamingDistributionRequest, GetStreamingDistributionResult>()
                 .withSdkFunction(new GetStreamingDistributionFunction(client)).withAcceptors(new StreamingDistributionDeployed.IsDeployedMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(25), new FixedDelayStrategy(60)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -79,7 +97,7 @@ public class AmazonCloudFrontWaiters {
         return new WaiterBuilder<GetInvalidationRequest, GetInvalidationResult>().withSdkFunction(new GetInvalidationFunction(client))
                 .withAcceptors(new InvalidationCompleted.IsCompletedMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(30), new FixedDelayStrategy(20)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     public void shutdown() {
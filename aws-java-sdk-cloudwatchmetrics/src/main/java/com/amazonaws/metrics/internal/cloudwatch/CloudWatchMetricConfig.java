@@ -66,14 +66,15 @@ public class CloudWatchMetricConfig {
      */
     static final int MAX_METRICS_DATUM_SIZE = 20;
     /**
-     * Default metrics queue size. If the queue size
-     * exceeds this value, then excessive metrics will be dropped to prevent
-     * resource exhaustion.
+     * Default metrics queue size, which is the maximum number of unique
+     * metrics summarized per upload interval. Data for metrics beyond this
+     * number will be dropped to prevent resource exhaustion.
      */
     public static final int DEFAULT_METRICS_QSIZE = 1000;
     /**
-     * Default timeout in millisecond for queue polling.  Set to one-minute
-     * which is the finest granularity of Amazon CloudWatch.
+     * Default timeout in millisecond for queue polling, which is the upload
+     * interval. Set to one-minute which is the finest granularity of Amazon
+     * CloudWatch.
      */
     public static final int DEFAULT_QUEUE_POLL_TIMEOUT_MILLI = (int)TimeUnit.MINUTES.toMillis(1);
 
@@ -184,7 +185,10 @@ public class CloudWatchMetricConfig {
 
     /**
      * Configure the metric queue size, overriding the default. Must be at
-     * least 1.
+     * least 1. Metric data are summarized into the statistics of each unique
+     * metric (metric name and dimensions) as they are collected, so this is
+     * the maximum number of unique metrics held per upload interval; data for
+     * further metrics are dropped until the interval ends.
      *
      * @see #DEFAULT_METRICS_QSIZE
      */
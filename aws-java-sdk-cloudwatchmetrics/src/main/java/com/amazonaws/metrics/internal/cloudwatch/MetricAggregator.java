@@ -0,0 +1,259 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+/**
+ * An internal aggregator that summarizes metric data, as they are collected,
+ * into the statistics of each unique metric (metric name and dimensions) over
+ * an upload interval. The cost of collecting a metric therefore no longer
+ * depends on how many data points were collected before it, and the memory
+ * held is bounded by the number of unique metrics rather than the request
+ * rate.
+ * <p>
+ * The statistics of each metric are kept in per-thread stripes, so that
+ * threads collecting the same metric at the same time rarely contend. Once
+ * the maximum number of unique metrics has been reached in an interval, data
+ * for new metrics are dropped and counted until the interval ends.
+ * <p>
+ * An interval ends only once the threads adding to it are done, so no datum
+ * is lost when it is drained.
+ */
+@ThreadSafe
+class MetricAggregator {
+    private static final int MAX_STRIPES = 16;
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    private final int maxMetrics;
+    private final AtomicReference<Interval> current = new AtomicReference<Interval>(new Interval());
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    MetricAggregator(int maxMetrics) {
+        if (maxMetrics < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxMetrics = maxMetrics;
+    }
+
+    /**
+     * Summarizes the given datum into the statistics of its metric for the
+     * current interval, returning true if successful or false if the datum was
+     * dropped because the maximum number of unique metrics has been reached.
+     * Data without a finite value are ignored, as Amazon CloudWatch rejects
+     * them.
+     */
+    boolean add(MetricDatum datum) {
+        Double value = datum.getValue();
+        if (value == null || value.isNaN() || value.isInfinite()) {
+            return true;
+        }
+        List<Dimension> dims = datum.getDimensions();
+        Collections.sort(dims, DimensionComparator.INSTANCE);
+        String key = keyOf(datum.getMetricName(), dims);
+
+        while (true) {
+            Interval interval = current.get();
+            interval.writers.incrementAndGet();
+            try {
+                // Checked after registering as a writer, so that either the
+                // drain waits for this datum or the datum goes to the next interval.
+                if (!interval.ended) {
+                    return add(interval, key, datum, value);
+                }
+            } finally {
+                interval.writers.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean add(Interval interval, String key, MetricDatum datum, double value) {
+        AggregatedMetric metric = interval.metrics.get(key);
+        if (metric == null) {
+            if (interval.size.incrementAndGet() > maxMetrics) {
+                interval.size.decrementAndGet();
+                droppedCount.incrementAndGet();
+                return false;
+            }
+            AggregatedMetric created = new AggregatedMetric(datum);
+            metric = interval.metrics.putIfAbsent(key, created);
+            if (metric == null) {
+                metric = created;
+            } else {
+                interval.size.decrementAndGet();
+            }
+        }
+        metric.record(value);
+        interval.data.countDown();
+        return true;
+    }
+
+    /**
+     * Blocks until a datum has been added to the current interval. Must only
+     * be called by the thread draining this aggregator.
+     */
+    void awaitData() throws InterruptedException {
+        current.get().data.await();
+    }
+
+    /**
+     * Ends the current interval and returns a datum with the statistic values
+     * of each metric collected during it, waiting for any datum being added to
+     * it at the moment it ends.
+     */
+    List<MetricDatum> drain() {
+        Interval interval = current.getAndSet(new Interval());
+        interval.ended = true;
+        while (interval.writers.get() > 0) {
+            Thread.yield();
+        }
+        List<MetricDatum> data = new ArrayList<MetricDatum>(interval.metrics.size());
+        for (AggregatedMetric metric : interval.metrics.values()) {
+            MetricDatum datum = metric.toMetricDatum();
+            if (datum != null) {
+                data.add(datum);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Returns the number of data dropped so far because the maximum number of
+     * unique metrics had been reached.
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private static String keyOf(String metricName, List<Dimension> dims) {
+        StringBuilder key = new StringBuilder(metricName);
+        for (Dimension dim : dims) {
+            key.append('|').append(dim.getName()).append('=').append(dim.getValue());
+        }
+        return key.toString();
+    }
+
+    private static int stripes(int processors) {
+        int stripes = 1;
+        while (stripes < processors && stripes < MAX_STRIPES) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    /**
+     * The unique metrics collected during one upload interval.
+     */
+    private static final class Interval {
+        private final ConcurrentMap<String, AggregatedMetric> metrics =
+                new ConcurrentHashMap<String, AggregatedMetric>();
+        private final AtomicInteger size = new AtomicInteger();
+        /** The number of threads adding to this interval. */
+        private final AtomicInteger writers = new AtomicInteger();
+        /** Counted down once a datum has been added. */
+        private final CountDownLatch data = new CountDownLatch(1);
+        private volatile boolean ended;
+    }
+
+    /**
+     * The statistic values of one unique metric, striped by thread. Each
+     * stripe holds the sample count, and the raw bits of the sum, minimum and
+     * maximum.
+     */
+    private static final class AggregatedMetric {
+        private static final int COUNT = 0;
+        private static final int SUM = 1;
+        private static final int MIN = 2;
+        private static final int MAX = 3;
+        private static final int SLOTS = 4;
+
+        private final String metricName;
+        private final List<Dimension> dimensions;
+        private final String unit;
+        private final AtomicLongArray stripes = new AtomicLongArray(STRIPES * SLOTS);
+
+        private AggregatedMetric(MetricDatum datum) {
+            this.metricName = datum.getMetricName();
+            this.dimensions = new ArrayList<Dimension>(datum.getDimensions());
+            this.unit = datum.getUnit();
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                stripes.set(stripe * SLOTS + MIN, Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+                stripes.set(stripe * SLOTS + MAX, Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+            }
+        }
+
+        private void record(double value) {
+            int base = ((int) Thread.currentThread().getId() & (STRIPES - 1)) * SLOTS;
+            stripes.incrementAndGet(base + COUNT);
+            long bits;
+            do {
+                bits = stripes.get(base + SUM);
+            } while (!stripes.compareAndSet(base + SUM, bits,
+                    Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + value)));
+            do {
+                bits = stripes.get(base + MIN);
+            } while (value < Double.longBitsToDouble(bits)
+                    && !stripes.compareAndSet(base + MIN, bits, Double.doubleToRawLongBits(value)));
+            do {
+                bits = stripes.get(base + MAX);
+            } while (value > Double.longBitsToDouble(bits)
+                    && !stripes.compareAndSet(base + MAX, bits, Double.doubleToRawLongBits(value)));
+        }
+
+        /**
+         * Returns a datum with the statistic values of this metric; or null if
+         * no value has been recorded.
+         */
+        private MetricDatum toMetricDatum() {
+            long count = 0;
+            double sum = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                int base = stripe * SLOTS;
+                count += stripes.get(base + COUNT);
+                sum += Double.longBitsToDouble(stripes.get(base + SUM));
+                min = Math.min(min, Double.longBitsToDouble(stripes.get(base + MIN)));
+                max = Math.max(max, Double.longBitsToDouble(stripes.get(base + MAX)));
+            }
+            if (count == 0) {
+                return null;
+            }
+            return new MetricDatum()
+                .withMetricName(metricName)
+                .withDimensions(dimensions)
+                .withUnit(unit)
+                .withStatisticValues(new StatisticSet()
+                    .withSampleCount((double) count)
+                    .withSum(sum)
+                    .withMinimum(min)
+                    .withMaximum(max));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import static com.amazonaws.metrics.internal.cloudwatch.MetricAggregatorTest.datum;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
+
+public class BlockingRequestBuilderTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final MetricAggregator aggregator = new MetricAggregator(10);
+    private final BlockingRequestBuilder builder = new BlockingRequestBuilder(
+            new CloudWatchMetricConfig().withQueuePollTimeoutMilli(50), aggregator);
+    private boolean machineMetricsExcluded;
+
+    @Before
+    public void setUp() {
+        machineMetricsExcluded = AwsSdkMetrics.isMachineMetricExcluded();
+        AwsSdkMetrics.setMachineMetricsExcluded(true);
+    }
+
+    @After
+    public void tearDown() {
+        AwsSdkMetrics.setMachineMetricsExcluded(machineMetricsExcluded);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCollectedMetricsAreUploadedAtEndOfInterval() throws Exception {
+        aggregator.add(datum("Latency", 1));
+        aggregator.add(datum("Latency", 3));
+
+        List<MetricDatum> data = metricData(builder.nextUploadUnits());
+
+        assertEquals(1, data.size());
+        assertEquals(2.0, data.get(0).getStatisticValues().getSampleCount(), 0);
+        assertEquals(4.0, data.get(0).getStatisticValues().getSum(), 0);
+    }
+
+    @Test
+    public void testBlocksUntilMetricIsCollected() throws Exception {
+        Future<Iterable<PutMetricDataRequest>> next = executor.submit(
+                new Callable<Iterable<PutMetricDataRequest>>() {
+                    @Override
+                    public Iterable<PutMetricDataRequest> call() throws InterruptedException {
+                        return builder.nextUploadUnits();
+                    }
+                });
+
+        // Several intervals go by without anything to upload
+        Thread.sleep(300);
+        assertFalse(next.isDone());
+
+        aggregator.add(datum("Latency", 2));
+
+        List<MetricDatum> data = metricData(next.get(10, TimeUnit.SECONDS));
+        assertEquals(1, data.size());
+        assertEquals("Latency", data.get(0).getMetricName());
+        assertEquals(1.0, data.get(0).getStatisticValues().getSampleCount(), 0);
+    }
+
+    private static List<MetricDatum> metricData(Iterable<PutMetricDataRequest> requests) {
+        List<MetricDatum> data = new ArrayList<MetricDatum>();
+        for (PutMetricDataRequest request : requests) {
+            if (request.getNamespace().equals(AwsSdkMetrics.getMetricNameSpace())) {
+                data.addAll(request.getMetricData());
+            }
+        }
+        return data;
+    }
+}
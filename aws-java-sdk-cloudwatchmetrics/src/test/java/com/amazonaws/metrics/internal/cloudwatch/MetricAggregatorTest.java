@@ -0,0 +1,261 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+public class MetricAggregatorTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testStatisticsWithNegativeValues() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+
+        aggregator.add(datum("Latency", 3));
+        aggregator.add(datum("Latency", -5));
+        aggregator.add(datum("Latency", 10));
+        aggregator.add(datum("Negative", -1));
+        aggregator.add(datum("Negative", -7));
+
+        List<MetricDatum> data = aggregator.drain();
+        assertEquals(2, data.size());
+        assertStatistics(3, 8, -5, 10, find(data, "Latency"));
+        assertStatistics(2, -8, -7, -1, find(data, "Negative"));
+    }
+
+    @Test
+    public void testNonFiniteValuesAreIgnored() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+
+        assertTrue(aggregator.add(datum("Latency", Double.NaN)));
+        assertTrue(aggregator.add(datum("Latency", -2)));
+        assertTrue(aggregator.add(datum("Latency", Double.POSITIVE_INFINITY)));
+        assertTrue(aggregator.add(datum("Latency", Double.NEGATIVE_INFINITY)));
+        assertTrue(aggregator.add(datum("NaN", Double.NaN)));
+        assertTrue(aggregator.add(new MetricDatum().withMetricName("NoValue")));
+
+        List<MetricDatum> data = aggregator.drain();
+        assertEquals(1, data.size());
+        assertStatistics(1, -2, -2, -2, find(data, "Latency"));
+    }
+
+    @Test
+    public void testMetricsAreIdentifiedByNameAndDimensions() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+
+        aggregator.add(datum("Latency", 1, "MetricType", "Request", "ServiceName", "S3"));
+        aggregator.add(datum("Latency", 2, "ServiceName", "S3", "MetricType", "Request"));
+        aggregator.add(datum("Latency", 3, "ServiceName", "DynamoDB", "MetricType", "Request"));
+
+        List<MetricDatum> data = aggregator.drain();
+        assertEquals(2, data.size());
+        for (MetricDatum datum : data) {
+            String service = datum.getDimensions().get(1).getValue();
+            if (service.equals("S3")) {
+                assertStatistics(2, 3, 1, 2, datum);
+            } else {
+                assertStatistics(1, 3, 3, 3, datum);
+            }
+        }
+    }
+
+    @Test
+    public void testDrainResetsStatistics() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        aggregator.add(datum("Latency", 5));
+        aggregator.add(datum("Latency", 7));
+        assertEquals(1, aggregator.drain().size());
+
+        assertTrue(aggregator.drain().isEmpty());
+
+        aggregator.add(datum("Latency", 1));
+        List<MetricDatum> data = aggregator.drain();
+        assertEquals(1, data.size());
+        assertStatistics(1, 1, 1, 1, find(data, "Latency"));
+    }
+
+    @Test
+    public void testDataForNewMetricsAreDroppedOnceFull() {
+        MetricAggregator aggregator = new MetricAggregator(2);
+
+        assertTrue(aggregator.add(datum("A", 1)));
+        assertTrue(aggregator.add(datum("B", 1)));
+        assertFalse(aggregator.add(datum("C", 1)));
+        assertFalse(aggregator.add(datum("C", 2)));
+        // Metrics already collected in the interval are still summarized
+        assertTrue(aggregator.add(datum("A", 2)));
+        assertEquals(2, aggregator.getDroppedCount());
+
+        List<MetricDatum> data = aggregator.drain();
+        assertEquals(2, data.size());
+        assertStatistics(2, 3, 1, 2, find(data, "A"));
+
+        // A new interval makes room again, without resetting the dropped count
+        assertTrue(aggregator.add(datum("C", 1)));
+        assertEquals(2, aggregator.getDroppedCount());
+    }
+
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        final MetricAggregator aggregator = new MetricAggregator(10);
+        final int threads = 8;
+        final int perThread = 10000;
+
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int i = 0; i < perThread; i++) {
+                        aggregator.add(datum(i % 2 == 0 ? "Even" : "Odd", i % 100 - 50));
+                    }
+                    return null;
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        List<MetricDatum> data = aggregator.drain();
+        assertEquals(2, data.size());
+        long half = threads * perThread / 2;
+        // Even values are -50, -48 ... 48 and odd ones -49, -47 ... 49, each repeated evenly
+        assertStatistics(half, -half, -50, 48, find(data, "Even"));
+        assertStatistics(half, 0, -49, 49, find(data, "Odd"));
+    }
+
+    @Test
+    public void testNoDataLostWhileDraining() throws Exception {
+        final MetricAggregator aggregator = new MetricAggregator(10);
+        final AtomicBoolean stop = new AtomicBoolean();
+        final int threads = 4;
+
+        List<Future<Long>> futures = new ArrayList<Future<Long>>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(new Callable<Long>() {
+                @Override
+                public Long call() {
+                    long added = 0;
+                    while (!stop.get()) {
+                        aggregator.add(datum("Latency", 1));
+                        added++;
+                    }
+                    return added;
+                }
+            }));
+        }
+
+        double drained = 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+        while (System.nanoTime() < deadline) {
+            drained += sampleCount(aggregator.drain());
+        }
+        stop.set(true);
+        long added = 0;
+        for (Future<Long> future : futures) {
+            added += future.get();
+        }
+        drained += sampleCount(aggregator.drain());
+
+        assertEquals(added, (long) drained);
+    }
+
+    @Test
+    public void testAwaitDataBlocksUntilDatumIsAdded() throws Exception {
+        final MetricAggregator aggregator = new MetricAggregator(10);
+        aggregator.add(datum("Latency", 1));
+        aggregator.drain();
+        final CountDownLatch awaited = new CountDownLatch(1);
+
+        executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws InterruptedException {
+                aggregator.awaitData();
+                awaited.countDown();
+                return null;
+            }
+        });
+
+        assertFalse(awaited.await(100, TimeUnit.MILLISECONDS));
+        aggregator.add(datum("Latency", Double.NaN));
+        assertFalse(awaited.await(100, TimeUnit.MILLISECONDS));
+        aggregator.add(datum("Latency", 1));
+        assertTrue(awaited.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAtLeastOneMetric() {
+        new MetricAggregator(0);
+    }
+
+    static MetricDatum datum(String metricName, double value, String... dimensions) {
+        MetricDatum datum = new MetricDatum().withMetricName(metricName).withValue(value);
+        for (int i = 0; i < dimensions.length; i += 2) {
+            datum.withDimensions(new Dimension().withName(dimensions[i]).withValue(dimensions[i + 1]));
+        }
+        return datum;
+    }
+
+    private static MetricDatum find(List<MetricDatum> data, String metricName) {
+        for (MetricDatum datum : data) {
+            if (datum.getMetricName().equals(metricName)) {
+                return datum;
+            }
+        }
+        throw new AssertionError("No datum for " + metricName);
+    }
+
+    private static double sampleCount(List<MetricDatum> data) {
+        double count = 0;
+        for (MetricDatum datum : data) {
+            count += datum.getStatisticValues().getSampleCount();
+        }
+        return count;
+    }
+
+    private static void assertStatistics(double count, double sum, double min, double max, MetricDatum datum) {
+        StatisticSet stats = datum.getStatisticValues();
+        assertEquals(count, stats.getSampleCount(), 0);
+        assertEquals(sum, stats.getSum(), 0);
+        assertEquals(min, stats.getMinimum(), 0);
+        assertEquals(max, stats.getMaximum(), 0);
+    }
+}
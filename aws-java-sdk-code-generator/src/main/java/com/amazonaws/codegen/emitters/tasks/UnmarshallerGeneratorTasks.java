@@ -59,6 +59,7 @@ public class UnmarshallerGeneratorTasks extends BaseGeneratorTasks {
                 .put("metadata", metadata)
                 .put("transformPackage", model.getTransformPackage())
                 .put("exceptionUnmarshallerImpl", model.getExceptionUnmarshallerImpl())
+                .put("customConfig", model.getCustomizationConfig())
                 .build();
 
         switch (shapeType) {
@@ -188,6 +188,20 @@ public class CustomizationConfig {
      */
     private boolean calculateCRC32FromCompressedData;
 
+    /**
+     * Generates JSON unmarshallers which switch on the hash code of the current field name to
+     * find the member to unmarshall, rather than testing the field name against every member.
+     * Currently only enabled for DynamoDB, whose checked-in unmarshallers are generated this way.
+     */
+    private boolean unmarshallJsonMembersByFieldNameHash;
+
+    /**
+     * Generates async clients which execute the operations that don't stream their input or
+     * output over the non-blocking transport of the HTTP client, rather than blocking a thread of
+     * the client's executor for the duration of each call.
+     */
+    private boolean useNonBlockingAsyncClient;
+
     /**
      * Custom file header for all generated Java classes. If not specified uses default Amazon
      * license header.
@@ -476,6 +490,22 @@ public class CustomizationConfig {
         this.calculateCRC32FromCompressedData = calculateCRC32FromCompressedData;
     }
 
+    public boolean isUnmarshallJsonMembersByFieldNameHash() {
+        return unmarshallJsonMembersByFieldNameHash;
+    }
+
+    public void setUnmarshallJsonMembersByFieldNameHash(boolean unmarshallJsonMembersByFieldNameHash) {
+        this.unmarshallJsonMembersByFieldNameHash = unmarshallJsonMembersByFieldNameHash;
+    }
+
+    public boolean isUseNonBlockingAsyncClient() {
+        return useNonBlockingAsyncClient;
+    }
+
+    public void setUseNonBlockingAsyncClient(boolean useNonBlockingAsyncClient) {
+        this.useNonBlockingAsyncClient = useNonBlockingAsyncClient;
+    }
+
     public String getCustomFileHeader() {
         return customFileHeader;
     }
@@ -108,6 +108,20 @@ public class OperationModel extends DocumentationModel {
         this.outputShape = outputShape;
     }
 
+    /**
+     * Whether the operation can be executed over the non-blocking transport, which only accepts
+     * authenticated requests whose content and response are buffered in memory.
+     */
+    @JsonIgnore
+    public boolean isNonBlockingAsyncSupported() {
+        return isAuthenticated
+               && returnType != null
+               && inputStreamPropertyName == null
+               && !hasBlobMemberAsPayload
+               && (inputShape == null || !inputShape.isHasStreamingMember())
+               && (outputShape == null || !outputShape.isHasStreamingMember());
+    }
+
     private static enum MethodType {
 
         SYNC(false),
@@ -17,6 +17,7 @@ package com.amazonaws.codegen.model.intermediate;
 
 import com.amazonaws.codegen.model.service.Location;
 import com.amazonaws.protocol.MarshallLocation;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public class ParameterHttpMapping {
 
@@ -113,6 +114,15 @@ public class ParameterHttpMapping {
         return this;
     }
 
+    /**
+     * @return The hash code of the unmarshall location name, which generated JSON unmarshallers
+     *         switch on to find the member of the current field.
+     */
+    @JsonIgnore
+    public int getUnmarshallLocationNameHash() {
+        return unmarshallLocationName == null ? 0 : unmarshallLocationName.hashCode();
+    }
+
     public String getMarshallLocationName() {
         return marshallLocationName;
     }
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -174,6 +175,25 @@ public class ShapeModel extends DocumentationModel {
         return unboundMembers;
     }
 
+    /**
+     * @return The unbound members grouped by the hash code of their unmarshall location name, in
+     *         the order of their first member. Members whose names collide share a group.
+     */
+    @JsonIgnore
+    public List<List<MemberModel>> getUnboundMembersByUnmarshallLocationNameHash() {
+        Map<Integer, List<MemberModel>> groups = new LinkedHashMap<Integer, List<MemberModel>>();
+        for (MemberModel member : getUnboundMembers()) {
+            Integer hash = member.getHttp().getUnmarshallLocationNameHash();
+            List<MemberModel> group = groups.get(hash);
+            if (group == null) {
+                group = new ArrayList<MemberModel>();
+                groups.put(hash, group);
+            }
+            group.add(member);
+        }
+        return new ArrayList<List<MemberModel>>(groups.values());
+    }
+
     /**
      * @return True if the shape has an explicit payload member or implicit payload member(s).
      */
@@ -1,4 +1,4 @@
-<#macro content operation>
+<#macro content operation customizationConfig>
 
 @Override
 <#if operation.deprecated>
@@ -18,6 +18,11 @@ public ${operation.asyncFutureType} ${operation.methodName}Async(
     final ${operation.input.variableType} request,
     final ${operation.asyncHandlerType} asyncHandler) {
     final ${operation.input.variableType} finalRequest = beforeClientExecution(request);
+<#if customizationConfig.useNonBlockingAsyncClient && operation.nonBlockingAsyncSupported>
+
+    return execute${operation.methodName?cap_first}Async(finalRequest, asyncHandler);
+}
+<#else>
 
     return executorService.submit(new ${operation.asyncCallableType}() {
         @Override
@@ -44,4 +49,5 @@ public ${operation.asyncFutureType} ${operation.methodName}Async(
         }
     });
 }
+</#if>
 </#macro>
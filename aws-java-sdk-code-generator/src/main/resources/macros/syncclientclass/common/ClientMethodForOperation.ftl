@@ -72,4 +72,35 @@
             endClientExecution(awsRequestMetrics, request, response);
         }
     }
+    <#if customConfig.useNonBlockingAsyncClient && operationModel.nonBlockingAsyncSupported>
+
+    @SdkInternalApi
+    final ${operationModel.asyncFutureType} execute${operationModel.methodName?cap_first}Async(${operationModel.input.variableType} ${operationModel.input.variableName},
+            ${operationModel.asyncHandlerType} asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(${operationModel.input.variableName});
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<${operationModel.input.variableType}> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = <@RequestMarshallerCreation.content operationModel />.marshall(
+                    super.beforeMarshalling(${operationModel.input.variableName}));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                  awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            <@ResponseHandlerCreation.content operationModel, metadata, "new ${operationModel.syncReturnType}${metadata.unmarshallerClassSuffix}()", operationModel.returnType.returnType />
+            return invokeAsync(${operationModel.input.variableName}, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, ${operationModel.input.variableName}, asyncHandler);
+        }
+    }
+    </#if>
 </#macro>
@@ -1,5 +1,9 @@
-<#macro content shapeVarName memberModel >
+<#macro content shapeVarName memberModel customConfig>
+<#if customConfig.unmarshallJsonMembersByFieldNameHash>
+if (fieldName.equals("${memberModel.http.unmarshallLocationName}")) {
+<#else>
 if (context.testExpression("${memberModel.http.unmarshallLocationName}", targetDepth)) {
+</#if>
     context.nextToken();
     ${shapeVarName}.${memberModel.setterMethodName}(<@MemberUnmarshallerDeclarationMacro.content memberModel />.unmarshall(context));
 }
@@ -1,4 +1,4 @@
-<#macro content shape>
+<#macro content shape customConfig>
     int originalDepth = context.getCurrentDepth();
     String currentParentElement = context.getCurrentParentElement();
     int targetDepth = originalDepth + 1;
@@ -25,9 +25,26 @@
         artificial container object) -->
         <#else>
             if (token == FIELD_NAME || token == START_OBJECT) {
+            <#if customConfig.unmarshallJsonMembersByFieldNameHash>
+                <#-- Field names are canonicalized by the parser, so their hash codes are cached and
+                dispatching on them costs a single switch rather than a comparison per member -->
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    <#list shape.unboundMembersByUnmarshallLocationNameHash as members>
+                    case ${members[0].http.unmarshallLocationNameHash?c}:
+                        <#list members as payloadMember>
+                        <@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember customConfig />
+                        </#list>
+                        break;
+                    </#list>
+                    }
+                }
+            <#else>
                 <#list shape.unboundMembers as payloadMember>
-                    <@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember />
+                    <@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember customConfig />
                 </#list>
+            </#if>
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
                     if (context.getCurrentDepth() <= originalDepth) break;
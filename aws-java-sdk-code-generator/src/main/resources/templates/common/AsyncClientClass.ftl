@@ -19,6 +19,12 @@ import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
  * asynchronous method will return a Java Future object representing the
  * asynchronous operation; overloads which accept an {@code AsyncHandler} can
  * be used to receive notification when an asynchronous operation completes.
+<#if customizationConfig.useNonBlockingAsyncClient>
+ * <p>
+ * Operations that don't stream their input or output are sent over the
+ * non-blocking transport of the HTTP client, and do not hold a thread of the
+ * executor service while they are in flight.
+</#if>
 <#if metadata.documentation??>
  * <p>
  * ${metadata.documentation}
@@ -259,7 +265,7 @@ public class ${metadata.asyncClient} extends ${metadata.syncClient}
 
   <#list operations?values as operationModel>
     <#if !customizationConfig.skipClientMethodForOperations?seq_contains("${operationModel.operationName}")>
-        <@AsyncClientMethodForOperation.content operationModel />
+        <@AsyncClientMethodForOperation.content operationModel customizationConfig />
         <@AsyncClientMethodForOperationWithSimpleForm.content operationModel />
     </#if>
   </#list>
@@ -358,6 +358,27 @@ public class ${metadata.syncClient} extends AmazonWebServiceClient implements ${
                 errorResponseHandler, executionContext);
     }
 
+    <#if customizationConfig.useNonBlockingAsyncClient>
+    /**
+     * Invoke with authentication over the non-blocking transport of the http client. Credentials
+     * are required and may be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeAsync(Y originalRequest,
+            Request<Y> request, HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext, com.amazonaws.handlers.AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils.getCredentialsProvider
+            (request.getOriginalRequest(), awsCredentialsProvider));
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        <@ClientInvokeMethodErrorResponseHandlerCreation.content metadata customizationConfig />
+
+        return executeAsync(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, asyncHandler);
+    }
+    </#if>
+
     <#if metadata.isJsonProtocol()>
     @com.amazonaws.annotation.SdkInternalApi
     static ${metadata.protocolFactory} getProtocolFactory() {
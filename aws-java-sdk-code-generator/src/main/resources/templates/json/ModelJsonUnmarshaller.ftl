@@ -61,10 +61,10 @@ public class ${shape.shapeName}JsonUnmarshaller implements Unmarshaller<${shape.
             }
         }
     <#else>
-        <@PayloadUnmarshallerMacro.content shape />
+        <@PayloadUnmarshallerMacro.content shape customConfig />
      </#if>
 <#elseif shape.unboundMembers?has_content>
-    <@PayloadUnmarshallerMacro.content shape />
+    <@PayloadUnmarshallerMacro.content shape customConfig />
 </#if>
 
         return ${shape.variable.variableName};
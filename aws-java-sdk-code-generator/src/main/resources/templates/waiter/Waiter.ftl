@@ -10,6 +10,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class ${className}{
@@ -21,6 +22,8 @@ public class ${className}{
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
       * Constructs a new ${className} with the
       * given client
@@ -29,7 +32,23 @@ public class ${className}{
       */
     @SdkInternalApi
     public ${className}(${metadata.syncInterface} client){
+        this(client, null);
+    }
+
+    /**
+      * Constructs a new ${className} with the given client, whose
+      * asynchronous waits are polled on the given scheduled executor
+      * service instead of holding a thread each. The scheduled executor
+      * service can be shared with other waiters and is not shut down by
+      * {@link #shutdown()}.
+      * @param client
+      *          Service client
+      * @param scheduledExecutorService
+      *          Scheduled executor service polling asynchronous waits
+      */
+    public ${className}(${metadata.syncInterface} client, ScheduledExecutorService scheduledExecutorService){
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     <#list waiters?values as waiters>
@@ -62,6 +81,7 @@ public class ${className}{
                         .withAcceptors(${acceptorArray?remove_ending(", ")})
                         .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(${waiters.maxAttempts}), new FixedDelayStrategy(${waiters.delay})))
                         .withExecutorService(executorService)
+                        .withScheduledExecutorService(scheduledExecutorService)
                         .build();
     }
 
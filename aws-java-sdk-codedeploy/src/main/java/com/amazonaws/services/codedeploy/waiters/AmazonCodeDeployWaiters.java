@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class AmazonCodeDeployWaiters {
@@ -32,6 +33,8 @@ public class AmazonCodeDeployWaiters {
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AmazonCodeDeployWaiters with the given client
      * 
@@ -40,7 +43,22 @@ public class AmazonCodeDeployWaiters {
      */
     @SdkInternalApi
     public AmazonCodeDeployWaiters(AmazonCodeDeploy client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AmazonCodeDeployWaiters with the given client, whose asynchronous waits are polled on the given
+     * scheduled executor service instead of holding a thread each. The scheduled executor service can be shared with
+     * other waiters and is not shut down by {@link #shutdown()}.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AmazonCodeDeployWaiters(AmazonCodeDeploy client, ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -55,7 +73,7 @@ public class AmazonCodeDeployWaiters {
                 .withAcceptors(new DeploymentSuccessful.IsSucceededMatcher(), new DeploymentSuccessful.IsFailedMatcher(),
                         new DeploymentSuccessful.IsStoppedMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(120), new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     public void shutdown() {
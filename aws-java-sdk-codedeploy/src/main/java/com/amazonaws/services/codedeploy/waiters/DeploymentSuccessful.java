@@ -43,6 +43,8 @@ class DeploymentSuccessful {
 
         private static final JmesPathExpression ast = new JmesPathSubExpression(new JmesPathField("deploymentInfo"), new JmesPathField("status"));
 
+        private static final CompiledJmesPathExpression compiledAst = CompiledJmesPathExpression.compile(ast);
+
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -53,8 +55,7 @@ class DeploymentSuccessful {
          */
         @Override
         public boolean matches(GetDeploymentResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
+            JsonNode finalResult = compiledAst.evaluate(result);
             return AcceptorPathMatcher.path(expectedResult, finalResult);
         }
 
@@ -82,6 +83,8 @@ class DeploymentSuccessful {
 
         private static final JmesPathExpression ast = new JmesPathSubExpression(new JmesPathField("deploymentInfo"), new JmesPathField("status"));
 
+        private static final CompiledJmesPathExpression compiledAst = CompiledJmesPathExpression.compile(ast);
+
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -92,8 +95,7 @@ class DeploymentSuccessful {
          */
         @Override
         public boolean matches(GetDeploymentResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
+            JsonNode finalResult = compiledAst.evaluate(result);
             return AcceptorPathMatcher.path(expectedResult, finalResult);
         }
 
@@ -121,6 +123,8 @@ class DeploymentSuccessful {
 
         private static final JmesPathExpression ast = new JmesPathSubExpression(new JmesPathField("deploymentInfo"), new JmesPathField("status"));
 
+        private static final CompiledJmesPathExpression compiledAst = CompiledJmesPathExpression.compile(ast);
+
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -131,8 +135,7 @@ class DeploymentSuccessful {
          */
         @Override
         public boolean matches(GetDeploymentResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
+            JsonNode finalResult = compiledAst.evaluate(result);
             return AcceptorPathMatcher.path(expectedResult, finalResult);
         }
 
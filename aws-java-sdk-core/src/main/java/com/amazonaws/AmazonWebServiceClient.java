@@ -16,6 +16,7 @@ package com.amazonaws;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 
+import com.amazonaws.annotation.Beta;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkProtectedApi;
 import com.amazonaws.auth.EndpointPrefixAwareSigner;
@@ -24,16 +25,19 @@ import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
 import com.amazonaws.client.AwsSyncClientParams;
 import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.internal.DefaultServiceEndpointBuilder;
 import com.amazonaws.internal.auth.DefaultSignerProvider;
 import com.amazonaws.internal.auth.SignerProvider;
 import com.amazonaws.internal.auth.SignerProviderContext;
 import com.amazonaws.log.CommonsLogFactory;
 import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.CompactRequestMetricCollector;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
@@ -46,8 +50,11 @@ import com.amazonaws.util.StringUtils;
 import java.net.URI;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 
 /**
  * Abstract base class for Amazon Web Service Java clients.
@@ -537,6 +544,7 @@ public abstract class AmazonWebServiceClient {
         return ExecutionContext.builder()
                 .withRequestHandler2s(requestHandler2s)
                 .withUseRequestMetrics(isMetricsEnabled)
+                .withUseCompactRequestMetrics(isCompactRequestMetricsEnabled(req))
                 .withAwsClient(this)
                 .withSignerProvider(signerProvider).build();
     }
@@ -566,6 +574,15 @@ public abstract class AmazonWebServiceClient {
         return isRMCEnabledAtClientOrSdkLevel();
     }
 
+    /**
+     * Returns true if the request metric collector in effect for the given
+     * request consumes compact request metrics; false otherwise.
+     */
+    private boolean isCompactRequestMetricsEnabled(AmazonWebServiceRequest req) {
+        RequestMetricCollector c = findRequestMetricCollector(req.getRequestMetricCollector());
+        return c instanceof CompactRequestMetricCollector && c.isEnabled();
+    }
+
     /**
      * Returns true if request metric collection is enabled at the service
      * client or AWS SDK level request; false otherwise.
@@ -693,6 +710,131 @@ public abstract class AmazonWebServiceClient {
         }
     }
 
+    /**
+     * Executes the marshalled request over the non-blocking transport of the HTTP client, ends the
+     * client execution once it completes and notifies the async handler, if any. Failures to start
+     * the execution, including requests the non-blocking transport refuses, fail the returned
+     * future rather than being thrown. Cancelling the returned future aborts the request.
+     *
+     * @param originalRequest The request passed to the async handler
+     * @param request         The marshalled request
+     */
+    @Beta
+    @SdkInternalApi
+    protected final <X, Y extends AmazonWebServiceRequest> Future<X> executeAsync(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext, AsyncHandler<Y, X> asyncHandler) {
+        AsyncClientExecution<X, Y> execution = new AsyncClientExecution<X, Y>(
+                originalRequest, request, executionContext.getAwsRequestMetrics(), asyncHandler);
+        try {
+            execution.start(client.executeAsync(request, responseHandler, errorResponseHandler,
+                    executionContext, execution.callback()));
+        } catch (RuntimeException e) {
+            execution.fail(e);
+        }
+        return execution;
+    }
+
+    /**
+     * Returns a future failed with the given exception, after notifying the async handler, if
+     * any. Used when a request cannot be marshalled for {@link #executeAsync}.
+     */
+    @SdkInternalApi
+    protected final <X, Y extends AmazonWebServiceRequest> Future<X> failedAsync(
+            Exception e, Y originalRequest, AsyncHandler<Y, X> asyncHandler) {
+        AsyncClientExecution<X, Y> execution = new AsyncClientExecution<X, Y>(
+                originalRequest, null, null, asyncHandler);
+        execution.fail(e);
+        return execution;
+    }
+
+    /**
+     * The future of a client execution over the non-blocking transport.
+     */
+    private final class AsyncClientExecution<X, Y extends AmazonWebServiceRequest>
+            extends BasicFuture<X> {
+        private final Y originalRequest;
+        private final Request<Y> request;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final AsyncHandler<Y, X> asyncHandler;
+        private volatile Future<Response<X>> httpExecution;
+
+        private AsyncClientExecution(Y originalRequest, Request<Y> request,
+                AWSRequestMetrics awsRequestMetrics, AsyncHandler<Y, X> asyncHandler) {
+            super(null);
+            this.originalRequest = originalRequest;
+            this.request = request;
+            this.awsRequestMetrics = awsRequestMetrics;
+            this.asyncHandler = asyncHandler;
+        }
+
+        private void start(Future<Response<X>> httpExecution) {
+            this.httpExecution = httpExecution;
+            if (isCancelled()) {
+                // Cancelled before the HTTP execution was known
+                httpExecution.cancel(true);
+            }
+        }
+
+        private FutureCallback<Response<X>> callback() {
+            return new FutureCallback<Response<X>>() {
+                @Override
+                public void completed(Response<X> response) {
+                    succeed(response);
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    fail(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    endClientExecution(awsRequestMetrics, request, null);
+                }
+            };
+        }
+
+        private void succeed(Response<X> response) {
+            endClientExecution(awsRequestMetrics, request, response);
+            X result = response.getAwsResponse();
+            if (asyncHandler != null) {
+                try {
+                    asyncHandler.onSuccess(originalRequest, result);
+                } catch (RuntimeException e) {
+                    failed(e);
+                    return;
+                }
+            }
+            completed(result);
+        }
+
+        private void fail(Exception e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            try {
+                if (asyncHandler != null) {
+                    asyncHandler.onError(e);
+                }
+            } finally {
+                failed(e);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            Future<Response<X>> execution = httpExecution;
+            if (execution != null) {
+                execution.cancel(mayInterruptIfRunning);
+            }
+            return true;
+        }
+    }
+
     /**
      * @deprecated by {@link #getServiceName()}.
      */
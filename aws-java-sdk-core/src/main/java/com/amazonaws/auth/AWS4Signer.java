@@ -18,10 +18,11 @@ import com.amazonaws.ReadLimitInfo;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.SignableRequest;
 import com.amazonaws.annotation.SdkTestInternalApi;
+import com.amazonaws.auth.internal.AWS4CanonicalRequestHasher;
 import com.amazonaws.auth.internal.AWS4SignerRequestParams;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
 import com.amazonaws.auth.internal.SignerKey;
-import com.amazonaws.internal.FIFOCache;
+import com.amazonaws.internal.ConcurrentFIFOCache;
 import com.amazonaws.log.InternalLogApi;
 import com.amazonaws.log.InternalLogFactory;
 import com.amazonaws.util.BinaryUtils;
@@ -39,6 +40,8 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import static com.amazonaws.auth.internal.SignerConstants.AUTHORIZATION;
@@ -64,11 +67,26 @@ public class AWS4Signer extends AbstractAWSSigner implements
 
     protected static final InternalLogApi log = InternalLogFactory.getLog(AWS4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FIFOCache<SignerKey> signerCache = new FIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
+    private static final ConcurrentFIFOCache<SignerKey> signerCache = new ConcurrentFIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
     private static final List<String> listOfHeadersToIgnoreInLowerCase = Arrays.asList("connection", "x-amzn-trace-id");
 
+    /**
+     * Whether a signer class uses the canonicalization of this class, and so
+     * can hash the canonical request with {@link AWS4CanonicalRequestHasher}.
+     */
+    private static final ConcurrentMap<Class<?>, Boolean> defaultCanonicalization = new ConcurrentHashMap<Class<?>, Boolean>();
+
     private final SdkClock clock;
 
+    /**
+     * The signing key most recently used by this signer, so that repeated
+     * requests with the same credentials, region and service neither build the
+     * cache key nor consult the shared cache.
+     */
+    private volatile CachedSigningKey lastSigningKey;
+
+    private final boolean usesDefaultCanonicalization;
+
     /**
      * Service name override for use when the endpoint can't be used to
      * determine the service name.
@@ -127,6 +145,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private AWS4Signer(boolean doubleUrlEncode, SdkClock clock) {
         this.doubleUrlEncode = doubleUrlEncode;
         this.clock = clock;
+        this.usesDefaultCanonicalization = usesDefaultCanonicalization(getClass());
     }
 
     /**
@@ -236,11 +255,28 @@ public class AWS4Signer extends AbstractAWSSigner implements
             request.addHeader(X_AMZ_CONTENT_SHA256, contentSha256);
         }
 
-        final String canonicalRequest = createCanonicalRequest(request,
-                contentSha256);
-
-        final String stringToSign = createStringToSign(canonicalRequest,
-                signerParams);
+        final String signedHeaders;
+        final String stringToSign;
+        if (usesDefaultCanonicalization && !log.isDebugEnabled()) {
+            // Hash the canonical request without materializing it.
+            final AWS4CanonicalRequestHasher hasher = AWS4CanonicalRequestHasher.get();
+            signedHeaders = hasher.sortHeaders(request.getHeaders());
+            final byte[] canonicalRequestHash = hasher.hash(
+                    request.getHttpMethod().toString(),
+                    SdkHttpUtils.appendUri(request.getEndpoint().getPath(),
+                            request.getResourcePath()),
+                    doubleUrlEncode,
+                    SdkHttpUtils.usePayloadForQueryParameters(request) ? null
+                            : request.getParameters(),
+                    request.getHeaders(), contentSha256);
+            stringToSign = createStringToSign(canonicalRequestHash,
+                    signerParams);
+        } else {
+            final String canonicalRequest = createCanonicalRequest(request,
+                    contentSha256);
+            stringToSign = createStringToSign(canonicalRequest, signerParams);
+            signedHeaders = getSignedHeadersString(request);
+        }
 
         final byte[] signingKey = deriveSigningKey(sanitizedCredentials,
                 signerParams);
@@ -250,7 +286,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
 
         request.addHeader(
                 AUTHORIZATION,
-                buildAuthorizationHeader(request, signature,
+                buildAuthorizationHeader(signedHeaders, signature,
                         sanitizedCredentials, signerParams));
 
         processRequestPayload(request, signature, signingKey,
@@ -348,6 +384,15 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected String createStringToSign(String canonicalRequest,
             AWS4SignerRequestParams signerParams) {
+        return createStringToSign(hash(canonicalRequest), signerParams);
+    }
+
+    /**
+     * Step 2 of the AWS Signature version 4 calculation, given the hash of the
+     * canonical request.
+     */
+    private String createStringToSign(byte[] canonicalRequestHash,
+            AWS4SignerRequestParams signerParams) {
 
         final StringBuilder stringToSignBuilder = new StringBuilder(
                 signerParams.getSigningAlgorithm());
@@ -356,7 +401,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 .append(LINE_SEPARATOR)
                 .append(signerParams.getScope())
                 .append(LINE_SEPARATOR)
-                .append(BinaryUtils.toHex(hash(canonicalRequest)));
+                .append(BinaryUtils.toHex(canonicalRequestHash));
 
         final String stringToSign = stringToSignBuilder.toString();
 
@@ -375,17 +420,27 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private final byte[] deriveSigningKey(AWSCredentials credentials,
             AWS4SignerRequestParams signerRequestParams) {
 
-        final String cacheKey = computeSigningCacheKeyName(credentials,
-                signerRequestParams);
         final long daysSinceEpochSigningDate = DateUtils
                 .numberOfDaysSinceEpoch(signerRequestParams
                         .getSigningDateTimeMilli());
 
+        final CachedSigningKey last = lastSigningKey;
+        if (last != null
+                && last.matches(credentials, signerRequestParams)
+                && daysSinceEpochSigningDate == last.signerKey
+                        .getNumberOfDaysSinceEpoch()) {
+            return last.signerKey.getSigningKey();
+        }
+
+        final String cacheKey = computeSigningCacheKeyName(credentials,
+                signerRequestParams);
         SignerKey signerKey = signerCache.get(cacheKey);
 
         if (signerKey != null) {
             if (daysSinceEpochSigningDate == signerKey
                     .getNumberOfDaysSinceEpoch()) {
+                lastSigningKey = new CachedSigningKey(credentials,
+                        signerRequestParams, signerKey);
                 return signerKey.getSigningKey();
             }
         }
@@ -397,8 +452,10 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 signerRequestParams.getFormattedSigningDate(),
                 signerRequestParams.getRegionName(),
                 signerRequestParams.getServiceName());
-        signerCache.add(cacheKey, new SignerKey(
-                daysSinceEpochSigningDate, signingKey));
+        signerKey = new SignerKey(daysSinceEpochSigningDate, signingKey);
+        signerCache.add(cacheKey, signerKey);
+        lastSigningKey = new CachedSigningKey(credentials, signerRequestParams,
+                signerKey);
         return signingKey;
     }
 
@@ -431,7 +488,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
     /**
      * Creates the authorization header to be included in the request.
      */
-    private String buildAuthorizationHeader(SignableRequest<?> request,
+    private String buildAuthorizationHeader(String signedHeaders,
             byte[] signature, AWSCredentials credentials,
             AWS4SignerRequestParams signerParams) {
         final String signingCredentials = credentials.getAWSAccessKeyId() + "/"
@@ -439,8 +496,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
 
         final String credential = "Credential="
                 + signingCredentials;
-        final String signerHeaders = "SignedHeaders="
-                + getSignedHeadersString(request);
+        final String signerHeaders = "SignedHeaders=" + signedHeaders;
         final String signatureHeader = "Signature="
                 + BinaryUtils.toHex(signature);
 
@@ -630,4 +686,75 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 SigningAlgorithm.HmacSHA256);
         return sign(AWS4_TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
     }
+
+    /**
+     * Returns true if the given signer class does not override any of the
+     * methods that define the canonical request or its hash.
+     */
+    private static boolean usesDefaultCanonicalization(Class<?> signerClass) {
+        Boolean result = defaultCanonicalization.get(signerClass);
+        if (result == null) {
+            result = Boolean.TRUE;
+            for (Class<?> c = signerClass; c != AWS4Signer.class && result; c = c.getSuperclass()) {
+                result = !declaresAny(c,
+                        new Object[] {"createCanonicalRequest", SignableRequest.class, String.class},
+                        new Object[] {"createStringToSign", String.class, AWS4SignerRequestParams.class},
+                        new Object[] {"getCanonicalizedHeaderString", SignableRequest.class},
+                        new Object[] {"getSignedHeadersString", SignableRequest.class},
+                        new Object[] {"getCanonicalizedQueryString", SignableRequest.class},
+                        new Object[] {"getCanonicalizedQueryString", Map.class},
+                        new Object[] {"getCanonicalizedResourcePath", String.class, boolean.class},
+                        new Object[] {"shouldExcludeHeaderFromSigning", String.class},
+                        new Object[] {"hash", String.class});
+            }
+            defaultCanonicalization.put(signerClass, result);
+        }
+        return result;
+    }
+
+    private static boolean declaresAny(Class<?> c, Object[]... methods) {
+        for (Object[] method : methods) {
+            Class<?>[] parameterTypes = new Class<?>[method.length - 1];
+            System.arraycopy(method, 1, parameterTypes, 0, parameterTypes.length);
+            try {
+                c.getDeclaredMethod((String) method[0], parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not overridden by this class
+            } catch (SecurityException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A signing key along with the identity (secret key, region and service) it
+     * was derived for.
+     */
+    private static final class CachedSigningKey {
+        private final String secretKey;
+        private final String regionName;
+        private final String serviceName;
+        private final SignerKey signerKey;
+
+        CachedSigningKey(AWSCredentials credentials,
+                AWS4SignerRequestParams signerRequestParams, SignerKey signerKey) {
+            this.secretKey = credentials.getAWSSecretKey();
+            this.regionName = signerRequestParams.getRegionName();
+            this.serviceName = signerRequestParams.getServiceName();
+            this.signerKey = signerKey;
+        }
+
+        boolean matches(AWSCredentials credentials,
+                AWS4SignerRequestParams signerRequestParams) {
+            return equal(secretKey, credentials.getAWSSecretKey())
+                    && equal(regionName, signerRequestParams.getRegionName())
+                    && equal(serviceName, signerRequestParams.getServiceName());
+        }
+
+        private static boolean equal(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
 }
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Computes the SHA-256 hash of an AWS Signature Version 4 canonical request by
+ * streaming its UTF-8 bytes straight into a message digest, without building
+ * the canonical request (or its sorted header and query parameter maps) as
+ * intermediate strings. The output is byte for byte the hash of the canonical
+ * request built by {@code AWS4Signer#createCanonicalRequest}.
+ * <p>
+ * Instances hold reusable buffers and are obtained per thread with
+ * {@link #get()}. Callers first call {@link #sortHeaders(Map)} and then
+ * {@link #hash(String, String, boolean, Map, Map, String)} for the same request.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class AWS4CanonicalRequestHasher {
+
+    private static final ThreadLocal<AWS4CanonicalRequestHasher> HASHERS = new ThreadLocal<AWS4CanonicalRequestHasher>() {
+        @Override
+        protected AWS4CanonicalRequestHasher initialValue() {
+            return new AWS4CanonicalRequestHasher();
+        }
+    };
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private static final Comparator<QueryParameter> QUERY_PARAMETER_ORDER = new Comparator<QueryParameter>() {
+        @Override
+        public int compare(QueryParameter a, QueryParameter b) {
+            int result = a.name.compareTo(b.name);
+            return result != 0 ? result : a.value.compareTo(b.value);
+        }
+    };
+
+    private final MessageDigest digest;
+    private final byte[] buffer = new byte[1024];
+    private final byte[] utf8 = new byte[4];
+    private int position;
+
+    private String[] headerNames = new String[16];
+    private int headerCount;
+    private final StringBuilder signedHeaders = new StringBuilder(128);
+    private final StringBuilder encoded = new StringBuilder(64);
+    private QueryParameter[] queryParameters = new QueryParameter[0];
+
+    private AWS4CanonicalRequestHasher() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new SdkClientException(
+                    "Unable to get SHA256 Function" + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the hasher of the calling thread.
+     */
+    public static AWS4CanonicalRequestHasher get() {
+        return HASHERS.get();
+    }
+
+    /**
+     * Sorts the names of the headers to be signed and returns them in the
+     * signed headers format, i.e. lower case and separated by semicolons.
+     */
+    public String sortHeaders(Map<String, String> headers) {
+        headerCount = 0;
+        if (headerNames.length < headers.size()) {
+            headerNames = new String[Math.max(headers.size(), headerNames.length * 2)];
+        }
+        for (String name : headers.keySet()) {
+            if (!isExcludedFromSigning(name)) {
+                headerNames[headerCount++] = name;
+            }
+        }
+        Arrays.sort(headerNames, 0, headerCount, String.CASE_INSENSITIVE_ORDER);
+
+        signedHeaders.setLength(0);
+        for (int i = 0; i < headerCount; i++) {
+            if (i > 0) {
+                signedHeaders.append(';');
+            }
+            signedHeaders.append(StringUtils.lowerCase(headerNames[i]));
+        }
+        return signedHeaders.toString();
+    }
+
+    /**
+     * Returns the SHA-256 hash of the canonical request for the headers last
+     * passed to {@link #sortHeaders(Map)}.
+     *
+     * @param httpMethod
+     *            The HTTP method of the request.
+     * @param path
+     *            The resource path, with the endpoint path prepended.
+     * @param urlEncodePath
+     *            Whether to url-encode the path (again).
+     * @param parameters
+     *            The query parameters, or null if they are sent in the payload.
+     * @param headers
+     *            The request headers.
+     * @param contentSha256
+     *            The hex encoded hash of the payload.
+     */
+    public byte[] hash(String httpMethod, String path, boolean urlEncodePath,
+            Map<String, List<String>> parameters, Map<String, String> headers,
+            String contentSha256) {
+        try {
+            digest.reset();
+            position = 0;
+
+            write(httpMethod);
+            write('\n');
+            writePath(path, urlEncodePath);
+            write('\n');
+            if (parameters != null) {
+                writeQueryString(parameters);
+            }
+            write('\n');
+            for (int i = 0; i < headerCount; i++) {
+                String name = headerNames[i];
+                writeCompactedLowerCase(name);
+                write(':');
+                String value = headers.get(name);
+                if (value != null) {
+                    writeCompacted(value);
+                }
+                write('\n');
+            }
+            write('\n');
+            write(signedHeaders);
+            write('\n');
+            write(contentSha256);
+
+            digest.update(buffer, 0, position);
+            return digest.digest();
+        } finally {
+            Arrays.fill(headerNames, 0, headerCount, null);
+            headerCount = 0;
+        }
+    }
+
+    private void writePath(String path, boolean urlEncode) {
+        if (path == null || path.length() == 0) {
+            write('/');
+            return;
+        }
+        if (path.charAt(0) != '/') {
+            write('/');
+        }
+        if (urlEncode) {
+            for (int i = 0; i < path.length(); i++) {
+                i = writeUtf8(path, i, true, true);
+            }
+        } else {
+            write(path);
+        }
+    }
+
+    private void writeQueryString(Map<String, List<String>> parameters) {
+        int count = 0;
+        for (Map.Entry<String, List<String>> entry : parameters.entrySet()) {
+            String name = urlEncode(entry.getKey());
+            for (String value : entry.getValue()) {
+                if (queryParameters.length == count) {
+                    queryParameters = Arrays.copyOf(queryParameters, Math.max(8, count * 2));
+                }
+                if (queryParameters[count] == null) {
+                    queryParameters[count] = new QueryParameter();
+                }
+                QueryParameter parameter = queryParameters[count++];
+                parameter.name = name;
+                parameter.value = urlEncode(value);
+            }
+        }
+        Arrays.sort(queryParameters, 0, count, QUERY_PARAMETER_ORDER);
+        for (int i = 0; i < count; i++) {
+            QueryParameter parameter = queryParameters[i];
+            if (i > 0) {
+                write('&');
+            }
+            write(parameter.name);
+            write('=');
+            write(parameter.value);
+            parameter.name = null;
+            parameter.value = null;
+        }
+    }
+
+    /**
+     * Equivalent to {@code SdkHttpUtils.urlEncode(value, false)}.
+     */
+    private String urlEncode(String value) {
+        if (value == null) {
+            return "";
+        }
+        encoded.setLength(0);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isUnreserved(c)) {
+                encoded.append(c);
+            } else {
+                int codePoint = codePointAt(value, i);
+                if (Character.isSupplementaryCodePoint(codePoint)) {
+                    i++;
+                }
+                int length = encodeUtf8(codePoint);
+                for (int b = 0; b < length; b++) {
+                    appendEscaped(encoded, utf8[b]);
+                }
+            }
+        }
+        return encoded.toString();
+    }
+
+    private void writeCompactedLowerCase(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) >= 0x80) {
+                writeCompacted(StringUtils.lowerCase(name));
+                return;
+            }
+        }
+        boolean previousIsWhiteSpace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isWhiteSpace(c)) {
+                if (!previousIsWhiteSpace) {
+                    write(' ');
+                }
+                previousIsWhiteSpace = true;
+            } else {
+                write(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+                previousIsWhiteSpace = false;
+            }
+        }
+    }
+
+    /**
+     * Equivalent to {@link StringUtils#appendCompactedString(StringBuilder, String)}.
+     */
+    private void writeCompacted(String value) {
+        boolean previousIsWhiteSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isWhiteSpace(c)) {
+                if (!previousIsWhiteSpace) {
+                    write(' ');
+                }
+                previousIsWhiteSpace = true;
+            } else {
+                i = writeUtf8(value, i, false, false);
+                previousIsWhiteSpace = false;
+            }
+        }
+    }
+
+    private void write(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            i = writeUtf8(value, i, false, false);
+        }
+    }
+
+    private void write(char c) {
+        if (position == buffer.length) {
+            flush();
+        }
+        buffer[position++] = (byte) c;
+    }
+
+    /**
+     * Writes the UTF-8 encoding of the character at the given index, which
+     * may start a surrogate pair, optionally url-encoding each byte.
+     *
+     * @return The index of the last character consumed.
+     */
+    private int writeUtf8(CharSequence value, int index, boolean urlEncode, boolean path) {
+        char c = value.charAt(index);
+        if (c < 0x80) {
+            if (!urlEncode || isUnreserved(c) || (path && c == '/')) {
+                write(c);
+            } else {
+                writeEscaped((byte) c);
+            }
+            return index;
+        }
+
+        int codePoint = codePointAt(value, index);
+        int length = encodeUtf8(codePoint);
+        for (int b = 0; b < length; b++) {
+            writeByte(utf8[b], urlEncode);
+        }
+        return Character.isSupplementaryCodePoint(codePoint) ? index + 1 : index;
+    }
+
+    /**
+     * Returns the code point at the given index, replacing unpaired surrogates
+     * the same way {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    private static int codePointAt(CharSequence value, int index) {
+        char c = value.charAt(index);
+        if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            return Character.toCodePoint(c, value.charAt(index + 1));
+        }
+        return c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE ? '?' : c;
+    }
+
+    /**
+     * Encodes the code point as UTF-8 into the scratch buffer.
+     *
+     * @return The number of bytes written.
+     */
+    private int encodeUtf8(int codePoint) {
+        if (codePoint < 0x80) {
+            utf8[0] = (byte) codePoint;
+            return 1;
+        } else if (codePoint < 0x800) {
+            utf8[0] = (byte) (0xC0 | (codePoint >> 6));
+            utf8[1] = (byte) (0x80 | (codePoint & 0x3F));
+            return 2;
+        } else if (codePoint < 0x10000) {
+            utf8[0] = (byte) (0xE0 | (codePoint >> 12));
+            utf8[1] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            utf8[2] = (byte) (0x80 | (codePoint & 0x3F));
+            return 3;
+        }
+        utf8[0] = (byte) (0xF0 | (codePoint >> 18));
+        utf8[1] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        utf8[2] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        utf8[3] = (byte) (0x80 | (codePoint & 0x3F));
+        return 4;
+    }
+
+    private void writeByte(byte b, boolean urlEncode) {
+        if (urlEncode) {
+            writeEscaped(b);
+        } else {
+            if (position == buffer.length) {
+                flush();
+            }
+            buffer[position++] = b;
+        }
+    }
+
+    private void writeEscaped(byte b) {
+        write('%');
+        write(HEX[(b >> 4) & 0xF]);
+        write(HEX[b & 0xF]);
+    }
+
+    private static void appendEscaped(StringBuilder destination, byte b) {
+        destination.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+    }
+
+    private void flush() {
+        digest.update(buffer, 0, position);
+        position = 0;
+    }
+
+    /**
+     * Characters left unencoded by {@code SdkHttpUtils#urlEncode}.
+     */
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '~';
+    }
+
+    private static boolean isWhiteSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\r' || c == '\f';
+    }
+
+    private static boolean isExcludedFromSigning(String header) {
+        return "connection".equalsIgnoreCase(header) || "x-amzn-trace-id".equalsIgnoreCase(header);
+    }
+
+    private static final class QueryParameter {
+        private String name;
+        private String value;
+    }
+}
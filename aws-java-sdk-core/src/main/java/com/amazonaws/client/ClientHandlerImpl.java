@@ -29,6 +29,7 @@ import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.internal.auth.SignerProvider;
 import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.CompactRequestMetricCollector;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.CredentialUtils;
@@ -117,6 +118,7 @@ public class ClientHandlerImpl extends ClientHandler {
         return ExecutionContext.builder()
                 .withRequestHandler2s(requestHandler2s)
                 .withUseRequestMetrics(isMetricsEnabled)
+                .withUseCompactRequestMetrics(isCompactRequestMetricsEnabled(requestConfig))
                 .withSignerProvider(signerProvider)
                 .build();
     }
@@ -129,6 +131,16 @@ public class ClientHandlerImpl extends ClientHandler {
         return hasRequestMetricsCollector(requestConfig) || isRMCEnabledAtClientOrSdkLevel();
     }
 
+    /**
+     * Returns true if the request metric collector in effect for the given request consumes
+     * compact request metrics; false otherwise.
+     */
+    private boolean isCompactRequestMetricsEnabled(RequestConfig requestConfig) {
+        RequestMetricCollector metricCollector = findRequestMetricCollector(requestConfig);
+        return metricCollector instanceof CompactRequestMetricCollector
+               && metricCollector.isEnabled();
+    }
+
     private boolean hasRequestMetricsCollector(RequestConfig requestConfig) {
         return requestConfig.getRequestMetricsCollector() != null &&
                requestConfig.getRequestMetricsCollector().isEnabled();
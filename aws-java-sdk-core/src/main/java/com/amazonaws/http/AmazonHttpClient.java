@@ -40,6 +40,7 @@ import com.amazonaws.ResponseMetadata;
 import com.amazonaws.SDKGlobalTime;
 import com.amazonaws.SdkBaseException;
 import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.Beta;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkTestInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
@@ -61,12 +62,15 @@ import com.amazonaws.http.apache.request.impl.ApacheHttpRequestFactory;
 import com.amazonaws.http.apache.utils.ApacheUtils;
 import com.amazonaws.http.client.HttpClientFactory;
 import com.amazonaws.http.exception.HttpRequestTimeoutException;
+import com.amazonaws.http.nio.AsyncHttpTransport;
+import com.amazonaws.http.nio.NioHttpTransport;
 import com.amazonaws.http.request.HttpRequestFactory;
 import com.amazonaws.http.response.AwsResponseHandlerAdapter;
 import com.amazonaws.http.settings.HttpClientSettings;
 import com.amazonaws.http.timers.client.ClientExecutionAbortTrackerTask;
 import com.amazonaws.http.timers.client.ClientExecutionTimeoutException;
 import com.amazonaws.http.timers.client.ClientExecutionTimer;
+import com.amazonaws.http.timers.client.NoOpClientExecutionAbortTrackerTask;
 import com.amazonaws.http.timers.client.SdkInterruptedException;
 import com.amazonaws.http.timers.request.HttpRequestAbortTaskTracker;
 import com.amazonaws.http.timers.request.HttpRequestTimer;
@@ -99,6 +103,7 @@ import com.amazonaws.util.RuntimeHttpUtils;
 import com.amazonaws.util.SdkHttpUtils;
 import com.amazonaws.util.UnreliableFilterInputStream;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -113,6 +118,15 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.Header;
@@ -122,6 +136,8 @@ import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
@@ -161,6 +177,13 @@ public class AmazonHttpClient {
      */
     private static final int THROTTLED_RETRY_COST = 5;
 
+    /**
+     * Largest request content, in bytes, that can be sent over the non-blocking transport. The
+     * transport buffers the content of the request, so only content that is already held in memory
+     * is accepted.
+     */
+    private static final int MAX_ASYNC_REQUEST_CONTENT_LENGTH = 16 * 1024 * 1024;
+
     static {
         // Customers have reported XML parsing issues with the following
         // JVM versions, which don't occur with more recent versions, so
@@ -233,6 +256,27 @@ public class AmazonHttpClient {
      */
     private volatile int timeOffset = SDKGlobalTime.getGlobalTimeOffset();
 
+    /**
+     * Non-blocking transport supplied through the {@link Builder}, if any.
+     */
+    private AsyncHttpTransport customAsyncHttpTransport;
+
+    /**
+     * Executor supplied through the {@link Builder}, if any, used to process responses, back off
+     * between retries and enforce timeouts of asynchronous executions.
+     */
+    private ScheduledExecutorService customAsyncExecutor;
+
+    /**
+     * Lazily created transport used when no custom one has been supplied.
+     */
+    private volatile AsyncHttpTransport defaultAsyncHttpTransport;
+
+    /**
+     * Lazily created executor used when no custom one has been supplied.
+     */
+    private volatile ScheduledExecutorService defaultAsyncExecutor;
+
     /**
      * Constructs a new AWS client using the specified client configuration options (ex: max retry
      * attempts, proxy httpClientSettings, etc).
@@ -363,6 +407,8 @@ public class AmazonHttpClient {
         private RequestMetricCollector requestMetricCollector;
         private boolean useBrowserCompatibleHostNameVerifier;
         private boolean calculateCRC32FromCompressedData;
+        private AsyncHttpTransport asyncHttpTransport;
+        private ScheduledExecutorService asyncExecutor;
 
         private Builder() {
         }
@@ -392,12 +438,36 @@ public class AmazonHttpClient {
             return this;
         }
 
+        /**
+         * Sets the non-blocking transport used by {@link RequestExecutionBuilder#executeAsync}.
+         * When not set, a {@link NioHttpTransport} is created on first use. A transport supplied
+         * here is not shut down along with the client.
+         */
+        public Builder asyncHttpTransport(AsyncHttpTransport asyncHttpTransport) {
+            this.asyncHttpTransport = asyncHttpTransport;
+            return this;
+        }
+
+        /**
+         * Sets the executor used by {@link RequestExecutionBuilder#executeAsync} to process
+         * responses, back off between retries and enforce client execution timeouts. When not
+         * set, a pool with one thread per processor is created on first use. An executor supplied
+         * here is not shut down along with the client.
+         */
+        public Builder asyncExecutor(ScheduledExecutorService asyncExecutor) {
+            this.asyncExecutor = asyncExecutor;
+            return this;
+        }
+
         public AmazonHttpClient build() {
-            return new AmazonHttpClient(clientConfig,
-                                        retryPolicy,
-                                        requestMetricCollector,
-                                        useBrowserCompatibleHostNameVerifier,
-                                        calculateCRC32FromCompressedData);
+            AmazonHttpClient client = new AmazonHttpClient(clientConfig,
+                                                           retryPolicy,
+                                                           requestMetricCollector,
+                                                           useBrowserCompatibleHostNameVerifier,
+                                                           calculateCRC32FromCompressedData);
+            client.customAsyncHttpTransport = asyncHttpTransport;
+            client.customAsyncExecutor = asyncExecutor;
+            return client;
         }
     }
 
@@ -424,6 +494,52 @@ public class AmazonHttpClient {
         httpRequestTimer.shutdown();
         IdleConnectionReaper.removeConnectionManager(httpClient.getHttpClientConnectionManager());
         httpClient.getHttpClientConnectionManager().shutdown();
+        synchronized (this) {
+            if (defaultAsyncHttpTransport != null) {
+                defaultAsyncHttpTransport.shutdown();
+            }
+            if (defaultAsyncExecutor != null) {
+                defaultAsyncExecutor.shutdown();
+            }
+        }
+    }
+
+    private AsyncHttpTransport getAsyncHttpTransport() {
+        if (customAsyncHttpTransport != null) {
+            return customAsyncHttpTransport;
+        }
+        if (defaultAsyncHttpTransport == null) {
+            synchronized (this) {
+                if (defaultAsyncHttpTransport == null) {
+                    defaultAsyncHttpTransport = new NioHttpTransport(httpClientSettings);
+                }
+            }
+        }
+        return defaultAsyncHttpTransport;
+    }
+
+    private ScheduledExecutorService getAsyncExecutor() {
+        if (customAsyncExecutor != null) {
+            return customAsyncExecutor;
+        }
+        if (defaultAsyncExecutor == null) {
+            synchronized (this) {
+                if (defaultAsyncExecutor == null) {
+                    defaultAsyncExecutor = new ScheduledThreadPoolExecutor(
+                            Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                        private final AtomicInteger threadCount = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "aws-sdk-async-execution-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+                }
+            }
+        }
+        return defaultAsyncExecutor;
     }
 
     /**
@@ -513,6 +629,40 @@ public class AmazonHttpClient {
                 .execute(adaptedRespHandler);
     }
 
+    /**
+     * Executes the request over the non-blocking transport and returns a future of the result.
+     * Requests with a streaming response or with content that is not already held in memory are
+     * refused.
+     *
+     * @param request              The AmazonWebServices request to send to the remote server
+     * @param responseHandler      A response handler to accept a successful response from the
+     *                             remote server
+     * @param errorResponseHandler A response handler to accept an unsuccessful response from the
+     *                             remote server
+     * @param executionContext     Additional information about the context of this web service
+     *                             call
+     * @param callback             Callback notified once the execution completes; may be null.
+     * @throws SdkClientException If the request cannot be sent over the non-blocking transport.
+     */
+    @Beta
+    public <T> Future<Response<T>> executeAsync(Request<?> request,
+                                                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                                ExecutionContext executionContext,
+                                                FutureCallback<Response<T>> callback) {
+        HttpResponseHandler<T> adaptedRespHandler = new AwsResponseHandlerAdapter<T>(
+                getNonNullResponseHandler(responseHandler),
+                request,
+                executionContext.getAwsRequestMetrics(),
+                responseMetadataCache);
+        return requestExecutionBuilder()
+                .request(request)
+                .requestConfig(new AmazonWebServiceRequestAdapter(request.getOriginalRequest()))
+                .errorResponseHandler(new AwsErrorResponseHandler(errorResponseHandler, executionContext.getAwsRequestMetrics()))
+                .executionContext(executionContext)
+                .executeAsync(adaptedRespHandler, callback);
+    }
+
     /**
      * Ensures the response handler is not null. If it is this method returns a dummy response
      * handler.
@@ -602,6 +752,23 @@ public class AmazonHttpClient {
          */
         Response<Void> execute();
 
+        /**
+         * Executes the request with the given configuration over the client's non-blocking
+         * transport. No thread is held while the request is on the wire or while backing off
+         * between retries; request handlers, signing and unmarshalling run on the client's async
+         * executor. Cancelling the returned future aborts the request in flight.
+         *
+         * @param responseHandler Response handler that outputs the actual result type.
+         * @param callback        Callback notified once the execution completes; may be null.
+         * @param <Output>        Result type
+         * @return Future of the unmarshalled result type.
+         * @throws SdkClientException If the response is streamed, or if the content of the
+         *                            request is not held in memory or is too large to be buffered.
+         */
+        @Beta
+        <Output> Future<Response<Output>> executeAsync(HttpResponseHandler<Output> responseHandler,
+                                                       FutureCallback<Response<Output>> callback);
+
     }
 
     private class RequestExecutionBuilderImpl implements RequestExecutionBuilder {
@@ -654,6 +821,19 @@ public class AmazonHttpClient {
             return execute(null);
         }
 
+        @Override
+        public <Output> Future<Response<Output>> executeAsync(HttpResponseHandler<Output> responseHandler,
+                                                              FutureCallback<Response<Output>> callback) {
+            RequestConfig config = requestConfig != null ? requestConfig : new AmazonWebServiceRequestAdapter(request.getOriginalRequest());
+            return new RequestExecutor<Output>(request,
+                                               config,
+                                               getNonNullResponseHandler(errorResponseHandler),
+                                               getNonNullResponseHandler(responseHandler),
+                                               executionContext,
+                                               getRequestHandlers()
+            ).executeAsync(callback);
+        }
+
         private List<RequestHandler2> getRequestHandlers() {
             List<RequestHandler2> requestHandler2s = executionContext.getRequestHandler2s();
             if (requestHandler2s == null) {
@@ -720,17 +900,50 @@ public class AmazonHttpClient {
             }
         }
 
+        /**
+         * Executes the request asynchronously over the non-blocking transport.
+         */
+        private Future<Response<Output>> executeAsync(FutureCallback<Response<Output>> callback) {
+            if (executionContext == null) {
+                throw new SdkClientException(
+                        "Internal SDK Error: No execution context parameter specified.");
+            }
+            checkAsyncSupported();
+            // Client execution timeouts are enforced by the async execution itself rather than by
+            // interrupting a thread.
+            executionContext.setClientExecutionTrackerTask(NoOpClientExecutionAbortTrackerTask.INSTANCE);
+            AsyncExecution execution = new AsyncExecution(callback);
+            execution.start();
+            return execution.future;
+        }
+
+        /**
+         * The non-blocking transport buffers the request content and the response entity, so
+         * streaming responses and content that would have to be read into memory are refused.
+         */
+        private void checkAsyncSupported() {
+            if (responseHandler.needsConnectionLeftOpen()) {
+                throw new SdkClientException(
+                        "Requests with a streaming response cannot be executed asynchronously");
+            }
+            InputStream content = request.getContent();
+            if (content == null) {
+                return;
+            }
+            if (!(content instanceof ByteArrayInputStream)) {
+                throw new SdkClientException(
+                        "Only requests with in-memory content can be executed asynchronously");
+            }
+            if (((ByteArrayInputStream) content).available() > MAX_ASYNC_REQUEST_CONTENT_LENGTH) {
+                throw new SdkClientException("Request content larger than "
+                        + MAX_ASYNC_REQUEST_CONTENT_LENGTH + " bytes cannot be executed asynchronously");
+            }
+        }
+
         private Response<Output> doExecute() throws InterruptedException {
-            runBeforeRequestHandlers();
-            setSdkTransactionId(request);
-            setUserAgent(request);
+            prepareRequest();
 
             ProgressListener listener = requestConfig.getProgressListener();
-            // add custom headers
-            request.getHeaders().putAll(config.getHeaders());
-            request.getHeaders().putAll(requestConfig.getCustomRequestHeaders());
-            // add custom query parameters
-            mergeQueryParameters(requestConfig.getCustomQueryParameters());
             Response<Output> response = null;
             final InputStream origContent = request.getContent();
             final InputStream toBeClosed = beforeRequest(); // for progress tracking
@@ -758,6 +971,21 @@ public class AmazonHttpClient {
             }
         }
 
+        /**
+         * Runs the request handlers and adds the SDK and custom headers and query parameters.
+         */
+        private void prepareRequest() {
+            runBeforeRequestHandlers();
+            setSdkTransactionId(request);
+            setUserAgent(request);
+
+            // add custom headers
+            request.getHeaders().putAll(config.getHeaders());
+            request.getHeaders().putAll(requestConfig.getCustomRequestHeaders());
+            // add custom query parameters
+            mergeQueryParameters(requestConfig.getCustomQueryParameters());
+        }
+
         private void runBeforeRequestHandlers() {
             AWSCredentials credentials = getCredentialsFromContext();
             request.addHandlerContext(HandlerContextKey.AWS_CREDENTIALS, credentials);
@@ -995,55 +1223,11 @@ public class AmazonHttpClient {
          * Internal method to execute the HTTP method given.
          */
         private Response<Output> executeHelper() throws InterruptedException {
-        /*
-         * add the service endpoint to the logs. You can infer service name from service endpoint
-         */
-            awsRequestMetrics
-                    .addPropertyWith(Field.RequestType, requestConfig.getRequestType())
-                    .addPropertyWith(Field.ServiceName, request.getServiceName())
-                    .addPropertyWith(Field.ServiceEndpoint, request.getEndpoint());
-            // Make a copy of the original request params and headers so that we can
-            // permute it in this loop and start over with the original every time.
-            final Map<String, List<String>> originalParameters = new LinkedHashMap<String, List<String>>(request.getParameters());
-            final Map<String, String> originalHeaders = new HashMap<String, String>(request.getHeaders());
-            // Always mark the input stream before execution.
             final ExecOneRequestParams execOneParams = new ExecOneRequestParams();
-            final InputStream originalContent = request.getContent();
-            if (originalContent != null && originalContent.markSupported()
-                && !(originalContent instanceof BufferedInputStream)) {
-                // Mark only once for non-BufferedInputStream
-                final int readLimit = requestConfig.getRequestClientOptions().getReadLimit();
-                originalContent.mark(readLimit);
-            }
+            initExecution(execOneParams);
             while (true) {
                 checkInterrupted();
-                if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
-                    // Mark everytime for BufferedInputStream, since the marker could have been invalidated
-                    final int readLimit = requestConfig.getRequestClientOptions().getReadLimit();
-                    originalContent.mark(readLimit);
-                }
-                execOneParams.initPerRetry();
-                if (execOneParams.redirectedURI != null) {
-                /*
-                 * [scheme:][//authority][path][?query][#fragment]
-                 */
-                    String scheme = execOneParams.redirectedURI.getScheme();
-                    String beforeAuthority = scheme == null ? "" : scheme + "://";
-                    String authority = execOneParams.redirectedURI.getAuthority();
-                    String path = execOneParams.redirectedURI.getPath();
-
-                    request.setEndpoint(URI.create(beforeAuthority + authority));
-                    request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
-                }
-                if (execOneParams.authRetryParam != null) {
-                    request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
-                }
-                awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
-                if (execOneParams.isRetry()) {
-                    request.setParameters(originalParameters);
-                    request.setHeaders(originalHeaders);
-                    request.setContent(originalContent);
-                }
+                initAttempt(execOneParams);
 
                 Response<Output> response = null;
                 Exception savedException = null;
@@ -1071,40 +1255,112 @@ public class AmazonHttpClient {
                 } catch (Error e) {
                     throw lastReset(captureExceptionMetrics(e));
                 } finally {
-                /*
-                 * Some response handlers need to manually manage the HTTP connection and will take
-                 * care of releasing the connection on their own, but if this response handler
-                 * doesn't need the connection left open, we go ahead and release the it to free up
-                 * resources.
-                 */
-                    if (!execOneParams.leaveHttpConnectionOpen) {
-                        if (execOneParams.apacheResponse != null) {
-                            HttpEntity entity = execOneParams.apacheResponse.getEntity();
-                            if (entity != null) {
-                                try {
-                                    closeQuietly(entity.getContent(), log);
-                                } catch (IOException e) {
-                                    log.warn("Cannot close the response content.", e);
-                                }
-                            }
-                        }
-                    }
-
-                    HandlerAfterAttemptContext afterAttemptContext = HandlerAfterAttemptContext.builder()
-                            .withRequest(request)
-                            .withResponse(response)
-                            .withException(savedException)
-                            .build();
-
                     /*
                      * Exceptions generated here will replace ones rethrown in catch-blocks
                      * above or thrown in the original try-block.
                      */
-                    afterAttempt(afterAttemptContext);
+                    endAttempt(execOneParams, response, savedException);
                 }
             } /* end while (true) */
         }
 
+        /**
+         * Records the request metrics and snapshots the original request parameters, headers and
+         * content before the first attempt.
+         */
+        private void initExecution(ExecOneRequestParams execOneParams) {
+        /*
+         * add the service endpoint to the logs. You can infer service name from service endpoint
+         */
+            awsRequestMetrics
+                    .addPropertyWith(Field.RequestType, requestConfig.getRequestType())
+                    .addPropertyWith(Field.ServiceName, request.getServiceName())
+                    .addPropertyWith(Field.ServiceEndpoint, request.getEndpoint());
+            // Make a copy of the original request params and headers so that we can
+            // permute it in this loop and start over with the original every time.
+            execOneParams.originalParameters = new LinkedHashMap<String, List<String>>(request.getParameters());
+            execOneParams.originalHeaders = new HashMap<String, String>(request.getHeaders());
+            // Always mark the input stream before execution.
+            final InputStream originalContent = request.getContent();
+            execOneParams.originalContent = originalContent;
+            if (originalContent != null && originalContent.markSupported()
+                && !(originalContent instanceof BufferedInputStream)) {
+                // Mark only once for non-BufferedInputStream
+                final int readLimit = requestConfig.getRequestClientOptions().getReadLimit();
+                originalContent.mark(readLimit);
+            }
+        }
+
+        /**
+         * Restores the request to its original state (taking redirects and auth retries into
+         * account) before each attempt.
+         */
+        private void initAttempt(ExecOneRequestParams execOneParams) {
+            final InputStream originalContent = execOneParams.originalContent;
+            if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
+                // Mark everytime for BufferedInputStream, since the marker could have been invalidated
+                final int readLimit = requestConfig.getRequestClientOptions().getReadLimit();
+                originalContent.mark(readLimit);
+            }
+            execOneParams.initPerRetry();
+            if (execOneParams.redirectedURI != null) {
+            /*
+             * [scheme:][//authority][path][?query][#fragment]
+             */
+                String scheme = execOneParams.redirectedURI.getScheme();
+                String beforeAuthority = scheme == null ? "" : scheme + "://";
+                String authority = execOneParams.redirectedURI.getAuthority();
+                String path = execOneParams.redirectedURI.getPath();
+
+                request.setEndpoint(URI.create(beforeAuthority + authority));
+                request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
+            }
+            if (execOneParams.authRetryParam != null) {
+                request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
+            }
+            awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
+            if (execOneParams.isRetry()) {
+                request.setParameters(execOneParams.originalParameters);
+                request.setHeaders(execOneParams.originalHeaders);
+                request.setContent(originalContent);
+            }
+        }
+
+        /**
+         * Releases the response content (unless the response handler manages the connection) and
+         * runs the after-attempt request handlers.
+         */
+        private void endAttempt(ExecOneRequestParams execOneParams,
+                                Response<Output> response,
+                                Exception savedException) throws InterruptedException {
+            /*
+             * Some response handlers need to manually manage the HTTP connection and will take
+             * care of releasing the connection on their own, but if this response handler
+             * doesn't need the connection left open, we go ahead and release the it to free up
+             * resources.
+             */
+            if (!execOneParams.leaveHttpConnectionOpen) {
+                if (execOneParams.apacheResponse != null) {
+                    HttpEntity entity = execOneParams.apacheResponse.getEntity();
+                    if (entity != null) {
+                        try {
+                            closeQuietly(entity.getContent(), log);
+                        } catch (IOException e) {
+                            log.warn("Cannot close the response content.", e);
+                        }
+                    }
+                }
+            }
+
+            HandlerAfterAttemptContext afterAttemptContext = HandlerAfterAttemptContext.builder()
+                    .withRequest(request)
+                    .withResponse(response)
+                    .withException(savedException)
+                    .build();
+
+            afterAttempt(afterAttemptContext);
+        }
+
         private void handleRetryableException(ExecOneRequestParams execOneParams, Exception e) {
             captureExceptionMetrics(e);
             awsRequestMetrics.addProperty(Field.AWSRequestID, null);
@@ -1189,38 +1445,14 @@ public class AmazonHttpClient {
                 pauseBeforeRetry(execOneParams, listener);
             }
             updateRetryHeaderInfo(request, execOneParams);
-
-            // Sign the request if a signer was provided
-            execOneParams.newSigner(request, executionContext);
-            if (execOneParams.signer != null &&
-                (credentials != null || execOneParams.signer instanceof CanHandleNullCredentials)) {
-                awsRequestMetrics.startEvent(Field.RequestSigningTime);
-                try {
-                    if (timeOffset != 0) {
-                        // Always use the client level timeOffset if it was
-                        // non-zero; Otherwise, we respect the timeOffset in the
-                        // request, which could have been externally configured (at
-                        // least for the 1st non-retry request).
-                        //
-                        // For retry due to clock skew, the timeOffset in the
-                        // request used for the retry is assumed to have been
-                        // adjusted when execution reaches here.
-                        request.setTimeOffset(timeOffset);
-                    }
-                    execOneParams.signer.sign(request, credentials);
-                } finally {
-                    awsRequestMetrics.endEvent(Field.RequestSigningTime);
-                }
-            }
+            signRequest(execOneParams, credentials);
 
             checkInterrupted();
             execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
 
             captureConnectionPoolMetrics();
 
-            final HttpClientContext localRequestContext =
-                    ApacheUtils.newClientContext(httpClientSettings, ImmutableMapParameter.of
-                            (AWSRequestMetrics.SIMPLE_NAME, awsRequestMetrics));
+            final HttpClientContext localRequestContext = newLocalRequestContext();
 
             execOneParams.resetBeforeHttpRequest();
             publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
@@ -1257,6 +1489,49 @@ public class AmazonHttpClient {
             }
 
             publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
+            return handleHttpResponse(execOneParams, localRequestContext);
+        }
+
+        /**
+         * Signs the request if a signer was provided.
+         */
+        private void signRequest(ExecOneRequestParams execOneParams, AWSCredentials credentials) {
+            execOneParams.newSigner(request, executionContext);
+            if (execOneParams.signer != null &&
+                (credentials != null || execOneParams.signer instanceof CanHandleNullCredentials)) {
+                awsRequestMetrics.startEvent(Field.RequestSigningTime);
+                try {
+                    if (timeOffset != 0) {
+                        // Always use the client level timeOffset if it was
+                        // non-zero; Otherwise, we respect the timeOffset in the
+                        // request, which could have been externally configured (at
+                        // least for the 1st non-retry request).
+                        //
+                        // For retry due to clock skew, the timeOffset in the
+                        // request used for the retry is assumed to have been
+                        // adjusted when execution reaches here.
+                        request.setTimeOffset(timeOffset);
+                    }
+                    execOneParams.signer.sign(request, credentials);
+                } finally {
+                    awsRequestMetrics.endEvent(Field.RequestSigningTime);
+                }
+            }
+        }
+
+        private HttpClientContext newLocalRequestContext() {
+            return ApacheUtils.newClientContext(httpClientSettings, ImmutableMapParameter.of
+                    (AWSRequestMetrics.SIMPLE_NAME, awsRequestMetrics));
+        }
+
+        /**
+         * Handles the HTTP response of one attempt.
+         *
+         * @return The unmarshalled response, or null if the request should be retried.
+         */
+        private Response<Output> handleHttpResponse(ExecOneRequestParams execOneParams,
+                                                    HttpClientContext localRequestContext)
+                throws IOException, InterruptedException {
             final StatusLine statusLine = execOneParams.apacheResponse.getStatusLine();
             final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
             if (isRequestSuccessful(execOneParams.apacheResponse)) {
@@ -1688,7 +1963,19 @@ public class AmazonHttpClient {
          * Sleep for a period of time on failed request to avoid flooding a service with retries.
          */
         private void doPauseBeforeRetry(ExecOneRequestParams execOneParams) throws InterruptedException {
-            final int retriesAttempted = execOneParams.requestCount - 2;
+            final long delay = computeDelayBeforeRetry(execOneParams, execOneParams.requestCount - 2);
+            if (delay >= 0) {
+                Thread.sleep(delay);
+            }
+        }
+
+        /**
+         * Computes the back off delay before the next retry.
+         *
+         * @return The delay in milliseconds, or -1 if the retry was due to a redirection and
+         * should not be delayed.
+         */
+        private long computeDelayBeforeRetry(ExecOneRequestParams execOneParams, int retriesAttempted) {
             RetryPolicyContext context = RetryPolicyContext.builder()
                     .request(request)
                     .originalRequest(requestConfig.getOriginalRequest())
@@ -1696,16 +1983,17 @@ public class AmazonHttpClient {
                     .exception(execOneParams.retriedException)
                     .build();
             // don't pause if the retry was not due to a redirection (I.E. when retried exception is null)
-            if (context.exception() != null) {
-                long delay = retryPolicy.computeDelayBeforeNextRetry(context);
-                execOneParams.lastBackoffDelay = delay;
+            if (context.exception() == null) {
+                return -1;
+            }
+            long delay = retryPolicy.computeDelayBeforeNextRetry(context);
+            execOneParams.lastBackoffDelay = delay;
 
-                if (log.isDebugEnabled()) {
-                    log.debug("Retriable error detected, " + "will retry in " + delay +
-                              "ms, attempt number: " + retriesAttempted);
-                }
-                Thread.sleep(delay);
+            if (log.isDebugEnabled()) {
+                log.debug("Retriable error detected, " + "will retry in " + delay +
+                          "ms, attempt number: " + retriesAttempted);
             }
+            return delay;
         }
 
         // SWF: Signature not yet current: 20140819T173921Z is still later than 20140819T173829Z
@@ -1794,6 +2082,312 @@ public class AmazonHttpClient {
             }
         }
 
+        /**
+         * Drives the execution of the request over the non-blocking transport. Each attempt is
+         * started on the calling or an async executor thread, the response is processed on an
+         * async executor thread and back off delays are scheduled rather than slept, so no thread
+         * is held while the request is in flight.
+         */
+        private class AsyncExecution {
+            private final BasicFuture<Response<Output>> future;
+            private final ExecOneRequestParams execOneParams = new ExecOneRequestParams();
+            private final ProgressListener listener = requestConfig.getProgressListener();
+            private final AtomicBoolean finished = new AtomicBoolean();
+            private final ScheduledExecutorService executor = getAsyncExecutor();
+            private InputStream origContent;
+            private InputStream toBeClosed;
+            private volatile ScheduledFuture<?> clientExecutionTimeoutTask;
+            private volatile ScheduledFuture<?> retryTask;
+            private volatile HttpRequestBase currentRequest;
+
+            private AsyncExecution(FutureCallback<Response<Output>> callback) {
+                this.future = new BasicFuture<Response<Output>>(callback) {
+                    @Override
+                    public boolean cancel(boolean mayInterruptIfRunning) {
+                        return AsyncExecution.this.cancel() && super.cancel(mayInterruptIfRunning);
+                    }
+                };
+            }
+
+            private void start() {
+                try {
+                    prepareRequest();
+                    origContent = request.getContent();
+                    toBeClosed = beforeRequest(); // for progress tracking
+                    // make "notCloseable", so reset would work with retries
+                    request.setContent(toBeClosed == null ? null
+                            : ReleasableInputStream.wrap(toBeClosed).disableClose());
+                    publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
+                    initExecution(execOneParams);
+                    scheduleClientExecutionTimeout();
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                attempt();
+            }
+
+            private void scheduleClientExecutionTimeout() {
+                int timeout = getClientExecutionTimeout(requestConfig);
+                if (timeout <= 0) {
+                    return;
+                }
+                clientExecutionTimeoutTask = executor.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        HttpRequestBase inFlight = currentRequest;
+                        fail(new ClientExecutionTimeoutException());
+                        if (inFlight != null) {
+                            inFlight.abort();
+                        }
+                    }
+                }, timeout, TimeUnit.MILLISECONDS);
+            }
+
+            /**
+             * Prepares and signs one attempt and hands it to the transport.
+             */
+            private void attempt() {
+                if (finished.get()) {
+                    return;
+                }
+                Exception savedException = null;
+                try {
+                    initAttempt(execOneParams);
+                    beforeAttempt(HandlerBeforeAttemptContext.builder().withRequest(request).build());
+                    if (execOneParams.isRetry()) {
+                        resetRequestInputStream(request);
+                    }
+                    if (requestLog.isDebugEnabled()) {
+                        requestLog.debug((execOneParams.isRetry() ? "Retrying " : "Sending ") + "Request: " + request);
+                    }
+                    final AWSCredentials credentials = getCredentialsFromContext();
+                    updateRetryHeaderInfo(request, execOneParams);
+                    signRequest(execOneParams, credentials);
+                    execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
+                    final HttpClientContext localRequestContext = newLocalRequestContext();
+
+                    execOneParams.resetBeforeHttpRequest();
+                    publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
+                    awsRequestMetrics.startEvent(Field.HttpRequestTime);
+                    awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacity.consumedCapacity());
+
+                    currentRequest = execOneParams.apacheRequest;
+                    if (finished.get()) {
+                        return;
+                    }
+                    getAsyncHttpTransport().execute(execOneParams.apacheRequest,
+                                                    getRequestTimeout(requestConfig),
+                                                    new FutureCallback<org.apache.http.HttpResponse>() {
+                        @Override
+                        public void completed(final org.apache.http.HttpResponse result) {
+                            runAsync(new Runnable() {
+                                @Override
+                                public void run() {
+                                    onHttpResponse(result, localRequestContext);
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void failed(final Exception ex) {
+                            runAsync(new Runnable() {
+                                @Override
+                                public void run() {
+                                    onHttpFailure(ex);
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            failed(new AbortedException("The HTTP request was aborted"));
+                        }
+                    });
+                } catch (IOException ioe) {
+                    savedException = ioe;
+                    completeAttempt(null, ioe, retryOrFailure(ioe));
+                } catch (Exception e) {
+                    savedException = e;
+                    completeAttempt(null, savedException, lastReset(captureExceptionMetrics(e)));
+                }
+            }
+
+            private void onHttpResponse(org.apache.http.HttpResponse apacheResponse,
+                                        HttpClientContext localRequestContext) {
+                if (finished.get()) {
+                    return;
+                }
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
+                execOneParams.apacheResponse = apacheResponse;
+                Response<Output> response = null;
+                Exception savedException = null;
+                Exception failure = null;
+                try {
+                    response = handleHttpResponse(execOneParams, localRequestContext);
+                    savedException = execOneParams.retriedException;
+                } catch (IOException ioe) {
+                    savedException = ioe;
+                    failure = retryOrFailure(ioe);
+                } catch (Exception e) {
+                    savedException = e;
+                    failure = lastReset(captureExceptionMetrics(e));
+                }
+                completeAttempt(response, savedException, failure);
+            }
+
+            private void onHttpFailure(Exception e) {
+                if (finished.get()) {
+                    return;
+                }
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                if (e instanceof IOException) {
+                    completeAttempt(null, e, retryOrFailure(e));
+                } else {
+                    completeAttempt(null, e, lastReset(captureExceptionMetrics(e)));
+                }
+            }
+
+            /**
+             * @return Null if the failed attempt will be retried, otherwise the exception to fail
+             * the execution with.
+             */
+            private Exception retryOrFailure(Exception e) {
+                try {
+                    handleRetryableException(execOneParams, e);
+                    return null;
+                } catch (RuntimeException re) {
+                    return re;
+                }
+            }
+
+            private void completeAttempt(Response<Output> response,
+                                         Exception savedException,
+                                         Exception failure) {
+                try {
+                    /*
+                     * Exceptions generated here will replace the failure of the attempt.
+                     */
+                    endAttempt(execOneParams, response, savedException);
+                } catch (Exception e) {
+                    failure = e;
+                }
+                if (failure != null) {
+                    fail(failure);
+                } else if (response != null) {
+                    succeed(response);
+                } else {
+                    scheduleRetry();
+                }
+            }
+
+            private void scheduleRetry() {
+                if (finished.get()) {
+                    return;
+                }
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
+                long delay = computeDelayBeforeRetry(execOneParams, execOneParams.requestCount - 1);
+                awsRequestMetrics.startEvent(Field.RetryPauseTime);
+                Runnable retry = new Runnable() {
+                    @Override
+                    public void run() {
+                        awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                        attempt();
+                    }
+                };
+                try {
+                    retryTask = executor.schedule(retry, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                    fail(new SdkClientException("Unable to schedule retry", e));
+                    return;
+                }
+                if (finished.get()) {
+                    // Finished while the retry was being scheduled
+                    retryTask.cancel(false);
+                }
+            }
+
+            private void succeed(Response<Output> response) {
+                if (!finished.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
+                    awsRequestMetrics.getTimingInfo().endTiming();
+                    afterResponse(response);
+                } catch (Exception e) {
+                    release();
+                    future.failed(toClientException(e));
+                    return;
+                }
+                release();
+                future.completed(response);
+            }
+
+            private void fail(Exception e) {
+                if (!finished.compareAndSet(false, true)) {
+                    return;
+                }
+                Exception failure = toClientException(e);
+                if (failure instanceof AmazonClientException) {
+                    publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+                    try {
+                        // Exceptions generated here will replace the original failure.
+                        afterError(null, (AmazonClientException) failure);
+                    } catch (Exception ex) {
+                        failure = toClientException(ex);
+                    }
+                }
+                release();
+                future.failed(failure);
+            }
+
+            /**
+             * Aborts the request in flight and clears the pending timers.
+             *
+             * @return False if the execution has already finished.
+             */
+            private boolean cancel() {
+                if (!finished.compareAndSet(false, true)) {
+                    return false;
+                }
+                HttpRequestBase inFlight = currentRequest;
+                if (inFlight != null) {
+                    inFlight.abort();
+                }
+                release();
+                return true;
+            }
+
+            private Exception toClientException(Exception e) {
+                return e instanceof InterruptedException ? new AbortedException(e) : e;
+            }
+
+            private void release() {
+                cancelTask(clientExecutionTimeoutTask);
+                cancelTask(retryTask);
+                // Always close so any progress tracking would get the final events propagated.
+                closeQuietly(toBeClosed, log);
+                request.setContent(origContent); // restore the original content
+            }
+
+            private void cancelTask(ScheduledFuture<?> task) {
+                if (task != null) {
+                    task.cancel(false);
+                }
+            }
+
+            private void runAsync(Runnable task) {
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    fail(new SdkClientException("Unable to process the HTTP response", e));
+                }
+            }
+        }
+
         /**
          * Stateful parameters that are used for executing a single httpClientSettings request.
          */
@@ -1804,6 +2398,13 @@ public class AmazonHttpClient {
              */
             long lastBackoffDelay = 0;
             SdkBaseException retriedException; // last retryable exception
+            /*
+             * Snapshot of the request taken before the first attempt, so that every retry starts
+             * over from the original parameters, headers and content.
+             */
+            Map<String, List<String>> originalParameters;
+            Map<String, String> originalHeaders;
+            InputStream originalContent;
             HttpRequestBase apacheRequest;
             org.apache.http.HttpResponse apacheResponse;
             URI redirectedURI;
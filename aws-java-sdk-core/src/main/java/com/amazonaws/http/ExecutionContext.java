@@ -26,6 +26,7 @@ import com.amazonaws.internal.auth.SignerProviderContext;
 import com.amazonaws.internal.auth.SignerProvider;
 import com.amazonaws.retry.internal.AuthErrorRetryStrategy;
 import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetricsCompact;
 import com.amazonaws.util.AWSRequestMetricsFullSupport;
 
 import java.net.URI;
@@ -84,7 +85,8 @@ public class ExecutionContext {
 
     private ExecutionContext(final Builder builder) {
         this.requestHandler2s = builder.requestHandler2s;
-        this.awsRequestMetrics = builder.useRequestMetrics ? new AWSRequestMetricsFullSupport() : new AWSRequestMetrics();
+        this.awsRequestMetrics = builder.useCompactRequestMetrics ? new AWSRequestMetricsCompact()
+                : builder.useRequestMetrics ? new AWSRequestMetricsFullSupport() : new AWSRequestMetrics();
         this.awsClient = builder.awsClient;
         this.signerProvider = builder.signerProvider;
     }
@@ -200,6 +202,7 @@ public class ExecutionContext {
     public static class Builder {
 
         private boolean useRequestMetrics;
+        private boolean useCompactRequestMetrics;
         private List<RequestHandler2> requestHandler2s;
         private AmazonWebServiceClient awsClient;
         private SignerProvider signerProvider = new NoOpSignerProvider();
@@ -219,6 +222,24 @@ public class ExecutionContext {
             return this;
         }
 
+        public boolean useCompactRequestMetrics() {
+            return useCompactRequestMetrics;
+        }
+
+        /**
+         * Sets whether the request metrics are recorded in an {@link AWSRequestMetricsCompact},
+         * for a {@link com.amazonaws.metrics.CompactRequestMetricCollector}. Takes precedence
+         * over {@link #setUseRequestMetrics(boolean)}.
+         */
+        public void setUseCompactRequestMetrics(final boolean useCompactRequestMetrics) {
+            this.useCompactRequestMetrics = useCompactRequestMetrics;
+        }
+
+        public Builder withUseCompactRequestMetrics(final boolean withUseCompactRequestMetrics) {
+            setUseCompactRequestMetrics(withUseCompactRequestMetrics);
+            return this;
+        }
+
         public List<RequestHandler2> getRequestHandler2s() {
             return requestHandler2s;
         }
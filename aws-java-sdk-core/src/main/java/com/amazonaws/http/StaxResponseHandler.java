@@ -50,9 +50,16 @@ public class StaxResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
     private static final Log log = LogFactory.getLog("com.amazonaws.request");
 
     /**
-     * Shared factory for creating XML event readers
+     * Per-thread factory for creating XML event readers. XMLInputFactory is
+     * not thread safe, and sharing a single instance behind a lock serializes
+     * response parsing across all client threads.
      */
-    private static final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+    private static final ThreadLocal<XMLInputFactory> xmlInputFactory = new ThreadLocal<XMLInputFactory>() {
+        @Override
+        protected XMLInputFactory initialValue() {
+            return createXmlInputFactory();
+        }
+    };
 
     /**
      * Constructs a new response handler that will use the specified StAX
@@ -89,12 +96,10 @@ public class StaxResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
         }
 
         XMLEventReader eventReader;
-        synchronized (xmlInputFactory) {
-            try {
-                eventReader = xmlInputFactory.createXMLEventReader(content);
-            } catch (XMLStreamException e) {
-                throw handleXmlStreamException(e);
-            }
+        try {
+            eventReader = xmlInputFactory.get().createXMLEventReader(content);
+        } catch (XMLStreamException e) {
+            throw handleXmlStreamException(e);
         }
 
         try {
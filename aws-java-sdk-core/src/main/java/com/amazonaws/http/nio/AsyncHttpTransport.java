@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import com.amazonaws.annotation.Beta;
+import com.amazonaws.annotation.ThreadSafe;
+import java.util.concurrent.Future;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+
+/**
+ * A non-blocking HTTP transport that {@link com.amazonaws.http.AmazonHttpClient} can drive to
+ * execute requests without dedicating a thread to each in-flight request.
+ * <p>
+ * Implementations must never invoke the callback on the thread that called {@link
+ * #execute(HttpRequestBase, int, FutureCallback)} and must honor {@link HttpRequestBase#abort()}
+ * by failing the exchange. The signature intentionally mirrors Apache HttpAsyncClient so that it can
+ * be adapted with a thin wrapper.
+ */
+@Beta
+@ThreadSafe
+public interface AsyncHttpTransport {
+
+    /**
+     * Sends the request and completes the returned future once the whole response has been
+     * received.
+     *
+     * @param request        Fully prepared (signed) request to send.
+     * @param requestTimeout Maximum time in milliseconds the exchange may take, or zero for no
+     *                       limit.
+     * @param callback       Callback notified on completion, failure or cancellation. May be
+     *                       null.
+     * @return Future representing the response.
+     */
+    Future<HttpResponse> execute(HttpRequestBase request,
+                                 int requestTimeout,
+                                 FutureCallback<HttpResponse> callback);
+
+    /**
+     * Releases the resources held by this transport and fails any in-flight exchange.
+     */
+    void shutdown();
+}
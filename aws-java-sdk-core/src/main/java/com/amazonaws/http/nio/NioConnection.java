@@ -0,0 +1,449 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import org.apache.http.ConnectionClosedException;
+import org.apache.http.NoHttpResponseException;
+
+/**
+ * A single (optionally TLS protected) HTTP/1.1 connection owned by the {@link NioHttpTransport}
+ * I/O thread. All methods must be invoked from that thread.
+ */
+@SdkInternalApi
+@NotThreadSafe
+class NioConnection {
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private enum State {
+        CONNECTING, HANDSHAKING, WRITING, READING, IDLE, CLOSED
+    }
+
+    private final NioHttpTransport transport;
+    private final String route;
+    private final String host;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final SSLEngine engine;
+    private final HostnameVerifier hostnameVerifier;
+
+    /** Encrypted bytes received from the peer, kept in write mode between reads. */
+    private ByteBuffer netIn;
+    /** Encrypted bytes waiting to be written to the peer, kept in read mode. */
+    private ByteBuffer netOut;
+
+    private State state = State.CONNECTING;
+    private NioHttpExchange exchange;
+    private int exchangeCount;
+    private long lastActivity;
+
+    NioConnection(NioHttpTransport transport,
+                  Selector selector,
+                  NioHttpExchange exchange,
+                  SSLContext sslContext,
+                  HostnameVerifier hostnameVerifier,
+                  boolean tcpKeepAlive) throws IOException {
+        this.transport = transport;
+        this.route = exchange.getRoute();
+        this.host = exchange.getHost();
+        this.hostnameVerifier = hostnameVerifier;
+        this.exchange = exchange;
+        this.lastActivity = System.currentTimeMillis();
+
+        this.channel = SocketChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            channel.socket().setKeepAlive(tcpKeepAlive);
+            channel.connect(new InetSocketAddress(exchange.getAddresses()[0], exchange.getPort()));
+            this.key = channel.register(selector, SelectionKey.OP_CONNECT, this);
+        } catch (IOException e) {
+            closeChannel();
+            throw e;
+        }
+
+        if (exchange.isSecure()) {
+            engine = sslContext.createSSLEngine(host, exchange.getPort());
+            engine.setUseClientMode(true);
+            netIn = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+            netOut = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+            netOut.flip();
+        } else {
+            engine = null;
+        }
+    }
+
+    String getRoute() {
+        return route;
+    }
+
+    NioHttpExchange getExchange() {
+        return exchange;
+    }
+
+    boolean isIdle() {
+        return state == State.IDLE;
+    }
+
+    boolean isOpen() {
+        return state != State.CLOSED && channel.isOpen();
+    }
+
+    boolean isConnecting() {
+        return state == State.CONNECTING || state == State.HANDSHAKING;
+    }
+
+    long getLastActivity() {
+        return lastActivity;
+    }
+
+    /**
+     * Starts a new exchange on this (idle, connected) connection.
+     */
+    void start(NioHttpExchange newExchange) {
+        this.exchange = newExchange;
+        this.lastActivity = System.currentTimeMillis();
+        this.state = State.WRITING;
+        process(false, true);
+    }
+
+    /**
+     * Invoked by the selector loop when the channel is ready for some operation.
+     */
+    void onSelected() {
+        if (!key.isValid()) {
+            fail(new ConnectionClosedException("Connection closed"));
+            return;
+        }
+        lastActivity = System.currentTimeMillis();
+        process(key.isReadable(), key.isWritable());
+    }
+
+    /**
+     * Fails the current exchange (if any) and closes the connection.
+     */
+    void fail(Exception cause) {
+        NioHttpExchange failed = exchange;
+        exchange = null;
+        close();
+        if (failed != null) {
+            failed.getFuture().failed(cause);
+        }
+    }
+
+    void close() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        state = State.CLOSED;
+        key.cancel();
+        closeChannel();
+        transport.connectionClosed(this);
+    }
+
+    private void process(boolean readable, boolean writable) {
+        try {
+            switch (state) {
+                case CONNECTING:
+                    if (!channel.finishConnect()) {
+                        return;
+                    }
+                    if (engine != null) {
+                        state = State.HANDSHAKING;
+                        engine.beginHandshake();
+                    } else {
+                        state = State.WRITING;
+                    }
+                    process(false, true);
+                    break;
+                case HANDSHAKING:
+                    if (handshake()) {
+                        verifyHostname();
+                        state = State.WRITING;
+                        process(false, true);
+                    }
+                    break;
+                case WRITING:
+                    if (writeRequest()) {
+                        state = State.READING;
+                        interest(SelectionKey.OP_READ);
+                        process(true, false);
+                    }
+                    break;
+                case READING:
+                    if (readable) {
+                        readResponse();
+                    }
+                    break;
+                case IDLE:
+                    if (readable) {
+                        // Idle connections only become readable when the peer closes them.
+                        close();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            fail(new SSLException(e.getMessage(), e));
+        }
+    }
+
+    private boolean handshake() throws IOException {
+        while (true) {
+            if (!flushNetOut()) {
+                interest(SelectionKey.OP_WRITE);
+                return false;
+            }
+            switch (engine.getHandshakeStatus()) {
+                case NEED_TASK:
+                    runDelegatedTasks();
+                    break;
+                case NEED_WRAP:
+                    wrap(EMPTY);
+                    break;
+                case NEED_UNWRAP:
+                    if (!unwrapHandshake()) {
+                        interest(SelectionKey.OP_READ);
+                        return false;
+                    }
+                    break;
+                default:
+                    return true;
+            }
+        }
+    }
+
+    private boolean unwrapHandshake() throws IOException {
+        netIn.flip();
+        ByteBuffer appIn = transport.applicationBuffer(engine.getSession().getApplicationBufferSize());
+        SSLEngineResult result = engine.unwrap(netIn, appIn);
+        netIn.compact();
+        switch (result.getStatus()) {
+            case BUFFER_UNDERFLOW:
+                ensureNetInCapacity();
+                int read = channel.read(netIn);
+                if (read < 0) {
+                    throw new SSLException("Connection closed during TLS handshake");
+                }
+                return read > 0;
+            case CLOSED:
+                throw new SSLException("TLS engine closed during handshake");
+            default:
+                return true;
+        }
+    }
+
+    private void verifyHostname() throws SSLPeerUnverifiedException {
+        if (hostnameVerifier != null && !hostnameVerifier.verify(host, engine.getSession())) {
+            throw new SSLPeerUnverifiedException(
+                    "Certificate for <" + host + "> doesn't match any of the subject alternative names");
+        }
+    }
+
+    private boolean writeRequest() throws IOException {
+        ByteBuffer source = exchange.getRequestBytes();
+        if (engine == null) {
+            while (source.hasRemaining()) {
+                if (channel.write(source) == 0) {
+                    interest(SelectionKey.OP_WRITE);
+                    return false;
+                }
+            }
+            return true;
+        }
+        while (true) {
+            if (!flushNetOut()) {
+                interest(SelectionKey.OP_WRITE);
+                return false;
+            }
+            if (!source.hasRemaining()) {
+                return true;
+            }
+            wrap(source);
+        }
+    }
+
+    private void readResponse() throws IOException {
+        NioResponseParser parser = exchange.getParser();
+        if (engine == null) {
+            ByteBuffer buffer = transport.readBuffer();
+            while (true) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    endOfStream(parser);
+                    return;
+                } else if (read == 0) {
+                    return;
+                }
+                buffer.flip();
+                if (parser.feed(buffer)) {
+                    complete(parser);
+                    return;
+                }
+            }
+        }
+
+        while (true) {
+            int read = channel.read(netIn);
+            netIn.flip();
+            boolean closed = false;
+            while (netIn.hasRemaining()) {
+                ByteBuffer appIn = transport.applicationBuffer(
+                        engine.getSession().getApplicationBufferSize());
+                SSLEngineResult result = engine.unwrap(netIn, appIn);
+                appIn.flip();
+                if (parser.feed(appIn)) {
+                    netIn.compact();
+                    complete(parser);
+                    return;
+                }
+                if (result.getStatus() == SSLEngineResult.Status.BUFFER_UNDERFLOW) {
+                    break;
+                } else if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+                    closed = true;
+                    break;
+                }
+                handlePostHandshake();
+            }
+            netIn.compact();
+            ensureNetInCapacity();
+            if (read < 0 || closed) {
+                endOfStream(parser);
+                return;
+            } else if (read == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Handles handshake messages exchanged after the initial handshake, such as TLS 1.3 session
+     * tickets or key updates.
+     */
+    private void handlePostHandshake() throws IOException {
+        SSLEngineResult.HandshakeStatus status = engine.getHandshakeStatus();
+        while (status == SSLEngineResult.HandshakeStatus.NEED_TASK
+               || status == SSLEngineResult.HandshakeStatus.NEED_WRAP) {
+            if (status == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                runDelegatedTasks();
+            } else {
+                wrap(EMPTY);
+                flushNetOut();
+            }
+            status = engine.getHandshakeStatus();
+        }
+    }
+
+    private void endOfStream(NioResponseParser parser) throws IOException {
+        if (parser.endOfStream()) {
+            complete(parser);
+        } else if (parser.isPristine() && exchangeCount > 0) {
+            throw new NoHttpResponseException(route + " failed to respond");
+        } else {
+            throw new ConnectionClosedException("Premature end of response from " + route);
+        }
+    }
+
+    private void complete(NioResponseParser parser) {
+        NioHttpExchange completed = exchange;
+        exchange = null;
+        exchangeCount++;
+        if (parser.isKeepAlive() && channel.isOpen()) {
+            state = State.IDLE;
+            interest(SelectionKey.OP_READ);
+            transport.connectionReleased(this);
+        } else {
+            close();
+        }
+        completed.getFuture().completed(parser.toHttpResponse());
+    }
+
+    private void wrap(ByteBuffer source) throws IOException {
+        netOut.clear();
+        SSLEngineResult result = engine.wrap(source, netOut);
+        netOut.flip();
+        switch (result.getStatus()) {
+            case BUFFER_OVERFLOW:
+                netOut = ByteBuffer.allocate(netOut.capacity() * 2);
+                netOut.flip();
+                break;
+            case CLOSED:
+                throw new SSLException("TLS engine closed");
+            default:
+                break;
+        }
+        if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+            runDelegatedTasks();
+        }
+    }
+
+    private boolean flushNetOut() throws IOException {
+        while (netOut.hasRemaining()) {
+            if (channel.write(netOut) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureNetInCapacity() {
+        int packetSize = engine.getSession().getPacketBufferSize();
+        if (netIn.remaining() < packetSize && netIn.capacity() < packetSize * 2) {
+            ByteBuffer larger = ByteBuffer.allocate(netIn.position() + packetSize);
+            netIn.flip();
+            larger.put(netIn);
+            netIn = larger;
+        }
+    }
+
+    private void runDelegatedTasks() {
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+        }
+    }
+
+    private void interest(int ops) {
+        if (key.isValid() && key.interestOps() != ops) {
+            key.interestOps(ops);
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing useful can be done at this point.
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.util.StringUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.BasicFuture;
+
+/**
+ * A single request/response exchange handled by the {@link NioHttpTransport}. The request is
+ * serialized up front on the calling thread so the I/O thread only ever moves bytes.
+ */
+@SdkInternalApi
+class NioHttpExchange {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final HttpRequestBase request;
+    private final BasicFuture<HttpResponse> future;
+    private final String route;
+    private final String host;
+    private final int port;
+    private final boolean secure;
+    private final InetAddress[] addresses;
+    private final ByteBuffer requestBytes;
+    private final NioResponseParser parser;
+    private final long deadline;
+
+    NioHttpExchange(HttpRequestBase request,
+                    BasicFuture<HttpResponse> future,
+                    InetAddress[] addresses,
+                    int requestTimeout,
+                    boolean acceptGzip) throws IOException {
+        URI uri = request.getURI();
+        this.request = request;
+        this.future = future;
+        this.secure = "https".equalsIgnoreCase(uri.getScheme());
+        this.host = uri.getHost();
+        this.port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        this.route = (secure ? "https://" : "http://") + host + ":" + port;
+        this.addresses = addresses;
+        this.requestBytes = serialize(request, acceptGzip);
+        this.parser = new NioResponseParser("HEAD".equals(request.getMethod()));
+        this.deadline = requestTimeout > 0 ? System.currentTimeMillis() + requestTimeout : 0;
+    }
+
+    HttpRequestBase getRequest() {
+        return request;
+    }
+
+    BasicFuture<HttpResponse> getFuture() {
+        return future;
+    }
+
+    String getRoute() {
+        return route;
+    }
+
+    String getHost() {
+        return host;
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    boolean isSecure() {
+        return secure;
+    }
+
+    InetAddress[] getAddresses() {
+        return addresses;
+    }
+
+    ByteBuffer getRequestBytes() {
+        return requestBytes;
+    }
+
+    NioResponseParser getParser() {
+        return parser;
+    }
+
+    boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * @return True if the request timeout elapsed before the response was received.
+     */
+    boolean isExpired(long now) {
+        return deadline > 0 && now >= deadline;
+    }
+
+    /**
+     * Writes the request line, headers and (buffered) entity in HTTP/1.1 wire format.
+     */
+    private static ByteBuffer serialize(HttpRequestBase request, boolean acceptGzip)
+            throws IOException {
+        byte[] entity = null;
+        if (request instanceof HttpEntityEnclosingRequest) {
+            HttpEntity httpEntity = ((HttpEntityEnclosingRequest) request).getEntity();
+            if (httpEntity != null) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream(
+                        httpEntity.getContentLength() > 0 ? (int) httpEntity.getContentLength() : 512);
+                httpEntity.writeTo(content);
+                entity = content.toByteArray();
+            }
+        }
+
+        URI uri = request.getURI();
+        StringBuilder head = new StringBuilder(256);
+        String path = uri.getRawPath();
+        head.append(request.getMethod()).append(' ')
+            .append(path == null || path.length() == 0 ? "/" : path);
+        if (uri.getRawQuery() != null) {
+            head.append('?').append(uri.getRawQuery());
+        }
+        head.append(" HTTP/1.1\r\n");
+
+        boolean hasAcceptEncoding = false;
+        for (Header header : request.getAllHeaders()) {
+            if ("Content-Length".equalsIgnoreCase(header.getName())
+                || "Transfer-Encoding".equalsIgnoreCase(header.getName())) {
+                continue;
+            }
+            hasAcceptEncoding |= "Accept-Encoding".equalsIgnoreCase(header.getName());
+            head.append(header.getName()).append(": ").append(header.getValue()).append("\r\n");
+        }
+        if (acceptGzip && !hasAcceptEncoding) {
+            head.append("Accept-Encoding: gzip\r\n");
+        }
+        if (entity != null) {
+            head.append("Content-Length: ").append(entity.length).append("\r\n");
+        }
+
+        byte[] headBytes = head.toString().getBytes(StringUtils.UTF8);
+        ByteBuffer buffer = ByteBuffer.allocate(headBytes.length + CRLF.length
+                                                + (entity == null ? 0 : entity.length));
+        buffer.put(headBytes).put(CRLF);
+        if (entity != null) {
+            buffer.put(entity);
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
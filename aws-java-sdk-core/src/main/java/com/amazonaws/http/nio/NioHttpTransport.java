@@ -0,0 +1,472 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import com.amazonaws.DnsResolver;
+import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.Beta;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.http.exception.HttpRequestTimeoutException;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.internal.SdkSSLContext;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.Cancellable;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+
+/**
+ * JDK-only {@link AsyncHttpTransport} built on a single selector thread. Connections are pooled
+ * per route and bounded by {@link HttpClientSettings#getMaxConnections()}; exchanges that cannot
+ * get a connection are queued rather than blocking the caller.
+ * <p>
+ * Request entities are buffered in memory before being sent and response entities are fully read
+ * before the callback is notified, which makes this transport suitable for the request/response
+ * style APIs of most services but not for large streaming uploads or downloads. HTTP proxies are
+ * not supported.
+ */
+@Beta
+@ThreadSafe
+public class NioHttpTransport implements AsyncHttpTransport {
+
+    private static final Log log = LogFactory.getLog(NioHttpTransport.class);
+
+    /**
+     * How often (in milliseconds) in-flight exchanges are checked for expired timeouts.
+     */
+    private static final long TIMEOUT_SWEEP_INTERVAL = 100;
+
+    private static final int READ_BUFFER_SIZE = 32 * 1024;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final Selector selector;
+    private final Thread ioThread;
+    private final ConcurrentLinkedQueue<Runnable> pendingTasks = new ConcurrentLinkedQueue<Runnable>();
+    private final DnsResolver dnsResolver;
+    private final SSLContext sslContext;
+    private final HostnameVerifier hostnameVerifier;
+    private final int maxConnections;
+    private final int connectionTimeout;
+    private final int socketTimeout;
+    private final int connectionPoolRequestTimeout;
+    private final long maxIdleTime;
+    private final boolean tcpKeepAlive;
+    private final boolean acceptGzip;
+    private volatile boolean shutdown;
+
+    // The following state is only ever accessed from the I/O thread.
+    private final Set<NioConnection> connections = new HashSet<NioConnection>();
+    private final Map<String, ArrayDeque<NioConnection>> idleConnections =
+            new HashMap<String, ArrayDeque<NioConnection>>();
+    private final ArrayDeque<NioHttpExchange> queuedExchanges = new ArrayDeque<NioHttpExchange>();
+    private final Map<NioHttpExchange, Long> queuedSince = new HashMap<NioHttpExchange, Long>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private ByteBuffer applicationBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private long nextTimeoutSweep;
+
+    /**
+     * Creates a transport honoring the connection pool, timeout and TLS settings of the given
+     * client settings.
+     */
+    public NioHttpTransport(HttpClientSettings settings) {
+        if (settings.isProxyEnabled()) {
+            throw new IllegalArgumentException(
+                    "HTTP proxies are not supported by the non-blocking transport");
+        }
+        this.dnsResolver = settings.getDnsResolver();
+        this.maxConnections = settings.getMaxConnections();
+        this.connectionTimeout = settings.getConnectionTimeout();
+        this.socketTimeout = settings.getSocketTimeout();
+        this.connectionPoolRequestTimeout = settings.getConnectionPoolRequestTimeout();
+        this.maxIdleTime = settings.getMaxIdleConnectionTime();
+        this.tcpKeepAlive = settings.useTcpKeepAlive();
+        this.acceptGzip = settings.useGzip();
+        if (SDKGlobalConfiguration.isCertCheckingDisabled()) {
+            log.warn("SSL Certificate checking for endpoints has been explicitly disabled.");
+            this.sslContext = createTrustingSSLContext();
+            this.hostnameVerifier = null;
+        } else {
+            this.sslContext = SdkSSLContext.getPreferredSSLContext(settings.getSecureRandom());
+            this.hostnameVerifier = settings.useBrowserCompatibleHostNameVerifier()
+                    ? SSLConnectionSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER
+                    : SSLConnectionSocketFactory.STRICT_HOSTNAME_VERIFIER;
+        }
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new SdkClientException("Unable to open NIO selector", e);
+        }
+        this.ioThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runEventLoop();
+            }
+        }, "aws-sdk-nio-transport-" + threadCount.incrementAndGet());
+        ioThread.setDaemon(true);
+        ioThread.start();
+    }
+
+    @Override
+    public Future<HttpResponse> execute(HttpRequestBase request,
+                                        int requestTimeout,
+                                        FutureCallback<HttpResponse> callback) {
+        final BasicFuture<HttpResponse> future = new BasicFuture<HttpResponse>(callback);
+        if (shutdown) {
+            future.failed(new IllegalStateException("Transport has been shut down"));
+            return future;
+        }
+
+        final NioHttpExchange exchange;
+        try {
+            InetAddress[] addresses = dnsResolver.resolve(request.getURI().getHost());
+            exchange = new NioHttpExchange(request, future, addresses, requestTimeout, acceptGzip);
+        } catch (IOException e) {
+            future.failed(e);
+            return future;
+        }
+
+        request.setCancellable(new Cancellable() {
+            @Override
+            public boolean cancel() {
+                boolean cancelled = future.cancel(true);
+                submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        abandon(exchange);
+                    }
+                });
+                return cancelled;
+            }
+        });
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                dispatch(exchange);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        selector.wakeup();
+    }
+
+    ByteBuffer readBuffer() {
+        return readBuffer;
+    }
+
+    /**
+     * Returns the cleared buffer TLS connections decrypt application data into, growing it if
+     * needed. Shared by all connections since it is only used on the I/O thread.
+     */
+    ByteBuffer applicationBuffer(int minimumSize) {
+        if (applicationBuffer.capacity() < minimumSize) {
+            applicationBuffer = ByteBuffer.allocate(minimumSize);
+        }
+        applicationBuffer.clear();
+        return applicationBuffer;
+    }
+
+    /**
+     * Called by a connection once its exchange completed and it can be reused.
+     */
+    void connectionReleased(NioConnection connection) {
+        NioHttpExchange next = pollQueued(connection.getRoute());
+        if (next != null) {
+            connection.start(next);
+            return;
+        }
+        ArrayDeque<NioConnection> idle = idleConnections.get(connection.getRoute());
+        if (idle == null) {
+            idle = new ArrayDeque<NioConnection>();
+            idleConnections.put(connection.getRoute(), idle);
+        }
+        idle.push(connection);
+        // A queued exchange for another route may be waiting for a free slot.
+        if (!queuedExchanges.isEmpty() && connections.size() >= maxConnections) {
+            idle.remove(connection);
+            connection.close();
+        }
+    }
+
+    /**
+     * Called by a connection once it is closed.
+     */
+    void connectionClosed(NioConnection connection) {
+        connections.remove(connection);
+        ArrayDeque<NioConnection> idle = idleConnections.get(connection.getRoute());
+        if (idle != null) {
+            idle.remove(connection);
+        }
+        if (!shutdown && !queuedExchanges.isEmpty()) {
+            NioHttpExchange next = queuedExchanges.poll();
+            queuedSince.remove(next);
+            dispatch(next);
+        }
+    }
+
+    private void submit(Runnable task) {
+        pendingTasks.add(task);
+        selector.wakeup();
+    }
+
+    private void dispatch(NioHttpExchange exchange) {
+        if (exchange.isDone()) {
+            return;
+        }
+        NioConnection connection = pollIdle(exchange.getRoute());
+        if (connection != null) {
+            connection.start(exchange);
+            return;
+        }
+        if (connections.size() >= maxConnections) {
+            closeIdleConnection();
+        }
+        if (connections.size() < maxConnections) {
+            try {
+                connections.add(new NioConnection(this, selector, exchange, sslContext,
+                                                  hostnameVerifier, tcpKeepAlive));
+            } catch (IOException e) {
+                exchange.getFuture().failed(e);
+            }
+        } else {
+            queuedExchanges.add(exchange);
+            queuedSince.put(exchange, System.currentTimeMillis());
+        }
+    }
+
+    private void abandon(NioHttpExchange exchange) {
+        if (queuedExchanges.remove(exchange)) {
+            queuedSince.remove(exchange);
+            return;
+        }
+        for (NioConnection connection : new ArrayList<NioConnection>(connections)) {
+            if (connection.getExchange() == exchange) {
+                connection.close();
+            }
+        }
+    }
+
+    private NioConnection pollIdle(String route) {
+        ArrayDeque<NioConnection> idle = idleConnections.get(route);
+        if (idle == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        NioConnection connection;
+        while ((connection = idle.poll()) != null) {
+            if (connection.isOpen() && !isIdleTooLong(connection, now)) {
+                return connection;
+            }
+            connection.close();
+        }
+        return null;
+    }
+
+    private NioHttpExchange pollQueued(String route) {
+        Iterator<NioHttpExchange> iterator = queuedExchanges.iterator();
+        while (iterator.hasNext()) {
+            NioHttpExchange exchange = iterator.next();
+            if (exchange.getRoute().equals(route)) {
+                iterator.remove();
+                queuedSince.remove(exchange);
+                if (!exchange.isDone()) {
+                    return exchange;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void closeIdleConnection() {
+        for (ArrayDeque<NioConnection> idle : idleConnections.values()) {
+            NioConnection connection = idle.pollLast();
+            if (connection != null) {
+                connection.close();
+                return;
+            }
+        }
+    }
+
+    private boolean isIdleTooLong(NioConnection connection, long now) {
+        return maxIdleTime > 0 && now - connection.getLastActivity() > maxIdleTime;
+    }
+
+    private void runEventLoop() {
+        try {
+            while (!shutdown) {
+                selector.select(TIMEOUT_SWEEP_INTERVAL);
+                runPendingTasks();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    ((NioConnection) key.attachment()).onSelected();
+                }
+                sweepTimeouts();
+            }
+        } catch (IOException e) {
+            log.error("NIO transport event loop terminated unexpectedly", e);
+        } catch (ClosedSelectorException e) {
+            log.error("NIO transport event loop terminated unexpectedly", e);
+        } finally {
+            shutdown = true;
+            closeAll();
+        }
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Unexpected failure in NIO transport task", e);
+            }
+        }
+    }
+
+    private void sweepTimeouts() {
+        long now = System.currentTimeMillis();
+        if (now < nextTimeoutSweep) {
+            return;
+        }
+        nextTimeoutSweep = now + TIMEOUT_SWEEP_INTERVAL;
+
+        for (NioConnection connection : new ArrayList<NioConnection>(connections)) {
+            NioHttpExchange exchange = connection.getExchange();
+            long inactive = now - connection.getLastActivity();
+            if (connection.isIdle()) {
+                if (isIdleTooLong(connection, now)) {
+                    connection.close();
+                }
+            } else if (exchange != null && exchange.isDone()) {
+                // Cancelled by the caller
+                connection.close();
+            } else if (exchange != null && exchange.isExpired(now)) {
+                connection.fail(new HttpRequestTimeoutException(
+                        "Request did not complete before the request timeout configuration."));
+            } else if (connection.isConnecting() && connectionTimeout > 0 && inactive > connectionTimeout) {
+                connection.fail(new ConnectTimeoutException(
+                        "Connect to " + connection.getRoute() + " timed out"));
+            } else if (socketTimeout > 0 && inactive > socketTimeout) {
+                connection.fail(new SocketTimeoutException("Read timed out"));
+            }
+        }
+
+        Iterator<NioHttpExchange> queued = queuedExchanges.iterator();
+        while (queued.hasNext()) {
+            NioHttpExchange exchange = queued.next();
+            Long since = queuedSince.get(exchange);
+            boolean poolTimeout = connectionPoolRequestTimeout > 0 && since != null
+                                  && now - since > connectionPoolRequestTimeout;
+            if (exchange.isDone() || exchange.isExpired(now) || poolTimeout) {
+                queued.remove();
+                queuedSince.remove(exchange);
+                exchange.getFuture().failed(exchange.isExpired(now)
+                        ? new HttpRequestTimeoutException(
+                                "Request did not complete before the request timeout configuration.")
+                        : new ConnectionPoolTimeoutException("Timeout waiting for connection from pool"));
+            }
+        }
+    }
+
+    private void closeAll() {
+        runPendingTasks();
+        IOException cause = new IOException("Transport has been shut down");
+        for (NioConnection connection : new ArrayList<NioConnection>(connections)) {
+            connection.fail(cause);
+        }
+        for (NioHttpExchange exchange : queuedExchanges) {
+            exchange.getFuture().failed(cause);
+        }
+        queuedExchanges.clear();
+        queuedSince.clear();
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.debug("Unable to close selector", e);
+        }
+    }
+
+    private static SSLContext createTrustingSSLContext() {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[] {new TrustingX509TrustManager()}, null);
+            return context;
+        } catch (NoSuchAlgorithmException e) {
+            throw new SdkClientException("Unable to create SSL context", e);
+        } catch (KeyManagementException e) {
+            throw new SdkClientException("Unable to create SSL context", e);
+        }
+    }
+
+    /**
+     * Trust manager used only when certificate checking has been explicitly disabled for testing.
+     */
+    private static class TrustingX509TrustManager implements X509TrustManager {
+
+        private static final X509Certificate[] X509_CERTIFICATES = new X509Certificate[0];
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return X509_CERTIFICATES;
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            // No-op, to trust all certs
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            // No-op, to trust all certs
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.util.StringUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+
+/**
+ * Incremental HTTP/1.1 response parser fed from the bytes read off a non-blocking channel. The
+ * whole response entity is accumulated in memory; the parser supports fixed length, chunked and
+ * close-delimited bodies.
+ */
+@SdkInternalApi
+@NotThreadSafe
+class NioResponseParser {
+
+    /**
+     * Upper bound on the size of the status line plus headers, to protect against misbehaving
+     * peers.
+     */
+    private static final int MAX_HEAD_SIZE = 64 * 1024;
+
+    private enum State {
+        STATUS_LINE, HEADERS, BODY_FIXED, CHUNK_SIZE, CHUNK_DATA, CHUNK_DATA_END, TRAILERS,
+        BODY_UNTIL_CLOSE, DONE
+    }
+
+    private final boolean headRequest;
+    private final StringBuilder line = new StringBuilder(128);
+    private final List<Header> headers = new ArrayList<Header>();
+    private State state = State.STATUS_LINE;
+    private int headSize;
+    private ProtocolVersion version;
+    private int statusCode;
+    private String reasonPhrase;
+    private long remaining;
+    private boolean chunked;
+    private boolean keepAlive;
+    private ByteArrayOutputStream body;
+
+    /**
+     * @param headRequest True if the response is for a HEAD request and so never carries a body.
+     */
+    NioResponseParser(boolean headRequest) {
+        this.headRequest = headRequest;
+    }
+
+    /**
+     * Consumes as many bytes from the buffer as belong to the current response.
+     *
+     * @return True once the response has been completely parsed.
+     */
+    boolean feed(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && state != State.DONE) {
+            switch (state) {
+                case STATUS_LINE:
+                case HEADERS:
+                case CHUNK_SIZE:
+                case CHUNK_DATA_END:
+                case TRAILERS:
+                    if (readLine(buffer)) {
+                        onLine(line.toString());
+                        line.setLength(0);
+                    }
+                    break;
+                case BODY_FIXED:
+                case CHUNK_DATA:
+                    int length = (int) Math.min(remaining, buffer.remaining());
+                    copyBody(buffer, length);
+                    remaining -= length;
+                    if (remaining == 0) {
+                        state = state == State.BODY_FIXED ? State.DONE : State.CHUNK_DATA_END;
+                    }
+                    break;
+                case BODY_UNTIL_CLOSE:
+                    copyBody(buffer, buffer.remaining());
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected parser state " + state);
+            }
+        }
+        return state == State.DONE;
+    }
+
+    /**
+     * Signals that the peer closed the connection.
+     *
+     * @return True if the connection close legitimately terminated the response.
+     */
+    boolean endOfStream() {
+        if (state == State.BODY_UNTIL_CLOSE) {
+            state = State.DONE;
+            keepAlive = false;
+        }
+        return state == State.DONE;
+    }
+
+    /**
+     * @return True if no byte of the response has been received yet.
+     */
+    boolean isPristine() {
+        return state == State.STATUS_LINE && headSize == 0 && line.length() == 0;
+    }
+
+    /**
+     * @return True if the connection may be reused after the response completed.
+     */
+    boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Builds the Apache response object once parsing is complete.
+     */
+    HttpResponse toHttpResponse() {
+        BasicHttpResponse response = new BasicHttpResponse(
+                new BasicStatusLine(version, statusCode, reasonPhrase));
+        String contentEncoding = null;
+        for (Header header : headers) {
+            response.addHeader(header);
+            if ("Content-Encoding".equalsIgnoreCase(header.getName())) {
+                contentEncoding = header.getValue();
+            }
+        }
+        if (body != null) {
+            ByteArrayEntity entity = new ByteArrayEntity(body.toByteArray());
+            if (contentEncoding != null) {
+                entity.setContentEncoding(contentEncoding);
+            }
+            response.setEntity("gzip".equalsIgnoreCase(contentEncoding)
+                    ? new GzipDecompressingEntity(entity) : entity);
+        }
+        return response;
+    }
+
+    private boolean readLine(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            char c = (char) (buffer.get() & 0xFF);
+            if (state == State.STATUS_LINE || state == State.HEADERS) {
+                headSize++;
+            }
+            if (headSize > MAX_HEAD_SIZE || line.length() > MAX_HEAD_SIZE) {
+                throw new IOException("HTTP response head exceeds " + MAX_HEAD_SIZE + " bytes");
+            }
+            if (c == '\n') {
+                int end = line.length();
+                if (end > 0 && line.charAt(end - 1) == '\r') {
+                    line.setLength(end - 1);
+                }
+                return true;
+            }
+            line.append(c);
+        }
+        return false;
+    }
+
+    private void onLine(String text) throws IOException {
+        switch (state) {
+            case STATUS_LINE:
+                parseStatusLine(text);
+                state = State.HEADERS;
+                break;
+            case HEADERS:
+                if (text.length() == 0) {
+                    onHeadersComplete();
+                } else {
+                    parseHeader(text);
+                }
+                break;
+            case CHUNK_SIZE:
+                int extension = text.indexOf(';');
+                String size = (extension < 0 ? text : text.substring(0, extension)).trim();
+                try {
+                    remaining = Long.parseLong(size, 16);
+                } catch (NumberFormatException e) {
+                    throw new IOException("Invalid chunk size: " + text);
+                }
+                state = remaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+                break;
+            case CHUNK_DATA_END:
+                if (text.length() != 0) {
+                    throw new IOException("Missing CRLF after chunk data");
+                }
+                state = State.CHUNK_SIZE;
+                break;
+            case TRAILERS:
+                if (text.length() == 0) {
+                    state = State.DONE;
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected parser state " + state);
+        }
+    }
+
+    private void parseStatusLine(String text) throws IOException {
+        // HTTP/1.1 200 OK
+        int firstSpace = text.indexOf(' ');
+        if (firstSpace < 0 || !text.startsWith("HTTP/")) {
+            throw new IOException("Invalid HTTP status line: " + text);
+        }
+        String protocol = text.substring(0, firstSpace);
+        version = "HTTP/1.0".equals(protocol) ? HttpVersion.HTTP_1_0 : HttpVersion.HTTP_1_1;
+        int secondSpace = text.indexOf(' ', firstSpace + 1);
+        String code = secondSpace < 0 ? text.substring(firstSpace + 1)
+                : text.substring(firstSpace + 1, secondSpace);
+        try {
+            statusCode = Integer.parseInt(code.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid HTTP status line: " + text);
+        }
+        reasonPhrase = secondSpace < 0 ? "" : text.substring(secondSpace + 1);
+    }
+
+    private void parseHeader(String text) throws IOException {
+        int colon = text.indexOf(':');
+        if (colon <= 0) {
+            throw new IOException("Invalid HTTP header: " + text);
+        }
+        headers.add(new BasicHeader(text.substring(0, colon).trim(),
+                text.substring(colon + 1).trim()));
+    }
+
+    private void onHeadersComplete() throws IOException {
+        if (statusCode >= 100 && statusCode < 200) {
+            // Interim response (e.g. 100-continue); the final response follows.
+            headers.clear();
+            state = State.STATUS_LINE;
+            return;
+        }
+
+        keepAlive = version == HttpVersion.HTTP_1_1;
+        String contentLength = null;
+        for (Header header : headers) {
+            String name = header.getName();
+            if ("Transfer-Encoding".equalsIgnoreCase(name)) {
+                chunked = StringUtils.lowerCase(header.getValue()).contains("chunked");
+            } else if ("Content-Length".equalsIgnoreCase(name)) {
+                contentLength = header.getValue();
+            } else if ("Connection".equalsIgnoreCase(name)) {
+                String value = StringUtils.lowerCase(header.getValue());
+                if (value.contains("close")) {
+                    keepAlive = false;
+                } else if (value.contains("keep-alive")) {
+                    keepAlive = true;
+                }
+            }
+        }
+
+        if (headRequest || statusCode == 204 || statusCode == 304) {
+            state = State.DONE;
+        } else if (chunked) {
+            body = new ByteArrayOutputStream();
+            state = State.CHUNK_SIZE;
+        } else if (contentLength != null) {
+            try {
+                remaining = Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid Content-Length: " + contentLength);
+            }
+            if (remaining > Integer.MAX_VALUE) {
+                throw new IOException("Response entity too large to buffer: " + remaining);
+            }
+            body = new ByteArrayOutputStream((int) remaining);
+            state = remaining == 0 ? State.DONE : State.BODY_FIXED;
+        } else {
+            body = new ByteArrayOutputStream();
+            keepAlive = false;
+            state = State.BODY_UNTIL_CLOSE;
+        }
+    }
+
+    private void copyBody(ByteBuffer buffer, int length) {
+        if (buffer.hasArray()) {
+            body.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            body.write(bytes, 0, length);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A bounded cache with a FIFO eviction policy whose reads never lock. Unlike
+ * {@link FIFOCache}, concurrent readers do not contend on a shared lock, which
+ * makes it suitable for caches that are read on every request.
+ * <p>
+ * Eviction is performed by the writer that made the cache exceed its maximum
+ * size, so under concurrent writes the cache may briefly hold a few more
+ * entries than the maximum, and writers evicting at the same time may leave
+ * it with a few less.
+ *
+ * @param <T>
+ *            value type
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrentFIFOCache<T> {
+    private final ConcurrentHashMap<String, T> map;
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<String>();
+    private final int maxSize;
+
+    /**
+     * @param maxSize
+     *            the maximum number of entries of the cache
+     */
+    public ConcurrentFIFOCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                    + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.map = new ConcurrentHashMap<String, T>(maxSize);
+    }
+
+    /**
+     * Adds an entry to the cache, evicting the earliest entries if necessary.
+     */
+    public T add(String key, T value) {
+        T previous = map.put(key, value);
+        if (previous == null) {
+            insertionOrder.offer(key);
+            while (map.size() > maxSize) {
+                String eldest = insertionOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                map.remove(eldest);
+            }
+        }
+        return previous;
+    }
+
+    /** Returns the value of the given key; or null of no such entry exists. */
+    public T get(String key) {
+        return map.get(key);
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+}
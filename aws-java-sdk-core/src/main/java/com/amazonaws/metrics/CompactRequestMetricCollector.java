@@ -0,0 +1,57 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetricsCompact;
+
+/**
+ * A request metric collector that consumes the metrics of each request as an
+ * {@link AWSRequestMetricsCompact}, whose predefined metrics are recorded in
+ * primitive arrays rather than maps of boxed values and timing objects. This
+ * makes it cheap enough to keep request metrics enabled at all times.
+ * <p>
+ * When a collector of this type is in effect for a request, the request
+ * metrics are recorded in an {@link AWSRequestMetricsCompact} instead of an
+ * {@link com.amazonaws.util.AWSRequestMetricsFullSupport}.
+ *
+ * @see AwsSdkMetrics#setMetricCollector(MetricCollector)
+ */
+public abstract class CompactRequestMetricCollector extends RequestMetricCollector {
+
+    /**
+     * Passes the metrics of the given request to
+     * {@link #collectMetrics(Request, Response, AWSRequestMetricsCompact)};
+     * requests whose metrics were not recorded in compact form are ignored.
+     */
+    @Override
+    public final void collectMetrics(Request<?> request, Response<?> response) {
+        AWSRequestMetrics metrics = request.getAWSRequestMetrics();
+        if (metrics instanceof AWSRequestMetricsCompact) {
+            collectMetrics(request, response, (AWSRequestMetricsCompact) metrics);
+        }
+    }
+
+    /**
+     * Used to collect the metric at the end of a request/response cycle.
+     *
+     * @param metrics the metrics recorded for the request
+     */
+    public abstract void collectMetrics(Request<?> request, Response<?> response,
+                                        AWSRequestMetricsCompact metrics);
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+/**
+ * The distribution of one request metric of one service operation, as
+ * collected by {@link LatencyMetricCollector}. Timings are recorded in
+ * nanoseconds and reported in milliseconds.
+ */
+@ThreadSafe
+public class LatencyMetric implements LatencyMetricMBean {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String serviceName;
+    private final String operationName;
+    private final Field field;
+    private final boolean timing;
+    private final LatencyHistogram histogram;
+
+    LatencyMetric(String serviceName, String operationName, Field field, boolean timing,
+                  long highestTrackableValue) {
+        this.serviceName = serviceName;
+        this.operationName = operationName;
+        this.field = field;
+        this.timing = timing;
+        this.histogram = new LatencyHistogram(highestTrackableValue);
+    }
+
+    @Override
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    @Override
+    public String getOperationName() {
+        return operationName;
+    }
+
+    @Override
+    public String getMetricName() {
+        return field.name();
+    }
+
+    /**
+     * Returns the request metric this distribution is of.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns true if this metric is a timing recorded in nanoseconds; false
+     * if it is a counter.
+     */
+    public boolean isTiming() {
+        return timing;
+    }
+
+    /**
+     * Returns the histogram of recorded values, in nanoseconds for timings.
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String getUnit() {
+        return timing ? "Milliseconds" : "Count";
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public double getMin() {
+        return toUnit(histogram.getMin());
+    }
+
+    @Override
+    public double getMax() {
+        return toUnit(histogram.getMax());
+    }
+
+    @Override
+    public double getMean() {
+        return timing ? histogram.getMean() / NANOS_PER_MILLI : histogram.getMean();
+    }
+
+    @Override
+    public double getP50() {
+        return getValueAtPercentile(50.0);
+    }
+
+    @Override
+    public double getP90() {
+        return getValueAtPercentile(90.0);
+    }
+
+    @Override
+    public double getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public double getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded
+     * values fall, in milliseconds for timings.
+     */
+    public double getValueAtPercentile(double percentile) {
+        return toUnit(histogram.getValueAtPercentile(percentile));
+    }
+
+    private double toUnit(long value) {
+        return timing ? value / NANOS_PER_MILLI : value;
+    }
+
+    @Override
+    public String toString() {
+        return serviceName + "." + operationName + "." + field.name()
+               + " {count=" + getCount() + ", p50=" + getP50() + ", p99=" + getP99()
+               + ", p999=" + getP999() + ", max=" + getMax() + " " + getUnit() + "}";
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanRegistrationException;
+
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.jmx.MBeans;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsCompact;
+
+/**
+ * An in-process metric collector that aggregates request metrics into
+ * {@link LatencyHistogram}s per service operation, so that percentiles such
+ * as p99 and p999 can be observed without sending any data over the network
+ * or sampling requests.
+ * <p>
+ * For each request, the total time spent in each timed event is recorded,
+ * across all attempts of the request, as is the value of each counter. The
+ * distributions are available from {@link #getMetrics()} and
+ * {@link #getMetric(String, String, Field)}, and, unless disabled at
+ * construction, as an MBean per service, operation and metric under
+ * {@value #MBEAN_DOMAIN}:type=LatencyMetric.
+ * <p>
+ * To collect metrics for all clients, start the collector and set it at the
+ * AWS SDK level:
+ * <pre>
+ * LatencyMetricCollector collector = new LatencyMetricCollector();
+ * collector.start();
+ * AwsSdkMetrics.setMetricCollector(collector);
+ * </pre>
+ * Its {@link #getRequestMetricCollector()} can also be given to individual
+ * clients or requests.
+ */
+@ThreadSafe
+public class LatencyMetricCollector extends MetricCollector {
+    /** The JMX domain of the registered MBeans. */
+    public static final String MBEAN_DOMAIN = "com.amazonaws.management";
+
+    /** The metrics collected by default. */
+    public static final Set<Field> DEFAULT_FIELDS = Collections.unmodifiableSet(EnumSet.of(
+            Field.ClientExecuteTime,
+            Field.CredentialsRequestTime,
+            Field.RequestMarshallTime,
+            Field.RequestSigningTime,
+            Field.HttpRequestTime,
+            Field.HttpClientSendRequestTime,
+            Field.HttpClientReceiveResponseTime,
+            Field.ResponseProcessingTime,
+            Field.RetryPauseTime,
+            Field.RequestCount,
+            Field.HttpClientPoolAvailableCount,
+            Field.HttpClientPoolLeasedCount,
+            Field.HttpClientPoolPendingCount));
+
+    /** The metrics recorded as counters rather than timings. */
+    private static final Set<Field> COUNTER_FIELDS = EnumSet.of(
+            Field.BytesProcessed,
+            Field.RequestCount,
+            Field.RetryCapacityConsumed,
+            Field.ThrottledRetryCount,
+            Field.HttpClientRetryCount,
+            Field.HttpClientPoolAvailableCount,
+            Field.HttpClientPoolLeasedCount,
+            Field.HttpClientPoolPendingCount);
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final long HIGHEST_TRACKABLE_COUNT = 1L << 20;
+    private static final String UNKNOWN = "Unknown";
+
+    private final Field[] fields;
+    private final boolean[] counterFields;
+    private final boolean registerMBeans;
+
+    /* Service name -> operation name -> metric per field, in the order of fields */
+    private final ConcurrentMap<String, ConcurrentMap<String, LatencyMetric[]>> metrics =
+            new ConcurrentHashMap<String, ConcurrentMap<String, LatencyMetric[]>>();
+    private final List<String> mbeanNames = Collections.synchronizedList(new ArrayList<String>());
+
+    private volatile boolean enabled;
+
+    private final RequestMetricCollector requestMetricCollector = new CompactRequestMetricCollector() {
+        @Override
+        public void collectMetrics(Request<?> request, Response<?> response,
+                                   AWSRequestMetricsCompact metrics) {
+            record(metrics);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+    };
+
+    /**
+     * Creates a collector of the {@link #DEFAULT_FIELDS}, registering an MBean
+     * for each distribution.
+     */
+    public LatencyMetricCollector() {
+        this(DEFAULT_FIELDS, true);
+    }
+
+    /**
+     * @param fields
+     *            the request metrics to collect.
+     * @param registerMBeans
+     *            whether to register an MBean for each distribution.
+     */
+    public LatencyMetricCollector(Set<Field> fields, boolean registerMBeans) {
+        this.fields = fields.toArray(new Field[fields.size()]);
+        this.counterFields = new boolean[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            counterFields[i] = COUNTER_FIELDS.contains(this.fields[i]);
+        }
+        this.registerMBeans = registerMBeans;
+    }
+
+    @Override
+    public boolean start() {
+        if (enabled) {
+            return false;
+        }
+        enabled = true;
+        if (registerMBeans) {
+            for (ConcurrentMap<String, LatencyMetric[]> operations : metrics.values()) {
+                for (LatencyMetric[] operationMetrics : operations.values()) {
+                    registerMBeans(operationMetrics);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops collecting and unregisters the MBeans; the distributions collected
+     * so far remain available.
+     */
+    @Override
+    public boolean stop() {
+        if (!enabled) {
+            return false;
+        }
+        enabled = false;
+        synchronized (mbeanNames) {
+            for (String mbeanName : mbeanNames) {
+                try {
+                    MBeans.unregisterMBean(mbeanName);
+                } catch (MBeanRegistrationException e) {
+                    LogFactory.getLog(getClass()).debug("Failed to unregister mbean " + mbeanName, e);
+                }
+            }
+            mbeanNames.clear();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public RequestMetricCollector getRequestMetricCollector() {
+        return requestMetricCollector;
+    }
+
+    @Override
+    public ServiceMetricCollector getServiceMetricCollector() {
+        return ServiceMetricCollector.NONE;
+    }
+
+    /**
+     * Returns the distributions of all service operations seen so far.
+     */
+    public List<LatencyMetric> getMetrics() {
+        List<LatencyMetric> result = new ArrayList<LatencyMetric>();
+        for (ConcurrentMap<String, LatencyMetric[]> operations : metrics.values()) {
+            for (LatencyMetric[] operationMetrics : operations.values()) {
+                Collections.addAll(result, operationMetrics);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distribution of the given metric for the given service
+     * operation; or null if the operation has not been seen or the metric is
+     * not collected.
+     *
+     * @param serviceName
+     *            the service name, such as AmazonDynamoDBv2.
+     * @param operationName
+     *            the name of the operation's request type, such as
+     *            GetItemRequest.
+     */
+    public LatencyMetric getMetric(String serviceName, String operationName, Field field) {
+        ConcurrentMap<String, LatencyMetric[]> operations = metrics.get(serviceName);
+        LatencyMetric[] operationMetrics = operations == null ? null : operations.get(operationName);
+        if (operationMetrics != null) {
+            for (LatencyMetric metric : operationMetrics) {
+                if (metric.getField() == field) {
+                    return metric;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void record(AWSRequestMetricsCompact requestMetrics) {
+        LatencyMetric[] operationMetrics = operationMetrics(
+                nameOf(requestMetrics.getLastProperty(Field.ServiceName)),
+                nameOf(requestMetrics.getLastProperty(Field.RequestType)));
+        for (int i = 0; i < fields.length; i++) {
+            Field field = fields[i];
+            if (counterFields[i]) {
+                if (requestMetrics.isCounterSet(field)) {
+                    operationMetrics[i].getHistogram().recordValue(requestMetrics.getCounter(field));
+                }
+            } else if (requestMetrics.getEventCount(field) > 0) {
+                operationMetrics[i].getHistogram().recordValue(requestMetrics.getEventTotalNanos(field));
+            }
+        }
+    }
+
+    private LatencyMetric[] operationMetrics(String serviceName, String operationName) {
+        ConcurrentMap<String, LatencyMetric[]> operations = metrics.get(serviceName);
+        if (operations == null) {
+            ConcurrentMap<String, LatencyMetric[]> created = new ConcurrentHashMap<String, LatencyMetric[]>();
+            operations = metrics.putIfAbsent(serviceName, created);
+            if (operations == null) {
+                operations = created;
+            }
+        }
+        LatencyMetric[] operationMetrics = operations.get(operationName);
+        if (operationMetrics == null) {
+            LatencyMetric[] created = new LatencyMetric[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                created[i] = new LatencyMetric(serviceName, operationName, fields[i], !counterFields[i],
+                        counterFields[i] ? HIGHEST_TRACKABLE_COUNT : HIGHEST_TRACKABLE_NANOS);
+            }
+            operationMetrics = operations.putIfAbsent(operationName, created);
+            if (operationMetrics == null) {
+                operationMetrics = created;
+                if (registerMBeans) {
+                    registerMBeans(created);
+                }
+            }
+        }
+        return operationMetrics;
+    }
+
+    private void registerMBeans(LatencyMetric[] operationMetrics) {
+        for (LatencyMetric metric : operationMetrics) {
+            String mbeanName = MBEAN_DOMAIN + ":type=LatencyMetric"
+                               + ",service=" + metric.getServiceName()
+                               + ",operation=" + metric.getOperationName()
+                               + ",metric=" + metric.getMetricName();
+            try {
+                if (MBeans.registerMBean(mbeanName, metric)) {
+                    mbeanNames.add(mbeanName);
+                }
+            } catch (Exception e) {
+                LogFactory.getLog(getClass()).debug("Failed to register mbean " + mbeanName, e);
+            }
+        }
+    }
+
+    private static String nameOf(Object property) {
+        return property == null ? UNKNOWN : property.toString();
+    }
+}
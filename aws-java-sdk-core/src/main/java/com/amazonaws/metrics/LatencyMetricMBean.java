@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+/**
+ * MBean interface for the distribution of one request metric of one service
+ * operation, as collected by {@link LatencyMetricCollector}.
+ */
+public interface LatencyMetricMBean {
+    /**
+     * Returns the name of the service, such as AmazonDynamoDBv2.
+     */
+    public String getServiceName();
+
+    /**
+     * Returns the name of the operation's request type, such as GetItemRequest.
+     */
+    public String getOperationName();
+
+    /**
+     * Returns the name of the metric, such as ClientExecuteTime.
+     */
+    public String getMetricName();
+
+    /**
+     * Returns the unit of the values of this metric: Milliseconds for timings,
+     * or Count for counters.
+     */
+    public String getUnit();
+
+    /**
+     * Returns the number of requests for which the metric was recorded.
+     */
+    public long getCount();
+
+    public double getMin();
+
+    public double getMax();
+
+    public double getMean();
+
+    public double getP50();
+
+    public double getP90();
+
+    public double getP99();
+
+    public double getP999();
+}
@@ -41,7 +41,19 @@ public class StaxUnmarshallerContext {
     private final XMLEventReader eventReader;
 
     public final Stack<String> stack = new Stack<String>();
-    private String stackString = "";
+
+    /**
+     * Unsynchronized copy of {@link #stack} used to match expressions without
+     * building the current path as a string.
+     */
+    private String[] path = new String[16];
+    private int pathDepth;
+
+    /**
+     * Local name of the attribute currently being visited, or null if the
+     * current event is not an attribute.
+     */
+    private String attributeName;
 
     private Map<String, String> metadata = new HashMap<String, String>();
     private List<MetadataExpression> metadataExpressions = new ArrayList<MetadataExpression>();
@@ -115,14 +127,28 @@ public class StaxUnmarshallerContext {
             return attribute.getValue();
         }
 
-        StringBuilder sb = new StringBuilder();
+        String text = null;
+        StringBuilder sb = null;
         while (true) {
             XMLEvent event = eventReader.peek();
             if (event.getEventType() == XMLStreamConstants.CHARACTERS) {
                 eventReader.nextEvent();
-                sb.append(event.asCharacters().getData());
+                String data = event.asCharacters().getData();
+                // Most elements have a single characters event, so only
+                // start buffering once a second one shows up.
+                if (text == null) {
+                    text = data;
+                } else {
+                    if (sb == null) {
+                        sb = new StringBuilder(text);
+                    }
+                    sb.append(data);
+                }
             } else if (event.getEventType() == XMLStreamConstants.END_ELEMENT) {
-                return sb.toString();
+                if (sb != null) {
+                    return sb.toString();
+                }
+                return text == null ? "" : text;
             } else {
                 throw new RuntimeException("Encountered unexpected event: " + event.toString());
             }
@@ -137,7 +163,7 @@ public class StaxUnmarshallerContext {
      *         document being parsed.
      */
     public int getCurrentDepth() {
-        return stack.size();
+        return pathDepth;
     }
 
     /**
@@ -151,7 +177,7 @@ public class StaxUnmarshallerContext {
      */
     public boolean testExpression(String expression) {
         if (expression.equals(".")) return true;
-        return stackString.endsWith(expression);
+        return pathEndsWith(expression, false);
     }
 
     /**
@@ -171,17 +197,10 @@ public class StaxUnmarshallerContext {
     public boolean testExpression(String expression, int startingStackDepth) {
         if (expression.equals(".")) return true;
 
-        int index = -1;
-        while ((index = expression.indexOf("/", index + 1)) > -1) {
-            // Don't consider attributes a new depth level
-            if (expression.charAt(index + 1) != '@') {
-                startingStackDepth++;
-            }
-        }
-
-
-        return (startingStackDepth == getCurrentDepth()
-                && stackString.endsWith("/" + expression));
+        // Generated unmarshallers test every field of a structure against
+        // each event, so reject on depth before looking at the path itself.
+        return (startingStackDepth + expressionDepth(expression) == pathDepth
+                && pathEndsWith(expression, true));
     }
 
     /**
@@ -219,8 +238,10 @@ public class StaxUnmarshallerContext {
         if (eventReader.hasNext()) {
             XMLEvent nextEvent = eventReader.peek();
             if (nextEvent != null && nextEvent.isCharacters()) {
-                for (MetadataExpression metadataExpression : metadataExpressions) {
-                    if (testExpression(metadataExpression.expression, metadataExpression.targetDepth)) {
+                for (int i = 0; i < metadataExpressions.size(); i++) {
+                    MetadataExpression metadataExpression = metadataExpressions.get(i);
+                    if (metadataExpression.matchDepth == pathDepth
+                        && pathEndsWith(metadataExpression.expression, true)) {
                         metadata.put(metadataExpression.key, nextEvent.asCharacters().getData());
                     }
                 }
@@ -272,33 +293,125 @@ public class StaxUnmarshallerContext {
         public String expression;
         public int targetDepth;
         public String key;
+        /** The element depth at which the expression matches. */
+        public int matchDepth;
 
         public MetadataExpression(String expression, int targetDepth, String key) {
             this.expression = expression;
             this.targetDepth = targetDepth;
             this.key = key;
+            this.matchDepth = targetDepth + expressionDepth(expression);
         }
     }
 
+    /**
+     * Returns the number of element levels the given expression descends
+     * below its starting depth. Attribute steps don't count as a level.
+     */
+    private static int expressionDepth(String expression) {
+        int depth = 0;
+        int last = expression.length() - 1;
+        for (int i = 0; i < last; i++) {
+            if (expression.charAt(i) == '/' && expression.charAt(i + 1) != '@') {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Tests whether the current path, as in "/a/b/@c", ends with the given
+     * expression, optionally preceded by a '/'. The path is walked backwards
+     * segment by segment, so nothing is allocated.
+     */
+    private boolean pathEndsWith(String expression, boolean leadingSlash) {
+        int i = expression.length() - 1;
+        if (leadingSlash) {
+            // The slash is matched as part of the path, so account for it
+            // as a virtual character before the expression.
+            i++;
+        }
+        if (i < 0) {
+            return true;
+        }
+        if (attributeName != null) {
+            i = matchSegment(expression, leadingSlash, i, attributeName, true);
+            if (i < 0) {
+                return i == MATCHED;
+            }
+        }
+        for (int s = pathDepth - 1; s >= 0; s--) {
+            i = matchSegment(expression, leadingSlash, i, path[s], false);
+            if (i < 0) {
+                return i == MATCHED;
+            }
+        }
+        return i == MATCHED;
+    }
+
+    private static final int MATCHED = -1;
+    private static final int MISMATCHED = -2;
+
+    /**
+     * Matches the characters of "/" + name (or "/@" + name for attributes)
+     * from the end against the expression, ending at index i.
+     *
+     * @return The index of the expression to continue matching at, MATCHED if
+     *         the whole expression has been matched, or MISMATCHED.
+     */
+    private static int matchSegment(String expression, boolean leadingSlash, int i,
+                                    String name, boolean attribute) {
+        for (int n = name.length() - 1; n >= 0; n--) {
+            if (charAt(expression, leadingSlash, i) != name.charAt(n)) {
+                return MISMATCHED;
+            }
+            if (--i < 0) {
+                return MATCHED;
+            }
+        }
+        if (attribute) {
+            if (charAt(expression, leadingSlash, i) != '@') {
+                return MISMATCHED;
+            }
+            if (--i < 0) {
+                return MATCHED;
+            }
+        }
+        if (charAt(expression, leadingSlash, i) != '/') {
+            return MISMATCHED;
+        }
+        return --i < 0 ? MATCHED : i;
+    }
+
+    private static char charAt(String expression, boolean leadingSlash, int i) {
+        if (leadingSlash) {
+            return i == 0 ? '/' : expression.charAt(i - 1);
+        }
+        return expression.charAt(i);
+    }
+
     private void updateContext(XMLEvent event) {
         if (event == null) return;
 
         if (event.isEndElement()) {
             stack.pop();
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
+            path[--pathDepth] = null;
+            attributeName = null;
         } else if (event.isStartElement()) {
-            stack.push(event.asStartElement().getName().getLocalPart());
-            stackString += "/" + event.asStartElement().getName().getLocalPart();
+            String name = event.asStartElement().getName().getLocalPart();
+            stack.push(name);
+            if (pathDepth == path.length) {
+                String[] grown = new String[path.length * 2];
+                System.arraycopy(path, 0, grown, 0, pathDepth);
+                path = grown;
+            }
+            path[pathDepth++] = name;
+            attributeName = null;
         } else if (event.isAttribute()) {
             Attribute attribute = (Attribute)event;
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
-            stackString += "/@" + attribute.getName().getLocalPart();
+            attributeName = attribute.getName().getLocalPart();
+        } else {
+            attributeName = null;
         }
     }
 
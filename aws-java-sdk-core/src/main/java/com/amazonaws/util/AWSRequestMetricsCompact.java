@@ -0,0 +1,299 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.metrics.CompactRequestMetricCollector;
+import com.amazonaws.metrics.MetricType;
+
+/**
+ * A compact alternative to {@link AWSRequestMetricsFullSupport} for always-on
+ * request metrics. The predefined {@link Field} metrics are recorded in
+ * primitive arrays indexed by the field's ordinal, so recording an event,
+ * counter or property allocates nothing:
+ * <ul>
+ * <li>For each event, the number of times it occurred, its total time and the
+ * time of its last occurrence are kept, instead of a {@link TimingInfo} per
+ * occurrence.</li>
+ * <li>For each property, the number of values added and the last value are
+ * kept, instead of a list of every value.</li>
+ * </ul>
+ * Metrics identified by name, or by a {@link MetricType} other than
+ * {@link Field}, are recorded by an {@link AWSRequestMetricsFullSupport}
+ * created the first time one is used.
+ * <p>
+ * This class is instantiated instead of {@link AWSRequestMetricsFullSupport}
+ * when the request metric collector in use is a
+ * {@link CompactRequestMetricCollector}, which reads the recorded values
+ * directly from the accessors of this class.
+ */
+@NotThreadSafe
+public class AWSRequestMetricsCompact extends AWSRequestMetrics {
+    private static final Log latencyLogger = LogFactory.getLog("com.amazonaws.latency");
+    private static final Field[] FIELDS = Field.values();
+
+    /* Slots recorded for each field, laid out contiguously per field. */
+    private static final int EVENT_START_NANO = 0;
+    private static final int EVENT_TOTAL_NANOS = 1;
+    private static final int EVENT_LAST_NANOS = 2;
+    private static final int EVENT_COUNT = 3;
+    private static final int COUNTER = 4;
+    private static final int PROPERTY_COUNT = 5;
+    private static final int FLAGS = 6;
+    private static final int SLOTS = 7;
+
+    /* Bits of the FLAGS slot. */
+    private static final long EVENT_STARTED = 1;
+    private static final long COUNTER_SET = 2;
+
+    private final long[] slots = new long[FIELDS.length * SLOTS];
+    private final Object[] lastProperties = new Object[FIELDS.length];
+
+    /* Records metrics other than the predefined fields; null until needed. */
+    private AWSRequestMetricsFullSupport others;
+
+    /**
+     * This constructor should be used in the case when a
+     * {@link CompactRequestMetricCollector} is in use.
+     */
+    public AWSRequestMetricsCompact() {
+        super(TimingInfo.startTiming());
+    }
+
+    @Override
+    public void startEvent(String eventName) {
+        others().startEvent(eventName);
+    }
+
+    @Override
+    public void startEvent(MetricType f) {
+        if (f instanceof Field) {
+            int base = base((Field) f);
+            // This will overwrite an event started but not yet ended
+            slots[base + EVENT_START_NANO] = System.nanoTime();
+            slots[base + FLAGS] |= EVENT_STARTED;
+        } else {
+            others().startEvent(f);
+        }
+    }
+
+    @Override
+    public void endEvent(String eventName) {
+        others().endEvent(eventName);
+    }
+
+    @Override
+    public void endEvent(MetricType f) {
+        if (!(f instanceof Field)) {
+            others().endEvent(f);
+            return;
+        }
+        int base = base((Field) f);
+        if ((slots[base + FLAGS] & EVENT_STARTED) == 0) {
+            LogFactory.getLog(getClass()).warn
+                ("Trying to end an event which was never started: " + f.name());
+            return;
+        }
+        long elapsed = System.nanoTime() - slots[base + EVENT_START_NANO];
+        slots[base + EVENT_TOTAL_NANOS] += elapsed;
+        slots[base + EVENT_LAST_NANOS] = elapsed;
+        slots[base + EVENT_COUNT]++;
+        slots[base + FLAGS] &= ~EVENT_STARTED;
+    }
+
+    @Override
+    public void incrementCounter(String event) {
+        others().incrementCounter(event);
+    }
+
+    @Override
+    public void incrementCounter(MetricType f) {
+        if (f instanceof Field) {
+            int base = base((Field) f);
+            slots[base + COUNTER]++;
+            slots[base + FLAGS] |= COUNTER_SET;
+        } else {
+            others().incrementCounter(f);
+        }
+    }
+
+    @Override
+    public void setCounter(String counterName, long count) {
+        others().setCounter(counterName, count);
+    }
+
+    @Override
+    public void setCounter(MetricType f, long count) {
+        if (f instanceof Field) {
+            int base = base((Field) f);
+            slots[base + COUNTER] = count;
+            slots[base + FLAGS] |= COUNTER_SET;
+        } else {
+            others().setCounter(f, count);
+        }
+    }
+
+    @Override
+    public void addProperty(String propertyName, Object value) {
+        others().addProperty(propertyName, value);
+    }
+
+    @Override
+    public void addProperty(MetricType f, Object value) {
+        if (f instanceof Field) {
+            int ordinal = ((Field) f).ordinal();
+            lastProperties[ordinal] = value;
+            slots[ordinal * SLOTS + PROPERTY_COUNT]++;
+        } else {
+            others().addProperty(f, value);
+        }
+    }
+
+    /**
+     * Returns the number of times the given event has been started and ended.
+     */
+    public int getEventCount(Field f) {
+        return (int) slots[base(f) + EVENT_COUNT];
+    }
+
+    /**
+     * Returns the total time taken by all occurrences of the given event, in
+     * nanoseconds; or 0 if the event has never ended.
+     */
+    public long getEventTotalNanos(Field f) {
+        return slots[base(f) + EVENT_TOTAL_NANOS];
+    }
+
+    /**
+     * Returns the time taken by the last occurrence of the given event, in
+     * nanoseconds; or 0 if the event has never ended.
+     */
+    public long getLastEventNanos(Field f) {
+        return slots[base(f) + EVENT_LAST_NANOS];
+    }
+
+    /**
+     * Returns true if the given counter has been incremented or set.
+     */
+    public boolean isCounterSet(Field f) {
+        return (slots[base(f) + FLAGS] & COUNTER_SET) != 0;
+    }
+
+    /**
+     * Returns the value of the given counter; or 0 if it has never been
+     * incremented or set.
+     */
+    public long getCounter(Field f) {
+        return slots[base(f) + COUNTER];
+    }
+
+    /**
+     * Returns the number of values added for the given property.
+     */
+    public int getPropertyCount(Field f) {
+        return (int) slots[base(f) + PROPERTY_COUNT];
+    }
+
+    /**
+     * Returns the last value added for the given property; or null if none
+     * has been added.
+     */
+    public Object getLastProperty(Field f) {
+        return lastProperties[f.ordinal()];
+    }
+
+    /**
+     * Returns the metrics recorded under a name or a metric type other than
+     * {@link Field}; or null if there are none.
+     */
+    public AWSRequestMetrics getOtherMetrics() {
+        return others;
+    }
+
+    @Override
+    public void log() {
+        if (latencyLogger.isInfoEnabled()) {
+            StringBuilder builder = new StringBuilder();
+            for (Field f : FIELDS) {
+                if (getPropertyCount(f) > 0) {
+                    keyValueFormat(f, getLastProperty(f), builder);
+                }
+            }
+            for (Field f : FIELDS) {
+                if (isCounterSet(f)) {
+                    keyValueFormat(f, getCounter(f), builder);
+                }
+            }
+            for (Field f : FIELDS) {
+                if (getEventCount(f) > 0) {
+                    keyValueFormat(f, TimingInfo.durationMilliOf(0, getEventTotalNanos(f)), builder);
+                }
+            }
+            latencyLogger.info(builder.toString());
+        }
+        if (others != null) {
+            others.log();
+        }
+    }
+
+    private static void keyValueFormat(Field key, Object value, StringBuilder builder) {
+        builder.append(key).append('=').append(value).append(", ");
+    }
+
+    /**
+     * Returns the last value added for the given property as a singleton list,
+     * since only the last value of a predefined property is kept; or null if
+     * none has been added.
+     */
+    @Override
+    public List<Object> getProperty(MetricType f) {
+        if (f instanceof Field) {
+            Field field = (Field) f;
+            return getPropertyCount(field) == 0
+                 ? null
+                 : Collections.singletonList(getLastProperty(field));
+        }
+        return others == null ? null : others.getProperty(f);
+    }
+
+    @Override
+    public List<Object> getProperty(String propertyName) {
+        return others == null ? null : others.getProperty(propertyName);
+    }
+
+    /** Always returns true. */
+    @Override
+    public final boolean isEnabled() {
+        return true;
+    }
+
+    private static int base(Field f) {
+        return f.ordinal() * SLOTS;
+    }
+
+    private AWSRequestMetricsFullSupport others() {
+        if (others == null) {
+            others = new AWSRequestMetricsFullSupport();
+        }
+        return others;
+    }
+}
@@ -15,7 +15,14 @@
 
 package com.amazonaws.waiters;
 
-public class FixedDelayStrategy implements PollingStrategy.DelayStrategy{
+/**
+ * Delays each retry by the same number of seconds. Waits polled on a
+ * scheduled executor service use {@link #computeDelayBeforeNextRetry}
+ * instead of sleeping in {@link #delayBeforeNextRetry}, unless a subclass
+ * overrides the latter, in which case they run on the executor service and
+ * the override is honoured.
+ */
+public class FixedDelayStrategy implements PollingStrategy.ScheduledDelayStrategy {
 
     /**
      * Represents default delay time in seconds
@@ -42,6 +49,18 @@ public class FixedDelayStrategy implements PollingStrategy.DelayStrategy{
      */
     @Override
     public void delayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) throws InterruptedException {
-        Thread.sleep(defaultDelayInSeconds * 1000);
+        Thread.sleep(computeDelayBeforeNextRetry(pollingStrategyContext));
+    }
+
+    /**
+     * Returns the default delay associated with the corresponding waiter
+     * definition
+     *
+     * @param pollingStrategyContext Provides the polling context required to define custom delay
+     * @return Delay in milliseconds before the next retry
+     */
+    @Override
+    public long computeDelayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) {
+        return defaultDelayInSeconds * 1000L;
     }
 }
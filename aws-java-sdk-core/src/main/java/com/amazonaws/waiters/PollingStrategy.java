@@ -90,4 +90,24 @@ public class PollingStrategy{
         void delayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) throws InterruptedException;
 
     }
+
+    /**
+     * A delay strategy which can tell how long to wait before the next retry
+     * instead of sleeping through it. Waiters polling on a scheduled executor
+     * service use it to schedule the next poll without holding a thread in
+     * the meantime.
+     *
+     * @see WaiterBuilder#withScheduledExecutorService(java.util.concurrent.ScheduledExecutorService)
+     */
+    public interface ScheduledDelayStrategy extends DelayStrategy {
+
+        /**
+         * Computes the time to wait before the next retry
+         *
+         * @param pollingStrategyContext Provides the polling context required to define custom delay
+         * @return Delay in milliseconds before the next retry
+         * @see PollingStrategyContext
+         */
+        long computeDelayBeforeNextRetry(PollingStrategyContext pollingStrategyContext);
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.waiters;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
+
+/**
+ * Polls a resource on a scheduled executor service. Each poll is a task that
+ * calls the operation, evaluates the acceptors and, if the resource has not
+ * reached a terminal state yet, schedules the next poll after the delay given
+ * by the polling strategy. No thread is held between polls, so a handful of
+ * threads can serve a large number of concurrent waits.
+ */
+@SdkInternalApi
+@ThreadSafe
+class ScheduledWaiterExecution<Input extends AmazonWebServiceRequest, Output> implements Runnable {
+
+    private final WaiterExecution<Input, Output> waiterExecution;
+
+    private final PollingStrategy.ScheduledDelayStrategy delayStrategy;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    /**
+     * Request handed to the callback, as given by the caller of the waiter.
+     */
+    private final Input originalRequest;
+
+    private final WaiterHandler<Input> callback;
+
+    private final BasicFuture<Void> future;
+
+    /**
+     * Only accessed by the poll task, which never runs concurrently with
+     * itself.
+     */
+    private int retriesAttempted = 0;
+
+    private volatile Future<?> nextPoll;
+
+    ScheduledWaiterExecution(WaiterExecution<Input, Output> waiterExecution,
+                             ScheduledExecutorService scheduledExecutorService,
+                             Input originalRequest,
+                             WaiterHandler<Input> callback) {
+        this.waiterExecution = waiterExecution;
+        this.delayStrategy = (PollingStrategy.ScheduledDelayStrategy) waiterExecution.getPollingStrategy()
+                                                                                    .getDelayStrategy();
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.originalRequest = originalRequest;
+        this.callback = callback;
+        this.future = new BasicFuture<Void>(new FutureCallback<Void>() {
+            @Override
+            public void completed(Void result) {
+            }
+
+            @Override
+            public void failed(Exception ex) {
+            }
+
+            @Override
+            public void cancelled() {
+                Future<?> poll = nextPoll;
+                if (poll != null) {
+                    poll.cancel(false);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return True if the delay strategy of the polling strategy can be used
+     * to schedule polls. A subclass of {@link FixedDelayStrategy} overriding
+     * {@link PollingStrategy.DelayStrategy#delayBeforeNextRetry} is not, as
+     * scheduling would bypass its override.
+     */
+    static boolean isSchedulable(PollingStrategy pollingStrategy) {
+        PollingStrategy.DelayStrategy delayStrategy = pollingStrategy.getDelayStrategy();
+        if (!(delayStrategy instanceof PollingStrategy.ScheduledDelayStrategy)) {
+            return false;
+        }
+        if (delayStrategy instanceof FixedDelayStrategy) {
+            return isDelayDeclaredBy(delayStrategy.getClass(), FixedDelayStrategy.class);
+        }
+        return true;
+    }
+
+    /**
+     * @return True if the method delaying the next retry of the given class
+     * is the one declared by the given base class.
+     */
+    private static boolean isDelayDeclaredBy(Class<?> delayStrategyClass, Class<?> baseClass) {
+        try {
+            return delayStrategyClass.getMethod("delayBeforeNextRetry", PollingStrategyContext.class)
+                                     .getDeclaringClass() == baseClass;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Schedules the first poll right away.
+     *
+     * @return Future completed once the resource reached the desired state,
+     * or failed with the exception that ended the wait.
+     */
+    Future<Void> start() {
+        schedule(0);
+        return future;
+    }
+
+    @Override
+    public void run() {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            switch (waiterExecution.getCurrentState()) {
+                case SUCCESS:
+                    succeed();
+                    break;
+                case FAILURE:
+                    fail(new WaiterUnrecoverableException("Resource never entered the desired state as it failed."));
+                    break;
+                case RETRY:
+                    PollingStrategyContext pollingStrategyContext =
+                            new PollingStrategyContext(waiterExecution.getRequest(), retriesAttempted);
+                    if (waiterExecution.getPollingStrategy().getRetryStrategy().shouldRetry(pollingStrategyContext)) {
+                        long delay = delayStrategy.computeDelayBeforeNextRetry(pollingStrategyContext);
+                        retriesAttempted++;
+                        schedule(delay);
+                    } else {
+                        fail(new WaiterTimedOutException("Reached maximum attempts without transitioning to the desired state"));
+                    }
+                    break;
+            }
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    private void schedule(long delayInMillis) {
+        nextPoll = scheduledExecutorService.schedule(this, delayInMillis, TimeUnit.MILLISECONDS);
+        // The wait may have been cancelled while this poll was running
+        if (future.isCancelled()) {
+            nextPoll.cancel(false);
+        }
+    }
+
+    private void succeed() {
+        try {
+            callback.onWaitSuccess(originalRequest);
+        } catch (Exception e) {
+            fail(e);
+            return;
+        }
+        future.completed(null);
+    }
+
+    private void fail(Exception e) {
+        try {
+            callback.onWaitFailure(e);
+        } finally {
+            future.failed(e);
+        }
+    }
+}
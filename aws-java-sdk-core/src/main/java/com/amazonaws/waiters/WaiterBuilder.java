@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 @SdkProtectedApi
 public class WaiterBuilder<Input extends AmazonWebServiceRequest, Output> {
@@ -34,6 +35,8 @@ public class WaiterBuilder<Input extends AmazonWebServiceRequest, Output> {
 
     private ExecutorService executorService;
 
+    private ScheduledExecutorService scheduledExecutorService;
+
     public WaiterBuilder<Input, Output> withSdkFunction(SdkFunction<Input, Output> sdkFunction) {
         this.sdkFunction = sdkFunction;
         return this;
@@ -54,6 +57,24 @@ public class WaiterBuilder<Input extends AmazonWebServiceRequest, Output> {
         return this;
     }
 
+    /**
+     * Polls asynchronous waits on the given scheduled executor service instead
+     * of dedicating a thread of the executor service to each of them. Each
+     * poll runs as a scheduled task which reschedules itself after the delay
+     * computed by the polling strategy, so the service can be shared by any
+     * number of waiters. Waits whose delay strategy is not a
+     * {@link PollingStrategy.ScheduledDelayStrategy}, or is a
+     * {@link FixedDelayStrategy} overriding its blocking delay, still run on
+     * the executor service.
+     *
+     * @param scheduledExecutorService Scheduled executor service to poll on
+     * @return This builder for method chaining
+     */
+    public WaiterBuilder<Input, Output> withScheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+        this.scheduledExecutorService = scheduledExecutorService;
+        return this;
+    }
+
     public List<WaiterAcceptor<Output>> getAcceptor() {
         return this.acceptors;
     }
@@ -70,6 +91,10 @@ public class WaiterBuilder<Input extends AmazonWebServiceRequest, Output> {
         return this.executorService;
     }
 
+    public ScheduledExecutorService getScheduledExecutorService() {
+        return this.scheduledExecutorService;
+    }
+
     public Waiter<Input> build() {
         return new WaiterImpl<Input, Output>(this);
     }
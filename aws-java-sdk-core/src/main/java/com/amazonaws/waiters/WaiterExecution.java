@@ -97,7 +97,7 @@ public class WaiterExecution<Input extends AmazonWebServiceRequest, Output> {
      * @return Current state of the resource
      * @throws Exception
      */
-    private WaiterState getCurrentState() throws AmazonServiceException {
+    WaiterState getCurrentState() throws AmazonServiceException {
         try {
             return acceptor.accepts(sdkFunction.apply(request));
         } catch (AmazonServiceException amazonServiceException) {
@@ -106,6 +106,20 @@ public class WaiterExecution<Input extends AmazonWebServiceRequest, Output> {
 
     }
 
+    /**
+     * @return Input of the operation
+     */
+    Input getRequest() {
+        return request;
+    }
+
+    /**
+     * @return Polling strategy of this execution
+     */
+    PollingStrategy getPollingStrategy() {
+        return pollingStrategy;
+    }
+
     /**
      * Calls the custom delay strategy to control the sleep time
      *
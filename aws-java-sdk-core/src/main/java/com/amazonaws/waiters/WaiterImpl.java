@@ -23,6 +23,7 @@ import com.amazonaws.util.ValidationUtils;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 
 @SdkProtectedApi
 public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implements Waiter<Input>{
@@ -44,6 +45,11 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
 
     private final ExecutorService executorService;
 
+    /**
+     * Scheduler polling asynchronous waits, may be null
+     */
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new waiter with the given internal parameters
      *
@@ -57,6 +63,7 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
         this.acceptors = ValidationUtils.assertNotNull(waiterBuilder.getAcceptor(), "acceptors");
         this.defaultPollingStrategy = ValidationUtils.assertNotNull(waiterBuilder.getDefaultPollingStrategy(), "defaultPollingStrategy");
         this.executorService = ValidationUtils.assertNotNull(waiterBuilder.getExecutorService(), "executorService");
+        this.scheduledExecutorService = waiterBuilder.getScheduledExecutorService();
     }
 
     /**
@@ -74,18 +81,7 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
     public void run(WaiterParameters<Input> waiterParameters)
             throws AmazonServiceException, WaiterTimedOutException, WaiterUnrecoverableException {
 
-        ValidationUtils.assertNotNull(waiterParameters, "waiterParameters");
-        @SuppressWarnings("unchecked")
-        Input request = (Input) ValidationUtils.assertNotNull(waiterParameters.getRequest(), "request").clone();
-        request.getRequestClientOptions().appendUserAgent("waiter-request");
-        WaiterExecution<Input, Output> waiterExecution = new WaiterExecutionBuilder<Input, Output>()
-                .withRequest(request)
-                .withPollingStrategy(waiterParameters.getPollingStrategy() != null ? waiterParameters.getPollingStrategy() : defaultPollingStrategy)
-                .withAcceptors(acceptors)
-                .withSdkFunction(sdkFunction)
-                .build();
-
-        waiterExecution.pollResource();
+        newWaiterExecution(waiterParameters).pollResource();
 
     }
 
@@ -103,6 +99,16 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
     public Future<Void> runAsync(final WaiterParameters<Input> waiterParameters, final WaiterHandler callback)
             throws AmazonServiceException, WaiterTimedOutException, WaiterUnrecoverableException {
 
+        if (scheduledExecutorService != null) {
+            WaiterExecution<Input, Output> waiterExecution = newWaiterExecution(waiterParameters);
+            if (ScheduledWaiterExecution.isSchedulable(waiterExecution.getPollingStrategy())) {
+                @SuppressWarnings("unchecked")
+                WaiterHandler<Input> handler = callback;
+                return new ScheduledWaiterExecution<Input, Output>(waiterExecution, scheduledExecutorService,
+                                                                   waiterParameters.getRequest(), handler).start();
+            }
+        }
+
         return executorService.submit(new java.util.concurrent.Callable<Void>() {
             @Override
             public Void call() throws Exception {
@@ -119,4 +125,17 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
         });
 
     }
+
+    private WaiterExecution<Input, Output> newWaiterExecution(WaiterParameters<Input> waiterParameters) {
+        ValidationUtils.assertNotNull(waiterParameters, "waiterParameters");
+        @SuppressWarnings("unchecked")
+        Input request = (Input) ValidationUtils.assertNotNull(waiterParameters.getRequest(), "request").clone();
+        request.getRequestClientOptions().appendUserAgent("waiter-request");
+        return new WaiterExecutionBuilder<Input, Output>()
+                .withRequest(request)
+                .withPollingStrategy(waiterParameters.getPollingStrategy() != null ? waiterParameters.getPollingStrategy() : defaultPollingStrategy)
+                .withAcceptors(acceptors)
+                .withSdkFunction(sdkFunction)
+                .build();
+    }
 }
@@ -15,7 +15,10 @@
 package com.amazonaws.auth;
 
 import com.amazonaws.SignableRequest;
+import com.amazonaws.auth.internal.AWS4CanonicalRequestHasher;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.SdkHttpUtils;
 
 import org.junit.Test;
 
@@ -250,6 +253,65 @@ public class AWS4SignerTest {
                 request.getHeaders().get("Authorization"));
     }
 
+    /**
+     * The streamed hash of the canonical request must match the hash of the
+     * canonical request built as a string.
+     */
+    @Test
+    public void canonicalRequestHash_MatchesCanonicalRequest() throws Exception {
+        SignableRequest<?> request = MockRequestBuilder.create()
+                .withContent(new ByteArrayInputStream("{}".getBytes()))
+                .withHeader("Host", "demo.us-east-1.amazonaws.com")
+                .withHeader("X-Amz-Meta-Description", "  multiple \t  spaces\n ")
+                .withHeader("x-amz-meta-unicode", "caf\u00e9 \ud83d\ude00")
+                .withHeader("Connection", "keep-alive")
+                .withHeader("x-amz-empty", "")
+                .withParameter("prefix", "a b/c*d~e+f")
+                .withParameter("Marker", "\u00fcber\ud800")
+                .withParameter("list-type", "2")
+                .withParameter("a-b", "1")
+                .withParameter("a", "2")
+                .withPath("/path with spaces/caf\u00e9/*~")
+                .withEndpoint("http://demo.us-east-1.amazonaws.com/base").build();
+        String contentSha256 = AbstractAWSSigner.EMPTY_STRING_SHA256_HEX;
+
+        for (boolean doubleUrlEncode : new boolean[] {true, false}) {
+            AWS4Signer signer = new AWS4Signer(doubleUrlEncode);
+            AWS4CanonicalRequestHasher hasher = AWS4CanonicalRequestHasher.get();
+            assertEquals(signer.getSignedHeadersString(request), hasher.sortHeaders(request.getHeaders()));
+            byte[] hash = hasher.hash(request.getHttpMethod().toString(),
+                    SdkHttpUtils.appendUri(request.getEndpoint().getPath(), request.getResourcePath()),
+                    doubleUrlEncode, request.getParameters(), request.getHeaders(), contentSha256);
+            assertEquals(BinaryUtils.toHex(signer.hash(signer.createCanonicalRequest(request, contentSha256))),
+                    BinaryUtils.toHex(hash));
+        }
+    }
+
+    @Test
+    public void overriddenCanonicalRequest_IsUsedForSigning() throws Exception {
+        AWS4Signer customSigner = new AWS4Signer() {
+            @Override
+            protected String createCanonicalRequest(SignableRequest<?> request, String contentSha256) {
+                return "custom";
+            }
+        };
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        customSigner.setServiceName("demo");
+        customSigner.setOverrideDate(c.getTime());
+        signer.setOverrideDate(c.getTime());
+        signer.setServiceName("demo");
+
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        SignableRequest<?> custom = generateBasicRequest();
+        customSigner.sign(custom, credentials);
+        SignableRequest<?> standard = generateBasicRequest();
+        signer.sign(standard, credentials);
+
+        assertTrue(!custom.getHeaders().get("Authorization").equals(standard.getHeaders().get("Authorization")));
+    }
+
     private SignableRequest<?> generateBasicRequest() {
         return MockRequestBuilder.create()
                 .withContent(new ByteArrayInputStream("{\"TableName\": \"foo\"}".getBytes()))
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.http.nio.AsyncHttpTransport;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.util.StringInputStream;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utils.http.HttpResponseHandlers;
+import utils.http.WireMockTestBase;
+import utils.retry.AlwaysRetryCondition;
+import utils.retry.SimpleArrayBackoffStrategy;
+
+public class AmazonHttpClientAsyncIntegrationTest extends WireMockTestBase {
+
+    private static final String OPERATION = "/some-operation";
+
+    private AmazonHttpClient client;
+
+    @Before
+    public void setUp() {
+        RetryPolicy retryPolicy = new RetryPolicy(new AlwaysRetryCondition(),
+                                                  new SimpleArrayBackoffStrategy(new int[] {0, 10, 20}),
+                                                  2, false);
+        client = new AmazonHttpClient(new ClientConfiguration().withRetryPolicy(retryPolicy));
+    }
+
+    @After
+    public void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    public void successfulResponse_IsDeliveredToFutureAndCallback() throws Exception {
+        stubFor(any(urlPathEqualTo(OPERATION)).willReturn(aResponse().withStatus(200).withBody("hello")));
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<String> callbackResult = new AtomicReference<String>();
+        Response<AmazonWebServiceResponse<String>> response = client.requestExecutionBuilder()
+                .request(newGetRequest(OPERATION))
+                .errorResponseHandler(stubErrorHandler())
+                .executeAsync(HttpResponseHandlers.stringResponseHandler(),
+                              new FutureCallback<Response<AmazonWebServiceResponse<String>>>() {
+                                  @Override
+                                  public void completed(Response<AmazonWebServiceResponse<String>> result) {
+                                      callbackResult.set(result.getAwsResponse().getResult());
+                                      latch.countDown();
+                                  }
+
+                                  @Override
+                                  public void failed(Exception ex) {
+                                      latch.countDown();
+                                  }
+
+                                  @Override
+                                  public void cancelled() {
+                                      latch.countDown();
+                                  }
+                              })
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals("hello", response.getAwsResponse().getResult());
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals("hello", callbackResult.get());
+        verify(getRequestedFor(urlPathEqualTo(OPERATION)));
+    }
+
+    @Test
+    public void requestContent_IsSent() throws Exception {
+        stubFor(any(urlPathEqualTo(OPERATION)).willReturn(aResponse().withStatus(200).withBody("ok")));
+        Request<?> request = newRequest(OPERATION);
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addHeader("Content-Type", "text/plain");
+        request.setContent(new StringInputStream("payload"));
+
+        Response<AmazonWebServiceResponse<String>> response = client.requestExecutionBuilder()
+                .request(request)
+                .errorResponseHandler(stubErrorHandler())
+                .executeAsync(HttpResponseHandlers.stringResponseHandler(), null)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals("ok", response.getAwsResponse().getResult());
+        verify(postRequestedFor(urlPathEqualTo(OPERATION)).withRequestBody(equalTo("payload")));
+    }
+
+    @Test
+    public void serviceError_IsRetriedAndThenFailsFuture() throws Exception {
+        stubFor(any(urlPathEqualTo(OPERATION)).willReturn(aResponse().withStatus(500)));
+
+        try {
+            client.requestExecutionBuilder()
+                  .request(newGetRequest(OPERATION))
+                  .errorResponseHandler(stubErrorHandler())
+                  .executeAsync(HttpResponseHandlers.stringResponseHandler(), null)
+                  .get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof AmazonServiceException);
+        }
+
+        verify(3, getRequestedFor(urlPathEqualTo(OPERATION)));
+    }
+
+    @Test
+    public void cancel_AbortsRequestInFlightAndClearsTimeout() throws Exception {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        PendingTransport transport = new PendingTransport(false);
+        AmazonHttpClient asyncClient = AmazonHttpClient.builder()
+                .clientConfiguration(new ClientConfiguration().withClientExecutionTimeout(60000))
+                .asyncHttpTransport(transport)
+                .asyncExecutor(executor)
+                .build();
+        try {
+            final CountDownLatch cancelled = new CountDownLatch(1);
+            Future<Response<AmazonWebServiceResponse<String>>> future = asyncClient.requestExecutionBuilder()
+                    .request(newGetRequest(OPERATION))
+                    .errorResponseHandler(stubErrorHandler())
+                    .executeAsync(HttpResponseHandlers.stringResponseHandler(),
+                                  new FutureCallback<Response<AmazonWebServiceResponse<String>>>() {
+                                      @Override
+                                      public void completed(Response<AmazonWebServiceResponse<String>> result) {
+                                      }
+
+                                      @Override
+                                      public void failed(Exception ex) {
+                                      }
+
+                                      @Override
+                                      public void cancelled() {
+                                          cancelled.countDown();
+                                      }
+                                  });
+            assertTrue(transport.sent.await(10, TimeUnit.SECONDS));
+
+            assertTrue(future.cancel(true));
+            assertTrue(future.isCancelled());
+            assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+            assertTrue(transport.lastRequest.get().isAborted());
+            assertAllTasksCancelled(executor);
+            assertFalse(future.cancel(true));
+        } finally {
+            asyncClient.shutdown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void cancel_ClearsScheduledRetry() throws Exception {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        PendingTransport transport = new PendingTransport(true);
+        RetryPolicy retryPolicy = new RetryPolicy(new AlwaysRetryCondition(),
+                                                  new SimpleArrayBackoffStrategy(new int[] {60000, 60000}),
+                                                  2, false);
+        AmazonHttpClient asyncClient = AmazonHttpClient.builder()
+                .clientConfiguration(new ClientConfiguration().withRetryPolicy(retryPolicy))
+                .asyncHttpTransport(transport)
+                .asyncExecutor(executor)
+                .build();
+        try {
+            Future<Response<AmazonWebServiceResponse<String>>> future = asyncClient.requestExecutionBuilder()
+                    .request(newGetRequest(OPERATION))
+                    .errorResponseHandler(stubErrorHandler())
+                    .executeAsync(HttpResponseHandlers.stringResponseHandler(), null);
+            long deadline = System.currentTimeMillis() + 10000;
+            while (!hasDelayedTask(executor) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue("Expected a retry to be scheduled", hasDelayedTask(executor));
+
+            assertTrue(future.cancel(true));
+            assertAllTasksCancelled(executor);
+            assertEquals(1, transport.requestCount.get());
+        } finally {
+            asyncClient.shutdown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void streamingResponse_IsRefused() throws Exception {
+        PendingTransport transport = new PendingTransport(false);
+        AmazonHttpClient asyncClient = AmazonHttpClient.builder()
+                .clientConfiguration(new ClientConfiguration())
+                .asyncHttpTransport(transport)
+                .build();
+        try {
+            asyncClient.requestExecutionBuilder()
+                       .request(newGetRequest(OPERATION))
+                       .errorResponseHandler(stubErrorHandler())
+                       .executeAsync(new HttpResponseHandler<String>() {
+                           @Override
+                           public String handle(HttpResponse response) throws Exception {
+                               return null;
+                           }
+
+                           @Override
+                           public boolean needsConnectionLeftOpen() {
+                               return true;
+                           }
+                       }, null);
+            fail("Expected exception");
+        } catch (SdkClientException expected) {
+            assertEquals(0, transport.requestCount.get());
+        } finally {
+            asyncClient.shutdown();
+        }
+    }
+
+    @Test
+    public void contentNotHeldInMemory_IsRefused() throws Exception {
+        PendingTransport transport = new PendingTransport(false);
+        AmazonHttpClient asyncClient = AmazonHttpClient.builder()
+                .clientConfiguration(new ClientConfiguration())
+                .asyncHttpTransport(transport)
+                .build();
+        Request<?> request = newRequest(OPERATION);
+        request.setHttpMethod(HttpMethodName.POST);
+        request.setContent(new BufferedInputStream(new StringInputStream("payload")));
+        try {
+            asyncClient.requestExecutionBuilder()
+                       .request(request)
+                       .errorResponseHandler(stubErrorHandler())
+                       .executeAsync(HttpResponseHandlers.stringResponseHandler(), null);
+            fail("Expected exception");
+        } catch (SdkClientException expected) {
+            assertEquals(0, transport.requestCount.get());
+        } finally {
+            asyncClient.shutdown();
+        }
+    }
+
+    private static boolean hasDelayedTask(ScheduledThreadPoolExecutor executor) {
+        for (Runnable task : executor.getQueue()) {
+            if (((ScheduledFuture<?>) task).getDelay(TimeUnit.SECONDS) > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertAllTasksCancelled(ScheduledThreadPoolExecutor executor) {
+        for (Runnable task : executor.getQueue()) {
+            assertTrue(((Future<?>) task).isCancelled());
+        }
+    }
+
+    /**
+     * Transport that never completes the exchanges it is given, or fails them right away.
+     */
+    private static class PendingTransport implements AsyncHttpTransport {
+        private final boolean failRequests;
+        private final CountDownLatch sent = new CountDownLatch(1);
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private final AtomicReference<HttpRequestBase> lastRequest = new AtomicReference<HttpRequestBase>();
+
+        private PendingTransport(boolean failRequests) {
+            this.failRequests = failRequests;
+        }
+
+        @Override
+        public Future<org.apache.http.HttpResponse> execute(HttpRequestBase request,
+                                                            int requestTimeout,
+                                                            FutureCallback<org.apache.http.HttpResponse> callback) {
+            requestCount.incrementAndGet();
+            lastRequest.set(request);
+            BasicFuture<org.apache.http.HttpResponse> future = new BasicFuture<org.apache.http.HttpResponse>(callback);
+            if (failRequests) {
+                future.failed(new IOException("Connection reset"));
+            }
+            sent.countDown();
+            return future;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.http.HttpResponse;
+import org.junit.Test;
+
+public class NioResponseParserTest {
+
+    @Test
+    public void fixedLengthResponse_IsParsed() throws IOException {
+        NioResponseParser parser = new NioResponseParser(false);
+        assertTrue(parser.isPristine());
+        assertTrue(parser.feed(bytes("HTTP/1.1 200 OK\r\nContent-Length: 5\r\nX-Foo: bar\r\n\r\nhello")));
+
+        HttpResponse response = parser.toHttpResponse();
+        assertEquals(200, response.getStatusLine().getStatusCode());
+        assertEquals("OK", response.getStatusLine().getReasonPhrase());
+        assertEquals("bar", response.getFirstHeader("X-Foo").getValue());
+        assertEquals("hello", IOUtils.toString(response.getEntity().getContent()));
+        assertTrue(parser.isKeepAlive());
+    }
+
+    @Test
+    public void responseSplitAcrossReads_IsParsed() throws IOException {
+        NioResponseParser parser = new NioResponseParser(false);
+        String raw = "HTTP/1.1 404 Not Found\r\nContent-Length: 3\r\n\r\nabc";
+        for (int i = 0; i < raw.length() - 1; i++) {
+            assertFalse(parser.feed(bytes(raw.substring(i, i + 1))));
+        }
+        assertFalse(parser.isPristine());
+        assertTrue(parser.feed(bytes(raw.substring(raw.length() - 1))));
+        assertEquals(404, parser.toHttpResponse().getStatusLine().getStatusCode());
+    }
+
+    @Test
+    public void chunkedResponse_IsParsed() throws IOException {
+        NioResponseParser parser = new NioResponseParser(false);
+        assertTrue(parser.feed(bytes("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n"
+                                     + "5;ext=1\r\nhello\r\n6\r\n world\r\n0\r\nTrailer: x\r\n\r\n")));
+        assertEquals("hello world", IOUtils.toString(parser.toHttpResponse().getEntity().getContent()));
+    }
+
+    @Test
+    public void interimResponse_IsSkipped() throws IOException {
+        NioResponseParser parser = new NioResponseParser(false);
+        assertTrue(parser.feed(bytes("HTTP/1.1 100 Continue\r\n\r\n"
+                                     + "HTTP/1.1 204 No Content\r\nX-Foo: bar\r\n\r\n")));
+        HttpResponse response = parser.toHttpResponse();
+        assertEquals(204, response.getStatusLine().getStatusCode());
+        assertEquals(1, response.getAllHeaders().length);
+        assertNull(response.getEntity());
+    }
+
+    @Test
+    public void headResponse_HasNoBody() throws IOException {
+        NioResponseParser parser = new NioResponseParser(true);
+        assertTrue(parser.feed(bytes("HTTP/1.1 200 OK\r\nContent-Length: 100\r\n\r\n")));
+        assertNull(parser.toHttpResponse().getEntity());
+    }
+
+    @Test
+    public void closeDelimitedResponse_CompletesOnEndOfStream() throws IOException {
+        NioResponseParser parser = new NioResponseParser(false);
+        assertFalse(parser.feed(bytes("HTTP/1.0 200 OK\r\n\r\nsome data")));
+        assertTrue(parser.endOfStream());
+        assertFalse(parser.isKeepAlive());
+        assertEquals("some data", IOUtils.toString(parser.toHttpResponse().getEntity().getContent()));
+    }
+
+    @Test
+    public void connectionClose_DisablesKeepAlive() throws IOException {
+        NioResponseParser parser = new NioResponseParser(false);
+        assertTrue(parser.feed(bytes("HTTP/1.1 200 OK\r\nConnection: close\r\nContent-Length: 0\r\n\r\n")));
+        assertFalse(parser.isKeepAlive());
+    }
+
+    @Test
+    public void truncatedResponse_IsNotComplete() throws IOException {
+        NioResponseParser parser = new NioResponseParser(false);
+        assertFalse(parser.feed(bytes("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\nabc")));
+        assertFalse(parser.endOfStream());
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidStatusLine_ThrowsException() throws IOException {
+        new NioResponseParser(false).feed(bytes("garbage\r\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidChunkSize_ThrowsException() throws IOException {
+        new NioResponseParser(false).feed(bytes("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\nzz\r\n"));
+    }
+
+    private static ByteBuffer bytes(String data) {
+        return ByteBuffer.wrap(data.getBytes(StringUtils.UTF8));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class ConcurrentFIFOCacheTest {
+
+    @Test
+    public void test() {
+        ConcurrentFIFOCache<String> cache = new ConcurrentFIFOCache<String>(3);
+        assertEquals(0, cache.size());
+        cache.add("k1", "v1");
+        assertEquals(1, cache.size());
+        cache.add("k1", "v11");
+        assertEquals(1, cache.size());
+        cache.add("k2", "v2");
+        assertEquals(2, cache.size());
+        cache.add("k3", "v3");
+        assertEquals(3, cache.size());
+        assertEquals("v11", cache.get("k1"));
+        assertEquals("v2", cache.get("k2"));
+        assertEquals("v3", cache.get("k3"));
+        cache.add("k4", "v4");
+        assertEquals(3, cache.size());
+        assertNull(cache.get("k1"));
+        assertEquals("v4", cache.get("k4"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroSize() {
+        new ConcurrentFIFOCache<Object>(0);
+    }
+
+    @Test
+    public void testSingleEntry() {
+        ConcurrentFIFOCache<String> cache = new ConcurrentFIFOCache<String>(1);
+        cache.add("k1", "v1");
+        cache.add("k1", "v11");
+        assertEquals(1, cache.size());
+        assertEquals("v11", cache.get("k1"));
+
+        cache.add("k2", "v2");
+        assertEquals(1, cache.size());
+        assertEquals("v2", cache.get("k2"));
+        assertNull(cache.get("k1"));
+    }
+
+    @Test
+    public void concurrentWritersStayBounded() throws Exception {
+        final ConcurrentFIFOCache<Integer> cache = new ConcurrentFIFOCache<Integer>(10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        for (int i = 0; i < 10000; i++) {
+                            cache.add(thread + "-" + i, i);
+                            cache.get(thread + "-" + (i / 2));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // Writers evicting at the same time may each evict an entry
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.size() > 0);
+    }
+}
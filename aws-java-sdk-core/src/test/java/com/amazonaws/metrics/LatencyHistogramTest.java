@@ -0,0 +1,102 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsAreContiguous() {
+        long previousHighest = -1;
+        for (int index = 0; index < LatencyHistogram.indexOf(1L << 40); index++) {
+            long highest = LatencyHistogram.highestEquivalentValue(index);
+            assertEquals(index, LatencyHistogram.indexOf(previousHighest + 1));
+            assertEquals(index, LatencyHistogram.indexOf(highest));
+            previousHighest = highest;
+        }
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        for (int i = 1; i <= 100; i++) {
+            histogram.recordValue(i);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 0.0);
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void largeValuesAreWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram(TimeUnit.HOURS.toNanos(1));
+        for (long i = 1; i <= 10000; i++) {
+            histogram.recordValue(i * 1000000L);
+        }
+        assertWithin(9900L * 1000000L, histogram.getValueAtPercentile(99));
+        assertWithin(9990L * 1000000L, histogram.getValueAtPercentile(99.9));
+        assertEquals(10000L * 1000000L, histogram.getMax());
+    }
+
+    @Test
+    public void valuesAboveHighestTrackableAreCounted() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        histogram.recordValue(5000);
+        histogram.recordValue(-1);
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(5000, histogram.getMax());
+        assertTrue(histogram.getValueAtPercentile(100) >= 1000);
+    }
+
+    @Test
+    public void concurrentRecording() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram(1L << 20);
+        final int threads = 8;
+        final int valuesPerThread = 10000;
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < valuesPerThread; i++) {
+                        histogram.recordValue(i);
+                    }
+                    done.countDown();
+                }
+            }.start();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(threads * valuesPerThread, histogram.getCount());
+        assertEquals(valuesPerThread - 1, histogram.getMax());
+        assertEquals((valuesPerThread - 1) / 2.0, histogram.getMean(), 0.0);
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual + " not within 1/64 of " + expected,
+                   Math.abs(actual - expected) <= expected / 64);
+    }
+}
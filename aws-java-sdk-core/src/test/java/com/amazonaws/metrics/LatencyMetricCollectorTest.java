@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.jmx.MBeans;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsCompact;
+
+public class LatencyMetricCollectorTest {
+
+    private static final String MBEAN_NAME = LatencyMetricCollector.MBEAN_DOMAIN
+            + ":type=LatencyMetric,service=TestService,operation=GetThingRequest,metric=ClientExecuteTime";
+
+    @Test
+    public void aggregatesPerOperation() throws InterruptedException {
+        LatencyMetricCollector collector = new LatencyMetricCollector(
+                EnumSet.of(Field.ClientExecuteTime, Field.HttpClientPoolLeasedCount), false);
+        collector.start();
+
+        for (int i = 0; i < 10; i++) {
+            collect(collector, "GetThingRequest", i);
+        }
+        collect(collector, "PutThingRequest", 3);
+
+        LatencyMetric executeTime = collector.getMetric("TestService", "GetThingRequest", Field.ClientExecuteTime);
+        assertEquals(10, executeTime.getCount());
+        assertEquals("Milliseconds", executeTime.getUnit());
+        assertTrue(executeTime.getP99() > 0);
+
+        LatencyMetric leased = collector.getMetric("TestService", "GetThingRequest", Field.HttpClientPoolLeasedCount);
+        assertEquals("Count", leased.getUnit());
+        assertEquals(9.0, leased.getMax(), 0.0);
+        assertEquals(4.5, leased.getMean(), 0.0);
+
+        assertEquals(1, collector.getMetric("TestService", "PutThingRequest", Field.ClientExecuteTime).getCount());
+        assertNull(collector.getMetric("TestService", "GetThingRequest", Field.HttpRequestTime));
+        assertEquals(4, collector.getMetrics().size());
+    }
+
+    @Test
+    public void collectsOnlyWhenStarted() {
+        LatencyMetricCollector collector = new LatencyMetricCollector(EnumSet.of(Field.ClientExecuteTime), false);
+        assertFalse(collector.getRequestMetricCollector().isEnabled());
+        collector.start();
+        assertTrue(collector.getRequestMetricCollector().isEnabled());
+        assertTrue(collector.stop());
+        assertFalse(collector.getRequestMetricCollector().isEnabled());
+    }
+
+    @Test
+    public void registersMBeansUntilStopped() throws Exception {
+        LatencyMetricCollector collector = new LatencyMetricCollector(EnumSet.of(Field.ClientExecuteTime), true);
+        collector.start();
+        try {
+            collect(collector, "GetThingRequest", 1);
+            assertTrue(MBeans.isRegistered(MBEAN_NAME));
+            assertEquals(1L, MBeans.getMBeanServer().getAttribute(
+                    new ObjectName(MBEAN_NAME), "Count"));
+        } finally {
+            collector.stop();
+        }
+        assertFalse(MBeans.isRegistered(MBEAN_NAME));
+    }
+
+    private static void collect(LatencyMetricCollector collector, String operation, int leased)
+            throws InterruptedException {
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        metrics.addProperty(Field.ServiceName, "TestService");
+        metrics.addProperty(Field.RequestType, operation);
+        metrics.startEvent(Field.ClientExecuteTime);
+        Thread.sleep(1);
+        metrics.setCounter(Field.HttpClientPoolLeasedCount, leased);
+        metrics.endEvent(Field.ClientExecuteTime);
+
+        DefaultRequest<AmazonWebServiceRequest> request = new DefaultRequest<AmazonWebServiceRequest>("TestService");
+        request.setAWSRequestMetrics(metrics);
+        collector.getRequestMetricCollector().collectMetrics(request, null);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.events.XMLEvent;
+import org.junit.Test;
+
+public class StaxUnmarshallerContextTest {
+
+    private static final String XML =
+            "<DescribeResponse>"
+            + "<reservationSet><item id=\"i-1\"><ownerId>owner</ownerId></item></reservationSet>"
+            + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+            + "</DescribeResponse>";
+
+    private static StaxUnmarshallerContext createContext(String xml) throws Exception {
+        return new StaxUnmarshallerContext(XMLInputFactory.newInstance()
+                .createXMLEventReader(new StringReader(xml)));
+    }
+
+    /** Advances the context to the start of the named element or attribute. */
+    private static void advanceTo(StaxUnmarshallerContext context, String name) throws Exception {
+        while (true) {
+            XMLEvent event = context.nextEvent();
+            if (event.isStartElement()
+                && event.asStartElement().getName().getLocalPart().equals(name)) {
+                return;
+            }
+            if (event.isAttribute() && ("@" + ((javax.xml.stream.events.Attribute) event)
+                    .getName().getLocalPart()).equals(name)) {
+                return;
+            }
+            if (event.isEndDocument()) {
+                throw new AssertionError(name + " not found");
+            }
+        }
+    }
+
+    @Test
+    public void testExpression_MatchesAtTargetDepthOnly() throws Exception {
+        StaxUnmarshallerContext context = createContext(XML);
+        advanceTo(context, "ownerId");
+
+        assertEquals(4, context.getCurrentDepth());
+        assertTrue(context.testExpression("ownerId", 4));
+        assertTrue(context.testExpression("item/ownerId", 3));
+        assertTrue(context.testExpression("reservationSet/item/ownerId", 2));
+        assertFalse(context.testExpression("ownerId", 3));
+        assertFalse(context.testExpression("item/ownerId", 4));
+        assertFalse(context.testExpression("Id", 4));
+        assertFalse(context.testExpression("wnerId", 4));
+        assertTrue(context.testExpression(".", 0));
+    }
+
+    @Test
+    public void testExpression_WithoutDepth_MatchesPathSuffix() throws Exception {
+        StaxUnmarshallerContext context = createContext(XML);
+        advanceTo(context, "ownerId");
+
+        assertTrue(context.testExpression("ownerId"));
+        assertTrue(context.testExpression("Id"));
+        assertTrue(context.testExpression("item/ownerId"));
+        assertTrue(context.testExpression("/DescribeResponse/reservationSet/item/ownerId"));
+        assertFalse(context.testExpression("reservationSet/ownerId"));
+    }
+
+    @Test
+    public void testExpression_MatchesAttributes() throws Exception {
+        StaxUnmarshallerContext context = createContext(XML);
+        advanceTo(context, "@id");
+
+        assertEquals(3, context.getCurrentDepth());
+        assertTrue(context.testExpression("@id", 3));
+        assertTrue(context.testExpression("item/@id", 3));
+        assertFalse(context.testExpression("item", 3));
+        assertEquals("i-1", context.readText());
+
+        advanceTo(context, "ownerId");
+        assertTrue(context.testExpression("item/ownerId", 3));
+        assertEquals("owner", context.readText());
+    }
+
+    @Test
+    public void metadataExpression_CapturesText() throws Exception {
+        StaxUnmarshallerContext context = createContext(XML);
+        context.registerMetadataExpression("ResponseMetadata/RequestId", 2, "requestId");
+        while (!context.nextEvent().isEndDocument()) {
+        }
+        assertEquals("request-id", context.getMetadata().get("requestId"));
+    }
+
+    @Test
+    public void readText_JoinsSplitCharacters() throws Exception {
+        StaxUnmarshallerContext context = createContext("<a><b>x&amp;y</b><c></c></a>");
+        advanceTo(context, "b");
+        assertEquals("x&y", context.readText());
+        advanceTo(context, "c");
+        assertEquals("", context.readText());
+    }
+}
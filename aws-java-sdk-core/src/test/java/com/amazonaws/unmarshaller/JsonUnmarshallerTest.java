@@ -18,7 +18,13 @@
  */
 package com.amazonaws.unmarshaller;
 
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NULL;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import com.amazonaws.http.HttpResponse;
@@ -28,8 +34,10 @@ import com.amazonaws.transform.JsonUnmarshallerContextImpl;
 import com.amazonaws.transform.ListUnmarshaller;
 import com.amazonaws.transform.MapUnmarshaller;
 import com.amazonaws.transform.SimpleTypeJsonUnmarshallers;
+import com.amazonaws.transform.Unmarshaller;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import java.io.ByteArrayInputStream;
 import java.util.Arrays;
 import java.util.Collections;
@@ -100,6 +108,140 @@ public class JsonUnmarshallerTest {
         assertEquals("toDecode", value);
     }
 
+    @Test
+    public void testDeeplyNestedStructure() throws Exception {
+        int depth = 40;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            body.append("{\"f").append(i).append("\" : ");
+        }
+        body.append("\"value\"");
+        for (int i = 0; i < depth; i++) {
+            body.append('}');
+        }
+        JsonUnmarshallerContext context = setupUnmarshaller(body.toString(), EMPTY_HEADERS);
+
+        context.nextToken();
+        for (int i = 0; i < depth; i++) {
+            context.nextToken();
+            assertEquals(i + 1, context.getCurrentDepth());
+            assertTrue(context.testExpression("f" + i, i + 1));
+            context.nextToken();
+        }
+        assertEquals("value", context.readText());
+        assertTrue(context.toString().endsWith("/f" + (depth - 2) + "/f" + (depth - 1)));
+
+        for (int i = depth - 1; i > 0; i--) {
+            context.nextToken();
+            assertEquals("f" + (i - 1), context.getLastParsedParentElement());
+            assertEquals(i - 1, context.getCurrentDepth());
+        }
+        context.nextToken();
+        assertEquals(0, context.getCurrentDepth());
+        assertEquals("/", context.toString());
+    }
+
+    @Test
+    public void testMembersWithCollidingFieldNameHashes() throws Exception {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        CollidingMembers members = CollidingMembersJsonUnmarshaller.INSTANCE.unmarshall(setupUnmarshaller(
+                "{\"Aa\" : \"aa\", \"Nested\" : {\"Aa\" : \"nestedAa\", \"BB\" : \"nestedBB\"}, "
+                + "\"Unknown\" : {\"BB\" : \"unknown\"}, \"BB\" : \"bb\", \"Other\" : \"other\"}",
+                EMPTY_HEADERS));
+        assertEquals("aa", members.aa);
+        assertEquals("bb", members.bb);
+        assertEquals("other", members.other);
+        assertEquals(2, members.nested.size());
+        assertEquals("nestedAa", members.nested.get("Aa"));
+        assertEquals("nestedBB", members.nested.get("BB"));
+
+        members = CollidingMembersJsonUnmarshaller.INSTANCE.unmarshall(setupUnmarshaller(
+                "{\"BB\" : \"bb\", \"Aa\" : \"aa\"}", EMPTY_HEADERS));
+        assertEquals("aa", members.aa);
+        assertEquals("bb", members.bb);
+        assertNull(members.other);
+
+        members = CollidingMembersJsonUnmarshaller.INSTANCE.unmarshall(setupUnmarshaller(
+                "{\"BB\" : \"bb\"}", EMPTY_HEADERS));
+        assertNull(members.aa);
+        assertEquals("bb", members.bb);
+    }
+
+    private static class CollidingMembers {
+        private String aa;
+        private String bb;
+        private String other;
+        private Map<String, String> nested;
+    }
+
+    /**
+     * An unmarshaller in the form generated with the unmarshallJsonMembersByFieldNameHash
+     * customization, for a structure with two members whose names have the same hash code.
+     */
+    private static class CollidingMembersJsonUnmarshaller implements Unmarshaller<CollidingMembers, JsonUnmarshallerContext> {
+        private static final CollidingMembersJsonUnmarshaller INSTANCE = new CollidingMembersJsonUnmarshaller();
+
+        public CollidingMembers unmarshall(JsonUnmarshallerContext context) throws Exception {
+            CollidingMembers collidingMembers = new CollidingMembers();
+
+            int originalDepth = context.getCurrentDepth();
+            String currentParentElement = context.getCurrentParentElement();
+            int targetDepth = originalDepth + 1;
+
+            JsonToken token = context.getCurrentToken();
+            if (token == null)
+                token = context.nextToken();
+            if (token == VALUE_NULL) {
+                return null;
+            }
+
+            while (true) {
+                if (token == null)
+                    break;
+
+                if (token == FIELD_NAME || token == START_OBJECT) {
+                    if (context.getCurrentDepth() == targetDepth) {
+                        String fieldName = context.getCurrentParentElement();
+                        switch (fieldName.hashCode()) {
+                        case 2112:
+                            if (fieldName.equals("Aa")) {
+                                context.nextToken();
+                                collidingMembers.aa = context.getUnmarshaller(String.class).unmarshall(context);
+                            }
+                            if (fieldName.equals("BB")) {
+                                context.nextToken();
+                                collidingMembers.bb = context.getUnmarshaller(String.class).unmarshall(context);
+                            }
+                            break;
+                        case -1965077225:
+                            if (fieldName.equals("Nested")) {
+                                context.nextToken();
+                                collidingMembers.nested = new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
+                                        .getUnmarshaller(String.class)).unmarshall(context);
+                            }
+                            break;
+                        case 76517104:
+                            if (fieldName.equals("Other")) {
+                                context.nextToken();
+                                collidingMembers.other = context.getUnmarshaller(String.class).unmarshall(context);
+                            }
+                            break;
+                        }
+                    }
+                } else if (token == END_ARRAY || token == END_OBJECT) {
+                    if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
+                        if (context.getCurrentDepth() <= originalDepth)
+                            break;
+                    }
+                }
+                token = context.nextToken();
+            }
+
+            return collidingMembers;
+        }
+    }
+
     private JsonUnmarshallerContext setupUnmarshaller(String body, Map<String, String> headers) throws Exception {
         HttpResponse httpResponse = new HttpResponse(null, null);
 
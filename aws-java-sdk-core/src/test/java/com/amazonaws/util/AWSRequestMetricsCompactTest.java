@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.metrics.CompactRequestMetricCollector;
+import com.amazonaws.metrics.SimpleMetricType;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+public class AWSRequestMetricsCompactTest {
+
+    @Test
+    public void eventsAreAggregated() throws InterruptedException {
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        assertEquals(0, metrics.getEventCount(Field.HttpRequestTime));
+
+        metrics.startEvent(Field.HttpRequestTime);
+        Thread.sleep(2);
+        metrics.endEvent(Field.HttpRequestTime);
+        long first = metrics.getLastEventNanos(Field.HttpRequestTime);
+        metrics.startEvent(Field.HttpRequestTime);
+        metrics.endEvent(Field.HttpRequestTime);
+
+        assertEquals(2, metrics.getEventCount(Field.HttpRequestTime));
+        assertTrue(first >= 2000000L);
+        assertEquals(first + metrics.getLastEventNanos(Field.HttpRequestTime),
+                     metrics.getEventTotalNanos(Field.HttpRequestTime));
+    }
+
+    @Test
+    public void endingAnEventNeverStartedIsIgnored() {
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        metrics.endEvent(Field.RequestSigningTime);
+        assertEquals(0, metrics.getEventCount(Field.RequestSigningTime));
+        assertEquals(0, metrics.getEventTotalNanos(Field.RequestSigningTime));
+    }
+
+    @Test
+    public void countersAndProperties() {
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        assertFalse(metrics.isCounterSet(Field.RequestCount));
+
+        metrics.incrementCounter(Field.RequestCount);
+        metrics.incrementCounter(Field.RequestCount);
+        metrics.setCounter(Field.HttpClientPoolLeasedCount, 7);
+        metrics.addProperty(Field.StatusCode, 503);
+        metrics.addProperty(Field.StatusCode, 200);
+
+        assertTrue(metrics.isCounterSet(Field.RequestCount));
+        assertEquals(2, metrics.getCounter(Field.RequestCount));
+        assertEquals(7, metrics.getCounter(Field.HttpClientPoolLeasedCount));
+        assertEquals(2, metrics.getPropertyCount(Field.StatusCode));
+        assertEquals(200, metrics.getLastProperty(Field.StatusCode));
+        assertEquals(Collections.<Object>singletonList(200), metrics.getProperty(Field.StatusCode));
+        assertNull(metrics.getProperty(Field.AWSRequestID));
+        assertNull(metrics.getOtherMetrics());
+    }
+
+    @Test
+    public void otherMetricsAreRecordedSeparately() {
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        SimpleMetricType custom = new SimpleMetricType() {
+            @Override
+            public String name() {
+                return "Custom";
+            }
+        };
+
+        metrics.addProperty(custom, "value");
+        metrics.incrementCounter("Named");
+
+        assertEquals(Collections.<Object>singletonList("value"), metrics.getProperty(custom));
+        assertEquals(1, metrics.getOtherMetrics().getTimingInfo().getCounter("Named").intValue());
+    }
+
+    @Test
+    public void executionContextCreatesCompactMetrics() {
+        assertTrue(ExecutionContext.builder().withUseRequestMetrics(true).withUseCompactRequestMetrics(true)
+                           .build().getAwsRequestMetrics() instanceof AWSRequestMetricsCompact);
+        assertTrue(ExecutionContext.builder().withUseRequestMetrics(true)
+                           .build().getAwsRequestMetrics() instanceof AWSRequestMetricsFullSupport);
+    }
+
+    @Test
+    public void collectorReceivesCompactMetrics() {
+        final AWSRequestMetricsCompact[] collected = new AWSRequestMetricsCompact[1];
+        CompactRequestMetricCollector collector = new CompactRequestMetricCollector() {
+            @Override
+            public void collectMetrics(Request<?> request, Response<?> response,
+                                       AWSRequestMetricsCompact metrics) {
+                collected[0] = metrics;
+            }
+        };
+
+        Request<?> fullRequest = new DefaultRequest<AmazonWebServiceRequest>("service");
+        fullRequest.setAWSRequestMetrics(new AWSRequestMetricsFullSupport());
+        collector.collectMetrics(fullRequest, null);
+        assertNull(collected[0]);
+
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        Request<?> compactRequest = new DefaultRequest<AmazonWebServiceRequest>("service");
+        compactRequest.setAWSRequestMetrics(metrics);
+        collector.collectMetrics(compactRequest, null);
+        assertSame(metrics, collected[0]);
+    }
+}
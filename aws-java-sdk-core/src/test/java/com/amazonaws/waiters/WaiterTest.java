@@ -26,6 +26,14 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.Mockito.*;
 
@@ -115,6 +123,149 @@ public class WaiterTest {
         waiter.pollResource();
     }
 
+    @Test
+    public void scheduledSuccessStatePolling() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        ExecutorService executor = mock(ExecutorService.class);
+        try {
+            final AtomicReference<Object> outcome = new AtomicReference<Object>();
+            Waiter<MockDescribeRequest> waiter = newScheduledWaiter(new SuccessStateResultAcceptor(), executor, scheduler);
+            Future<Void> future = waiter.runAsync(new WaiterParameters<MockDescribeRequest>(request),
+                                                  new RecordingHandler(outcome));
+            Assert.assertNull(future.get(5, TimeUnit.SECONDS));
+            Assert.assertSame(request, outcome.get());
+            verifyZeroInteractions(executor);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void scheduledRetryStateFailPolling() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        try {
+            final AtomicReference<Object> outcome = new AtomicReference<Object>();
+            PollingStrategy pollingStrategy = new PollingStrategy(new MaxAttemptsRetryStrategy(3), new FixedDelayStrategy(0));
+            Waiter<MockDescribeRequest> waiter = newScheduledWaiter(new ExceptionAcceptor(), mock(ExecutorService.class), scheduler);
+            Future<Void> future = waiter.runAsync(new WaiterParameters<MockDescribeRequest>(request).withPollingStrategy(pollingStrategy),
+                                                  new RecordingHandler(outcome));
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                Assert.fail("Expected the wait to time out");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof WaiterTimedOutException);
+                Assert.assertSame(e.getCause(), outcome.get());
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void scheduledPollingCancelled() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        try {
+            final AtomicInteger polls = new AtomicInteger();
+            PollingStrategy pollingStrategy = new PollingStrategy(new MaxAttemptsRetryStrategy(Integer.MAX_VALUE), new FixedDelayStrategy(0));
+            Waiter<MockDescribeRequest> waiter = new WaiterBuilder<MockDescribeRequest, MockDescribeResult>()
+                    .withSdkFunction(new SdkFunction<MockDescribeRequest, MockDescribeResult>() {
+                        @Override
+                        public MockDescribeResult apply(MockDescribeRequest input) {
+                            polls.incrementAndGet();
+                            return new MockDescribeResult();
+                        }
+                    })
+                    .withAcceptors(new RetryStateResultAcceptor())
+                    .withDefaultPollingStrategy(pollingStrategy)
+                    .withExecutorService(mock(ExecutorService.class))
+                    .withScheduledExecutorService(scheduler)
+                    .build();
+            Future<Void> future = waiter.runAsync(new WaiterParameters<MockDescribeRequest>(request),
+                                                  new RecordingHandler(new AtomicReference<Object>()));
+            while (polls.get() < 3) {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue("Wait could not be cancelled", future.cancel(false));
+            // Let a poll that was already running finish
+            Thread.sleep(100);
+            int pollsAfterCancel = polls.get();
+            Thread.sleep(200);
+            Assert.assertEquals("Resource was polled after the wait was cancelled", pollsAfterCancel, polls.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void scheduledPollingFallsBackToExecutorForBlockingDelayStrategy() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PollingStrategy pollingStrategy = new PollingStrategy(new MaxAttemptsRetryStrategy(3), mockDelayStrategy);
+            Waiter<MockDescribeRequest> waiter = newScheduledWaiter(new SuccessStateResultAcceptor(), executor, scheduler);
+            Future<Void> future = waiter.runAsync(new WaiterParameters<MockDescribeRequest>(request).withPollingStrategy(pollingStrategy),
+                                                  new RecordingHandler(new AtomicReference<Object>()));
+            Assert.assertNull(future.get(5, TimeUnit.SECONDS));
+            verify(mockDelayStrategy, times(2)).delayBeforeNextRetry(any(PollingStrategyContext.class));
+        } finally {
+            scheduler.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void scheduledPollingFallsBackToExecutorForOverriddenFixedDelay() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicInteger delays = new AtomicInteger();
+            PollingStrategy pollingStrategy = new PollingStrategy(new MaxAttemptsRetryStrategy(3), new FixedDelayStrategy(0) {
+                @Override
+                public void delayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) throws InterruptedException {
+                    delays.incrementAndGet();
+                }
+            });
+            Waiter<MockDescribeRequest> waiter = newScheduledWaiter(new SuccessStateResultAcceptor(), executor, scheduler);
+            Future<Void> future = waiter.runAsync(new WaiterParameters<MockDescribeRequest>(request).withPollingStrategy(pollingStrategy),
+                                                  new RecordingHandler(new AtomicReference<Object>()));
+            Assert.assertNull(future.get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(2, delays.get());
+        } finally {
+            scheduler.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    private Waiter<MockDescribeRequest> newScheduledWaiter(WaiterAcceptor<MockDescribeResult> acceptor,
+                                                           ExecutorService executor,
+                                                           ScheduledExecutorService scheduler) {
+        return new WaiterBuilder<MockDescribeRequest, MockDescribeResult>()
+                .withSdkFunction(new MockDescribeFunction())
+                .withAcceptors(acceptor)
+                .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(3), new FixedDelayStrategy(0)))
+                .withExecutorService(executor)
+                .withScheduledExecutorService(scheduler)
+                .build();
+    }
+
+    class RecordingHandler extends WaiterHandler<MockDescribeRequest> {
+
+        private final AtomicReference<Object> outcome;
+
+        RecordingHandler(AtomicReference<Object> outcome) {
+            this.outcome = outcome;
+        }
+
+        @Override
+        public void onWaitSuccess(MockDescribeRequest request) {
+            outcome.set(request);
+        }
+
+        @Override
+        public void onWaitFailure(Exception e) {
+            outcome.set(e);
+        }
+    }
 
     class MockDescribeRequest extends AmazonWebServiceRequest {
         private String tableName;
@@ -170,6 +321,17 @@ public class WaiterTest {
 
     }
 
+    class RetryStateResultAcceptor extends WaiterAcceptor<MockDescribeResult> {
+
+        public boolean matches(MockDescribeResult result) {
+            return true;
+        }
+
+        public WaiterState getState() {
+            return WaiterState.RETRY;
+        }
+    }
+
     class ExceptionAcceptor extends WaiterAcceptor<MockDescribeResult> {
 
         public boolean matches(Exception e) {
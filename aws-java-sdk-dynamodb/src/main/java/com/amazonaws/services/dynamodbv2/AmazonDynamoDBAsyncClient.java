@@ -30,6 +30,9 @@ import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
  * the asynchronous operation; overloads which accept an {@code AsyncHandler} can be used to receive notification when
  * an asynchronous operation completes.
  * <p>
+ * Operations are sent over the non-blocking transport of the HTTP client, and do not hold a thread of the executor
+ * service while they are in flight.
+ * <p>
  * <fullname>Amazon DynamoDB</fullname>
  * <p>
  * Amazon DynamoDB is a fully managed NoSQL database service that provides fast and predictable performance with
@@ -269,26 +272,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler) {
         final BatchGetItemRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<BatchGetItemResult>() {
-            @Override
-            public BatchGetItemResult call() throws Exception {
-                BatchGetItemResult result = null;
-
-                try {
-                    result = executeBatchGetItem(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeBatchGetItemAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -349,26 +333,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler) {
         final BatchWriteItemRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<BatchWriteItemResult>() {
-            @Override
-            public BatchWriteItemResult call() throws Exception {
-                BatchWriteItemResult result = null;
-
-                try {
-                    result = executeBatchWriteItem(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeBatchWriteItemAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -405,26 +370,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<CreateBackupRequest, CreateBackupResult> asyncHandler) {
         final CreateBackupRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<CreateBackupResult>() {
-            @Override
-            public CreateBackupResult call() throws Exception {
-                CreateBackupResult result = null;
-
-                try {
-                    result = executeCreateBackup(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeCreateBackupAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -438,26 +384,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<CreateGlobalTableRequest, CreateGlobalTableResult> asyncHandler) {
         final CreateGlobalTableRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<CreateGlobalTableResult>() {
-            @Override
-            public CreateGlobalTableResult call() throws Exception {
-                CreateGlobalTableResult result = null;
-
-                try {
-                    result = executeCreateGlobalTable(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeCreateGlobalTableAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -471,26 +398,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler) {
         final CreateTableRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<CreateTableResult>() {
-            @Override
-            public CreateTableResult call() throws Exception {
-                CreateTableResult result = null;
-
-                try {
-                    result = executeCreateTable(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeCreateTableAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -531,26 +439,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DeleteBackupRequest, DeleteBackupResult> asyncHandler) {
         final DeleteBackupRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DeleteBackupResult>() {
-            @Override
-            public DeleteBackupResult call() throws Exception {
-                DeleteBackupResult result = null;
-
-                try {
-                    result = executeDeleteBackup(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDeleteBackupAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -564,26 +453,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler) {
         final DeleteItemRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DeleteItemResult>() {
-            @Override
-            public DeleteItemResult call() throws Exception {
-                DeleteItemResult result = null;
-
-                try {
-                    result = executeDeleteItem(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDeleteItemAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -643,26 +513,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler) {
         final DeleteTableRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DeleteTableResult>() {
-            @Override
-            public DeleteTableResult call() throws Exception {
-                DeleteTableResult result = null;
-
-                try {
-                    result = executeDeleteTable(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDeleteTableAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -699,26 +550,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DescribeBackupRequest, DescribeBackupResult> asyncHandler) {
         final DescribeBackupRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DescribeBackupResult>() {
-            @Override
-            public DescribeBackupResult call() throws Exception {
-                DescribeBackupResult result = null;
-
-                try {
-                    result = executeDescribeBackup(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDescribeBackupAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -732,26 +564,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DescribeContinuousBackupsRequest, DescribeContinuousBackupsResult> asyncHandler) {
         final DescribeContinuousBackupsRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DescribeContinuousBackupsResult>() {
-            @Override
-            public DescribeContinuousBackupsResult call() throws Exception {
-                DescribeContinuousBackupsResult result = null;
-
-                try {
-                    result = executeDescribeContinuousBackups(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDescribeContinuousBackupsAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -765,26 +578,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DescribeGlobalTableRequest, DescribeGlobalTableResult> asyncHandler) {
         final DescribeGlobalTableRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DescribeGlobalTableResult>() {
-            @Override
-            public DescribeGlobalTableResult call() throws Exception {
-                DescribeGlobalTableResult result = null;
-
-                try {
-                    result = executeDescribeGlobalTable(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDescribeGlobalTableAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -798,26 +592,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler) {
         final DescribeLimitsRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DescribeLimitsResult>() {
-            @Override
-            public DescribeLimitsResult call() throws Exception {
-                DescribeLimitsResult result = null;
-
-                try {
-                    result = executeDescribeLimits(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDescribeLimitsAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -831,26 +606,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler) {
         final DescribeTableRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DescribeTableResult>() {
-            @Override
-            public DescribeTableResult call() throws Exception {
-                DescribeTableResult result = null;
-
-                try {
-                    result = executeDescribeTable(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDescribeTableAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -887,26 +643,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<DescribeTimeToLiveRequest, DescribeTimeToLiveResult> asyncHandler) {
         final DescribeTimeToLiveRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<DescribeTimeToLiveResult>() {
-            @Override
-            public DescribeTimeToLiveResult call() throws Exception {
-                DescribeTimeToLiveResult result = null;
-
-                try {
-                    result = executeDescribeTimeToLive(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeDescribeTimeToLiveAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -920,26 +657,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler) {
         final GetItemRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<GetItemResult>() {
-            @Override
-            public GetItemResult call() throws Exception {
-                GetItemResult result = null;
-
-                try {
-                    result = executeGetItem(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeGetItemAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -999,26 +717,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<ListBackupsRequest, ListBackupsResult> asyncHandler) {
         final ListBackupsRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<ListBackupsResult>() {
-            @Override
-            public ListBackupsResult call() throws Exception {
-                ListBackupsResult result = null;
-
-                try {
-                    result = executeListBackups(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeListBackupsAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -1032,26 +731,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<ListGlobalTablesRequest, ListGlobalTablesResult> asyncHandler) {
         final ListGlobalTablesRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<ListGlobalTablesResult>() {
-            @Override
-            public ListGlobalTablesResult call() throws Exception {
-                ListGlobalTablesResult result = null;
-
-                try {
-                    result = executeListGlobalTables(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeListGlobalTablesAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -1065,26 +745,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler) {
         final ListTablesRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<ListTablesResult>() {
-            @Override
-            public ListTablesResult call() throws Exception {
-                ListTablesResult result = null;
-
-                try {
-                    result = executeListTables(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeListTablesAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -1189,26 +850,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<ListTagsOfResourceRequest, ListTagsOfResourceResult> asyncHandler) {
         final ListTagsOfResourceRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<ListTagsOfResourceResult>() {
-            @Override
-            public ListTagsOfResourceResult call() throws Exception {
-                ListTagsOfResourceResult result = null;
-
-                try {
-                    result = executeListTagsOfResource(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeListTagsOfResourceAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -1222,26 +864,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler) {
         final PutItemRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<PutItemResult>() {
-            @Override
-            public PutItemResult call() throws Exception {
-                PutItemResult result = null;
-
-                try {
-                    result = executePutItem(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executePutItemAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -1301,26 +924,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler) {
         final QueryRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<QueryResult>() {
-            @Override
-            public QueryResult call() throws Exception {
-                QueryResult result = null;
-
-                try {
-                    result = executeQuery(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeQueryAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -1334,26 +938,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<RestoreTableFromBackupRequest, RestoreTableFromBackupResult> asyncHandler) {
         final RestoreTableFromBackupRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<RestoreTableFromBackupResult>() {
-            @Override
-            public RestoreTableFromBackupResult call() throws Exception {
-                RestoreTableFromBackupResult result = null;
-
-                try {
-                    result = executeRestoreTableFromBackup(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeRestoreTableFromBackupAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -1367,26 +952,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler) {
         final ScanRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<ScanResult>() {
-            @Override
-            public ScanResult call() throws Exception {
-                ScanResult result = null;
-
-                try {
-                    result = executeScan(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeScanAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -1470,26 +1036,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler) {
         final TagResourceRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<TagResourceResult>() {
-            @Override
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-
-                try {
-                    result = executeTagResource(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeTagResourceAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -1503,26 +1050,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler) {
         final UntagResourceRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<UntagResourceResult>() {
-            @Override
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-
-                try {
-                    result = executeUntagResource(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeUntagResourceAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -1536,26 +1064,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<UpdateGlobalTableRequest, UpdateGlobalTableResult> asyncHandler) {
         final UpdateGlobalTableRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<UpdateGlobalTableResult>() {
-            @Override
-            public UpdateGlobalTableResult call() throws Exception {
-                UpdateGlobalTableResult result = null;
-
-                try {
-                    result = executeUpdateGlobalTable(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeUpdateGlobalTableAsync(finalRequest, asyncHandler);
     }
 
     @Override
@@ -1569,26 +1078,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler) {
         final UpdateItemRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<UpdateItemResult>() {
-            @Override
-            public UpdateItemResult call() throws Exception {
-                UpdateItemResult result = null;
-
-                try {
-                    result = executeUpdateItem(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeUpdateItemAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -1654,26 +1144,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler) {
         final UpdateTableRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<UpdateTableResult>() {
-            @Override
-            public UpdateTableResult call() throws Exception {
-                UpdateTableResult result = null;
-
-                try {
-                    result = executeUpdateTable(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeUpdateTableAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -1710,26 +1181,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
             final com.amazonaws.handlers.AsyncHandler<UpdateTimeToLiveRequest, UpdateTimeToLiveResult> asyncHandler) {
         final UpdateTimeToLiveRequest finalRequest = beforeClientExecution(request);
 
-        return executorService.submit(new java.util.concurrent.Callable<UpdateTimeToLiveResult>() {
-            @Override
-            public UpdateTimeToLiveResult call() throws Exception {
-                UpdateTimeToLiveResult result = null;
-
-                try {
-                    result = executeUpdateTimeToLive(finalRequest);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
-
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(finalRequest, result);
-                }
-                return result;
-            }
-        });
+        return executeUpdateTimeToLiveAsync(finalRequest, asyncHandler);
     }
 
     /**
@@ -447,6 +447,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<BatchGetItemResult> executeBatchGetItemAsync(BatchGetItemRequest batchGetItemRequest,
+            com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(batchGetItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<BatchGetItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new BatchGetItemRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(batchGetItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<BatchGetItemResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new BatchGetItemResultJsonUnmarshaller());
+            return invokeAsync(batchGetItemRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, batchGetItemRequest, asyncHandler);
+        }
+    }
+
     @Override
     public BatchGetItemResult batchGetItem(java.util.Map<String, KeysAndAttributes> requestItems, String returnConsumedCapacity) {
         return batchGetItem(new BatchGetItemRequest().withRequestItems(requestItems).withReturnConsumedCapacity(returnConsumedCapacity));
@@ -612,6 +641,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<BatchWriteItemResult> executeBatchWriteItemAsync(BatchWriteItemRequest batchWriteItemRequest,
+            com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(batchWriteItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<BatchWriteItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new BatchWriteItemRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(batchWriteItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<BatchWriteItemResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new BatchWriteItemResultJsonUnmarshaller());
+            return invokeAsync(batchWriteItemRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, batchWriteItemRequest, asyncHandler);
+        }
+    }
+
     @Override
     public BatchWriteItemResult batchWriteItem(java.util.Map<String, java.util.List<WriteRequest>> requestItems) {
         return batchWriteItem(new BatchWriteItemRequest().withRequestItems(requestItems));
@@ -733,6 +791,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<CreateBackupResult> executeCreateBackupAsync(CreateBackupRequest createBackupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateBackupRequest, CreateBackupResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(createBackupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateBackupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateBackupRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(createBackupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateBackupResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new CreateBackupResultJsonUnmarshaller());
+            return invokeAsync(createBackupRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, createBackupRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a global table from an existing table. A global table creates a replication relationship between two or
@@ -822,6 +909,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<CreateGlobalTableResult> executeCreateGlobalTableAsync(CreateGlobalTableRequest createGlobalTableRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateGlobalTableRequest, CreateGlobalTableResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(createGlobalTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateGlobalTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateGlobalTableRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(createGlobalTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateGlobalTableResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new CreateGlobalTableResultJsonUnmarshaller());
+            return invokeAsync(createGlobalTableRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, createGlobalTableRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <code>CreateTable</code> operation adds a new table to your account. In an AWS account, table names must be
@@ -901,6 +1017,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<CreateTableResult> executeCreateTableAsync(CreateTableRequest createTableRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(createTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateTableRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(createTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateTableResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new CreateTableResultJsonUnmarshaller());
+            return invokeAsync(createTableRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, createTableRequest, asyncHandler);
+        }
+    }
+
     @Override
     public CreateTableResult createTable(java.util.List<AttributeDefinition> attributeDefinitions, String tableName,
             java.util.List<KeySchemaElement> keySchema, ProvisionedThroughput provisionedThroughput) {
@@ -975,6 +1120,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DeleteBackupResult> executeDeleteBackupAsync(DeleteBackupRequest deleteBackupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteBackupRequest, DeleteBackupResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(deleteBackupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteBackupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteBackupRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(deleteBackupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteBackupResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new DeleteBackupResultJsonUnmarshaller());
+            return invokeAsync(deleteBackupRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, deleteBackupRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a single item in a table by primary key. You can perform a conditional delete operation that deletes the
@@ -1053,6 +1227,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DeleteItemResult> executeDeleteItemAsync(DeleteItemRequest deleteItemRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(deleteItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteItemRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(deleteItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteItemResult>> responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                    .withPayloadJson(true).withHasStreamingSuccessResponse(false), new DeleteItemResultJsonUnmarshaller());
+            return invokeAsync(deleteItemRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, deleteItemRequest, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteItemResult deleteItem(String tableName, java.util.Map<String, AttributeValue> key) {
         return deleteItem(new DeleteItemRequest().withTableName(tableName).withKey(key));
@@ -1150,6 +1353,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DeleteTableResult> executeDeleteTableAsync(DeleteTableRequest deleteTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(deleteTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteTableRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(deleteTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteTableResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new DeleteTableResultJsonUnmarshaller());
+            return invokeAsync(deleteTableRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, deleteTableRequest, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteTableResult deleteTable(String tableName) {
         return deleteTable(new DeleteTableRequest().withTableName(tableName));
@@ -1210,6 +1442,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DescribeBackupResult> executeDescribeBackupAsync(DescribeBackupRequest describeBackupRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeBackupRequest, DescribeBackupResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(describeBackupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeBackupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeBackupRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(describeBackupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeBackupResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new DescribeBackupResultJsonUnmarshaller());
+            return invokeAsync(describeBackupRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, describeBackupRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Checks the status of the backup restore settings on the specified table. If backups are enabled,
@@ -1268,6 +1529,37 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DescribeContinuousBackupsResult> executeDescribeContinuousBackupsAsync(DescribeContinuousBackupsRequest describeContinuousBackupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeContinuousBackupsRequest, DescribeContinuousBackupsResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(describeContinuousBackupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeContinuousBackupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeContinuousBackupsRequestProtocolMarshaller(protocolFactory).marshall(super
+                        .beforeMarshalling(describeContinuousBackupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeContinuousBackupsResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false),
+                    new DescribeContinuousBackupsResultJsonUnmarshaller());
+            return invokeAsync(describeContinuousBackupsRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, describeContinuousBackupsRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns information about the global table.
@@ -1320,6 +1612,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DescribeGlobalTableResult> executeDescribeGlobalTableAsync(DescribeGlobalTableRequest describeGlobalTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeGlobalTableRequest, DescribeGlobalTableResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(describeGlobalTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeGlobalTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeGlobalTableRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(describeGlobalTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeGlobalTableResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new DescribeGlobalTableResultJsonUnmarshaller());
+            return invokeAsync(describeGlobalTableRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, describeGlobalTableRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns the current provisioned-capacity limits for your AWS account in a region, both for the region as a whole
@@ -1459,6 +1780,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DescribeLimitsResult> executeDescribeLimitsAsync(DescribeLimitsRequest describeLimitsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(describeLimitsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeLimitsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeLimitsRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(describeLimitsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeLimitsResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new DescribeLimitsResultJsonUnmarshaller());
+            return invokeAsync(describeLimitsRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, describeLimitsRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns information about the table, including the current status of the table, when it was created, the primary
@@ -1522,6 +1872,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DescribeTableResult> executeDescribeTableAsync(DescribeTableRequest describeTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(describeTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTableRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(describeTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeTableResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new DescribeTableResultJsonUnmarshaller());
+            return invokeAsync(describeTableRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, describeTableRequest, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeTableResult describeTable(String tableName) {
         return describeTable(new DescribeTableRequest().withTableName(tableName));
@@ -1580,6 +1959,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<DescribeTimeToLiveResult> executeDescribeTimeToLiveAsync(DescribeTimeToLiveRequest describeTimeToLiveRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTimeToLiveRequest, DescribeTimeToLiveResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(describeTimeToLiveRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTimeToLiveRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTimeToLiveRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(describeTimeToLiveRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeTimeToLiveResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new DescribeTimeToLiveResultJsonUnmarshaller());
+            return invokeAsync(describeTimeToLiveRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, describeTimeToLiveRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <code>GetItem</code> operation returns a set of attributes for the item with the given primary key. If there
@@ -1647,6 +2055,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<GetItemResult> executeGetItemAsync(GetItemRequest getItemRequest,
+            com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(getItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetItemRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(getItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetItemResult>> responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                    .withPayloadJson(true).withHasStreamingSuccessResponse(false), new GetItemResultJsonUnmarshaller());
+            return invokeAsync(getItemRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, getItemRequest, asyncHandler);
+        }
+    }
+
     @Override
     public GetItemResult getItem(String tableName, java.util.Map<String, AttributeValue> key) {
         return getItem(new GetItemRequest().withTableName(tableName).withKey(key));
@@ -1716,6 +2153,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<ListBackupsResult> executeListBackupsAsync(ListBackupsRequest listBackupsRequest,
+            com.amazonaws.handlers.AsyncHandler<ListBackupsRequest, ListBackupsResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(listBackupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListBackupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListBackupsRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(listBackupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ListBackupsResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new ListBackupsResultJsonUnmarshaller());
+            return invokeAsync(listBackupsRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, listBackupsRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists all the global tables. Only those global tables that have replicas in the region specified as input are
@@ -1767,6 +2233,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<ListGlobalTablesResult> executeListGlobalTablesAsync(ListGlobalTablesRequest listGlobalTablesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListGlobalTablesRequest, ListGlobalTablesResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(listGlobalTablesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListGlobalTablesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListGlobalTablesRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(listGlobalTablesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ListGlobalTablesResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new ListGlobalTablesResultJsonUnmarshaller());
+            return invokeAsync(listGlobalTablesRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, listGlobalTablesRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns an array of table names associated with the current account and endpoint. The output from
@@ -1819,6 +2314,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<ListTablesResult> executeListTablesAsync(ListTablesRequest listTablesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(listTablesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListTablesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListTablesRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(listTablesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ListTablesResult>> responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                    .withPayloadJson(true).withHasStreamingSuccessResponse(false), new ListTablesResultJsonUnmarshaller());
+            return invokeAsync(listTablesRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, listTablesRequest, asyncHandler);
+        }
+    }
+
     @Override
     public ListTablesResult listTables() {
         return listTables(new ListTablesRequest());
@@ -1868,13 +2392,44 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
     }
 
     @SdkInternalApi
-    final ListTagsOfResourceResult executeListTagsOfResource(ListTagsOfResourceRequest listTagsOfResourceRequest) {
+    final ListTagsOfResourceResult executeListTagsOfResource(ListTagsOfResourceRequest listTagsOfResourceRequest) {
+
+        ExecutionContext executionContext = createExecutionContext(listTagsOfResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListTagsOfResourceRequest> request = null;
+        Response<ListTagsOfResourceResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListTagsOfResourceRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(listTagsOfResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ListTagsOfResourceResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new ListTagsOfResourceResultJsonUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    @SdkInternalApi
+    final java.util.concurrent.Future<ListTagsOfResourceResult> executeListTagsOfResourceAsync(ListTagsOfResourceRequest listTagsOfResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<ListTagsOfResourceRequest, ListTagsOfResourceResult> asyncHandler) {
 
         ExecutionContext executionContext = createExecutionContext(listTagsOfResourceRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<ListTagsOfResourceRequest> request = null;
-        Response<ListTagsOfResourceResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -1888,13 +2443,11 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
 
             HttpResponseHandler<AmazonWebServiceResponse<ListTagsOfResourceResult>> responseHandler = protocolFactory.createResponseHandler(
                     new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new ListTagsOfResourceResultJsonUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
+            return invokeAsync(listTagsOfResourceRequest, request, responseHandler, executionContext, asyncHandler);
 
-            endClientExecution(awsRequestMetrics, request, response);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, listTagsOfResourceRequest, asyncHandler);
         }
     }
 
@@ -2050,6 +2603,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<PutItemResult> executePutItemAsync(PutItemRequest putItemRequest,
+            com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(putItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutItemRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(putItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutItemResult>> responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                    .withPayloadJson(true).withHasStreamingSuccessResponse(false), new PutItemResultJsonUnmarshaller());
+            return invokeAsync(putItemRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, putItemRequest, asyncHandler);
+        }
+    }
+
     @Override
     public PutItemResult putItem(String tableName, java.util.Map<String, AttributeValue> item) {
         return putItem(new PutItemRequest().withTableName(tableName).withItem(item));
@@ -2173,6 +2755,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<QueryResult> executeQueryAsync(QueryRequest queryRequest,
+            com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(queryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<QueryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new QueryRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(queryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<QueryResult>> responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                    .withPayloadJson(true).withHasStreamingSuccessResponse(false), new QueryResultJsonUnmarshaller());
+            return invokeAsync(queryRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, queryRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new table from an existing backup. Any number of users can execute up to 10 concurrent restores in a
@@ -2276,6 +2887,36 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<RestoreTableFromBackupResult> executeRestoreTableFromBackupAsync(RestoreTableFromBackupRequest restoreTableFromBackupRequest,
+            com.amazonaws.handlers.AsyncHandler<RestoreTableFromBackupRequest, RestoreTableFromBackupResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(restoreTableFromBackupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RestoreTableFromBackupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RestoreTableFromBackupRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(restoreTableFromBackupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<RestoreTableFromBackupResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false),
+                    new RestoreTableFromBackupResultJsonUnmarshaller());
+            return invokeAsync(restoreTableFromBackupRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, restoreTableFromBackupRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <code>Scan</code> operation returns one or more items and item attributes by accessing every item in a table
@@ -2365,6 +3006,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<ScanResult> executeScanAsync(ScanRequest scanRequest,
+            com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(scanRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ScanRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ScanRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(scanRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ScanResult>> responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                    .withPayloadJson(true).withHasStreamingSuccessResponse(false), new ScanResultJsonUnmarshaller());
+            return invokeAsync(scanRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, scanRequest, asyncHandler);
+        }
+    }
+
     @Override
     public ScanResult scan(String tableName, java.util.List<String> attributesToGet) {
         return scan(new ScanRequest().withTableName(tableName).withAttributesToGet(attributesToGet));
@@ -2452,6 +3122,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<TagResourceResult> executeTagResourceAsync(TagResourceRequest tagResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(tagResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<TagResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new TagResourceRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(tagResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<TagResourceResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new TagResourceResultJsonUnmarshaller());
+            return invokeAsync(tagResourceRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, tagResourceRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes the association of tags from an Amazon DynamoDB resource. You can call UntagResource up to 5 times per
@@ -2523,6 +3222,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<UntagResourceResult> executeUntagResourceAsync(UntagResourceRequest untagResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(untagResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UntagResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UntagResourceRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(untagResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UntagResourceResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new UntagResourceResultJsonUnmarshaller());
+            return invokeAsync(untagResourceRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, untagResourceRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds or removes replicas to the specified global table. The global table should already exist to be able to use
@@ -2582,6 +3310,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<UpdateGlobalTableResult> executeUpdateGlobalTableAsync(UpdateGlobalTableRequest updateGlobalTableRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateGlobalTableRequest, UpdateGlobalTableResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(updateGlobalTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateGlobalTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateGlobalTableRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(updateGlobalTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateGlobalTableResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new UpdateGlobalTableResultJsonUnmarshaller());
+            return invokeAsync(updateGlobalTableRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, updateGlobalTableRequest, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Edits an existing item's attributes, or adds a new item to the table if it does not already exist. You can put,
@@ -2654,6 +3411,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<UpdateItemResult> executeUpdateItemAsync(UpdateItemRequest updateItemRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(updateItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateItemRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(updateItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateItemResult>> responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                    .withPayloadJson(true).withHasStreamingSuccessResponse(false), new UpdateItemResultJsonUnmarshaller());
+            return invokeAsync(updateItemRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, updateItemRequest, asyncHandler);
+        }
+    }
+
     @Override
     public UpdateItemResult updateItem(String tableName, java.util.Map<String, AttributeValue> key, java.util.Map<String, AttributeValueUpdate> attributeUpdates) {
         return updateItem(new UpdateItemRequest().withTableName(tableName).withKey(key).withAttributeUpdates(attributeUpdates));
@@ -2764,6 +3550,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<UpdateTableResult> executeUpdateTableAsync(UpdateTableRequest updateTableRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(updateTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateTableRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(updateTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateTableResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new UpdateTableResultJsonUnmarshaller());
+            return invokeAsync(updateTableRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, updateTableRequest, asyncHandler);
+        }
+    }
+
     @Override
     public UpdateTableResult updateTable(String tableName, ProvisionedThroughput provisionedThroughput) {
         return updateTable(new UpdateTableRequest().withTableName(tableName).withProvisionedThroughput(provisionedThroughput));
@@ -2867,6 +3682,35 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         }
     }
 
+    @SdkInternalApi
+    final java.util.concurrent.Future<UpdateTimeToLiveResult> executeUpdateTimeToLiveAsync(UpdateTimeToLiveRequest updateTimeToLiveRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateTimeToLiveRequest, UpdateTimeToLiveResult> asyncHandler) {
+
+        ExecutionContext executionContext = createExecutionContext(updateTimeToLiveRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateTimeToLiveRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateTimeToLiveRequestProtocolMarshaller(protocolFactory).marshall(super.beforeMarshalling(updateTimeToLiveRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateTimeToLiveResult>> responseHandler = protocolFactory.createResponseHandler(
+                    new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false), new UpdateTimeToLiveResultJsonUnmarshaller());
+            return invokeAsync(updateTimeToLiveRequest, request, responseHandler, executionContext, asyncHandler);
+
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedAsync(e, updateTimeToLiveRequest, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful, request, typically used for debugging issues
      * where a service isn't acting as expected. This data isn't considered part of the result data returned by an
@@ -2925,6 +3769,23 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         return client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
 
+    /**
+     * Invoke with authentication over the non-blocking transport of the http client. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeAsync(Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler, ExecutionContext executionContext,
+            com.amazonaws.handlers.AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils.getCredentialsProvider(request.getOriginalRequest(), awsCredentialsProvider));
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        HttpResponseHandler<AmazonServiceException> errorResponseHandler = protocolFactory.createErrorResponseHandler(new JsonErrorResponseMetadata());
+
+        return executeAsync(originalRequest, request, responseHandler, errorResponseHandler, executionContext, asyncHandler);
+    }
+
     @com.amazonaws.annotation.SdkInternalApi
     static com.amazonaws.protocol.json.SdkJsonProtocolFactory getProtocolFactory() {
         return protocolFactory;
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * Abstract implementation of {@code IDynamoDBMapper}. Convenient method forms pass through to the
@@ -191,6 +192,13 @@ public class AbstractDynamoDBMapper implements IDynamoDBMapper {
         throw new UnsupportedOperationException("operation not supported in " + getClass());
     }
 
+    @Override
+    public Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                                     Iterable<? extends Object> objectsToDelete,
+                                                     DynamoDBMapperConfig config) {
+        throw new UnsupportedOperationException("operation not supported in " + getClass());
+    }
+
     @Override
     public Map<String, List<Object>> batchLoad(Iterable<? extends Object> itemsToGet) {
         return batchLoad(itemsToGet, config);
@@ -201,6 +209,12 @@ public class AbstractDynamoDBMapper implements IDynamoDBMapper {
         throw new UnsupportedOperationException("operation not supported in " + getClass());
     }
 
+    @Override
+    public Future<Map<String, List<Object>>> batchLoadAsync(Iterable<? extends Object> itemsToGet,
+                                                            DynamoDBMapperConfig config) {
+        throw new UnsupportedOperationException("operation not supported in " + getClass());
+    }
+
     @Override
     public Map<String, List<Object>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet) {
         return batchLoad(itemsToGet, config);
@@ -238,6 +252,23 @@ public class AbstractDynamoDBMapper implements IDynamoDBMapper {
         throw new UnsupportedOperationException("operation not supported in " + getClass());
     }
 
+    @Override
+    public <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                            DynamoDBScanExpression scanExpression,
+                                                            int totalSegments,
+                                                            ParallelScanOptions options) {
+        return parallelScanIterator(clazz, scanExpression, totalSegments, options, config);
+    }
+
+    @Override
+    public <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                            DynamoDBScanExpression scanExpression,
+                                                            int totalSegments,
+                                                            ParallelScanOptions options,
+                                                            DynamoDBMapperConfig config) {
+        throw new UnsupportedOperationException("operation not supported in " + getClass());
+    }
+
     @Override
     public <T> ScanResultPage<T> scanPage(Class<T> clazz, DynamoDBScanExpression scanExpression) {
         return scanPage(clazz, scanExpression, config);
@@ -76,6 +76,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static com.amazonaws.services.dynamodbv2.model.KeyType.HASH;
 import static com.amazonaws.services.dynamodbv2.model.KeyType.RANGE;
@@ -202,6 +204,10 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
 
     /** The max number of items allowed in a BatchWrite request */
     static final int MAX_ITEMS_PER_BATCH = 25;
+
+    /** The max number of keys allowed in a BatchGetItem request */
+    static final int MAX_KEYS_PER_BATCH_GET = 100;
+
     /**
      * This retry count is applicable only when every batch get item request
      * results in no data retrieved from server and the un processed keys is
@@ -1084,12 +1090,77 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
                                         Iterable<? extends Object> objectsToDelete,
                                         DynamoDBMapperConfig config) {
         config = mergeConfig(config);
+        if ( !config.getBatchConcurrency().isSequential() ) {
+            return await(batchWriteAsync(objectsToWrite, objectsToDelete, config));
+        }
 
         List<FailedBatch> totalFailedBatches = new LinkedList<FailedBatch>();
 
+        List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
+        StringListMap<WriteRequest> requestItems =
+                toWriteRequests(objectsToWrite, objectsToDelete, config, inMemoryUpdates);
+
+        // Break into chunks of 25 items and make service requests to DynamoDB
+        for (final StringListMap<WriteRequest> batch : requestItems.subMaps(MAX_ITEMS_PER_BATCH, true)) {
+            List<FailedBatch> failedBatches = writeOneBatch(batch, config.getBatchWriteRetryStrategy());
+            if (failedBatches != null) {
+                totalFailedBatches.addAll(failedBatches);
+
+                // If contains throttling exception, we do a backoff
+                if (containsThrottlingException(failedBatches)) {
+                    pause(config.getBatchWriteRetryStrategy().getDelayBeforeRetryUnprocessedItems(
+                            Collections.unmodifiableMap(batch), 0));
+                }
+            }
+        }
+
+        // Once the entire batch is processed, update assigned keys in memory
+        for ( ValueUpdate update : inMemoryUpdates ) {
+            update.apply();
+        }
+
+        return totalFailedBatches;
+    }
+
+    @Override
+    public Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                                     Iterable<? extends Object> objectsToDelete,
+                                                     DynamoDBMapperConfig config) {
+        config = mergeConfig(config);
+
+        final List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
+        StringListMap<WriteRequest> requestItems =
+                toWriteRequests(objectsToWrite, objectsToDelete, config, inMemoryUpdates);
+
+        return new ParallelBatchWriteTask(
+                db,
+                requestItems.subMaps(MAX_ITEMS_PER_BATCH, true),
+                config.getBatchWriteRetryStrategy(),
+                config.getBatchConcurrency(),
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        // Once the entire batch is processed, update assigned keys in memory
+                        for ( ValueUpdate update : inMemoryUpdates ) {
+                            update.apply();
+                        }
+                    }
+                }).start();
+    }
+
+    /**
+     * Converts the objects to write and delete into write requests grouped by
+     * table name, recording any auto-generated values to be applied once the
+     * items have been written.
+     */
+    private StringListMap<WriteRequest> toWriteRequests(
+            Iterable<? extends Object> objectsToWrite,
+            Iterable<? extends Object> objectsToDelete,
+            DynamoDBMapperConfig config,
+            List<ValueUpdate> inMemoryUpdates) {
+
         StringListMap<WriteRequest> requestItems = new StringListMap<WriteRequest>();
 
-        List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
         for ( Object toWrite : objectsToWrite ) {
             Class<Object> clazz = (Class<Object>)toWrite.getClass();
             String tableName = getTableName(clazz, toWrite, config);
@@ -1132,26 +1203,7 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
             requestItems.add(tableName, new WriteRequest(new DeleteRequest(key)));
         }
 
-        // Break into chunks of 25 items and make service requests to DynamoDB
-        for (final StringListMap<WriteRequest> batch : requestItems.subMaps(MAX_ITEMS_PER_BATCH, true)) {
-            List<FailedBatch> failedBatches = writeOneBatch(batch, config.getBatchWriteRetryStrategy());
-            if (failedBatches != null) {
-                totalFailedBatches.addAll(failedBatches);
-
-                // If contains throttling exception, we do a backoff
-                if (containsThrottlingException(failedBatches)) {
-                    pause(config.getBatchWriteRetryStrategy().getDelayBeforeRetryUnprocessedItems(
-                            Collections.unmodifiableMap(batch), 0));
-                }
-            }
-        }
-
-        // Once the entire batch is processed, update assigned keys in memory
-        for ( ValueUpdate update : inMemoryUpdates ) {
-            update.apply();
-        }
-
-        return totalFailedBatches;
+        return requestItems;
     }
 
     /**
@@ -1254,15 +1306,50 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
     @Override
     public Map<String, List<Object>> batchLoad(Iterable<? extends Object> itemsToGet, DynamoDBMapperConfig config) {
         config = mergeConfig(config);
-        boolean consistentReads = (config.getConsistentReads() == ConsistentReads.CONSISTENT);
+        if ( !config.getBatchConcurrency().isSequential() ) {
+            return await(batchLoadAsync(itemsToGet, config));
+        }
 
         if (itemsToGet == null) {
             return new HashMap<String, List<Object>>();
         }
 
-        Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
         Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
         Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+
+        for ( Map<String, KeysAndAttributes> requestItems : toBatchGetRequests(itemsToGet, classesByTableName, config) ) {
+            processBatchGetRequest(classesByTableName, requestItems, resultSet, config);
+        }
+
+        return resultSet;
+    }
+
+    @Override
+    public Future<Map<String, List<Object>>> batchLoadAsync(Iterable<? extends Object> itemsToGet,
+                                                            DynamoDBMapperConfig config) {
+        config = mergeConfig(config);
+
+        Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
+        List<Map<String, KeysAndAttributes>> batches = itemsToGet == null
+                ? Collections.<Map<String, KeysAndAttributes>>emptyList()
+                : toBatchGetRequests(itemsToGet, classesByTableName, config);
+
+        return new ParallelBatchLoadTask(this, classesByTableName, batches, config).start();
+    }
+
+    /**
+     * Converts the key objects into BatchGetItem request items of at most 100
+     * keys each, recording the class mapped to each table.
+     */
+    private List<Map<String, KeysAndAttributes>> toBatchGetRequests(
+            Iterable<? extends Object> itemsToGet,
+            Map<String, Class<?>> classesByTableName,
+            DynamoDBMapperConfig config) {
+
+        boolean consistentReads = (config.getConsistentReads() == ConsistentReads.CONSISTENT);
+
+        List<Map<String, KeysAndAttributes>> batches = new ArrayList<Map<String, KeysAndAttributes>>();
+        Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
         int count = 0;
 
         for ( Object keyObject : itemsToGet ) {
@@ -1282,18 +1369,18 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
             requestItems.get(tableName).getKeys().add(model.convertKey(keyObject));
 
             // Reach the maximum number which can be handled in a single batchGet
-            if ( ++count == 100 ) {
-                processBatchGetRequest(classesByTableName, requestItems, resultSet, config);
-                requestItems.clear();
+            if ( ++count == MAX_KEYS_PER_BATCH_GET ) {
+                batches.add(requestItems);
+                requestItems = new HashMap<String, KeysAndAttributes>();
                 count = 0;
             }
         }
 
         if ( count > 0 ) {
-            processBatchGetRequest(classesByTableName, requestItems, resultSet, config);
+            batches.add(requestItems);
         }
 
-        return resultSet;
+        return batches;
     }
 
     @Override
@@ -1316,7 +1403,7 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
     /**
      * @param config never null
      */
-    private void processBatchGetRequest(
+    void processBatchGetRequest(
             final Map<String, Class<?>> classesByTableName,
             final Map<String, KeysAndAttributes> requestItems,
             final Map<String, List<Object>> resultSet,
@@ -1472,6 +1559,20 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         return new PaginatedParallelScanList<T>(this, clazz, db, parallelScanTask, config.getPaginationLoadingStrategy(), config);
     }
 
+    @Override
+    public <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                            DynamoDBScanExpression scanExpression,
+                                                            int totalSegments,
+                                                            ParallelScanOptions options,
+                                                            DynamoDBMapperConfig config) {
+        config = mergeConfig(config);
+
+        List<ScanRequest> parallelScanRequests = createParallelScanRequestsFromExpression(clazz, scanExpression, totalSegments, config);
+
+        return new ParallelScanIterator<T>(this, clazz, db, parallelScanRequests,
+                options == null ? new ParallelScanOptions() : options, config);
+    }
+
     @Override
     public <T> ScanResultPage<T> scanPage(Class<T> clazz,
                                           DynamoDBScanExpression scanExpression,
@@ -2216,17 +2317,17 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
             return exception;
         }
 
-        private final boolean isRequestEntityTooLarge() {
+        final boolean isRequestEntityTooLarge() {
             return exception instanceof AmazonServiceException &&
                 RetryUtils.isRequestEntityTooLargeException((AmazonServiceException)exception);
         }
 
-        private final boolean isThrottling() {
+        final boolean isThrottling() {
             return exception instanceof AmazonServiceException &&
                 RetryUtils.isThrottlingException((AmazonServiceException)exception);
         }
 
-        private final int size() {
+        final int size() {
             int size = 0;
             for (final List<WriteRequest> values : unprocessedItems.values()) {
                 size += values.size();
@@ -2284,6 +2385,28 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         }
     }
 
+    /**
+     * Waits for the result of an asynchronous batch operation, rethrowing the
+     * exception it failed with.
+     */
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SdkClientException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SdkClientException(cause.getMessage(), cause);
+        }
+    }
+
     public static final class BatchGetItemException extends SdkClientException {
         private final Map<String, KeysAndAttributes> unprocessedKeys;
         private final Map<String, List<Object>> responses;
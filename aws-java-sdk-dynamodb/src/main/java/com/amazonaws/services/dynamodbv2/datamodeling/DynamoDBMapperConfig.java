@@ -17,9 +17,12 @@ package com.amazonaws.services.dynamodbv2.datamodeling;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
 import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Immutable configuration object for service call behavior. An instance of this
@@ -52,6 +55,7 @@ public class DynamoDBMapperConfig {
      * @see DefaultTableNameResolver#INSTANCE
      * @see DefaultBatchWriteRetryStrategy#INSTANCE
      * @see DefaultBatchLoadRetryStrategy#INSTANCE
+     * @see BatchConcurrency#SEQUENTIAL
      * @see DynamoDBTypeConverterFactory#standard
      * @see ConversionSchemas#DEFAULT
      */
@@ -62,6 +66,7 @@ public class DynamoDBMapperConfig {
         .withTableNameResolver(DefaultTableNameResolver.INSTANCE)
         .withBatchWriteRetryStrategy(DefaultBatchWriteRetryStrategy.INSTANCE)
         .withBatchLoadRetryStrategy(DefaultBatchLoadRetryStrategy.INSTANCE)
+        .withBatchConcurrency(BatchConcurrency.SEQUENTIAL)
         .withTypeConverterFactory(DynamoDBTypeConverterFactory.standard())
         .withConversionSchema(ConversionSchemas.DEFAULT)
         .build();
@@ -88,6 +93,7 @@ public class DynamoDBMapperConfig {
         private ConversionSchema conversionSchema;
         private BatchWriteRetryStrategy batchWriteRetryStrategy;
         private BatchLoadRetryStrategy batchLoadRetryStrategy;
+        private BatchConcurrency batchConcurrency;
         private DynamoDBTypeConverterFactory typeConverterFactory;
 
         /**
@@ -108,6 +114,7 @@ public class DynamoDBMapperConfig {
                 conversionSchema = DEFAULT.getConversionSchema();
                 batchWriteRetryStrategy = DEFAULT.getBatchWriteRetryStrategy();
                 batchLoadRetryStrategy = DEFAULT.getBatchLoadRetryStrategy();
+                batchConcurrency = DEFAULT.getBatchConcurrency();
             }
         }
 
@@ -126,6 +133,7 @@ public class DynamoDBMapperConfig {
             if (o.conversionSchema != null) conversionSchema = o.conversionSchema;
             if (o.batchWriteRetryStrategy != null) batchWriteRetryStrategy = o.batchWriteRetryStrategy;
             if (o.batchLoadRetryStrategy != null) batchLoadRetryStrategy = o.batchLoadRetryStrategy;
+            if (o.batchConcurrency != null) batchConcurrency = o.batchConcurrency;
             if (o.typeConverterFactory != null) typeConverterFactory = o.typeConverterFactory;
             return this;
         }
@@ -385,6 +393,30 @@ public class DynamoDBMapperConfig {
             return this;
         }
 
+        /**
+         * @return the current BatchConcurrency
+         */
+        public BatchConcurrency getBatchConcurrency() {
+            return batchConcurrency;
+        }
+
+        /**
+         * @param value the new BatchConcurrency
+         */
+        public void setBatchConcurrency(BatchConcurrency value) {
+            this.batchConcurrency = value;
+        }
+
+        /**
+         * @param value the new BatchConcurrency
+         * @return this builder
+         * @see BatchConcurrency
+         */
+        public Builder withBatchConcurrency(BatchConcurrency value) {
+            setBatchConcurrency(value);
+            return this;
+        }
+
         /**
          * @return the current type-converter factory
          */
@@ -885,6 +917,148 @@ public class DynamoDBMapperConfig {
         }
     }
 
+    /**
+     * Controls how many batch requests {@link DynamoDBMapper#batchWrite} and
+     * {@link DynamoDBMapper#batchLoad} keep in flight at once, and optionally
+     * limits the rate at which items are written to individual tables.
+     * <p>
+     * By default the mapper sends one batch at a time. With more than one
+     * concurrent batch, unprocessed items returned by BatchWriteItem are
+     * re-queued behind the other pending batches (after the delay given by the
+     * {@link BatchWriteRetryStrategy}) instead of blocking them, so bulk writes
+     * can use the full provisioned throughput of a table.
+     *
+     * <pre class="brush: java">
+     * DynamoDBMapperConfig config = DynamoDBMapperConfig.builder()
+     *     .withBatchConcurrency(BatchConcurrency.withMaxConcurrentBatches(8)
+     *         .withWriteCapacityUnits("MyTable", 1000))
+     *     .build();
+     * </pre>
+     * <p>
+     * Write rate limits are held by this object, so every operation using the
+     * same {@code BatchConcurrency} instance draws from the same per-table
+     * budget.
+     *
+     * @see DynamoDBMapper#batchWriteAsync(Iterable, Iterable, DynamoDBMapperConfig)
+     * @see DynamoDBMapper#batchLoadAsync(Iterable, DynamoDBMapperConfig)
+     */
+    public static final class BatchConcurrency {
+
+        /**
+         * Sends one batch at a time, without any write rate limit.
+         */
+        public static final BatchConcurrency SEQUENTIAL = new BatchConcurrency(
+                1, null, Collections.<String, TokenBucketRateLimiter>emptyMap());
+
+        private final int maxConcurrentBatches;
+        private final ExecutorService executorService;
+        private final Map<String, TokenBucketRateLimiter> writeLimiters;
+
+        /**
+         * Returns a new {@link BatchConcurrency} object that keeps up to the
+         * given number of batch requests in flight.
+         *
+         * @param maxConcurrentBatches
+         *            the maximum number of concurrent BatchWriteItem or
+         *            BatchGetItem requests per operation; must be at least 1.
+         */
+        public static BatchConcurrency withMaxConcurrentBatches(int maxConcurrentBatches) {
+            if (maxConcurrentBatches < 1) {
+                throw new IllegalArgumentException(
+                        "maxConcurrentBatches must be at least 1: " + maxConcurrentBatches);
+            }
+            return new BatchConcurrency(maxConcurrentBatches, null,
+                    Collections.<String, TokenBucketRateLimiter>emptyMap());
+        }
+
+        private BatchConcurrency(int maxConcurrentBatches,
+                                 ExecutorService executorService,
+                                 Map<String, TokenBucketRateLimiter> writeLimiters) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            this.executorService = executorService;
+            this.writeLimiters = writeLimiters;
+        }
+
+        /**
+         * Returns a copy of this object that runs batch requests on the given
+         * executor rather than on a thread pool created for each operation.
+         * The executor is never shut down by the mapper.
+         */
+        public BatchConcurrency withExecutorService(ExecutorService executorService) {
+            return new BatchConcurrency(maxConcurrentBatches, executorService, writeLimiters);
+        }
+
+        /**
+         * Returns a copy of this object that writes to the given table at no
+         * more than the given number of write capacity units per second,
+         * allowing bursts of up to one second's worth of capacity. Each put or
+         * delete request is counted as one unit, which matches the consumed
+         * capacity of items up to 1 KB.
+         *
+         * @param tableName
+         *            the resolved name of the table, after any
+         *            {@link TableNameOverride} has been applied.
+         * @param writeCapacityUnits
+         *            the write capacity units per second to use, typically
+         *            the provisioned write capacity of the table.
+         */
+        public BatchConcurrency withWriteCapacityUnits(String tableName, double writeCapacityUnits) {
+            Map<String, TokenBucketRateLimiter> limiters =
+                    new LinkedHashMap<String, TokenBucketRateLimiter>(writeLimiters);
+            limiters.put(tableName, new TokenBucketRateLimiter(writeCapacityUnits));
+            return new BatchConcurrency(maxConcurrentBatches, executorService,
+                    Collections.unmodifiableMap(limiters));
+        }
+
+        /**
+         * Returns the maximum number of batch requests kept in flight by a
+         * single operation.
+         */
+        public int getMaxConcurrentBatches() {
+            return maxConcurrentBatches;
+        }
+
+        /**
+         * Returns the executor used to send batch requests, or null if a
+         * thread pool is created for each operation.
+         */
+        public ExecutorService getExecutorService() {
+            return executorService;
+        }
+
+        /**
+         * Returns the write capacity units per second allowed for the given
+         * table, or null if writes to the table are not rate limited.
+         */
+        public Double getWriteCapacityUnits(String tableName) {
+            TokenBucketRateLimiter limiter = writeLimiters.get(tableName);
+            return limiter == null ? null : limiter.getPermitsPerSecond();
+        }
+
+        /**
+         * Returns the write rate limiter of the given table, or null if none.
+         */
+        TokenBucketRateLimiter getWriteLimiter(String tableName) {
+            return writeLimiters.get(tableName);
+        }
+
+        /**
+         * Returns true if batches are sent one at a time without rate limits,
+         * which is how the mapper behaves when no concurrency is configured.
+         */
+        boolean isSequential() {
+            return maxConcurrentBatches == 1 && writeLimiters.isEmpty();
+        }
+
+        /**
+         * Returns a config that only sets this batch concurrency. Built on
+         * demand since {@link #SEQUENTIAL} is part of {@link DynamoDBMapperConfig#DEFAULT}.
+         */
+        public final DynamoDBMapperConfig config() {
+            return builder().withBatchConcurrency(this).build();
+        }
+    }
+
     private final SaveBehavior saveBehavior;
     private final ConsistentReads consistentReads;
     private final TableNameOverride tableNameOverride;
@@ -895,6 +1069,7 @@ public class DynamoDBMapperConfig {
     private final ConversionSchema conversionSchema;
     private final BatchWriteRetryStrategy batchWriteRetryStrategy;
     private final BatchLoadRetryStrategy batchLoadRetryStrategy;
+    private final BatchConcurrency batchConcurrency;
     private final DynamoDBTypeConverterFactory typeConverterFactory;
 
     /**
@@ -911,6 +1086,7 @@ public class DynamoDBMapperConfig {
         this.conversionSchema = builder.conversionSchema;
         this.batchWriteRetryStrategy = builder.batchWriteRetryStrategy;
         this.batchLoadRetryStrategy = builder.batchLoadRetryStrategy;
+        this.batchConcurrency = builder.batchConcurrency;
         this.typeConverterFactory = builder.typeConverterFactory;
     }
 
@@ -1022,6 +1198,7 @@ public class DynamoDBMapperConfig {
         this.conversionSchema = conversionSchema;
         this.batchWriteRetryStrategy = batchWriteRetryStrategy;
         this.batchLoadRetryStrategy = batchLoadRetryStrategy;
+        this.batchConcurrency = DEFAULT.getBatchConcurrency();
         this.typeConverterFactory = null;
     }
 
@@ -1214,6 +1391,13 @@ public class DynamoDBMapperConfig {
         return batchWriteRetryStrategy;
     }
 
+    /**
+     * @return the BatchConcurrency for this config object
+     */
+    public BatchConcurrency getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
     /**
      * @return the current type-converter factory
      */
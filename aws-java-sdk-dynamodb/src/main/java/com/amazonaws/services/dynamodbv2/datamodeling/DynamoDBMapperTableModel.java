@@ -237,7 +237,7 @@ public final class DynamoDBMapperTableModel<T> implements DynamoDBTypeConverter<
      */
     @Override
     public Map<String,AttributeValue> convert(final T object) {
-        final Map<String,AttributeValue> map = new LinkedHashMap<String,AttributeValue>();
+        final Map<String,AttributeValue> map = new LinkedHashMap<String,AttributeValue>(fields.size() * 4 / 3 + 1);
         for (final DynamoDBMapperFieldModel<T,Object> field : fields()) {
             try {
                 final AttributeValue value = field.getAndConvert(object);
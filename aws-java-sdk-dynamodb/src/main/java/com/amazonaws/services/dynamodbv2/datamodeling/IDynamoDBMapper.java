@@ -29,6 +29,7 @@ import com.amazonaws.services.s3.model.Region;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * Interface for DynamoDBMapper.
@@ -336,6 +337,32 @@ public interface IDynamoDBMapper {
                                  Iterable<? extends Object> objectsToDelete,
                                  DynamoDBMapperConfig config);
 
+    /**
+     * Saves and deletes the objects given using one or more calls to the
+     * {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API, without waiting for the
+     * requests to complete. Up to {@link DynamoDBMapperConfig.BatchConcurrency#getMaxConcurrentBatches()}
+     * batches are sent at once, and UnprocessedItems are retried as directed by the
+     * {@link DynamoDBMapperConfig#getBatchWriteRetryStrategy()} without holding up the other
+     * batches. The objects are converted before this method returns; auto-generated values are
+     * assigned to them before the returned future completes.
+     *
+     * @param objectsToWrite
+     *            A list of objects to save to DynamoDB. <b>No version checks are performed</b>.
+     * @param objectsToDelete
+     *            A list of objects to delete from DynamoDB. <b>No version checks are performed</b>.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getBatchWriteRetryStrategy()} and
+     *            {@link DynamoDBMapperConfig#getBatchConcurrency()} are considered.
+     * @return A future of the failed batches, which include the unprocessed items and the
+     *         exceptions causing the failure, in no particular order.
+     * @see #batchWrite(Iterable, Iterable, DynamoDBMapperConfig)
+     * @see DynamoDBMapperConfig.BatchConcurrency
+     */
+    Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                              Iterable<? extends Object> objectsToDelete,
+                                              DynamoDBMapperConfig config);
+
     /**
      * Retrieves multiple items from multiple tables using their primary keys.
      *
@@ -367,6 +394,28 @@ public interface IDynamoDBMapper {
      */
     Map<String, List<Object>> batchLoad(Iterable<? extends Object> itemsToGet, DynamoDBMapperConfig config);
 
+    /**
+     * Retrieves multiple items from multiple tables using their primary keys, without waiting
+     * for the requests to complete. Up to
+     * {@link DynamoDBMapperConfig.BatchConcurrency#getMaxConcurrentBatches()} batches of keys are
+     * requested at once.
+     *
+     * @param itemsToGet
+     *            Key objects, corresponding to the class to fetch, with their primary key values
+     *            set.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getConsistentReads()} and
+     *            {@link DynamoDBMapperConfig#getBatchConcurrency()} are considered.
+     * @return A future of the loaded objects, keyed by table name. The future fails with a
+     *         {@link DynamoDBMapper.BatchGetItemException} if all the requested items are not
+     *         processed within the maximum number of retries.
+     * @see #batchLoad(Iterable, DynamoDBMapperConfig)
+     * @see DynamoDBMapperConfig.BatchConcurrency
+     */
+    Future<Map<String, List<Object>>> batchLoadAsync(Iterable<? extends Object> itemsToGet,
+                                                     DynamoDBMapperConfig config);
+
     /**
      * Retrieves the attributes for multiple items from multiple tables using their primary keys.
      * {@link AmazonDynamoDB#batchGetItem(BatchGetItemRequest)} API.
@@ -489,6 +538,54 @@ public interface IDynamoDBMapper {
                                                   int totalSegments,
                                                   DynamoDBMapperConfig config);
 
+    /**
+     * Scans through an Amazon DynamoDB table on logically partitioned segments in parallel and
+     * streams the matching results, using the default configuration.
+     *
+     * @see DynamoDBMapper#parallelScanIterator(Class, DynamoDBScanExpression, int,
+     *      ParallelScanOptions, DynamoDBMapperConfig)
+     */
+    <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                     DynamoDBScanExpression scanExpression,
+                                                     int totalSegments,
+                                                     ParallelScanOptions options);
+
+    /**
+     * Scans through an Amazon DynamoDB table on logically partitioned segments in parallel and
+     * streams the matching results through an iterator. Unlike
+     * {@link #parallelScan(Class, DynamoDBScanExpression, int, DynamoDBMapperConfig)}, each segment
+     * is scanned independently of the others and only a bounded number of pages is held in
+     * memory, which makes it suitable for scanning tables of any size. Scanning starts when this
+     * method is called.
+     * <p>
+     * The options set the executor to scan on, the number of pages to buffer, a read capacity
+     * limit, and a checkpoint from an earlier scan to resume from.
+     *
+     * @param <T>
+     *            The type of the objects being returned.
+     * @param clazz
+     *            The class annotated with DynamoDB annotations describing how to store the object
+     *            data in Amazon DynamoDB.
+     * @param scanExpression
+     *            Details on how to run the scan, including any filters to apply to limit results.
+     * @param totalSegments
+     *            Number of total parallel scan segments. <b>Range: </b>1 - 4096
+     * @param options
+     *            The streaming options, or null for the defaults.
+     * @param config
+     *            The configuration to use for this scan, which overrides the default provided at
+     *            object construction.
+     * @return An iterator over the objects constructed from the results of the scan, which
+     *         should be closed if it is not iterated to the end.
+     * @see ParallelScanIterator
+     * @see ParallelScanOptions
+     */
+    <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                     DynamoDBScanExpression scanExpression,
+                                                     int totalSegments,
+                                                     ParallelScanOptions options,
+                                                     DynamoDBMapperConfig config);
+
     /**
      * Scans through an Amazon DynamoDB table and returns a single page of matching results. The
      * table to scan is determined by looking at the annotations on the specified class, which
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2011-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.BatchGetItemException;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Loads the batches of a single batch load with a bounded number of
+ * BatchGetItem requests in flight.
+ * <p>
+ * Each worker takes the next batch and loads it, retrying unprocessed keys as
+ * directed by the {@link DynamoDBMapperConfig.BatchLoadRetryStrategy}, so a
+ * batch waiting to retry only holds up its own worker. Results are merged in
+ * batch order once every batch has been loaded. If any batch still has
+ * unprocessed keys after its retries, the future fails with a single
+ * {@link BatchGetItemException} holding the unprocessed keys of all batches and
+ * every item that was loaded.
+ */
+@SdkInternalApi
+final class ParallelBatchLoadTask {
+
+    private final DynamoDBMapper mapper;
+    private final Map<String, Class<?>> classesByTableName;
+    private final List<Map<String, KeysAndAttributes>> batches;
+    private final DynamoDBMapperConfig config;
+
+    private final AtomicInteger nextBatch = new AtomicInteger();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicReferenceArray<Map<String, List<Object>>> resultSets;
+    private final AtomicReferenceArray<RuntimeException> failures;
+    private final FutureTask<Map<String, List<Object>>> result;
+
+    private volatile Exception abortCause;
+
+    ParallelBatchLoadTask(DynamoDBMapper mapper,
+                          Map<String, Class<?>> classesByTableName,
+                          List<Map<String, KeysAndAttributes>> batches,
+                          DynamoDBMapperConfig config) {
+        this.mapper = mapper;
+        this.classesByTableName = classesByTableName;
+        this.batches = batches;
+        this.config = config;
+        this.resultSets = new AtomicReferenceArray<Map<String, List<Object>>>(batches.size());
+        this.failures = new AtomicReferenceArray<RuntimeException>(batches.size());
+        this.result = new FutureTask<Map<String, List<Object>>>(
+                new Callable<Map<String, List<Object>>>() {
+                    @Override
+                    public Map<String, List<Object>> call() {
+                        return mergeResults();
+                    }
+                });
+    }
+
+    /**
+     * Starts the workers and returns a future of the loaded objects, keyed by
+     * table name.
+     */
+    Future<Map<String, List<Object>>> start() {
+        int workers = Math.min(config.getBatchConcurrency().getMaxConcurrentBatches(), batches.size());
+        if (workers == 0) {
+            result.run();
+            return result;
+        }
+
+        ExecutorService executorService = config.getBatchConcurrency().getExecutorService();
+        boolean ownExecutor = executorService == null;
+        if (ownExecutor) {
+            executorService = Executors.newFixedThreadPool(workers);
+        }
+
+        activeWorkers.set(workers);
+        int started = 0;
+        try {
+            for (; started < workers; started++) {
+                executorService.execute(new Worker());
+            }
+        } catch (RejectedExecutionException e) {
+            abortCause = e;
+            for (; started < workers; started++) {
+                workerExited();
+            }
+        } finally {
+            if (ownExecutor) {
+                executorService.shutdown();
+            }
+        }
+        return result;
+    }
+
+    private void workerExited() {
+        if (activeWorkers.decrementAndGet() == 0) {
+            result.run();
+        }
+    }
+
+    private Map<String, List<Object>> mergeResults() {
+        Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+        Map<String, KeysAndAttributes> unprocessedKeys = new HashMap<String, KeysAndAttributes>();
+        String message = null;
+
+        for (int i = 0; i < batches.size(); i++) {
+            RuntimeException failure = failures.get(i);
+            if (failure instanceof BatchGetItemException) {
+                BatchGetItemException e = (BatchGetItemException) failure;
+                message = e.getMessage();
+                for (Map.Entry<String, KeysAndAttributes> entry : e.getUnprocessedKeys().entrySet()) {
+                    KeysAndAttributes keys = unprocessedKeys.get(entry.getKey());
+                    if (keys == null) {
+                        keys = entry.getValue().clone().withKeys(
+                                new ArrayList<Map<String, AttributeValue>>());
+                        unprocessedKeys.put(entry.getKey(), keys);
+                    }
+                    keys.getKeys().addAll(entry.getValue().getKeys());
+                }
+            } else if (failure != null) {
+                throw failure;
+            }
+
+            Map<String, List<Object>> batchResults = resultSets.get(i);
+            if (batchResults == null) {
+                // Only left unset when the workers were interrupted or could not be started
+                throw new SdkClientException(
+                        "Batch load was interrupted before all keys were loaded", abortCause);
+            }
+            for (Map.Entry<String, List<Object>> entry : batchResults.entrySet()) {
+                List<Object> objects = resultSet.get(entry.getKey());
+                if (objects == null) {
+                    objects = new LinkedList<Object>();
+                    resultSet.put(entry.getKey(), objects);
+                }
+                objects.addAll(entry.getValue());
+            }
+        }
+
+        if (message != null) {
+            throw new BatchGetItemException(message, unprocessedKeys, resultSet);
+        }
+        return resultSet;
+    }
+
+    private final class Worker implements Runnable {
+        @Override
+        public void run() {
+            try {
+                int i;
+                while (!result.isCancelled()
+                        && !Thread.currentThread().isInterrupted()
+                        && (i = nextBatch.getAndIncrement()) < batches.size()) {
+                    Map<String, List<Object>> batchResults = new HashMap<String, List<Object>>();
+                    try {
+                        mapper.processBatchGetRequest(classesByTableName, batches.get(i), batchResults, config);
+                    } catch (RuntimeException e) {
+                        failures.set(i, e);
+                    }
+                    resultSets.set(i, batchResults);
+                }
+            } finally {
+                workerExited();
+            }
+        }
+    }
+}
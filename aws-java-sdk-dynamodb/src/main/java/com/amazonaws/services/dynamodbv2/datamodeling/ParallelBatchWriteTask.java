@@ -0,0 +1,296 @@
+/*
+ * Copyright 2011-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.StringListMap;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchConcurrency;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the batches of a single batch write with a bounded number of
+ * BatchWriteItem requests in flight.
+ * <p>
+ * A fixed number of workers take batches from a shared delay queue. Unprocessed
+ * items returned by the service are put back on the queue with the delay given
+ * by the {@link BatchWriteRetryStrategy}, so a retrying batch never holds up
+ * the batches behind it. Batches rejected as too large are split in half and
+ * re-queued, and a throttled batch is reported as failed after which its worker
+ * backs off, as in the sequential implementation. Writes to tables with a
+ * configured write capacity first acquire one permit per request from that
+ * table's {@link TokenBucketRateLimiter}.
+ * <p>
+ * The returned future completes once every batch has been written or has
+ * failed; failed batches are reported in no particular order.
+ */
+@SdkInternalApi
+final class ParallelBatchWriteTask {
+
+    /** How long an idle worker waits for a batch before re-checking for completion. */
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final AmazonDynamoDB dynamo;
+    private final BatchWriteRetryStrategy retryStrategy;
+    private final BatchConcurrency concurrency;
+
+    private final DelayQueue<PendingBatch> queue = new DelayQueue<PendingBatch>();
+
+    /** Batches queued or in flight. */
+    private final AtomicInteger pendingBatches = new AtomicInteger();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    private final List<FailedBatch> failedBatches =
+            Collections.synchronizedList(new ArrayList<FailedBatch>());
+    private final FutureTask<List<FailedBatch>> result;
+
+    private volatile Exception abortCause;
+
+    /**
+     * @param onCompletion
+     *            run once all batches have been processed, before the result
+     *            becomes available.
+     */
+    ParallelBatchWriteTask(AmazonDynamoDB dynamo,
+                           List<StringListMap<WriteRequest>> batches,
+                           BatchWriteRetryStrategy retryStrategy,
+                           BatchConcurrency concurrency,
+                           final Runnable onCompletion) {
+        this.dynamo = dynamo;
+        this.retryStrategy = retryStrategy;
+        this.concurrency = concurrency;
+        this.result = new FutureTask<List<FailedBatch>>(new Callable<List<FailedBatch>>() {
+            @Override
+            public List<FailedBatch> call() {
+                abandonPendingBatches();
+                onCompletion.run();
+                synchronized (failedBatches) {
+                    return new ArrayList<FailedBatch>(failedBatches);
+                }
+            }
+        });
+
+        for (StringListMap<WriteRequest> batch : batches) {
+            queue.add(newBatch(batch));
+        }
+        pendingBatches.set(batches.size());
+    }
+
+    /**
+     * Starts the workers and returns a future of the failed batches.
+     */
+    Future<List<FailedBatch>> start() {
+        int workers = Math.min(concurrency.getMaxConcurrentBatches(), pendingBatches.get());
+        if (workers == 0) {
+            result.run();
+            return result;
+        }
+
+        ExecutorService executorService = concurrency.getExecutorService();
+        boolean ownExecutor = executorService == null;
+        if (ownExecutor) {
+            executorService = Executors.newFixedThreadPool(workers);
+        }
+
+        activeWorkers.set(workers);
+        int started = 0;
+        try {
+            for (; started < workers; started++) {
+                executorService.execute(new Worker());
+            }
+        } catch (RejectedExecutionException e) {
+            abortCause = e;
+            for (; started < workers; started++) {
+                workerExited();
+            }
+        } finally {
+            if (ownExecutor) {
+                executorService.shutdown();
+            }
+        }
+        return result;
+    }
+
+    private PendingBatch newBatch(Map<String, List<WriteRequest>> items) {
+        int maxRetries = retryStrategy.getMaxRetryOnUnprocessedItems(
+                Collections.unmodifiableMap(items));
+        return new PendingBatch(items, 0, maxRetries, System.nanoTime());
+    }
+
+    /**
+     * Sends one batch and either completes it, or re-queues what is left of it.
+     *
+     * @return the time in milliseconds the worker should back off before
+     *         sending its next batch.
+     */
+    private long write(PendingBatch batch) throws InterruptedException {
+        for (Map.Entry<String, List<WriteRequest>> entry : batch.items.entrySet()) {
+            TokenBucketRateLimiter limiter = concurrency.getWriteLimiter(entry.getKey());
+            if (limiter != null) {
+                limiter.acquire(entry.getValue().size());
+            }
+        }
+
+        BatchWriteItemResult batchWriteItemResult;
+        try {
+            batchWriteItemResult = dynamo.batchWriteItem(DynamoDBMapper.applyBatchOperationUserAgent(
+                    new BatchWriteItemRequest().withRequestItems(batch.items)));
+        } catch (Exception e) {
+            FailedBatch failedBatch = newFailedBatch(batch.items, e);
+
+            // If only one item is left, the item itself exceeds the limit
+            if (failedBatch.isRequestEntityTooLarge() && failedBatch.size() > 1) {
+                StringListMap<WriteRequest> items = new StringListMap<WriteRequest>();
+                items.putAll(batch.items);
+                List<PendingBatch> halves = new ArrayList<PendingBatch>(2);
+                for (StringListMap<WriteRequest> half : items.subMaps(2, false)) {
+                    halves.add(newBatch(half));
+                }
+                pendingBatches.addAndGet(halves.size() - 1);
+                queue.addAll(halves);
+                return 0;
+            }
+
+            long backoff = failedBatch.isThrottling()
+                    ? retryStrategy.getDelayBeforeRetryUnprocessedItems(
+                            Collections.unmodifiableMap(batch.items), 0)
+                    : 0;
+            failedBatches.add(failedBatch);
+            pendingBatches.decrementAndGet();
+            return backoff;
+        }
+
+        Map<String, List<WriteRequest>> unprocessedItems = batchWriteItemResult.getUnprocessedItems();
+        if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+            pendingBatches.decrementAndGet();
+        } else if (batch.maxRetries >= 0 && batch.retries >= batch.maxRetries) {
+            failedBatches.add(newFailedBatch(unprocessedItems, null));
+            pendingBatches.decrementAndGet();
+        } else {
+            long delay = retryStrategy.getDelayBeforeRetryUnprocessedItems(
+                    Collections.unmodifiableMap(unprocessedItems), batch.retries);
+            queue.add(new PendingBatch(unprocessedItems, batch.retries + 1, batch.maxRetries,
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(delay, 0))));
+        }
+        return 0;
+    }
+
+    private void workerExited() {
+        if (activeWorkers.decrementAndGet() == 0) {
+            result.run();
+        }
+    }
+
+    /**
+     * Reports any batches left behind by interrupted workers as failed.
+     */
+    private void abandonPendingBatches() {
+        PendingBatch[] abandoned = queue.toArray(new PendingBatch[0]);
+        queue.clear();
+        for (PendingBatch batch : abandoned) {
+            failedBatches.add(newFailedBatch(batch.items, new SdkClientException(
+                    "Batch write was interrupted before the items were written", abortCause)));
+        }
+    }
+
+    private static FailedBatch newFailedBatch(Map<String, List<WriteRequest>> items, Exception e) {
+        FailedBatch failedBatch = new FailedBatch();
+        failedBatch.setUnprocessedItems(items);
+        failedBatch.setException(e);
+        return failedBatch;
+    }
+
+    private final class Worker implements Runnable {
+        @Override
+        public void run() {
+            try {
+                while (pendingBatches.get() > 0 && !result.isCancelled()) {
+                    PendingBatch batch = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (batch == null) {
+                        continue;
+                    }
+                    long backoff;
+                    try {
+                        backoff = write(batch);
+                    } catch (InterruptedException e) {
+                        queue.add(batch);
+                        throw e;
+                    } catch (RuntimeException e) {
+                        failedBatches.add(newFailedBatch(batch.items, e));
+                        pendingBatches.decrementAndGet();
+                        continue;
+                    }
+                    if (backoff > 0) {
+                        Thread.sleep(backoff);
+                    }
+                }
+            } catch (InterruptedException e) {
+                abortCause = e;
+                Thread.currentThread().interrupt();
+            } finally {
+                workerExited();
+            }
+        }
+    }
+
+    /**
+     * A batch of write requests waiting to be sent, possibly after a delay.
+     */
+    private static final class PendingBatch implements Delayed {
+        private final Map<String, List<WriteRequest>> items;
+        private final int retries;
+        private final int maxRetries;
+        private final long readyNanos;
+
+        private PendingBatch(Map<String, List<WriteRequest>> items, int retries, int maxRetries,
+                             long readyNanos) {
+            this.items = items;
+            this.retries = retries;
+            this.maxRetries = maxRetries;
+            this.readyNanos = readyNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            long diff = readyNanos - ((PendingBatch) other).readyNanos;
+            return diff < 0 ? -1 : diff > 0 ? 1 : 0;
+        }
+    }
+}
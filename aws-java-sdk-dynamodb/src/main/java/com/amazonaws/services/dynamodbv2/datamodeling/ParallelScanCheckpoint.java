@@ -0,0 +1,90 @@
+/*
+ * Copyright 2011-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The progress of a {@link ParallelScanIterator}: for each segment, either the
+ * key to continue the segment from, or whether the segment has been scanned to
+ * the end. A checkpoint only covers items that have been returned by the
+ * iterator, never items that were merely buffered, so a scan resumed from a
+ * checkpoint returns every item not yet returned (and possibly, for segments in
+ * progress, some items of the page being consumed when the checkpoint was
+ * taken).
+ * <p>
+ * Checkpoints are immutable and serializable, so they can be persisted and
+ * passed to {@link ParallelScanOptions#withCheckpoint(ParallelScanCheckpoint)}
+ * to resume an interrupted scan with the same number of segments.
+ */
+public final class ParallelScanCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int totalSegments;
+    private final HashMap<Integer, Map<String, AttributeValue>> exclusiveStartKeys;
+    private final BitSet completedSegments;
+
+    ParallelScanCheckpoint(int totalSegments,
+                           Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys,
+                           BitSet completedSegments) {
+        this.totalSegments = totalSegments;
+        this.exclusiveStartKeys = new HashMap<Integer, Map<String, AttributeValue>>(exclusiveStartKeys);
+        this.completedSegments = (BitSet) completedSegments.clone();
+    }
+
+    /**
+     * Returns the number of segments of the scan.
+     */
+    public int getTotalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the key after which the given segment should continue, or null
+     * if the segment has not been started or has been completed.
+     */
+    public Map<String, AttributeValue> getExclusiveStartKey(int segment) {
+        Map<String, AttributeValue> key = exclusiveStartKeys.get(segment);
+        return key == null ? null : Collections.unmodifiableMap(key);
+    }
+
+    /**
+     * Returns true if every item of the given segment has been returned.
+     */
+    public boolean isSegmentComplete(int segment) {
+        return completedSegments.get(segment);
+    }
+
+    /**
+     * Returns true if every segment has been scanned to the end.
+     */
+    public boolean isComplete() {
+        return completedSegments.cardinality() == totalSegments;
+    }
+
+    @Override
+    public String toString() {
+        return "{TotalSegments: " + totalSegments
+               + ", CompletedSegments: " + completedSegments
+               + ", ExclusiveStartKeys: " + exclusiveStartKeys + "}";
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2011-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams the results of a parallel scan with bounded memory. Each segment is
+ * scanned on its own thread, which converts every page it reads and hands it
+ * over through a bounded buffer; when the buffer is full the segments wait for
+ * the iterator to catch up, so a scan of any size holds only a few pages at a
+ * time. Items from different segments are interleaved in no particular order.
+ * <p>
+ * The progress of the scan is available at any time from
+ * {@link #getCheckpoint()}, which can be used to resume the scan later. An
+ * exception thrown while scanning a segment is rethrown by {@link #hasNext()}
+ * once the pages scanned before it have been returned; the other segments are
+ * then stopped.
+ * <p>
+ * Callers that stop iterating before the end of the scan should {@link #close()}
+ * the iterator to stop the segments that are still scanning.
+ *
+ * @param <T>
+ *            The type of objects returned by this iterator.
+ * @see DynamoDBMapper#parallelScanIterator(Class, DynamoDBScanExpression, int, ParallelScanOptions, DynamoDBMapperConfig)
+ */
+@NotThreadSafe
+public final class ParallelScanIterator<T> implements Iterator<T>, Closeable {
+
+    /** How long the iterator waits for a page before re-checking whether the scan has ended. */
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final DynamoDBMapper mapper;
+    private final Class<T> clazz;
+    private final AmazonDynamoDB dynamo;
+    private final DynamoDBMapperConfig config;
+    private final TokenBucketRateLimiter readLimiter;
+
+    private final BlockingQueue<Page<T>> pages;
+    private final List<Future<?>> segmentScans = new ArrayList<Future<?>>();
+    private final AtomicInteger scanningSegments = new AtomicInteger();
+    private final ExecutorService ownExecutor;
+
+    private final int totalSegments;
+    private final Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys =
+            new HashMap<Integer, Map<String, AttributeValue>>();
+    private final BitSet completedSegments = new BitSet();
+
+    private volatile RuntimeException failure;
+    private volatile boolean closed;
+
+    private Page<T> currentPage;
+    private Iterator<T> currentItems = Collections.<T>emptyList().iterator();
+
+    ParallelScanIterator(DynamoDBMapper mapper,
+                         Class<T> clazz,
+                         AmazonDynamoDB dynamo,
+                         List<ScanRequest> parallelScanRequests,
+                         ParallelScanOptions options,
+                         DynamoDBMapperConfig config) {
+        this.mapper = mapper;
+        this.clazz = clazz;
+        this.dynamo = dynamo;
+        this.config = config;
+        this.totalSegments = parallelScanRequests.size();
+        this.readLimiter = options.getReadCapacityUnits() == null
+                ? null : new TokenBucketRateLimiter(options.getReadCapacityUnits());
+        this.pages = new ArrayBlockingQueue<Page<T>>(options.getMaxBufferedPages() == null
+                ? 2 * totalSegments : options.getMaxBufferedPages());
+
+        ParallelScanCheckpoint checkpoint = options.getCheckpoint();
+        if (checkpoint != null) {
+            if (checkpoint.getTotalSegments() != totalSegments) {
+                throw new IllegalArgumentException("The checkpoint was taken from a scan of "
+                        + checkpoint.getTotalSegments() + " segments, not " + totalSegments);
+            }
+            for (int segment = 0; segment < totalSegments; segment++) {
+                if (checkpoint.isSegmentComplete(segment)) {
+                    completedSegments.set(segment);
+                } else if (checkpoint.getExclusiveStartKey(segment) != null) {
+                    exclusiveStartKeys.put(segment, checkpoint.getExclusiveStartKey(segment));
+                }
+            }
+        }
+
+        int segmentsToScan = totalSegments - completedSegments.cardinality();
+        scanningSegments.set(segmentsToScan);
+        ExecutorService executorService = options.getExecutorService();
+        this.ownExecutor = executorService == null && segmentsToScan > 0
+                ? Executors.newFixedThreadPool(segmentsToScan) : null;
+        if (ownExecutor != null) {
+            executorService = ownExecutor;
+        }
+
+        try {
+            for (ScanRequest request : parallelScanRequests) {
+                int segment = request.getSegment();
+                if (completedSegments.get(segment)) {
+                    continue;
+                }
+                if (readLimiter != null && request.getReturnConsumedCapacity() == null) {
+                    request.setReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+                }
+                request.setExclusiveStartKey(exclusiveStartKeys.get(segment));
+                segmentScans.add(executorService.submit(
+                        new SegmentScan(DynamoDBMapper.applyUserAgent(request))));
+            }
+        } catch (RejectedExecutionException e) {
+            close();
+            throw e;
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentItems.hasNext()) {
+            if (currentPage != null) {
+                checkpoint(currentPage);
+                currentPage = null;
+            }
+            Page<T> page = nextPage();
+            if (page == null) {
+                return false;
+            }
+            currentPage = page;
+            currentItems = page.items.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentItems.next();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Parallel scan results cannot be removed");
+    }
+
+    /**
+     * Returns the progress of the scan, covering all items returned by this
+     * iterator so far.
+     */
+    public ParallelScanCheckpoint getCheckpoint() {
+        if (currentPage != null && !currentItems.hasNext()) {
+            checkpoint(currentPage);
+            currentPage = null;
+        }
+        return new ParallelScanCheckpoint(totalSegments, exclusiveStartKeys, completedSegments);
+    }
+
+    /**
+     * Stops any segments still being scanned and discards the buffered pages.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Future<?> segmentScan : segmentScans) {
+            segmentScan.cancel(true);
+        }
+        pages.clear();
+        if (ownExecutor != null) {
+            ownExecutor.shutdownNow();
+        }
+    }
+
+    private void checkpoint(Page<T> page) {
+        if (page.lastEvaluatedKey == null) {
+            exclusiveStartKeys.remove(page.segment);
+            completedSegments.set(page.segment);
+        } else {
+            exclusiveStartKeys.put(page.segment, page.lastEvaluatedKey);
+        }
+    }
+
+    /**
+     * Waits for the next scanned page, returning null once every segment has
+     * been scanned to the end.
+     */
+    private Page<T> nextPage() {
+        if (closed) {
+            return null;
+        }
+        try {
+            while (true) {
+                Page<T> page = pages.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (page != null) {
+                    return page;
+                }
+                rethrowFailure();
+                if (scanningSegments.get() == 0) {
+                    // Segments finish only after handing over their last page
+                    page = pages.poll();
+                    if (page == null) {
+                        rethrowFailure();
+                    }
+                    return page;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdkClientException("Parallel scan interrupted by other thread.", e);
+        }
+    }
+
+    private void rethrowFailure() {
+        if (failure != null) {
+            close();
+            throw failure;
+        }
+    }
+
+    private static double consumedCapacityUnits(ScanResult scanResult) {
+        ConsumedCapacity consumedCapacity = scanResult.getConsumedCapacity();
+        if (consumedCapacity != null && consumedCapacity.getCapacityUnits() != null) {
+            return consumedCapacity.getCapacityUnits();
+        }
+        // Not reported by the service; charge the minimum for one read
+        return 0.5;
+    }
+
+    /**
+     * Scans one segment to the end, handing each page over to the iterator.
+     */
+    private final class SegmentScan implements Runnable {
+        private final ScanRequest request;
+
+        private SegmentScan(ScanRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Map<String, AttributeValue> lastEvaluatedKey;
+                do {
+                    ScanResult scanResult = dynamo.scan(request);
+                    List<T> items = mapper.marshallIntoObjects(mapper.toParameters(
+                            scanResult.getItems(), clazz, request.getTableName(), config));
+                    lastEvaluatedKey = scanResult.getLastEvaluatedKey();
+                    if (lastEvaluatedKey != null) {
+                        lastEvaluatedKey = new HashMap<String, AttributeValue>(lastEvaluatedKey);
+                    }
+                    pages.put(new Page<T>(request.getSegment(), items, lastEvaluatedKey));
+
+                    if (readLimiter != null) {
+                        readLimiter.acquire(consumedCapacityUnits(scanResult));
+                    }
+                    request.setExclusiveStartKey(lastEvaluatedKey);
+                } while (lastEvaluatedKey != null && !closed);
+            } catch (InterruptedException e) {
+                if (!closed) {
+                    failure = new SdkClientException(
+                            "Scan of segment #" + request.getSegment() + " was interrupted.", e);
+                }
+            } catch (AmazonClientException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new SdkClientException(
+                        "Internal error during the scan on segment #" + request.getSegment() + ".", e);
+            } finally {
+                scanningSegments.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * One page of converted items and where its segment continues.
+     */
+    private static final class Page<T> {
+        private final int segment;
+        private final List<T> items;
+        private final Map<String, AttributeValue> lastEvaluatedKey;
+
+        private Page(int segment, List<T> items, Map<String, AttributeValue> lastEvaluatedKey) {
+            this.segment = segment;
+            this.items = items;
+            this.lastEvaluatedKey = lastEvaluatedKey;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2011-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Options for a streaming parallel scan, which control how its segments are
+ * scanned and how many pages of results may be held in memory.
+ *
+ * @see DynamoDBMapper#parallelScanIterator(Class, DynamoDBScanExpression, int, ParallelScanOptions, DynamoDBMapperConfig)
+ */
+public class ParallelScanOptions {
+
+    /** The executor to scan the segments on; if null, one is created for the scan. */
+    private ExecutorService executorService;
+
+    /** The max number of scanned pages waiting to be consumed. */
+    private Integer maxBufferedPages;
+
+    /** The read capacity units per second the scan may consume. */
+    private Double readCapacityUnits;
+
+    /** The checkpoint to resume the scan from. */
+    private ParallelScanCheckpoint checkpoint;
+
+    /**
+     * Returns the executor the segments are scanned on, or null if a thread
+     * pool is created for the scan.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor to scan the segments on. Each segment occupies one
+     * thread until it has been scanned to the end, so segments beyond the
+     * executor's number of threads are only scanned once earlier segments
+     * complete. The executor is never shut down by the scan.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Sets the executor to scan the segments on and returns a pointer to this
+     * object for method-chaining.
+     *
+     * @see ParallelScanOptions#setExecutorService(ExecutorService)
+     */
+    public ParallelScanOptions withExecutorService(ExecutorService executorService) {
+        setExecutorService(executorService);
+        return this;
+    }
+
+    /**
+     * Returns the max number of scanned pages waiting to be consumed, or null
+     * for the default of two pages per segment.
+     */
+    public Integer getMaxBufferedPages() {
+        return maxBufferedPages;
+    }
+
+    /**
+     * Sets the max number of scanned pages waiting to be consumed. Segments
+     * stop scanning while the buffer is full, so at most this many pages, plus
+     * one page per segment being scanned and the page being consumed, are held
+     * in memory at any time.
+     */
+    public void setMaxBufferedPages(Integer maxBufferedPages) {
+        if (maxBufferedPages != null && maxBufferedPages < 1) {
+            throw new IllegalArgumentException("maxBufferedPages must be at least 1: " + maxBufferedPages);
+        }
+        this.maxBufferedPages = maxBufferedPages;
+    }
+
+    /**
+     * Sets the max number of scanned pages waiting to be consumed and returns
+     * a pointer to this object for method-chaining.
+     *
+     * @see ParallelScanOptions#setMaxBufferedPages(Integer)
+     */
+    public ParallelScanOptions withMaxBufferedPages(Integer maxBufferedPages) {
+        setMaxBufferedPages(maxBufferedPages);
+        return this;
+    }
+
+    /**
+     * Returns the read capacity units per second the scan may consume across
+     * all segments, or null if the scan is not rate limited.
+     */
+    public Double getReadCapacityUnits() {
+        return readCapacityUnits;
+    }
+
+    /**
+     * Sets the read capacity units per second the scan may consume across all
+     * segments. The capacity consumed by each page is taken from the
+     * ConsumedCapacity in the scan response, which is requested automatically
+     * unless the scan expression already specifies ReturnConsumedCapacity; a
+     * segment waits before requesting its next page until the table's budget
+     * covers the capacity already consumed.
+     */
+    public void setReadCapacityUnits(Double readCapacityUnits) {
+        if (readCapacityUnits != null && !(readCapacityUnits > 0)) {
+            throw new IllegalArgumentException("readCapacityUnits must be positive: " + readCapacityUnits);
+        }
+        this.readCapacityUnits = readCapacityUnits;
+    }
+
+    /**
+     * Sets the read capacity units per second the scan may consume and
+     * returns a pointer to this object for method-chaining.
+     *
+     * @see ParallelScanOptions#setReadCapacityUnits(Double)
+     */
+    public ParallelScanOptions withReadCapacityUnits(Double readCapacityUnits) {
+        setReadCapacityUnits(readCapacityUnits);
+        return this;
+    }
+
+    /**
+     * Returns the checkpoint the scan resumes from, or null if the scan starts
+     * from the beginning of every segment.
+     */
+    public ParallelScanCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Sets the checkpoint to resume the scan from, as returned by
+     * {@link ParallelScanIterator#getCheckpoint()}. The scan must use the same
+     * number of segments as the scan the checkpoint was taken from.
+     */
+    public void setCheckpoint(ParallelScanCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Sets the checkpoint to resume the scan from and returns a pointer to
+     * this object for method-chaining.
+     *
+     * @see ParallelScanOptions#setCheckpoint(ParallelScanCheckpoint)
+     */
+    public ParallelScanOptions withCheckpoint(ParallelScanCheckpoint checkpoint) {
+        setCheckpoint(checkpoint);
+        return this;
+    }
+}
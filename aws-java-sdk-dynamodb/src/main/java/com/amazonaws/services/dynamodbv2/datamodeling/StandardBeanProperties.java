@@ -22,6 +22,7 @@ import com.amazonaws.services.dynamodbv2.datamodeling.StandardAnnotationMaps.Tab
 import com.amazonaws.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -111,17 +112,19 @@ final class StandardBeanProperties {
      * Get/set reflection operations.
      */
     static final class MethodReflect<T,V> implements Reflect<T,V> {
+        private static final Object[] NO_ARGS = new Object[0];
+
         private final Method getter, setter;
 
         private MethodReflect(Method getter) {
-            this.setter = setterOf(getter);
-            this.getter = getter;
+            this.setter = accessible(setterOf(getter));
+            this.getter = accessible(getter);
         }
 
         @Override
         public V get(T object) {
             try {
-                return (V)getter.invoke(object);
+                return (V)getter.invoke(object, NO_ARGS);
             } catch (final Exception e) {
                 throw new DynamoDBMappingException("could not invoke " + getter + " on " + object.getClass(), e);
             }
@@ -144,6 +147,21 @@ final class StandardBeanProperties {
             } catch (final Exception no) {}
             return null;
         }
+
+        /**
+         * Suppresses the access checks that {@link Method#invoke} otherwise repeats on every call
+         * for every item. Only done for public methods of public classes, which pass those checks
+         * anyway, so the accessible members are the same as before.
+         */
+        static Method accessible(Method method) {
+            if (method != null && Modifier.isPublic(method.getModifiers())
+                    && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                try {
+                    method.setAccessible(true);
+                } catch (final SecurityException no) {}
+            }
+            return method;
+        }
     }
 
     /**
@@ -37,7 +37,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TimeZone;
-import java.util.regex.Pattern;
 
 import org.joda.time.DateTime;
 
@@ -546,11 +545,15 @@ final class StandardTypeConverters extends DynamoDBTypeConverterFactory {
      */
     private static abstract class ToBoolean<T> extends Converter<Boolean,T> {
         private static final ToBoolean<String> FromString = new ToBoolean<String>() {
-            private final Pattern N0 = Pattern.compile("(?i)[N0]");
-            private final Pattern Y1 = Pattern.compile("(?i)[Y1]");
             @Override
             public final Boolean convert(final String o) {
-                return N0.matcher(o).matches() ? Boolean.FALSE : Y1.matcher(o).matches() ? Boolean.TRUE : Boolean.valueOf(o);
+                if (o.length() == 1) { //<- N/0 or Y/1, case insensitive
+                    switch (o.charAt(0)) {
+                        case 'N': case 'n': case '0': return Boolean.FALSE;
+                        case 'Y': case 'y': case '1': return Boolean.TRUE;
+                    }
+                }
+                return Boolean.valueOf(o);
             }
         };
     }
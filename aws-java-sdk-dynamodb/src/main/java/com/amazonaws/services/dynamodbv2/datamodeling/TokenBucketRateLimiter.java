@@ -0,0 +1,79 @@
+/*
+ * Copyright 2011-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket that refills at a fixed rate and holds at most one second's
+ * worth of permits. Callers reserve permits up front and then wait out any
+ * deficit, so concurrent callers are served in the order they reserved and a
+ * request larger than the bucket is still admitted once its share of time has
+ * passed.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerSecond;
+
+    /** Available permits as of {@link #lastRefillNanos}; negative when reserved ahead. */
+    private double permits;
+    private long lastRefillNanos;
+
+    TokenBucketRateLimiter(double permitsPerSecond) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException(
+                    "permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.permits = permitsPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Blocks until the given number of permits has been acquired.
+     */
+    void acquire(double count) throws InterruptedException {
+        long waitNanos = reserve(count, System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes the given number of permits and returns how long the caller must
+     * wait, in nanoseconds, before the bucket has actually produced them.
+     */
+    synchronized long reserve(double count, long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            permits = Math.min(permitsPerSecond,
+                    permits + elapsed * permitsPerSecond / NANOS_PER_SECOND);
+            lastRefillNanos = now;
+        }
+        permits -= count;
+        return permits >= 0 ? 0 : (long) Math.ceil(-permits * NANOS_PER_SECOND / permitsPerSecond);
+    }
+}
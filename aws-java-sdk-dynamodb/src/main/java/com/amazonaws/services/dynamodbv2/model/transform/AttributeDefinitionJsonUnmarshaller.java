@@ -48,13 +48,22 @@ public class AttributeDefinitionJsonUnmarshaller implements Unmarshaller<Attribu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    attributeDefinition.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeType", targetDepth)) {
-                    context.nextToken();
-                    attributeDefinition.setAttributeType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -650306777:
+                        if (fieldName.equals("AttributeName")) {
+                            context.nextToken();
+                            attributeDefinition.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -650104874:
+                        if (fieldName.equals("AttributeType")) {
+                            context.nextToken();
+                            attributeDefinition.setAttributeType(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,46 +48,71 @@ public class AttributeValueJsonUnmarshaller implements Unmarshaller<AttributeVal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("S", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setS(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("N", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("B", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setB(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("SS", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setSS(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NS", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setNS(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("BS", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setBS(new ListUnmarshaller<java.nio.ByteBuffer>(context.getUnmarshaller(java.nio.ByteBuffer.class)).unmarshall(context));
-                }
-                if (context.testExpression("M", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setM(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("L", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setL(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NULL", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setNULL(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("BOOL", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setBOOL(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 83:
+                        if (fieldName.equals("S")) {
+                            context.nextToken();
+                            attributeValue.setS(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 78:
+                        if (fieldName.equals("N")) {
+                            context.nextToken();
+                            attributeValue.setN(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 66:
+                        if (fieldName.equals("B")) {
+                            context.nextToken();
+                            attributeValue.setB(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2656:
+                        if (fieldName.equals("SS")) {
+                            context.nextToken();
+                            attributeValue.setSS(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 2501:
+                        if (fieldName.equals("NS")) {
+                            context.nextToken();
+                            attributeValue.setNS(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 2129:
+                        if (fieldName.equals("BS")) {
+                            context.nextToken();
+                            attributeValue.setBS(new ListUnmarshaller<java.nio.ByteBuffer>(context.getUnmarshaller(java.nio.ByteBuffer.class)).unmarshall(context));
+                        }
+                        break;
+                    case 77:
+                        if (fieldName.equals("M")) {
+                            context.nextToken();
+                            attributeValue.setM(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller
+                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 76:
+                        if (fieldName.equals("L")) {
+                            context.nextToken();
+                            attributeValue.setL(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 2407815:
+                        if (fieldName.equals("NULL")) {
+                            context.nextToken();
+                            attributeValue.setNULL(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 2044650:
+                        if (fieldName.equals("BOOL")) {
+                            context.nextToken();
+                            attributeValue.setBOOL(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
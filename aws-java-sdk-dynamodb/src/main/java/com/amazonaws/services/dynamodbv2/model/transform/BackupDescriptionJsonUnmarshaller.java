@@ -48,17 +48,28 @@ public class BackupDescriptionJsonUnmarshaller implements Unmarshaller<BackupDes
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BackupDetails", targetDepth)) {
-                    context.nextToken();
-                    backupDescription.setBackupDetails(BackupDetailsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SourceTableDetails", targetDepth)) {
-                    context.nextToken();
-                    backupDescription.setSourceTableDetails(SourceTableDetailsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SourceTableFeatureDetails", targetDepth)) {
-                    context.nextToken();
-                    backupDescription.setSourceTableFeatureDetails(SourceTableFeatureDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 219588096:
+                        if (fieldName.equals("BackupDetails")) {
+                            context.nextToken();
+                            backupDescription.setBackupDetails(BackupDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 10498671:
+                        if (fieldName.equals("SourceTableDetails")) {
+                            context.nextToken();
+                            backupDescription.setSourceTableDetails(SourceTableDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1310232991:
+                        if (fieldName.equals("SourceTableFeatureDetails")) {
+                            context.nextToken();
+                            backupDescription.setSourceTableFeatureDetails(SourceTableFeatureDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,25 +48,40 @@ public class BackupDetailsJsonUnmarshaller implements Unmarshaller<BackupDetails
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BackupArn", targetDepth)) {
-                    context.nextToken();
-                    backupDetails.setBackupArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupName", targetDepth)) {
-                    context.nextToken();
-                    backupDetails.setBackupName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    backupDetails.setBackupSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupStatus", targetDepth)) {
-                    context.nextToken();
-                    backupDetails.setBackupStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupCreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    backupDetails.setBackupCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -935674597:
+                        if (fieldName.equals("BackupArn")) {
+                            context.nextToken();
+                            backupDetails.setBackupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1059229581:
+                        if (fieldName.equals("BackupName")) {
+                            context.nextToken();
+                            backupDetails.setBackupName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1280998104:
+                        if (fieldName.equals("BackupSizeBytes")) {
+                            context.nextToken();
+                            backupDetails.setBackupSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 172731508:
+                        if (fieldName.equals("BackupStatus")) {
+                            context.nextToken();
+                            backupDetails.setBackupStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1183012252:
+                        if (fieldName.equals("BackupCreationDateTime")) {
+                            context.nextToken();
+                            backupDetails.setBackupCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
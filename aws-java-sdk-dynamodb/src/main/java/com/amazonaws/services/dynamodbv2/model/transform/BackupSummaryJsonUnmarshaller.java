@@ -48,37 +48,58 @@ public class BackupSummaryJsonUnmarshaller implements Unmarshaller<BackupSummary
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    backupSummary.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableId", targetDepth)) {
-                    context.nextToken();
-                    backupSummary.setTableId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableArn", targetDepth)) {
-                    context.nextToken();
-                    backupSummary.setTableArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupArn", targetDepth)) {
-                    context.nextToken();
-                    backupSummary.setBackupArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupName", targetDepth)) {
-                    context.nextToken();
-                    backupSummary.setBackupName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupCreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    backupSummary.setBackupCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupStatus", targetDepth)) {
-                    context.nextToken();
-                    backupSummary.setBackupStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BackupSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    backupSummary.setBackupSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 15250265:
+                        if (fieldName.equals("TableName")) {
+                            context.nextToken();
+                            backupSummary.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 111747433:
+                        if (fieldName.equals("TableId")) {
+                            context.nextToken();
+                            backupSummary.setTableId(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -830804017:
+                        if (fieldName.equals("TableArn")) {
+                            context.nextToken();
+                            backupSummary.setTableArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -935674597:
+                        if (fieldName.equals("BackupArn")) {
+                            context.nextToken();
+                            backupSummary.setBackupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1059229581:
+                        if (fieldName.equals("BackupName")) {
+                            context.nextToken();
+                            backupSummary.setBackupName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1183012252:
+                        if (fieldName.equals("BackupCreationDateTime")) {
+                            context.nextToken();
+                            backupSummary.setBackupCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 172731508:
+                        if (fieldName.equals("BackupStatus")) {
+                            context.nextToken();
+                            backupSummary.setBackupStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1280998104:
+                        if (fieldName.equals("BackupSizeBytes")) {
+                            context.nextToken();
+                            backupSummary.setBackupSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -49,22 +49,33 @@ public class BatchGetItemResultJsonUnmarshaller implements Unmarshaller<BatchGet
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Responses", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult.setResponses(new MapUnmarshaller<String, java.util.List<java.util.Map<String, AttributeValue>>>(context
-                            .getUnmarshaller(String.class), new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
-                            new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("UnprocessedKeys", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult.setUnprocessedKeys(new MapUnmarshaller<String, KeysAndAttributes>(context.getUnmarshaller(String.class),
-                            KeysAndAttributesJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult.setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 43881522:
+                        if (fieldName.equals("Responses")) {
+                            context.nextToken();
+                            batchGetItemResult.setResponses(new MapUnmarshaller<String, java.util.List<java.util.Map<String, AttributeValue>>>(context
+                                    .getUnmarshaller(String.class), new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
+                                    new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1337425993:
+                        if (fieldName.equals("UnprocessedKeys")) {
+                            context.nextToken();
+                            batchGetItemResult.setUnprocessedKeys(new MapUnmarshaller<String, KeysAndAttributes>(context.getUnmarshaller(String.class),
+                                    KeysAndAttributesJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1720572130:
+                        if (fieldName.equals("ConsumedCapacity")) {
+                            context.nextToken();
+                            batchGetItemResult.setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
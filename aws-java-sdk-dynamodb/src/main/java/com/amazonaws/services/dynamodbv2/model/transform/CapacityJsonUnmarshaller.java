@@ -48,9 +48,16 @@ public class CapacityJsonUnmarshaller implements Unmarshaller<Capacity, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    capacity.setCapacityUnits(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -939694411:
+                        if (fieldName.equals("CapacityUnits")) {
+                            context.nextToken();
+                            capacity.setCapacityUnits(context.getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class ConditionJsonUnmarshaller implements Unmarshaller<Condition, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeValueList", targetDepth)) {
-                    context.nextToken();
-                    condition.setAttributeValueList(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    condition.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 1216804499:
+                        if (fieldName.equals("AttributeValueList")) {
+                            context.nextToken();
+                            condition.setAttributeValueList(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 607067117:
+                        if (fieldName.equals("ComparisonOperator")) {
+                            context.nextToken();
+                            condition.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
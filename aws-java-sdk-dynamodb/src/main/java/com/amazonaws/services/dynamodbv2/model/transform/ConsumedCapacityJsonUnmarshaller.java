@@ -48,27 +48,42 @@ public class ConsumedCapacityJsonUnmarshaller implements Unmarshaller<ConsumedCa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setCapacityUnits(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("Table", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setTable(CapacityJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LocalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setLocalSecondaryIndexes(new MapUnmarshaller<String, Capacity>(context.getUnmarshaller(String.class),
-                            CapacityJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setGlobalSecondaryIndexes(new MapUnmarshaller<String, Capacity>(context.getUnmarshaller(String.class),
-                            CapacityJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 15250265:
+                        if (fieldName.equals("TableName")) {
+                            context.nextToken();
+                            consumedCapacity.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -939694411:
+                        if (fieldName.equals("CapacityUnits")) {
+                            context.nextToken();
+                            consumedCapacity.setCapacityUnits(context.getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 80563118:
+                        if (fieldName.equals("Table")) {
+                            context.nextToken();
+                            consumedCapacity.setTable(CapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1874009513:
+                        if (fieldName.equals("LocalSecondaryIndexes")) {
+                            context.nextToken();
+                            consumedCapacity.setLocalSecondaryIndexes(new MapUnmarshaller<String, Capacity>(context.getUnmarshaller(String.class),
+                                    CapacityJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1529351473:
+                        if (fieldName.equals("GlobalSecondaryIndexes")) {
+                            context.nextToken();
+                            consumedCapacity.setGlobalSecondaryIndexes(new MapUnmarshaller<String, Capacity>(context.getUnmarshaller(String.class),
+                                    CapacityJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,9 +48,16 @@ public class ContinuousBackupsDescriptionJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ContinuousBackupsStatus", targetDepth)) {
-                    context.nextToken();
-                    continuousBackupsDescription.setContinuousBackupsStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -939119788:
+                        if (fieldName.equals("ContinuousBackupsStatus")) {
+                            context.nextToken();
+                            continuousBackupsDescription.setContinuousBackupsStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,9 +48,16 @@ public class CreateBackupResultJsonUnmarshaller implements Unmarshaller<CreateBa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BackupDetails", targetDepth)) {
-                    context.nextToken();
-                    createBackupResult.setBackupDetails(BackupDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 219588096:
+                        if (fieldName.equals("BackupDetails")) {
+                            context.nextToken();
+                            createBackupResult.setBackupDetails(BackupDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,9 +48,16 @@ public class DeleteBackupResultJsonUnmarshaller implements Unmarshaller<DeleteBa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BackupDescription", targetDepth)) {
-                    context.nextToken();
-                    deleteBackupResult.setBackupDescription(BackupDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -942200646:
+                        if (fieldName.equals("BackupDescription")) {
+                            context.nextToken();
+                            deleteBackupResult.setBackupDescription(BackupDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
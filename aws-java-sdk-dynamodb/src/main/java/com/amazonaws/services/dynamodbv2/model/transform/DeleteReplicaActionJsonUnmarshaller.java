@@ -48,9 +48,16 @@ public class DeleteReplicaActionJsonUnmarshaller implements Unmarshaller<DeleteR
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RegionName", targetDepth)) {
-                    context.nextToken();
-                    deleteReplicaAction.setRegionName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 2774975:
+                        if (fieldName.equals("RegionName")) {
+                            context.nextToken();
+                            deleteReplicaAction.setRegionName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,22 +48,35 @@ public class ExpectedAttributeValueJsonUnmarshaller implements Unmarshaller<Expe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    expectedAttributeValue.setValue(AttributeValueJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Exists", targetDepth)) {
-                    context.nextToken();
-                    expectedAttributeValue.setExists(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    expectedAttributeValue.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeValueList", targetDepth)) {
-                    context.nextToken();
-                    expectedAttributeValue.setAttributeValueList(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 82420049:
+                        if (fieldName.equals("Value")) {
+                            context.nextToken();
+                            expectedAttributeValue.setValue(AttributeValueJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2089476220:
+                        if (fieldName.equals("Exists")) {
+                            context.nextToken();
+                            expectedAttributeValue.setExists(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 607067117:
+                        if (fieldName.equals("ComparisonOperator")) {
+                            context.nextToken();
+                            expectedAttributeValue.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1216804499:
+                        if (fieldName.equals("AttributeValueList")) {
+                            context.nextToken();
+                            expectedAttributeValue.setAttributeValueList(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,9 +48,16 @@ public class GetShardIteratorResultJsonUnmarshaller implements Unmarshaller<GetS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardIterator", targetDepth)) {
-                    context.nextToken();
-                    getShardIteratorResult.setShardIterator(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -585879988:
+                        if (fieldName.equals("ShardIterator")) {
+                            context.nextToken();
+                            getShardIteratorResult.setShardIterator(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,17 +48,28 @@ public class GlobalSecondaryIndexUpdateJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Update", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexUpdate.setUpdate(UpdateGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Create", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexUpdate.setCreate(CreateGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Delete", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexUpdate.setDelete(DeleteGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -1754979095:
+                        if (fieldName.equals("Update")) {
+                            context.nextToken();
+                            globalSecondaryIndexUpdate.setUpdate(UpdateGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2026540316:
+                        if (fieldName.equals("Create")) {
+                            context.nextToken();
+                            globalSecondaryIndexUpdate.setCreate(CreateGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2043376075:
+                        if (fieldName.equals("Delete")) {
+                            context.nextToken();
+                            globalSecondaryIndexUpdate.setDelete(DeleteGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,26 +48,41 @@ public class GlobalTableDescriptionJsonUnmarshaller implements Unmarshaller<Glob
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationGroup", targetDepth)) {
-                    context.nextToken();
-                    globalTableDescription.setReplicationGroup(new ListUnmarshaller<ReplicaDescription>(ReplicaDescriptionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("GlobalTableArn", targetDepth)) {
-                    context.nextToken();
-                    globalTableDescription.setGlobalTableArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    globalTableDescription.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("GlobalTableStatus", targetDepth)) {
-                    context.nextToken();
-                    globalTableDescription.setGlobalTableStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GlobalTableName", targetDepth)) {
-                    context.nextToken();
-                    globalTableDescription.setGlobalTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -356564429:
+                        if (fieldName.equals("ReplicationGroup")) {
+                            context.nextToken();
+                            globalTableDescription.setReplicationGroup(new ListUnmarshaller<ReplicaDescription>(ReplicaDescriptionJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2071303022:
+                        if (fieldName.equals("GlobalTableArn")) {
+                            context.nextToken();
+                            globalTableDescription.setGlobalTableArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 659158970:
+                        if (fieldName.equals("CreationDateTime")) {
+                            context.nextToken();
+                            globalTableDescription.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 123712925:
+                        if (fieldName.equals("GlobalTableStatus")) {
+                            context.nextToken();
+                            globalTableDescription.setGlobalTableStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 214486774:
+                        if (fieldName.equals("GlobalTableName")) {
+                            context.nextToken();
+                            globalTableDescription.setGlobalTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class GlobalTableJsonUnmarshaller implements Unmarshaller<GlobalTable, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GlobalTableName", targetDepth)) {
-                    context.nextToken();
-                    globalTable.setGlobalTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationGroup", targetDepth)) {
-                    context.nextToken();
-                    globalTable.setReplicationGroup(new ListUnmarshaller<Replica>(ReplicaJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 214486774:
+                        if (fieldName.equals("GlobalTableName")) {
+                            context.nextToken();
+                            globalTable.setGlobalTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -356564429:
+                        if (fieldName.equals("ReplicationGroup")) {
+                            context.nextToken();
+                            globalTable.setReplicationGroup(new ListUnmarshaller<Replica>(ReplicaJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
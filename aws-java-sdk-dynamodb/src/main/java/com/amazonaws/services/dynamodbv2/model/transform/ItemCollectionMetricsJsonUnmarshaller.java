@@ -48,14 +48,23 @@ public class ItemCollectionMetricsJsonUnmarshaller implements Unmarshaller<ItemC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ItemCollectionKey", targetDepth)) {
-                    context.nextToken();
-                    itemCollectionMetrics.setItemCollectionKey(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class),
-                            AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SizeEstimateRangeGB", targetDepth)) {
-                    context.nextToken();
-                    itemCollectionMetrics.setSizeEstimateRangeGB(new ListUnmarshaller<Double>(context.getUnmarshaller(Double.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -734767506:
+                        if (fieldName.equals("ItemCollectionKey")) {
+                            context.nextToken();
+                            itemCollectionMetrics.setItemCollectionKey(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class),
+                                    AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1696938543:
+                        if (fieldName.equals("SizeEstimateRangeGB")) {
+                            context.nextToken();
+                            itemCollectionMetrics.setSizeEstimateRangeGB(new ListUnmarshaller<Double>(context.getUnmarshaller(Double.class)).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class KeySchemaElementJsonUnmarshaller implements Unmarshaller<KeySchemaE
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    keySchemaElement.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyType", targetDepth)) {
-                    context.nextToken();
-                    keySchemaElement.setKeyType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -650306777:
+                        if (fieldName.equals("AttributeName")) {
+                            context.nextToken();
+                            keySchemaElement.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 849211929:
+                        if (fieldName.equals("KeyType")) {
+                            context.nextToken();
+                            keySchemaElement.setKeyType(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
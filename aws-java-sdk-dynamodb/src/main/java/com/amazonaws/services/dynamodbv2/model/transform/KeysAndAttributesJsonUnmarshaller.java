@@ -49,27 +49,42 @@ public class KeysAndAttributesJsonUnmarshaller implements Unmarshaller<KeysAndAt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Keys", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setKeys(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(context
-                            .getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("AttributesToGet", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setAttributesToGet(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("ConsistentRead", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setConsistentRead(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ProjectionExpression", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setProjectionExpression(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpressionAttributeNames", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setExpressionAttributeNames(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 2335252:
+                        if (fieldName.equals("Keys")) {
+                            context.nextToken();
+                            keysAndAttributes.setKeys(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(context
+                                    .getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())).unmarshall(context));
+                        }
+                        break;
+                    case -1127247964:
+                        if (fieldName.equals("AttributesToGet")) {
+                            context.nextToken();
+                            keysAndAttributes.setAttributesToGet(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 954626920:
+                        if (fieldName.equals("ConsistentRead")) {
+                            context.nextToken();
+                            keysAndAttributes.setConsistentRead(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -523889049:
+                        if (fieldName.equals("ProjectionExpression")) {
+                            context.nextToken();
+                            keysAndAttributes.setProjectionExpression(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 214931172:
+                        if (fieldName.equals("ExpressionAttributeNames")) {
+                            context.nextToken();
+                            keysAndAttributes.setExpressionAttributeNames(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
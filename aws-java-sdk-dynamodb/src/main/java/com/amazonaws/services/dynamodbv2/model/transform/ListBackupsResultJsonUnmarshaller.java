@@ -48,13 +48,22 @@ public class ListBackupsResultJsonUnmarshaller implements Unmarshaller<ListBacku
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BackupSummaries", targetDepth)) {
-                    context.nextToken();
-                    listBackupsResult.setBackupSummaries(new ListUnmarshaller<BackupSummary>(BackupSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedBackupArn", targetDepth)) {
-                    context.nextToken();
-                    listBackupsResult.setLastEvaluatedBackupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -237313278:
+                        if (fieldName.equals("BackupSummaries")) {
+                            context.nextToken();
+                            listBackupsResult.setBackupSummaries(new ListUnmarshaller<BackupSummary>(BackupSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -2002047002:
+                        if (fieldName.equals("LastEvaluatedBackupArn")) {
+                            context.nextToken();
+                            listBackupsResult.setLastEvaluatedBackupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class ListGlobalTablesResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GlobalTables", targetDepth)) {
-                    context.nextToken();
-                    listGlobalTablesResult.setGlobalTables(new ListUnmarshaller<GlobalTable>(GlobalTableJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedGlobalTableName", targetDepth)) {
-                    context.nextToken();
-                    listGlobalTablesResult.setLastEvaluatedGlobalTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -484836344:
+                        if (fieldName.equals("GlobalTables")) {
+                            context.nextToken();
+                            listGlobalTablesResult.setGlobalTables(new ListUnmarshaller<GlobalTable>(GlobalTableJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 841792897:
+                        if (fieldName.equals("LastEvaluatedGlobalTableName")) {
+                            context.nextToken();
+                            listGlobalTablesResult.setLastEvaluatedGlobalTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class ListStreamsResultJsonUnmarshaller implements Unmarshaller<ListStrea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Streams", targetDepth)) {
-                    context.nextToken();
-                    listStreamsResult.setStreams(new ListUnmarshaller<Stream>(StreamJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedStreamArn", targetDepth)) {
-                    context.nextToken();
-                    listStreamsResult.setLastEvaluatedStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -217237293:
+                        if (fieldName.equals("Streams")) {
+                            context.nextToken();
+                            listStreamsResult.setStreams(new ListUnmarshaller<Stream>(StreamJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 621942120:
+                        if (fieldName.equals("LastEvaluatedStreamArn")) {
+                            context.nextToken();
+                            listStreamsResult.setLastEvaluatedStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
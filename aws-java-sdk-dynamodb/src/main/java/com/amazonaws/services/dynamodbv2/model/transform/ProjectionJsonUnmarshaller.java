@@ -48,13 +48,22 @@ public class ProjectionJsonUnmarshaller implements Unmarshaller<Projection, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProjectionType", targetDepth)) {
-                    context.nextToken();
-                    projection.setProjectionType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NonKeyAttributes", targetDepth)) {
-                    context.nextToken();
-                    projection.setNonKeyAttributes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 132635209:
+                        if (fieldName.equals("ProjectionType")) {
+                            context.nextToken();
+                            projection.setProjectionType(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1770883223:
+                        if (fieldName.equals("NonKeyAttributes")) {
+                            context.nextToken();
+                            projection.setNonKeyAttributes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class ProvisionedThroughputJsonUnmarshaller implements Unmarshaller<Provi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReadCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughput.setReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("WriteCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughput.setWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -474410817:
+                        if (fieldName.equals("ReadCapacityUnits")) {
+                            context.nextToken();
+                            provisionedThroughput.setReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -638137002:
+                        if (fieldName.equals("WriteCapacityUnits")) {
+                            context.nextToken();
+                            provisionedThroughput.setWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class ReplicaUpdateJsonUnmarshaller implements Unmarshaller<ReplicaUpdate
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Create", targetDepth)) {
-                    context.nextToken();
-                    replicaUpdate.setCreate(CreateReplicaActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Delete", targetDepth)) {
-                    context.nextToken();
-                    replicaUpdate.setDelete(DeleteReplicaActionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 2026540316:
+                        if (fieldName.equals("Create")) {
+                            context.nextToken();
+                            replicaUpdate.setCreate(CreateReplicaActionJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2043376075:
+                        if (fieldName.equals("Delete")) {
+                            context.nextToken();
+                            replicaUpdate.setDelete(DeleteReplicaActionJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,21 +48,34 @@ public class RestoreSummaryJsonUnmarshaller implements Unmarshaller<RestoreSumma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SourceBackupArn", targetDepth)) {
-                    context.nextToken();
-                    restoreSummary.setSourceBackupArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceTableArn", targetDepth)) {
-                    context.nextToken();
-                    restoreSummary.setSourceTableArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RestoreDateTime", targetDepth)) {
-                    context.nextToken();
-                    restoreSummary.setRestoreDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("RestoreInProgress", targetDepth)) {
-                    context.nextToken();
-                    restoreSummary.setRestoreInProgress(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 1039203136:
+                        if (fieldName.equals("SourceBackupArn")) {
+                            context.nextToken();
+                            restoreSummary.setSourceBackupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1034017034:
+                        if (fieldName.equals("SourceTableArn")) {
+                            context.nextToken();
+                            restoreSummary.setSourceTableArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -877219799:
+                        if (fieldName.equals("RestoreDateTime")) {
+                            context.nextToken();
+                            restoreSummary.setRestoreDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1202967424:
+                        if (fieldName.equals("RestoreInProgress")) {
+                            context.nextToken();
+                            restoreSummary.setRestoreInProgress(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class SequenceNumberRangeJsonUnmarshaller implements Unmarshaller<Sequenc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartingSequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    sequenceNumberRange.setStartingSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndingSequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    sequenceNumberRange.setEndingSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 1546293994:
+                        if (fieldName.equals("StartingSequenceNumber")) {
+                            context.nextToken();
+                            sequenceNumberRange.setStartingSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 872724369:
+                        if (fieldName.equals("EndingSequenceNumber")) {
+                            context.nextToken();
+                            sequenceNumberRange.setEndingSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,37 +48,58 @@ public class SourceTableDetailsJsonUnmarshaller implements Unmarshaller<SourceTa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    sourceTableDetails.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableId", targetDepth)) {
-                    context.nextToken();
-                    sourceTableDetails.setTableId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableArn", targetDepth)) {
-                    context.nextToken();
-                    sourceTableDetails.setTableArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    sourceTableDetails.setTableSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    sourceTableDetails.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("TableCreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    sourceTableDetails.setTableCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    sourceTableDetails.setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
-                    context.nextToken();
-                    sourceTableDetails.setItemCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 15250265:
+                        if (fieldName.equals("TableName")) {
+                            context.nextToken();
+                            sourceTableDetails.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 111747433:
+                        if (fieldName.equals("TableId")) {
+                            context.nextToken();
+                            sourceTableDetails.setTableId(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -830804017:
+                        if (fieldName.equals("TableArn")) {
+                            context.nextToken();
+                            sourceTableDetails.setTableArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 861528284:
+                        if (fieldName.equals("TableSizeBytes")) {
+                            context.nextToken();
+                            sourceTableDetails.setTableSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -303936:
+                        if (fieldName.equals("KeySchema")) {
+                            context.nextToken();
+                            sourceTableDetails.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1986648216:
+                        if (fieldName.equals("TableCreationDateTime")) {
+                            context.nextToken();
+                            sourceTableDetails.setTableCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 613725534:
+                        if (fieldName.equals("ProvisionedThroughput")) {
+                            context.nextToken();
+                            sourceTableDetails.setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -163186276:
+                        if (fieldName.equals("ItemCount")) {
+                            context.nextToken();
+                            sourceTableDetails.setItemCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,23 +48,36 @@ public class SourceTableFeatureDetailsJsonUnmarshaller implements Unmarshaller<S
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LocalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    sourceTableFeatureDetails.setLocalSecondaryIndexes(new ListUnmarshaller<LocalSecondaryIndexInfo>(LocalSecondaryIndexInfoJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    sourceTableFeatureDetails.setGlobalSecondaryIndexes(new ListUnmarshaller<GlobalSecondaryIndexInfo>(GlobalSecondaryIndexInfoJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("StreamDescription", targetDepth)) {
-                    context.nextToken();
-                    sourceTableFeatureDetails.setStreamDescription(StreamSpecificationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TimeToLiveDescription", targetDepth)) {
-                    context.nextToken();
-                    sourceTableFeatureDetails.setTimeToLiveDescription(TimeToLiveDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -1874009513:
+                        if (fieldName.equals("LocalSecondaryIndexes")) {
+                            context.nextToken();
+                            sourceTableFeatureDetails.setLocalSecondaryIndexes(new ListUnmarshaller<LocalSecondaryIndexInfo>(LocalSecondaryIndexInfoJsonUnmarshaller
+                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1529351473:
+                        if (fieldName.equals("GlobalSecondaryIndexes")) {
+                            context.nextToken();
+                            sourceTableFeatureDetails.setGlobalSecondaryIndexes(new ListUnmarshaller<GlobalSecondaryIndexInfo>(GlobalSecondaryIndexInfoJsonUnmarshaller
+                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 541682748:
+                        if (fieldName.equals("StreamDescription")) {
+                            context.nextToken();
+                            sourceTableFeatureDetails.setStreamDescription(StreamSpecificationJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -807599096:
+                        if (fieldName.equals("TimeToLiveDescription")) {
+                            context.nextToken();
+                            sourceTableFeatureDetails.setTimeToLiveDescription(TimeToLiveDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
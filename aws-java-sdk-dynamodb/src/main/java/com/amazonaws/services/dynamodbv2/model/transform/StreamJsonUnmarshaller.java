@@ -48,17 +48,28 @@ public class StreamJsonUnmarshaller implements Unmarshaller<Stream, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamArn", targetDepth)) {
-                    context.nextToken();
-                    stream.setStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    stream.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamLabel", targetDepth)) {
-                    context.nextToken();
-                    stream.setStreamLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 1688314525:
+                        if (fieldName.equals("StreamArn")) {
+                            context.nextToken();
+                            stream.setStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 15250265:
+                        if (fieldName.equals("TableName")) {
+                            context.nextToken();
+                            stream.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1017735372:
+                        if (fieldName.equals("StreamLabel")) {
+                            context.nextToken();
+                            stream.setStreamLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class StreamSpecificationJsonUnmarshaller implements Unmarshaller<StreamS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamEnabled", targetDepth)) {
-                    context.nextToken();
-                    streamSpecification.setStreamEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
-                    context.nextToken();
-                    streamSpecification.setStreamViewType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -337538175:
+                        if (fieldName.equals("StreamEnabled")) {
+                            context.nextToken();
+                            streamSpecification.setStreamEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1974887231:
+                        if (fieldName.equals("StreamViewType")) {
+                            context.nextToken();
+                            streamSpecification.setStreamViewType(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
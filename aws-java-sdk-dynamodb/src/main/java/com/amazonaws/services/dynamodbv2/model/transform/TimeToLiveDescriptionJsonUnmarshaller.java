@@ -48,13 +48,22 @@ public class TimeToLiveDescriptionJsonUnmarshaller implements Unmarshaller<TimeT
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TimeToLiveStatus", targetDepth)) {
-                    context.nextToken();
-                    timeToLiveDescription.setTimeToLiveStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    timeToLiveDescription.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -467568538:
+                        if (fieldName.equals("TimeToLiveStatus")) {
+                            context.nextToken();
+                            timeToLiveDescription.setTimeToLiveStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -650306777:
+                        if (fieldName.equals("AttributeName")) {
+                            context.nextToken();
+                            timeToLiveDescription.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class TimeToLiveSpecificationJsonUnmarshaller implements Unmarshaller<Tim
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Enabled", targetDepth)) {
-                    context.nextToken();
-                    timeToLiveSpecification.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    timeToLiveSpecification.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case 55059233:
+                        if (fieldName.equals("Enabled")) {
+                            context.nextToken();
+                            timeToLiveSpecification.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -650306777:
+                        if (fieldName.equals("AttributeName")) {
+                            context.nextToken();
+                            timeToLiveSpecification.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,22 @@ public class WriteRequestJsonUnmarshaller implements Unmarshaller<WriteRequest,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PutRequest", targetDepth)) {
-                    context.nextToken();
-                    writeRequest.setPutRequest(PutRequestJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DeleteRequest", targetDepth)) {
-                    context.nextToken();
-                    writeRequest.setDeleteRequest(DeleteRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    switch (fieldName.hashCode()) {
+                    case -792071008:
+                        if (fieldName.equals("PutRequest")) {
+                            context.nextToken();
+                            writeRequest.setPutRequest(PutRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1689882180:
+                        if (fieldName.equals("DeleteRequest")) {
+                            context.nextToken();
+                            writeRequest.setDeleteRequest(DeleteRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
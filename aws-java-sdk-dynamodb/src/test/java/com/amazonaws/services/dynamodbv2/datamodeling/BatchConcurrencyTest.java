@@ -0,0 +1,241 @@
+/*
+ * Copyright 2015-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchConcurrency;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+public class BatchConcurrencyTest {
+
+    private static final String TABLE_NAME = "tableName";
+    private static final String HASH_ATTR = "hash";
+    private static final int CONCURRENCY = 4;
+
+    @Test
+    public void testBatchWriteSendsBatchesConcurrently() throws Exception {
+        // Every request waits until all workers have a request in flight
+        final CountDownLatch allInFlight = new CountDownLatch(CONCURRENCY);
+        BatchWriteStub dynamo = new BatchWriteStub() {
+            @Override
+            void beforeWrite() throws InterruptedException {
+                allInFlight.countDown();
+                assertTrue(allInFlight.await(10, TimeUnit.SECONDS));
+            }
+        };
+
+        List<FailedBatch> failedBatches = mapper(dynamo, 0)
+                .batchSave(items(CONCURRENCY * DynamoDBMapper.MAX_ITEMS_PER_BATCH));
+
+        assertEquals(0, failedBatches.size());
+        assertEquals(CONCURRENCY, dynamo.maxInFlight.get());
+        assertEquals(CONCURRENCY, dynamo.requests.get());
+        assertEquals(CONCURRENCY * DynamoDBMapper.MAX_ITEMS_PER_BATCH, dynamo.written.size());
+    }
+
+    @Test
+    public void testUnprocessedItemsAreRequeued() throws Exception {
+        BatchWriteStub dynamo = new BatchWriteStub();
+        dynamo.unprocessedRequests.set(3);
+
+        List<FailedBatch> failedBatches = mapper(dynamo, 10)
+                .batchWriteAsync(items(60), Collections.emptyList(), null)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(0, failedBatches.size());
+        assertEquals(3 + 3, dynamo.requests.get());
+        assertEquals(60, dynamo.written.size());
+    }
+
+    @Test
+    public void testUnprocessedItemsReturnedAfterMaxRetry() throws Exception {
+        BatchWriteStub dynamo = new BatchWriteStub();
+        dynamo.unprocessedRequests.set(Integer.MAX_VALUE);
+
+        List<FailedBatch> failedBatches = mapper(dynamo, 2).batchSave(items(30));
+
+        assertEquals(2, failedBatches.size());
+        assertEquals(2 * 3, dynamo.requests.get());
+        for (FailedBatch failedBatch : failedBatches) {
+            assertNull(failedBatch.getException());
+            assertEquals(1, failedBatch.getUnprocessedItems().get(TABLE_NAME).size());
+        }
+    }
+
+    @Test
+    public void testBatchLoadMergesAllBatches() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        AbstractAmazonDynamoDB dynamo = new AbstractAmazonDynamoDB() {
+            @Override
+            public BatchGetItemResult batchGetItem(BatchGetItemRequest request) {
+                requests.incrementAndGet();
+                KeysAndAttributes keys = request.getRequestItems().get(TABLE_NAME);
+                return new BatchGetItemResult()
+                        .withResponses(Collections.singletonMap(TABLE_NAME, keys.getKeys()))
+                        .withUnprocessedKeys(Collections.<String, KeysAndAttributes>emptyMap());
+            }
+        };
+
+        Map<String, List<Object>> results = mapper(dynamo, 0).batchLoad(items(250));
+
+        assertEquals(3, requests.get());
+        Set<String> hashes = new HashSet<String>();
+        for (Object item : results.get(TABLE_NAME)) {
+            hashes.add(((Item) item).getHash());
+        }
+        assertEquals(250, hashes.size());
+    }
+
+    @Test
+    public void testWriteCapacityUnitsLimitWriteRate() {
+        BatchConcurrency concurrency = BatchConcurrency.SEQUENTIAL.withWriteCapacityUnits(TABLE_NAME, 50);
+        assertEquals(Double.valueOf(50), concurrency.getWriteCapacityUnits(TABLE_NAME));
+        assertNull(BatchConcurrency.SEQUENTIAL.getWriteCapacityUnits(TABLE_NAME));
+
+        TokenBucketRateLimiter limiter = concurrency.getWriteLimiter(TABLE_NAME);
+        long now = System.nanoTime();
+        long halfSecond = TimeUnit.MILLISECONDS.toNanos(500);
+
+        // One second's worth of capacity is available up front
+        assertEquals(0, limiter.reserve(50, now));
+        assertEquals(halfSecond, limiter.reserve(25, now));
+        assertEquals(halfSecond, limiter.reserve(25, now + halfSecond));
+        assertEquals(0, limiter.reserve(50, now + 3 * halfSecond + TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private static DynamoDBMapper mapper(AbstractAmazonDynamoDB dynamo, int maxRetry) {
+        return new DynamoDBMapper(dynamo, DynamoDBMapperConfig.builder()
+                .withBatchWriteRetryStrategy(new NoDelayRetryStrategy(maxRetry))
+                .withBatchConcurrency(BatchConcurrency.withMaxConcurrentBatches(CONCURRENCY))
+                .build());
+    }
+
+    private static List<Item> items(int count) {
+        List<Item> items = new ArrayList<Item>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item("item" + i));
+        }
+        return items;
+    }
+
+    /**
+     * Records written items; the first requests return their last item as
+     * unprocessed.
+     */
+    private static class BatchWriteStub extends AbstractAmazonDynamoDB {
+        final Set<String> written = Collections.synchronizedSet(new HashSet<String>());
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger unprocessedRequests = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        void beforeWrite() throws InterruptedException {
+        }
+
+        @Override
+        public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+            requests.incrementAndGet();
+            int current = inFlight.incrementAndGet();
+            synchronized (maxInFlight) {
+                maxInFlight.set(Math.max(maxInFlight.get(), current));
+            }
+            try {
+                beforeWrite();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            List<WriteRequest> writes = request.getRequestItems().get(TABLE_NAME);
+            Map<String, List<WriteRequest>> unprocessed = new HashMap<String, List<WriteRequest>>();
+            if (unprocessedRequests.getAndDecrement() > 0) {
+                unprocessed.put(TABLE_NAME, writes.subList(writes.size() - 1, writes.size()));
+                writes = writes.subList(0, writes.size() - 1);
+            }
+            for (WriteRequest write : writes) {
+                written.add(write.getPutRequest().getItem().get(HASH_ATTR).getS());
+            }
+            return new BatchWriteItemResult().withUnprocessedItems(unprocessed);
+        }
+    }
+
+    private static class NoDelayRetryStrategy implements BatchWriteRetryStrategy {
+        private final int maxRetry;
+
+        NoDelayRetryStrategy(int maxRetry) {
+            this.maxRetry = maxRetry;
+        }
+
+        @Override
+        public int getMaxRetryOnUnprocessedItems(Map<String, List<WriteRequest>> batchWriteItemInput) {
+            return maxRetry;
+        }
+
+        @Override
+        public long getDelayBeforeRetryUnprocessedItems(Map<String, List<WriteRequest>> unprocessedItems,
+                                                        int retriesAttempted) {
+            return 0;
+        }
+    }
+
+    @DynamoDBTable(tableName = TABLE_NAME)
+    public static class Item {
+
+        private String hash;
+
+        public Item() {
+        }
+
+        public Item(String hash) {
+            this.hash = hash;
+        }
+
+        @DynamoDBHashKey
+        @DynamoDBAttribute(attributeName = HASH_ATTR)
+        public String getHash() {
+            return hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+    }
+}
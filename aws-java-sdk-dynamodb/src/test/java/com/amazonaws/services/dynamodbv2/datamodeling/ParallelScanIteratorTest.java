@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+
+public class ParallelScanIteratorTest {
+
+    private static final String TABLE_NAME = "tableName";
+    private static final String HASH_ATTR = "hash";
+    private static final int SEGMENTS = 4;
+    private static final int PAGES_PER_SEGMENT = 5;
+    private static final int ITEMS_PER_PAGE = 3;
+    private static final int TOTAL_ITEMS = SEGMENTS * PAGES_PER_SEGMENT * ITEMS_PER_PAGE;
+
+    @Test
+    public void testReturnsEveryItemOnce() {
+        ScanStub dynamo = new ScanStub();
+
+        List<String> hashes = drain(iterator(dynamo, new ParallelScanOptions()));
+
+        assertEquals(TOTAL_ITEMS, hashes.size());
+        assertEquals(TOTAL_ITEMS, new HashSet<String>(hashes).size());
+        assertEquals(SEGMENTS * PAGES_PER_SEGMENT, dynamo.requests.get());
+    }
+
+    @Test
+    public void testBufferedPagesAreBounded() throws Exception {
+        ScanStub dynamo = new ScanStub();
+        ParallelScanIterator<Item> iterator = iterator(dynamo,
+                new ParallelScanOptions().withMaxBufferedPages(1));
+
+        Thread.sleep(500);
+        // One buffered page, plus one page held by each blocked segment
+        assertTrue(dynamo.requests.get() <= 1 + SEGMENTS);
+
+        assertEquals(TOTAL_ITEMS, drain(iterator).size());
+    }
+
+    @Test
+    public void testResumesFromCheckpoint() {
+        ScanStub dynamo = new ScanStub();
+        ParallelScanIterator<Item> iterator = iterator(dynamo, new ParallelScanOptions());
+
+        Set<String> hashes = new HashSet<String>();
+        for (int i = 0; i < TOTAL_ITEMS / 2; i++) {
+            hashes.add(iterator.next().getHash());
+        }
+        ParallelScanCheckpoint checkpoint = iterator.getCheckpoint();
+        iterator.close();
+        assertFalse(checkpoint.isComplete());
+
+        List<String> resumed = drain(iterator(dynamo, new ParallelScanOptions().withCheckpoint(checkpoint)));
+        assertTrue(resumed.size() < TOTAL_ITEMS);
+        hashes.addAll(resumed);
+        assertEquals(TOTAL_ITEMS, hashes.size());
+    }
+
+    @Test
+    public void testCompletedCheckpoint() {
+        ScanStub dynamo = new ScanStub();
+        ParallelScanIterator<Item> iterator = iterator(dynamo, new ParallelScanOptions());
+        drain(iterator);
+        ParallelScanCheckpoint checkpoint = iterator.getCheckpoint();
+        assertTrue(checkpoint.isComplete());
+
+        int requests = dynamo.requests.get();
+        assertFalse(iterator(dynamo, new ParallelScanOptions().withCheckpoint(checkpoint)).hasNext());
+        assertEquals(requests, dynamo.requests.get());
+    }
+
+    @Test
+    public void testSegmentFailureIsRethrown() {
+        ScanStub dynamo = new ScanStub();
+        dynamo.failingSegment = 2;
+        ParallelScanIterator<Item> iterator = iterator(dynamo, new ParallelScanOptions());
+
+        int items = 0;
+        try {
+            while (iterator.hasNext()) {
+                iterator.next();
+                items++;
+            }
+            fail("Expected the failure of segment 2");
+        } catch (AmazonServiceException expected) {
+            assertEquals("BOOM", expected.getErrorMessage());
+        }
+        assertTrue(items >= ITEMS_PER_PAGE);
+    }
+
+    @Test
+    public void testRequestsConsumedCapacityWhenRateLimited() {
+        ScanStub dynamo = new ScanStub();
+
+        List<String> hashes = drain(iterator(dynamo,
+                new ParallelScanOptions().withReadCapacityUnits(1000.0)));
+
+        assertEquals(TOTAL_ITEMS, hashes.size());
+        assertEquals(SEGMENTS * PAGES_PER_SEGMENT, dynamo.consumedCapacityRequests.get());
+    }
+
+    private static ParallelScanIterator<Item> iterator(ScanStub dynamo, ParallelScanOptions options) {
+        return new DynamoDBMapper(dynamo).parallelScanIterator(
+                Item.class, new DynamoDBScanExpression(), SEGMENTS, options);
+    }
+
+    private static List<String> drain(ParallelScanIterator<Item> iterator) {
+        List<String> hashes = new ArrayList<String>();
+        while (iterator.hasNext()) {
+            hashes.add(iterator.next().getHash());
+        }
+        return hashes;
+    }
+
+    /**
+     * Serves PAGES_PER_SEGMENT pages for every segment, keyed by page number.
+     */
+    private static class ScanStub extends AbstractAmazonDynamoDB {
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger consumedCapacityRequests = new AtomicInteger();
+        volatile int failingSegment = -1;
+
+        @Override
+        public ScanResult scan(ScanRequest request) {
+            requests.incrementAndGet();
+            int segment = request.getSegment();
+            Map<String, AttributeValue> startKey = request.getExclusiveStartKey();
+            int page = startKey == null ? 0 : Integer.parseInt(startKey.get(HASH_ATTR).getN()) + 1;
+            if (segment == failingSegment && page == 1) {
+                AmazonServiceException e = new AmazonServiceException("BOOM");
+                e.setErrorMessage("BOOM");
+                throw e;
+            }
+
+            List<Map<String, AttributeValue>> items = new ArrayList<Map<String, AttributeValue>>();
+            for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+                items.add(Collections.singletonMap(HASH_ATTR,
+                        new AttributeValue(segment + "-" + page + "-" + i)));
+            }
+            ScanResult result = new ScanResult().withItems(items);
+            if (page < PAGES_PER_SEGMENT - 1) {
+                result.setLastEvaluatedKey(Collections.singletonMap(HASH_ATTR,
+                        new AttributeValue().withN(Integer.toString(page))));
+            }
+            if (ReturnConsumedCapacity.TOTAL.toString().equals(request.getReturnConsumedCapacity())) {
+                consumedCapacityRequests.incrementAndGet();
+                result.setConsumedCapacity(new ConsumedCapacity().withCapacityUnits(1.5));
+            }
+            return result;
+        }
+    }
+
+    @DynamoDBTable(tableName = TABLE_NAME)
+    public static class Item {
+
+        private String hash;
+
+        @DynamoDBHashKey
+        @DynamoDBAttribute(attributeName = HASH_ATTR)
+        public String getHash() {
+            return hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+    }
+}
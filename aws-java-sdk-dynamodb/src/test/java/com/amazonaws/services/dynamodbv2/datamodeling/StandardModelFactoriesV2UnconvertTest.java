@@ -83,6 +83,19 @@ public class StandardModelFactoriesV2UnconvertTest {
                 new AttributeValue().withBOOL(true)));
     }
 
+    @Test
+    public void testBooleanFromString() {
+        final DynamoDBTypeConverter<String,Boolean> converter =
+            DynamoDBTypeConverterFactory.standard().getConverter(String.class, Boolean.class);
+
+        for (final String value : new String[] {"0", "n", "N", "false", "FALSE", "no", ""}) {
+            assertEquals(value, false, converter.unconvert(value));
+        }
+        for (final String value : new String[] {"1", "y", "Y", "true", "TRUE"}) {
+            assertEquals(value, true, converter.unconvert(value));
+        }
+    }
+
     @Test
     public void testString() {
         assertEquals("test", unconvert("getString", "setString",
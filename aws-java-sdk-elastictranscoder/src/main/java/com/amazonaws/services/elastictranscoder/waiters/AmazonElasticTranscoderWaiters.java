@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class AmazonElasticTranscoderWaiters {
@@ -32,6 +33,8 @@ public class AmazonElasticTranscoderWaiters {
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AmazonElasticTranscoderWaiters with the given client
      * 
@@ -40,7 +43,22 @@ public class AmazonElasticTranscoderWaiters {
      */
     @SdkInternalApi
     public AmazonElasticTranscoderWaiters(AmazonElasticTranscoder client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AmazonElasticTranscoderWaiters with the given client, whose asynchronous waits are polled on the
+     * given scheduled executor service instead of holding a thread each. The scheduled executor service can be shared
+     * with other waiters and is not shut down by {@link #shutdown()}.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AmazonElasticTranscoderWaiters(AmazonElasticTranscoder client, ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -53,7 +71,7 @@ public class AmazonElasticTranscoderWaiters {
         return new WaiterBuilder<ReadJobRequest, ReadJobResult>().withSdkFunction(new ReadJobFunction(client))
                 .withAcceptors(new JobComplete.IsCompleteMatcher(), new JobComplete.IsCanceledMatcher(), new JobComplete.IsErrorMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(120), new FixedDelayStrategy(30)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     public void shutdown() {
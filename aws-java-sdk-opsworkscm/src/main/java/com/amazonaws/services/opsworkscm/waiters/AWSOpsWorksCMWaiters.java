@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class AWSOpsWorksCMWaiters {
@@ -32,6 +33,8 @@ public class AWSOpsWorksCMWaiters {
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AWSOpsWorksCMWaiters with the given client
      * 
@@ -40,7 +43,22 @@ public class AWSOpsWorksCMWaiters {
      */
     @SdkInternalApi
     public AWSOpsWorksCMWaiters(AWSOpsWorksCM client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AWSOpsWorksCMWaiters with the given client, whose asynchronous waits are polled on the given
+     * scheduled executor service instead of holding a thread each. The scheduled executor service can be shared with
+     * other waiters and is not shut down by {@link #shutdown()}.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AWSOpsWorksCMWaiters(AWSOpsWorksCM client, ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -54,7 +72,7 @@ public class AWSOpsWorksCMWaiters {
                 .withSdkFunction(new DescribeNodeAssociationStatusFunction(client))
                 .withAcceptors(new NodeAssociated.IsSUCCESSMatcher(), new NodeAssociated.IsFAILEDMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(15), new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     public void shutdown() {
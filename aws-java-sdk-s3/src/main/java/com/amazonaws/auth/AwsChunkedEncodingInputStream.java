@@ -19,10 +19,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
+import java.security.DigestException;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.apache.commons.logging.Log;
@@ -30,34 +31,66 @@ import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.SdkClientException;
 import com.amazonaws.internal.SdkInputStream;
-import com.amazonaws.util.BinaryUtils;
 
 /**
  * A wrapper class of InputStream that implements chunked-encoding.
+ * <p>
+ * Each chunk is read, signed and framed in place in a single buffer that is
+ * reused for every chunk of the stream (and by the streams created when the
+ * request is retried), so encoding a payload of any size allocates no memory
+ * per chunk.
  */
 public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     protected static final String DEFAULT_ENCODING = "UTF-8";
 
-    private static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+    /** The size of the chunks the payload is split into by default. */
+    public static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+
+    /** The smallest chunk size accepted by Amazon S3 for all but the last chunk. */
+    public static final int MINIMUM_CHUNK_SIZE = 8 * 1024;
+
     private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
 
     private static final String CRLF = "\r\n";
     private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
     private static final String CHUNK_SIGNATURE_HEADER = ";chunk-signature=";
     private static final int SIGNATURE_LENGTH = 64;
-    private static final byte[] FINAL_CHUNK = new byte[0];
+
+    private static final byte[] CRLF_BYTES = CRLF.getBytes(UTF8);
+    private static final byte[] CHUNK_SIGNATURE_HEADER_BYTES = CHUNK_SIGNATURE_HEADER.getBytes(UTF8);
+    private static final byte[] EMPTY_STRING_SHA256_LINE =
+            ("\n" + AbstractAWSSigner.EMPTY_STRING_SHA256_HEX + "\n").getBytes(UTF8);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(UTF8);
 
     private InputStream is = null;
     private final int maxBufferSize;
-    private final String dateTime;
-    private final String keyPath;
-    private final String headerSignature;
-    private String priorChunkSignature;
-    private final AWS4Signer aws4Signer;
+    private final int chunkSize;
+    private final byte[] headerSignature;
+    /** The signature of the last chunk signed, hex encoded. */
+    private final byte[] chunkSignature = new byte[SIGNATURE_LENGTH];
+    /** Either the header signature or {@link #chunkSignature}. */
+    private byte[] priorChunkSignature;
+
+    /** The "AWS4-HMAC-SHA256-PAYLOAD", date time and scope lines of each chunk's string to sign. */
+    private final byte[] stringToSignPrefix;
 
     private final MessageDigest sha256;
     private final Mac hmacSha256;
 
+    /** Scratch space for the binary chunk hash and signature. */
+    private final byte[] digest = new byte[32];
+    /** Scratch space for the hex encoded chunk hash. */
+    private final byte[] hexDigest = new byte[SIGNATURE_LENGTH];
+    private final byte[] singleByte = new byte[1];
+
+    /**
+     * Buffer holding the current signed chunk: the chunk data is read at
+     * {@link #chunkDataOffset}, preceded by the chunk header and followed by
+     * the trailing CRLF.
+     */
+    private byte[] signedChunkBuffer;
+    private final int chunkDataOffset;
+
     /** Iterator on the current chunk that has been signed */
     private ChunkContentIterator currentChunkIterator;
 
@@ -79,11 +112,18 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
         this(in, DEFAULT_BUFFER_SIZE, kSigning, datetime, keyPath, headerSignature, aws4Signer);
     }
 
+    public AwsChunkedEncodingInputStream(InputStream in, int maxBufferSize,
+            byte[] kSigning, String datetime, String keyPath,
+            String headerSignature, AWS4Signer aws4Signer) {
+        this(in, maxBufferSize, DEFAULT_CHUNK_SIZE, kSigning, datetime, keyPath, headerSignature, aws4Signer);
+    }
+
     /**
      * A wrapper of InputStream that implements pseudo-chunked-encoding.
      * Each chunk will be buffered for the calculation of the chunk signature
      * which is added at the head of each chunk.<br>
-     * The default chunk size cannot be customized, since we need to calculate
+     * The chunk size must match the one passed to
+     * {@link #calculateStreamContentLength(long, int)}, since we need to calculate
      * the expected encoded stream length before reading the wrapped stream.<br>
      * This class will use the mark() & reset() of the wrapped InputStream if they
      * are supported, otherwise it will create a buffer for bytes read from
@@ -92,6 +132,8 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      *             The original InputStream.
      * @param maxBufferSize
      *             Maximum number of bytes buffered by this class.
+     * @param chunkSize
+     *             Number of payload bytes in each chunk but the last.
      * @param kSigning
      *             Signing key.
      * @param datetime
@@ -102,24 +144,35 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      *             The signature of the signed headers. This will be used for
      *             calculating the signature of the first chunk.
      * @param aws4Signer
-     *             The AWS4Signer used for hashing and signing.
+     *             Not used; the chunks are signed with the given signing key.
      */
     public AwsChunkedEncodingInputStream(InputStream in, int maxBufferSize,
-            byte[] kSigning, String datetime, String keyPath,
+            int chunkSize, byte[] kSigning, String datetime, String keyPath,
             String headerSignature, AWS4Signer aws4Signer) {
+        if (chunkSize < MINIMUM_CHUNK_SIZE)
+            throw new IllegalArgumentException("Chunk size should not be less than " + MINIMUM_CHUNK_SIZE);
+        this.chunkSize = chunkSize;
+        this.chunkDataOffset = Integer.toHexString(chunkSize).length()
+                + CHUNK_SIGNATURE_HEADER_BYTES.length
+                + SIGNATURE_LENGTH
+                + CRLF_BYTES.length;
+
         if (in instanceof AwsChunkedEncodingInputStream) {
             // This could happen when the request is retried, and we need to re-calculate the signatures.
             AwsChunkedEncodingInputStream originalChunkedStream = (AwsChunkedEncodingInputStream)in;
             maxBufferSize = Math.max(originalChunkedStream.maxBufferSize, maxBufferSize);
             is = originalChunkedStream.is;
             decodedStreamBuffer = originalChunkedStream.decodedStreamBuffer;
+            if (originalChunkedStream.chunkSize == chunkSize) {
+                signedChunkBuffer = originalChunkedStream.signedChunkBuffer;
+            }
         }
         else {
             is = in;
             decodedStreamBuffer = null;
         }
 
-        if (maxBufferSize < DEFAULT_CHUNK_SIZE)
+        if (maxBufferSize < chunkSize)
             throw new IllegalArgumentException("Max buffer size should not be less than chunk size");
         try {
             this.sha256 = MessageDigest.getInstance("SHA-256");
@@ -132,21 +185,20 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             throw new IllegalArgumentException(e);
         }
         this.maxBufferSize = maxBufferSize;
-        this.dateTime = datetime;
-        this.keyPath = keyPath;
-        this.headerSignature = headerSignature;
-        this.priorChunkSignature = headerSignature;
-        this.aws4Signer = aws4Signer;
+        this.stringToSignPrefix = (CHUNK_STRING_TO_SIGN_PREFIX + "\n" +
+                datetime + "\n" +
+                keyPath + "\n").getBytes(UTF8);
+        this.headerSignature = headerSignature.getBytes(UTF8);
+        this.priorChunkSignature = this.headerSignature;
     }
 
     @Override
     public int read() throws IOException {
-        byte[] tmp = new byte[1];
-        int count = read(tmp, 0, 1);
+        int count = read(singleByte, 0, 1);
         if (count != -1) {
             if (log.isDebugEnabled())
                 log.debug("One byte read from the stream.");
-            int unsignedByte = (int) tmp[0] & 0xFF;
+            int unsignedByte = (int) singleByte[0] & 0xFF;
             return unsignedByte;
         } else {
             return count;
@@ -187,13 +239,18 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
         if (n <= 0) {
             return 0;
         }
+        abortIfNeeded();
         long remaining = n;
-        int toskip = (int) Math.min(DEFAULT_BUFFER_SIZE, n);
-        byte[] temp = new byte[toskip];
         while (remaining > 0) {
-            int count;
-            if ( (count = read(temp, 0, toskip)) < 0) {
-                break;
+            if (null == currentChunkIterator
+                    || !currentChunkIterator.hasNext()) {
+                if (isTerminating)
+                    break;
+                isTerminating = setUpNextChunk();
+            }
+            int count = currentChunkIterator.skip(remaining);
+            if (count > 0) {
+                isAtStart = false;
             }
             remaining -= count;
         }
@@ -266,13 +323,21 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     }
 
     public static long calculateStreamContentLength(long originalLength) {
+        return calculateStreamContentLength(originalLength, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Returns the length of the chunk-encoded stream of a payload of the given
+     * length split into chunks of the given size.
+     */
+    public static long calculateStreamContentLength(long originalLength, int chunkSize) {
         if (originalLength < 0) {
             throw new IllegalArgumentException("Nonnegative content length expected.");
         }
 
-        long maxSizeChunks = originalLength / DEFAULT_CHUNK_SIZE;
-        long remainingBytes =  originalLength % DEFAULT_CHUNK_SIZE;
-        return maxSizeChunks * calculateSignedChunkLength(DEFAULT_CHUNK_SIZE)
+        long maxSizeChunks = originalLength / chunkSize;
+        long remainingBytes =  originalLength % chunkSize;
+        return maxSizeChunks * calculateSignedChunkLength(chunkSize)
                 + (remainingBytes > 0? calculateSignedChunkLength(remainingBytes) : 0)
                 + calculateSignedChunkLength(0);
     }
@@ -292,74 +357,94 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      *         Returns true if next chunk is the last empty chunk.
      */
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
-        int chunkSizeInBytes = 0;
-        while (chunkSizeInBytes < DEFAULT_CHUNK_SIZE) {
+        if (signedChunkBuffer == null) {
+            signedChunkBuffer = new byte[chunkDataOffset + chunkSize + CRLF_BYTES.length];
+        }
+        final byte[] chunkData = signedChunkBuffer;
+        final int dataEnd = chunkDataOffset + chunkSize;
+        int position = chunkDataOffset;
+        while (position < dataEnd) {
             /** Read from the buffer of the decoded stream */
             if (null != decodedStreamBuffer
                     && decodedStreamBuffer.hasNext()) {
-                chunkData[chunkSizeInBytes++] = decodedStreamBuffer.next();
+                position += decodedStreamBuffer.next(chunkData, position, dataEnd - position);
             }
             /** Read from the wrapped stream */
             else {
-                int bytesToRead = DEFAULT_CHUNK_SIZE - chunkSizeInBytes;
-                int count = is.read(chunkData, chunkSizeInBytes, bytesToRead);
+                int bytesToRead = dataEnd - position;
+                int count = is.read(chunkData, position, bytesToRead);
                 if (count != -1) {
                     if (null != decodedStreamBuffer)
-                        decodedStreamBuffer.buffer(chunkData, chunkSizeInBytes, count);
-                    chunkSizeInBytes += count;
+                        decodedStreamBuffer.buffer(chunkData, position, count);
+                    position += count;
                 }
                 else
                     break;
             }
         }
-        if (chunkSizeInBytes == 0){
-            byte[] signedFinalChunk = createSignedChunk(FINAL_CHUNK);
-            currentChunkIterator = new ChunkContentIterator(signedFinalChunk);
-            return true;
-        }
-        else {
-            if (chunkSizeInBytes < chunkData.length) {
-                chunkData = Arrays.copyOf(chunkData, chunkSizeInBytes);
-            }
-            byte[] signedChunkContent = createSignedChunk(chunkData);
-            currentChunkIterator = new ChunkContentIterator(signedChunkContent);
-            return false;
+        int chunkSizeInBytes = position - chunkDataOffset;
+        int chunkStart = signChunk(chunkSizeInBytes);
+        if (currentChunkIterator == null) {
+            currentChunkIterator = new ChunkContentIterator(signedChunkBuffer, chunkStart,
+                    position + CRLF_BYTES.length);
+        } else {
+            currentChunkIterator.reset(chunkStart, position + CRLF_BYTES.length);
         }
+        return chunkSizeInBytes == 0;
     }
 
-    private byte[] createSignedChunk(byte[] chunkData) {
-        StringBuilder chunkHeader = new StringBuilder();
-        // chunk-size
-        chunkHeader.append(Integer.toHexString(chunkData.length));
-        // sig-extension
-        final String chunkStringToSign =
-                CHUNK_STRING_TO_SIGN_PREFIX + "\n" +
-                dateTime + "\n" +
-                keyPath + "\n" +
-                priorChunkSignature + "\n" +
-                AbstractAWSSigner.EMPTY_STRING_SHA256_HEX + "\n" +
-                BinaryUtils.toHex(sha256.digest(chunkData));
-        final String chunkSignature =
-            BinaryUtils.toHex(aws4Signer.signWithMac(chunkStringToSign, hmacSha256));
-        priorChunkSignature = chunkSignature;
-        chunkHeader.append(CHUNK_SIGNATURE_HEADER)
-                   .append(chunkSignature)
-                   .append(CRLF)
-                   ;
+    /**
+     * Signs the chunk data at {@link #chunkDataOffset} of the buffer, writing
+     * the chunk header in front of it and the trailing CRLF after it.
+     *
+     * @return The offset in the buffer at which the signed chunk starts.
+     */
+    private int signChunk(int chunkDataLength) {
+        final byte[] buffer = signedChunkBuffer;
         try {
-            byte[] header = chunkHeader.toString().getBytes(UTF8);
-            byte[] trailer = CRLF.getBytes(UTF8);
-            byte[] signedChunk = new byte[header.length + chunkData.length + trailer.length];
-            System.arraycopy(header, 0, signedChunk, 0, header.length);
-            System.arraycopy(chunkData, 0, signedChunk, header.length, chunkData.length);
-            System.arraycopy(trailer, 0,
-                    signedChunk, header.length + chunkData.length,
-                    trailer.length);
-            return signedChunk;
-        } catch (Exception e) {
+            // sig-extension
+            sha256.update(buffer, chunkDataOffset, chunkDataLength);
+            sha256.digest(digest, 0, digest.length);
+            toHex(digest, hexDigest, 0);
+
+            hmacSha256.update(stringToSignPrefix);
+            hmacSha256.update(priorChunkSignature);
+            hmacSha256.update(EMPTY_STRING_SHA256_LINE);
+            hmacSha256.update(hexDigest);
+            hmacSha256.doFinal(digest, 0);
+            toHex(digest, chunkSignature, 0);
+            priorChunkSignature = chunkSignature;
+        } catch (DigestException e) {
+            throw new SdkClientException("Unable to sign the chunked data. " + e.getMessage(), e);
+        } catch (ShortBufferException e) {
             throw new SdkClientException("Unable to sign the chunked data. " + e.getMessage(), e);
         }
+
+        // chunk-size
+        int hexLength = 1;
+        while (hexLength < 8 && chunkDataLength >>> (4 * hexLength) != 0) {
+            hexLength++;
+        }
+        int headerLength = hexLength + CHUNK_SIGNATURE_HEADER_BYTES.length + SIGNATURE_LENGTH + CRLF_BYTES.length;
+        int chunkStart = chunkDataOffset - headerLength;
+        int position = chunkStart;
+        for (int shift = 4 * (hexLength - 1); shift >= 0; shift -= 4) {
+            buffer[position++] = HEX_DIGITS[(chunkDataLength >>> shift) & 0xF];
+        }
+        System.arraycopy(CHUNK_SIGNATURE_HEADER_BYTES, 0, buffer, position, CHUNK_SIGNATURE_HEADER_BYTES.length);
+        position += CHUNK_SIGNATURE_HEADER_BYTES.length;
+        System.arraycopy(chunkSignature, 0, buffer, position, SIGNATURE_LENGTH);
+        position += SIGNATURE_LENGTH;
+        System.arraycopy(CRLF_BYTES, 0, buffer, position, CRLF_BYTES.length);
+        System.arraycopy(CRLF_BYTES, 0, buffer, chunkDataOffset + chunkDataLength, CRLF_BYTES.length);
+        return chunkStart;
+    }
+
+    private static void toHex(byte[] data, byte[] destination, int offset) {
+        for (int i = 0; i < data.length; i++) {
+            destination[offset + 2 * i] = HEX_DIGITS[(data[i] >> 4) & 0xF];
+            destination[offset + 2 * i + 1] = HEX_DIGITS[data[i] & 0xF];
+        }
     }
 
     @Override
@@ -14,17 +14,36 @@
  */
 package com.amazonaws.auth;
 
+/**
+ * Iterates over the bytes of the current signed chunk, which occupy a range of
+ * a buffer reused for every chunk of the stream.
+ */
 class ChunkContentIterator {
 
     private final byte[] signedChunk;
     private int pos;
+    private int end;
 
     public ChunkContentIterator(byte[] signedChunk) {
+        this(signedChunk, 0, signedChunk.length);
+    }
+
+    public ChunkContentIterator(byte[] signedChunk, int start, int end) {
         this.signedChunk = signedChunk;
+        reset(start, end);
+    }
+
+    /**
+     * Points this iterator at the signed chunk in the given range of the
+     * buffer.
+     */
+    public void reset(int start, int end) {
+        this.pos = start;
+        this.end = end;
     }
 
     public boolean hasNext() {
-        return pos < signedChunk.length;
+        return pos < end;
     }
 
     public int read(byte[] output, int offset, int length) {
@@ -32,10 +51,21 @@ class ChunkContentIterator {
             return 0;
         if ( !hasNext() )
             return -1;
-        int remaingBytesNum = signedChunk.length - pos;
+        int remaingBytesNum = end - pos;
         int bytesToRead = Math.min(remaingBytesNum, length);
         System.arraycopy(signedChunk, pos, output, offset, bytesToRead);
         pos += bytesToRead;
         return bytesToRead;
     }
+
+    /**
+     * Skips up to the given number of bytes of the current chunk.
+     *
+     * @return The number of bytes skipped.
+     */
+    public int skip(long n) {
+        int skipped = (int) Math.min(end - pos, Math.max(0, n));
+        pos += skipped;
+        return skipped;
+    }
 }
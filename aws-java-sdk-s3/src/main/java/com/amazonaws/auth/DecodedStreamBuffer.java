@@ -71,6 +71,19 @@ class DecodedStreamBuffer {
         return bufferArray[pos++];
     }
 
+    /**
+     * Copies up to the given number of buffered bytes, advancing the read
+     * position.
+     *
+     * @return The number of bytes copied.
+     */
+    public int next(byte[] dst, int offset, int length) {
+        int count = Math.min(length, byteBuffered - pos);
+        System.arraycopy(bufferArray, pos, dst, offset, count);
+        pos += count;
+        return count;
+    }
+
     public void startReadBuffer() {
         if (bufferSizeOverflow) {
             throw new SdkClientException(
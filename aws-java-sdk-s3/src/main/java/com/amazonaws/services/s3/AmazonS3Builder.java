@@ -44,6 +44,8 @@ public abstract class AmazonS3Builder<Subclass extends AmazonS3Builder, TypeToBu
     private Boolean payloadSigningEnabled;
     private Boolean dualstackEnabled;
     private Boolean forceGlobalBucketAccessEnabled;
+    private Integer chunkedEncodingChunkSize;
+    private Boolean singlePassMd5Enabled;
 
     protected AmazonS3Builder() {
         super(CLIENT_CONFIG_FACTORY);
@@ -300,6 +302,92 @@ public abstract class AmazonS3Builder<Subclass extends AmazonS3Builder, TypeToBu
         return getSubclass();
     }
 
+    /**
+     * @return The number of payload bytes in each chunk of a chunk-encoded request configured in
+     * the builder.
+     */
+    public Integer getChunkedEncodingChunkSize() {
+        return chunkedEncodingChunkSize;
+    }
+
+    /**
+     * <p>Configures the number of payload bytes in each chunk of a chunk-encoded request. The
+     * default is 128 KB and chunks must be at least 8 KB.</p>
+     *
+     * <p>Larger chunks reduce the signing and framing overhead of uploading large objects, at the
+     * cost of buffering a whole chunk in memory per upload.</p>
+     *
+     * @param chunkedEncodingChunkSize Size in bytes of each chunk but the last
+     */
+    public void setChunkedEncodingChunkSize(Integer chunkedEncodingChunkSize) {
+        this.chunkedEncodingChunkSize = chunkedEncodingChunkSize;
+    }
+
+    /**
+     * <p>Configures the number of payload bytes in each chunk of a chunk-encoded request. The
+     * default is 128 KB and chunks must be at least 8 KB.</p>
+     *
+     * <p>Larger chunks reduce the signing and framing overhead of uploading large objects, at the
+     * cost of buffering a whole chunk in memory per upload.</p>
+     *
+     * @param chunkedEncodingChunkSize Size in bytes of each chunk but the last
+     * @return This object for method chaining.
+     */
+    public Subclass withChunkedEncodingChunkSize(Integer chunkedEncodingChunkSize) {
+        setChunkedEncodingChunkSize(chunkedEncodingChunkSize);
+        return getSubclass();
+    }
+
+    /**
+     * @return The current setting for single pass MD5 configured in the builder.
+     */
+    public Boolean isSinglePassMd5Enabled() {
+        return singlePassMd5Enabled;
+    }
+
+    /**
+     * <p>Configures the client to compute the MD5 of a file uploaded with a PutObjectRequest while
+     * sending it, and check it against the ETag returned by S3, rather than reading the whole file
+     * beforehand to send the Content-MD5 header. Each byte of the file is then read only once.</p>
+     *
+     * <p>A corrupted upload is detected after the object has been stored. Requests using SSE-C or
+     * SSE-KMS still compute the MD5 beforehand.</p>
+     *
+     * @param singlePassMd5Enabled True to read uploaded files only once
+     * @see S3ClientOptions.Builder#enableSinglePassMd5()
+     */
+    public void setSinglePassMd5Enabled(Boolean singlePassMd5Enabled) {
+        this.singlePassMd5Enabled = singlePassMd5Enabled;
+    }
+
+    /**
+     * <p>Configures the client to compute the MD5 of a file uploaded with a PutObjectRequest while
+     * sending it, and check it against the ETag returned by S3, rather than reading the whole file
+     * beforehand to send the Content-MD5 header. Each byte of the file is then read only once.</p>
+     *
+     * <p>A corrupted upload is detected after the object has been stored. Requests using SSE-C or
+     * SSE-KMS still compute the MD5 beforehand.</p>
+     *
+     * @param singlePassMd5Enabled True to read uploaded files only once
+     * @return This object for method chaining.
+     * @see S3ClientOptions.Builder#enableSinglePassMd5()
+     */
+    public Subclass withSinglePassMd5Enabled(Boolean singlePassMd5Enabled) {
+        setSinglePassMd5Enabled(singlePassMd5Enabled);
+        return getSubclass();
+    }
+
+    /**
+     * Enables single pass MD5 for file uploads.
+     *
+     * @return This object for method chaining.
+     * @see #setSinglePassMd5Enabled(Boolean)
+     */
+    public Subclass enableSinglePassMd5() {
+        setSinglePassMd5Enabled(Boolean.TRUE);
+        return getSubclass();
+    }
+
     /**
      * @return The current setting for dualstack mode configured in the builder.
      */
@@ -420,6 +508,12 @@ public abstract class AmazonS3Builder<Subclass extends AmazonS3Builder, TypeToBu
         if(Boolean.TRUE.equals(this.forceGlobalBucketAccessEnabled)) {
             builder.enableForceGlobalBucketAccess();
         }
+        if (this.chunkedEncodingChunkSize != null) {
+            builder.setChunkedEncodingChunkSize(this.chunkedEncodingChunkSize);
+        }
+        if (Boolean.TRUE.equals(this.singlePassMd5Enabled)) {
+            builder.enableSinglePassMd5();
+        }
         return builder.build();
     }
 }
@@ -1642,7 +1642,15 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
             }
 
-            if (calculateMD5 && !skipMd5CheckStrategy.skipServerSideValidation(putObjectRequest)) {
+            /*
+             * In single pass mode, the MD5 is instead calculated as the file is sent and checked
+             * against the returned ETag, unless the ETag won't be the MD5 of the file.
+             */
+            final boolean calculateMD5InSinglePass = clientOptions.isSinglePassMd5Enabled()
+                    && !skipMd5CheckStrategy.skipClientSideValidationPerRequest(putObjectRequest);
+
+            if (calculateMD5 && !calculateMD5InSinglePass
+                    && !skipMd5CheckStrategy.skipServerSideValidation(putObjectRequest)) {
                 try {
                     String contentMd5_b64 = Md5Utils.md5AsBase64(file);
                     metadata.setContentMD5(contentMd5_b64);
@@ -4219,6 +4227,8 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 Boolean.valueOf(clientOptions.isChunkedEncodingDisabled()));
         request.addHandlerContext(S3HandlerContextKeys.IS_PAYLOAD_SIGNING_ENABLED,
                 Boolean.valueOf(clientOptions.isPayloadSigningEnabled()));
+        request.addHandlerContext(S3HandlerContextKeys.CHUNKED_ENCODING_CHUNK_SIZE,
+                Integer.valueOf(clientOptions.getChunkedEncodingChunkSize()));
         resolveRequestEndpoint(request, bucketName, key, endpoint);
 
         return request;
@@ -30,13 +30,13 @@ import com.amazonaws.services.s3.internal.MultiFileOutputStream;
 import com.amazonaws.services.s3.internal.PartCreationEvent;
 import com.amazonaws.services.s3.internal.S3Direct;
 import com.amazonaws.services.s3.internal.crypto.CryptoModuleDispatcher;
-import com.amazonaws.services.s3.internal.crypto.S3CryptoModule;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
 import com.amazonaws.services.s3.model.CopyPartRequest;
 import com.amazonaws.services.s3.model.CopyPartResult;
 import com.amazonaws.services.s3.model.CryptoConfiguration;
+import com.amazonaws.services.s3.model.CryptoMode;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.EncryptedInitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.EncryptedPutObjectRequest;
@@ -82,7 +82,7 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
         AmazonS3Encryption {
     public static final String USER_AGENT = AmazonS3EncryptionClient.class.getName()
             + "/" + VersionInfoUtils.getVersion();
-    private final S3CryptoModule<?> crypto;
+    private final CryptoModuleDispatcher crypto;
     private final AWSKMS kms;
     /**
      * True if the a default KMS client is constructed, which will be shut down
@@ -91,6 +91,11 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
      * to shut down the KMS client. 
      */
     private final boolean isKMSClientInternal;
+    /**
+     * True if the parts of multi-part uploads are encrypted independently, so
+     * that they can be uploaded in parallel; false otherwise.
+     */
+    private final boolean isParallelMultipartUploadEnabled;
 
     // ///////////////////// Constructors ////////////////
     /**
@@ -511,6 +516,7 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
             : kms;
         this.crypto = new CryptoModuleDispatcher(this.kms, new S3DirectImpl(),
                 credentialsProvider, kekMaterialsProvider, cryptoConfig);
+        this.isParallelMultipartUploadEnabled = isParallelMultipartUploadEnabled(cryptoConfig);
     }
 
     @SdkInternalApi
@@ -526,6 +532,7 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
                         params.getClientParams().getRequestMetricCollector()) : params.getKmsClient();
         this.crypto = new CryptoModuleDispatcher(this.kms, new S3DirectImpl(),
                 params.getClientParams().getCredentialsProvider(), params.getEncryptionMaterials(), params.getCryptoConfiguration());
+        this.isParallelMultipartUploadEnabled = isParallelMultipartUploadEnabled(params.getCryptoConfiguration());
     }
 
     public static AmazonS3EncryptionClientBuilder encryptionBuilder() {
@@ -550,6 +557,24 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
         return kmsClient;
     }
 
+    private static boolean isParallelMultipartUploadEnabled(CryptoConfiguration cryptoConfig) {
+        CryptoMode mode = cryptoConfig.getCryptoMode();
+        return cryptoConfig.isParallelMultipartUploadEnabled()
+            && (mode == CryptoMode.AuthenticatedEncryption
+            ||  mode == CryptoMode.StrictAuthenticatedEncryption);
+    }
+
+    /**
+     * Returns true if the parts of multi-part uploads are encrypted
+     * independently by this client, so that they can be uploaded in parallel;
+     * false if they must be uploaded in series.
+     *
+     * @see CryptoConfiguration#setParallelMultipartUploadEnabled(boolean)
+     */
+    public boolean isParallelMultipartUploadEnabled() {
+        return isParallelMultipartUploadEnabled;
+    }
+
     private void assertParameterNotNull(Object parameterValue,
             String errorMessage) {
         if (parameterValue == null)
@@ -670,10 +695,12 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
      * shut down by calling this method.
      * Otherwise, users who provided the KMS client would be responsible to
      * shut down the KMS client extrinsic to this method.
+     * In either case, any cached data keys are zeroed and evicted.
      */
     @Override
     public void shutdown() {
         super.shutdown();
+        crypto.shutdown();
         if (isKMSClientInternal)
             kms.shutdown();
     }
@@ -14,6 +14,8 @@
  */
 package com.amazonaws.services.s3;
 
+import com.amazonaws.auth.AwsChunkedEncodingInputStream;
+
 /**
  * S3 client configuration options such as the request access style.
  */
@@ -31,6 +33,10 @@ public class S3ClientOptions {
     public static final boolean DEFAULT_DUALSTACK_ENABLED = false;
     /** By default, clients should be created with a region. */
     public static final boolean DEFAULT_FORCE_GLOBAL_BUCKET_ACCESS_ENABLED = false;
+    /** By default, the MD5 of a file upload is computed before it is sent. */
+    public static final boolean DEFAULT_SINGLE_PASS_MD5_ENABLED = false;
+    /** The default size of the chunks of a chunk-encoded payload */
+    public static final int DEFAULT_CHUNKED_ENCODING_CHUNK_SIZE = AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE;
 
     /*
      * TODO: make it final after we remove the deprecated setters.
@@ -41,6 +47,8 @@ public class S3ClientOptions {
     private final boolean payloadSigningEnabled;
     private final boolean dualstackEnabled;
     private final boolean forceGlobalBucketAccessEnabled;
+    private final int chunkedEncodingChunkSize;
+    private final boolean singlePassMd5Enabled;
 
     /**
      * @return a new S3ClientOptions builder.
@@ -58,12 +66,15 @@ public class S3ClientOptions {
         private boolean payloadSigningEnabled = DEFAULT_PAYLOAD_SIGNING_ENABLED;
         private boolean dualstackEnabled = DEFAULT_DUALSTACK_ENABLED;
         private boolean forceGlobalBucketAccessEnabled = DEFAULT_FORCE_GLOBAL_BUCKET_ACCESS_ENABLED;
+        private int chunkedEncodingChunkSize = DEFAULT_CHUNKED_ENCODING_CHUNK_SIZE;
+        private boolean singlePassMd5Enabled = DEFAULT_SINGLE_PASS_MD5_ENABLED;
 
         private Builder() {}
 
         public S3ClientOptions build() {
             return new S3ClientOptions(pathStyleAccess, chunkedEncodingDisabled, accelerateModeEnabled,
-                                       payloadSigningEnabled, dualstackEnabled, forceGlobalBucketAccessEnabled);
+                                       payloadSigningEnabled, dualstackEnabled, forceGlobalBucketAccessEnabled,
+                                       chunkedEncodingChunkSize, singlePassMd5Enabled);
         }
         /**
          * <p>
@@ -155,6 +166,54 @@ public class S3ClientOptions {
             return this;
         }
 
+        /**
+         * <p>
+         * Configures the number of payload bytes in each chunk of a chunk-encoded request.
+         * </p>
+         * <p>
+         * The default is 128 KB. Larger chunks reduce the signing and framing overhead of
+         * uploading large objects, at the cost of buffering a whole chunk in memory per
+         * upload. Chunks must be at least 8 KB.
+         * </p>
+         *
+         * @param chunkedEncodingChunkSize
+         *            Size in bytes of each chunk but the last.
+         * @return this Builder instance that can be used for method chaining
+         */
+        public Builder setChunkedEncodingChunkSize(int chunkedEncodingChunkSize) {
+            if (chunkedEncodingChunkSize < AwsChunkedEncodingInputStream.MINIMUM_CHUNK_SIZE) {
+                throw new IllegalArgumentException("Chunk size should not be less than "
+                                                   + AwsChunkedEncodingInputStream.MINIMUM_CHUNK_SIZE);
+            }
+            this.chunkedEncodingChunkSize = chunkedEncodingChunkSize;
+            return this;
+        }
+
+        /**
+         * <p>
+         * Configures the client to read each file uploaded with a PutObjectRequest only once.
+         * </p>
+         * <p>
+         * By default the client reads the whole file to compute the Content-MD5 header before
+         * sending it, so that S3 can reject a corrupted upload. With this option the MD5 is
+         * instead computed while the file is sent, and checked against the ETag returned by S3.
+         * This halves the disk reads of large uploads. Requests using SSE-C or SSE-KMS, whose
+         * ETag is not the MD5 of the data, still compute the MD5 beforehand.
+         * </p>
+         * <p>
+         * <b>Note:</b> A corrupted upload is then detected after the object has been stored,
+         * and the client throws an exception without deleting the object. The check is also
+         * skipped if the ETag returned is not an MD5, as with a bucket encrypted by default with
+         * SSE-KMS.
+         * </p>
+         *
+         * @return this Builder instance that can be used for method chaining
+         */
+        public Builder enableSinglePassMd5() {
+            this.singlePassMd5Enabled = true;
+            return this;
+        }
+
         /**
          * <p>
          * Configures the client to use the dualstack endpoint for a region
@@ -199,6 +258,8 @@ public class S3ClientOptions {
         this.payloadSigningEnabled = DEFAULT_PAYLOAD_SIGNING_ENABLED;
         this.dualstackEnabled = DEFAULT_DUALSTACK_ENABLED;
         this.forceGlobalBucketAccessEnabled = DEFAULT_FORCE_GLOBAL_BUCKET_ACCESS_ENABLED;
+        this.chunkedEncodingChunkSize = DEFAULT_CHUNKED_ENCODING_CHUNK_SIZE;
+        this.singlePassMd5Enabled = DEFAULT_SINGLE_PASS_MD5_ENABLED;
     }
 
     /**
@@ -213,16 +274,21 @@ public class S3ClientOptions {
         this.payloadSigningEnabled = other.payloadSigningEnabled;
         this.dualstackEnabled = other.dualstackEnabled;
         this.forceGlobalBucketAccessEnabled = other.forceGlobalBucketAccessEnabled;
+        this.chunkedEncodingChunkSize = other.chunkedEncodingChunkSize;
+        this.singlePassMd5Enabled = other.singlePassMd5Enabled;
     }
 
     private S3ClientOptions(boolean pathStyleAccess, boolean chunkedEncodingDisabled, boolean accelerateModeEnabled,
-                            boolean payloadSigningEnabled, boolean dualstackEnabled, boolean forceGlobalBucketAccessEnabled) {
+                            boolean payloadSigningEnabled, boolean dualstackEnabled, boolean forceGlobalBucketAccessEnabled,
+                            int chunkedEncodingChunkSize, boolean singlePassMd5Enabled) {
         this.pathStyleAccess = pathStyleAccess;
         this.chunkedEncodingDisabled = chunkedEncodingDisabled;
         this.accelerateModeEnabled = accelerateModeEnabled;
         this.payloadSigningEnabled = payloadSigningEnabled;
         this.dualstackEnabled = dualstackEnabled;
         this.forceGlobalBucketAccessEnabled = forceGlobalBucketAccessEnabled;
+        this.chunkedEncodingChunkSize = chunkedEncodingChunkSize;
+        this.singlePassMd5Enabled = singlePassMd5Enabled;
     }
 
     /**
@@ -307,6 +373,29 @@ public class S3ClientOptions {
         return payloadSigningEnabled;
     }
 
+    /**
+     * <p>
+     * Returns the number of payload bytes in each chunk of a chunk-encoded request.
+     * </p>
+     *
+     * @see Builder#setChunkedEncodingChunkSize(int)
+     */
+    public int getChunkedEncodingChunkSize() {
+        return chunkedEncodingChunkSize;
+    }
+
+    /**
+     * <p>
+     * Returns whether the client computes the MD5 of uploaded files while sending them, rather
+     * than reading each file beforehand.
+     * </p>
+     *
+     * @see Builder#enableSinglePassMd5()
+     */
+    public boolean isSinglePassMd5Enabled() {
+        return singlePassMd5Enabled;
+    }
+
     /**
      * <p>
      * Returns whether the client is configured to use dualstack mode for
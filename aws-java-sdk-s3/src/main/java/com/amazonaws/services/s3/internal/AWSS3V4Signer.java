@@ -42,6 +42,9 @@ public class AWSS3V4Signer extends AWS4Signer {
     /** Sent to S3 in lieu of a payload hash when unsigned payloads are enabled */
     private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
 
+    /** Maximum number of bytes buffered by a chunk-encoded stream to be able to retry the request */
+    private static final int DEFAULT_CHUNKED_BUFFER_SIZE = 256 * 1024;
+
     /**
      * Don't double-url-encode path elements; S3 expects path elements to be encoded only once in
      * the canonical URI.
@@ -57,8 +60,10 @@ public class AWSS3V4Signer extends AWS4Signer {
     protected void processRequestPayload(SignableRequest<?> request, byte[] signature,
             byte[] signingKey, AWS4SignerRequestParams signerRequestParams) {
         if (useChunkEncoding(request)) {
+            final int chunkSize = getChunkSize(request);
             AwsChunkedEncodingInputStream chunkEncodededStream = new AwsChunkedEncodingInputStream(
-                    request.getContent(), signingKey,
+                    request.getContent(), Math.max(DEFAULT_CHUNKED_BUFFER_SIZE, chunkSize), chunkSize,
+                    signingKey,
                     signerRequestParams.getFormattedSigningDateTime(),
                     signerRequestParams.getScope(),
                     BinaryUtils.toHex(signature), this);
@@ -112,7 +117,7 @@ public class AWSS3V4Signer extends AWS4Signer {
                 // won't cache the stream again to recover Content-Length
                 request.addHeader(Headers.CONTENT_LENGTH, Long.toString(
                         AwsChunkedEncodingInputStream
-                                .calculateStreamContentLength(originalContentLength)));
+                                .calculateStreamContentLength(originalContentLength, getChunkSize(request))));
                 return CONTENT_SHA_256;
             } else {
                 return super.calculateContentHash(request);
@@ -138,6 +143,20 @@ public class AWSS3V4Signer extends AWS4Signer {
         return false;
     }
 
+    /**
+     * @return The size of the chunks to split the payload into when chunked encoding is used.
+     */
+    private int getChunkSize(SignableRequest<?> signableRequest) {
+        if (signableRequest instanceof Request) {
+            Integer chunkSize = ((Request<?>) signableRequest)
+                    .getHandlerContext(S3HandlerContextKeys.CHUNKED_ENCODING_CHUNK_SIZE);
+            if (chunkSize != null) {
+                return chunkSize;
+            }
+        }
+        return AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE;
+    }
+
     /**
      * @return True if chunked encoding has been explicitly disabled per the request. False
      *         otherwise.
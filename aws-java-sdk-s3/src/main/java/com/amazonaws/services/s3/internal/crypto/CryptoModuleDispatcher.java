@@ -56,6 +56,8 @@ public class CryptoModuleDispatcher extends S3CryptoModule<MultipartUploadContex
     private final S3CryptoModuleEO eo;
     /** Authenticated encryption (AE) cryptographic module. */
     private final S3CryptoModuleAE ae;
+    /** The cache of data keys shared by the modules; or null if disabled. */
+    private final DataKeyCachingKMS dataKeyCache;
 
     public CryptoModuleDispatcher(AWSKMS kms, S3Direct s3,
                                   AWSCredentialsProvider credentialsProvider,
@@ -69,6 +71,15 @@ public class CryptoModuleDispatcher extends S3CryptoModule<MultipartUploadContex
         }
         cryptoConfig = cryptoConfig.readOnly(); // make read-only
         this.defaultCryptoMode = cryptoConfig.getCryptoMode();
+        if (kms != null && cryptoConfig.getDataKeyCacheSize() > 0) {
+            // shared by the modules, so that either can reuse the data keys
+            this.dataKeyCache = new DataKeyCachingKMS(kms, cryptoConfig.getDataKeyCacheSize(),
+                    cryptoConfig.getDataKeyCacheTtlMillis(),
+                    cryptoConfig.getDataKeyCacheMaxUses());
+            kms = dataKeyCache;
+        } else {
+            this.dataKeyCache = null;
+        }
         switch(this.defaultCryptoMode) {
             case StrictAuthenticatedEncryption:
                 this.ae = new S3CryptoModuleAEStrict(kms, s3, credentialsProvider,
@@ -195,4 +206,13 @@ public class CryptoModuleDispatcher extends S3CryptoModule<MultipartUploadContex
         else
             ae.putLocalObjectSecurely(req, uploadId, os);
     }
+
+    /**
+     * Zeroes and evicts the data keys cached for the modules, if data key
+     * caching is enabled. The AWS KMS client is not shut down.
+     */
+    public void shutdown() {
+        if (dataKeyCache != null)
+            dataKeyCache.shutdown();
+    }
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static com.amazonaws.util.BinaryUtils.copyAllBytesFrom;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ResponseMetadata;
+import com.amazonaws.annotation.SdkTestInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.auth.SdkClock;
+import com.amazonaws.services.kms.AWSKMS;
+import com.amazonaws.services.kms.AbstractAWSKMS;
+import com.amazonaws.services.kms.model.DecryptRequest;
+import com.amazonaws.services.kms.model.DecryptResult;
+import com.amazonaws.services.kms.model.EncryptRequest;
+import com.amazonaws.services.kms.model.EncryptResult;
+import com.amazonaws.services.kms.model.GenerateDataKeyRequest;
+import com.amazonaws.services.kms.model.GenerateDataKeyResult;
+
+/**
+ * The AWS KMS client of the crypto modules when data key caching is enabled in
+ * the {@link com.amazonaws.services.s3.model.CryptoConfiguration}. The data
+ * keys generated or decrypted by KMS are kept in plaintext, so that objects
+ * encrypted with the same customer master key and encryption context can
+ * share a data key, and objects sharing a data key can be decrypted, without
+ * a round trip to KMS each.
+ * <p>
+ * Each cache holds up to the configured number of data keys, evicting the
+ * least recently used first. A data key is also evicted once it is older than
+ * the configured time to live or has been used the configured number of
+ * times. The plaintext of a data key is zeroed when it is evicted; callers
+ * are only given copies of it.
+ * <p>
+ * Only the requests made by the crypto modules are supported: data keys are
+ * generated and decrypted through the cache, and encryption is delegated.
+ */
+@ThreadSafe
+class DataKeyCachingKMS extends AbstractAWSKMS {
+    private final AWSKMS kms;
+    private final SdkClock clock;
+    private final long ttlMillis;
+    private final long maxUses;
+    /* Generated data keys by key id, key spec, number of bytes and encryption context */
+    private final Map<List<Object>, CachedDataKey> generatedKeys;
+    /* Decrypted data keys by encrypted data key and encryption context */
+    private final Map<List<Object>, CachedDataKey> decryptedKeys;
+
+    /**
+     * @param kms
+     *            the client to which cache misses are sent.
+     * @param maxSize
+     *            the maximum number of data keys in each of the caches of
+     *            generated and decrypted data keys.
+     * @param ttlMillis
+     *            the time in milliseconds after which a data key is evicted.
+     * @param maxUses
+     *            the number of times a data key may be used before it is
+     *            evicted.
+     */
+    DataKeyCachingKMS(AWSKMS kms, int maxSize, long ttlMillis, long maxUses) {
+        this(kms, maxSize, ttlMillis, maxUses, SdkClock.STANDARD);
+    }
+
+    @SdkTestInternalApi
+    DataKeyCachingKMS(AWSKMS kms, int maxSize, long ttlMillis, long maxUses, SdkClock clock) {
+        if (maxSize < 1 || ttlMillis < 1 || maxUses < 1) {
+            throw new IllegalArgumentException(
+                    "The data key cache size, time to live and maximum uses must be positive");
+        }
+        this.kms = kms;
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.maxUses = maxUses;
+        this.generatedKeys = new DataKeyCache(maxSize);
+        this.decryptedKeys = new DataKeyCache(maxSize);
+    }
+
+    @Override
+    public GenerateDataKeyResult generateDataKey(GenerateDataKeyRequest request) {
+        List<Object> cacheKey = Arrays.<Object>asList(request.getKeyId(), request.getKeySpec(),
+                request.getNumberOfBytes(), contextOf(request.getEncryptionContext()));
+        CachedDataKey cached = use(generatedKeys, cacheKey);
+        if (cached != null) {
+            return new GenerateDataKeyResult()
+                .withKeyId(cached.keyId)
+                .withCiphertextBlob(ByteBuffer.wrap(cached.ciphertextBlob))
+                .withPlaintext(ByteBuffer.wrap(cached.plaintext));
+        }
+        GenerateDataKeyResult result = kms.generateDataKey(request);
+        byte[] ciphertextBlob = copyAllBytesFrom(result.getCiphertextBlob());
+        byte[] plaintext = copyAllBytesFrom(result.getPlaintext());
+        put(generatedKeys, cacheKey, new CachedDataKey(result.getKeyId(), ciphertextBlob, plaintext,
+                clock.currentTimeMillis()));
+        // Objects written with the data key can then be read without a Decrypt
+        put(decryptedKeys,
+            Arrays.<Object>asList(ByteBuffer.wrap(ciphertextBlob), cacheKey.get(3)),
+            new CachedDataKey(result.getKeyId(), null, plaintext.clone(),
+                clock.currentTimeMillis()));
+        return result;
+    }
+
+    @Override
+    public DecryptResult decrypt(DecryptRequest request) {
+        byte[] ciphertextBlob = copyAllBytesFrom(request.getCiphertextBlob());
+        List<Object> cacheKey = Arrays.<Object>asList(ByteBuffer.wrap(ciphertextBlob),
+                contextOf(request.getEncryptionContext()));
+        CachedDataKey cached = use(decryptedKeys, cacheKey);
+        if (cached != null) {
+            return new DecryptResult()
+                .withKeyId(cached.keyId)
+                .withPlaintext(ByteBuffer.wrap(cached.plaintext));
+        }
+        DecryptResult result = kms.decrypt(request);
+        put(decryptedKeys, cacheKey,
+            new CachedDataKey(result.getKeyId(), null, copyAllBytesFrom(result.getPlaintext()),
+                clock.currentTimeMillis()));
+        return result;
+    }
+
+    @Override
+    public EncryptResult encrypt(EncryptRequest request) {
+        return kms.encrypt(request);
+    }
+
+    @Override
+    public ResponseMetadata getCachedResponseMetadata(AmazonWebServiceRequest request) {
+        return kms.getCachedResponseMetadata(request);
+    }
+
+    /**
+     * Zeroes and evicts all the cached data keys. The underlying client is not
+     * shut down, as it is owned by the encryption client.
+     */
+    @Override
+    public void shutdown() {
+        synchronized (this) {
+            evictAll(generatedKeys);
+            evictAll(decryptedKeys);
+        }
+    }
+
+    /**
+     * Returns the plaintext arrays held by the caches of generated and
+     * decrypted data keys, in this order, without copying them.
+     */
+    @SdkTestInternalApi
+    synchronized List<byte[]> getCachedPlaintexts() {
+        List<byte[]> plaintexts = new ArrayList<byte[]>();
+        for (CachedDataKey dataKey : generatedKeys.values()) {
+            plaintexts.add(dataKey.plaintext);
+        }
+        for (CachedDataKey dataKey : decryptedKeys.values()) {
+            plaintexts.add(dataKey.plaintext);
+        }
+        return plaintexts;
+    }
+
+    /**
+     * Returns a copy of the given data key, counting one use of it; or null if
+     * it is not cached or has expired.
+     */
+    private synchronized CachedDataKey use(Map<List<Object>, CachedDataKey> cache,
+            List<Object> cacheKey) {
+        CachedDataKey cached = cache.get(cacheKey);
+        if (cached == null) {
+            return null;
+        }
+        if (clock.currentTimeMillis() - cached.createdMillis >= ttlMillis) {
+            cache.remove(cacheKey);
+            cached.zero();
+            return null;
+        }
+        CachedDataKey copy = cached.copy();
+        if (++cached.uses >= maxUses) {
+            cache.remove(cacheKey);
+            cached.zero();
+        }
+        return copy;
+    }
+
+    /**
+     * Caches a data key that has just been used once.
+     */
+    private synchronized void put(Map<List<Object>, CachedDataKey> cache,
+            List<Object> cacheKey, CachedDataKey dataKey) {
+        if (maxUses <= 1) {
+            dataKey.zero();
+            return;
+        }
+        dataKey.uses = 1;
+        CachedDataKey previous = cache.put(cacheKey, dataKey);
+        if (previous != null) {
+            previous.zero();
+        }
+    }
+
+    private static void evictAll(Map<List<Object>, CachedDataKey> cache) {
+        for (Iterator<CachedDataKey> it = cache.values().iterator(); it.hasNext();) {
+            it.next().zero();
+            it.remove();
+        }
+    }
+
+    private static Map<String, String> contextOf(Map<String, String> encryptionContext) {
+        if (encryptionContext == null) {
+            return Collections.emptyMap();
+        }
+        return new TreeMap<String, String>(encryptionContext);
+    }
+
+    /**
+     * A least recently used cache of data keys, zeroing the data keys it
+     * evicts on overflow.
+     */
+    private static final class DataKeyCache extends LinkedHashMap<List<Object>, CachedDataKey> {
+        private static final long serialVersionUID = 1L;
+        private final int maxSize;
+
+        private DataKeyCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedDataKey> eldest) {
+            if (size() > maxSize) {
+                eldest.getValue().zero();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class CachedDataKey {
+        private final String keyId;
+        /* The encrypted data key; or null if not needed */
+        private final byte[] ciphertextBlob;
+        private final byte[] plaintext;
+        private final long createdMillis;
+        private long uses;
+
+        private CachedDataKey(String keyId, byte[] ciphertextBlob, byte[] plaintext,
+                long createdMillis) {
+            this.keyId = keyId;
+            this.ciphertextBlob = ciphertextBlob;
+            this.plaintext = plaintext;
+            this.createdMillis = createdMillis;
+        }
+
+        private CachedDataKey copy() {
+            return new CachedDataKey(keyId,
+                    ciphertextBlob == null ? null : ciphertextBlob.clone(),
+                    plaintext.clone(), createdMillis);
+        }
+
+        private void zero() {
+            Arrays.fill(plaintext, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+/**
+ * The GHASH function of the Galois/Counter Mode (GCM) without additional
+ * authenticated data, computed incrementally over a ciphertext. The hashes of
+ * consecutive ranges of a ciphertext, each computed from the beginning of its
+ * range, can be combined into the hash of the whole ciphertext; this allows
+ * the ranges to be encrypted independently with AES/CTR and still produce the
+ * authentication tag of AES/GCM.
+ * <p>
+ * See <a href=
+ * "http://csrc.nist.gov/publications/nistpubs/800-38D/SP-800-38D.pdf">
+ * NIST Special Publication 800-38D.</a> for the definitions. Field elements
+ * are held as two longs, the high and low 64 bits of the block.
+ */
+final class GHash {
+    private static final int BLOCK_SIZE = 16;
+    /** The reduction constant of the field, in the high bits. */
+    private static final long R = 0xe100000000000000L;
+    /** The reductions of the 4 bits shifted out by the table-driven multiplication. */
+    private static final long[] LAST4 = {
+        0x0000, 0x1c20, 0x3840, 0x2460, 0x7080, 0x6ca0, 0x48c0, 0x54e0,
+        0xe100, 0xfd20, 0xd940, 0xc560, 0x9180, 0x8da0, 0xa9c0, 0xb5e0 };
+
+    /* The hash subkey H */
+    private final long hHi;
+    private final long hLo;
+    /* The multiples of H by each 4-bit element, shared by copies */
+    private final long[] tableHi;
+    private final long[] tableLo;
+
+    private long xHi;
+    private long xLo;
+    private final byte[] pending = new byte[BLOCK_SIZE];
+    private int pendingLength;
+    private long length;
+
+    /**
+     * @param h
+     *            the hash subkey, the encryption of the zero block under the
+     *            content encrypting key.
+     */
+    GHash(byte[] h) {
+        this.hHi = readLong(h, 0);
+        this.hLo = readLong(h, 8);
+        this.tableHi = new long[16];
+        this.tableLo = new long[16];
+        long vHi = hHi;
+        long vLo = hLo;
+        tableHi[8] = vHi;
+        tableLo[8] = vLo;
+        for (int i = 4; i > 0; i >>= 1) {
+            long reduction = (vLo & 1) != 0 ? R : 0;
+            vLo = (vHi << 63) | (vLo >>> 1);
+            vHi = (vHi >>> 1) ^ reduction;
+            tableHi[i] = vHi;
+            tableLo[i] = vLo;
+        }
+        for (int i = 2; i <= 8; i *= 2) {
+            for (int j = 1; j < i; j++) {
+                tableHi[i + j] = tableHi[i] ^ tableHi[j];
+                tableLo[i + j] = tableLo[i] ^ tableLo[j];
+            }
+        }
+    }
+
+    private GHash(GHash from) {
+        this.hHi = from.hHi;
+        this.hLo = from.hLo;
+        this.tableHi = from.tableHi;
+        this.tableLo = from.tableLo;
+        restore(from);
+    }
+
+    /**
+     * Returns a copy of this hash, including the bytes not yet hashed.
+     */
+    GHash copy() {
+        return new GHash(this);
+    }
+
+    /**
+     * Restores the state of this hash to that of the given copy of it.
+     */
+    void restore(GHash from) {
+        this.xHi = from.xHi;
+        this.xLo = from.xLo;
+        System.arraycopy(from.pending, 0, pending, 0, BLOCK_SIZE);
+        this.pendingLength = from.pendingLength;
+        this.length = from.length;
+    }
+
+    /**
+     * Returns the number of bytes hashed.
+     */
+    long getLength() {
+        return length;
+    }
+
+    void update(byte[] b, int off, int len) {
+        length += len;
+        if (pendingLength > 0) {
+            int n = Math.min(len, BLOCK_SIZE - pendingLength);
+            System.arraycopy(b, off, pending, pendingLength, n);
+            pendingLength += n;
+            off += n;
+            len -= n;
+            if (pendingLength < BLOCK_SIZE) {
+                return;
+            }
+            hashBlock(pending, 0);
+            pendingLength = 0;
+        }
+        for (; len >= BLOCK_SIZE; off += BLOCK_SIZE, len -= BLOCK_SIZE) {
+            hashBlock(b, off);
+        }
+        if (len > 0) {
+            System.arraycopy(b, off, pending, 0, len);
+            pendingLength = len;
+        }
+    }
+
+    /**
+     * Appends the hash of the following range of the ciphertext to this one,
+     * which must end on a block boundary.
+     */
+    void append(GHash following) {
+        if (pendingLength > 0) {
+            throw new IllegalStateException("Only the last range may end within a block");
+        }
+        GHash next = following.copy();
+        next.pad();
+        long[] shift = power(hHi, hLo, (next.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        long[] x = multiply(xHi, xLo, shift[0], shift[1]);
+        this.xHi = x[0] ^ next.xHi;
+        this.xLo = x[1] ^ next.xLo;
+        this.length += next.length;
+    }
+
+    /**
+     * Returns the authentication tag of the ciphertext hashed, which ends
+     * this hash.
+     *
+     * @param encryptedJ0
+     *            the encryption of the pre-counter block J0 under the content
+     *            encrypting key.
+     */
+    byte[] tag(byte[] encryptedJ0) {
+        pad();
+        // The length block: zero bits of additional authenticated data
+        xLo ^= length << 3;
+        multiplyByH();
+        byte[] tag = new byte[BLOCK_SIZE];
+        writeLong(xHi ^ readLong(encryptedJ0, 0), tag, 0);
+        writeLong(xLo ^ readLong(encryptedJ0, 8), tag, 8);
+        return tag;
+    }
+
+    /**
+     * Hashes the bytes of an incomplete last block, padded with zeros.
+     */
+    private void pad() {
+        if (pendingLength > 0) {
+            for (int i = pendingLength; i < BLOCK_SIZE; i++) {
+                pending[i] = 0;
+            }
+            hashBlock(pending, 0);
+            pendingLength = 0;
+        }
+    }
+
+    private void hashBlock(byte[] b, int off) {
+        xHi ^= readLong(b, off);
+        xLo ^= readLong(b, off + 8);
+        multiplyByH();
+    }
+
+    /**
+     * Multiplies X by H, 4 bits at a time, from the lowest to the highest.
+     */
+    private void multiplyByH() {
+        long zHi = 0;
+        long zLo = 0;
+        for (int i = BLOCK_SIZE - 1; i >= 0; i--) {
+            long word = i < 8 ? xHi : xLo;
+            int b = (int) (word >>> ((7 - (i & 7)) << 3)) & 0xff;
+            if (i != BLOCK_SIZE - 1) {
+                int rem = (int) zLo & 0xf;
+                zLo = (zHi << 60) | (zLo >>> 4);
+                zHi = (zHi >>> 4) ^ (LAST4[rem] << 48);
+            }
+            zHi ^= tableHi[b & 0xf];
+            zLo ^= tableLo[b & 0xf];
+            int rem = (int) zLo & 0xf;
+            zLo = (zHi << 60) | (zLo >>> 4);
+            zHi = (zHi >>> 4) ^ (LAST4[rem] << 48);
+            zHi ^= tableHi[b >>> 4];
+            zLo ^= tableLo[b >>> 4];
+        }
+        xHi = zHi;
+        xLo = zLo;
+    }
+
+    /**
+     * Returns H to the given power, by repeated squaring.
+     */
+    private static long[] power(long hHi, long hLo, long n) {
+        // The multiplicative identity has the first bit set
+        long[] result = { Long.MIN_VALUE, 0 };
+        long[] square = { hHi, hLo };
+        for (; n > 0; n >>>= 1) {
+            if ((n & 1) != 0) {
+                result = multiply(result[0], result[1], square[0], square[1]);
+            }
+            square = multiply(square[0], square[1], square[0], square[1]);
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies two arbitrary field elements, one bit at a time (Algorithm 1
+     * of SP 800-38D).
+     */
+    private static long[] multiply(long aHi, long aLo, long bHi, long bLo) {
+        long zHi = 0;
+        long zLo = 0;
+        long vHi = bHi;
+        long vLo = bLo;
+        for (int i = 0; i < 128; i++) {
+            long bit = i < 64 ? aHi >>> (63 - i) : aLo >>> (127 - i);
+            if ((bit & 1) != 0) {
+                zHi ^= vHi;
+                zLo ^= vLo;
+            }
+            long reduction = (vLo & 1) != 0 ? R : 0;
+            vLo = (vHi << 63) | (vLo >>> 1);
+            vHi = (vHi >>> 1) ^ reduction;
+        }
+        return new long[] { zHi, zLo };
+    }
+
+    private static long readLong(byte[] b, int off) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (b[off + i] & 0xff);
+        }
+        return value;
+    }
+
+    private static void writeLong(long value, byte[] b, int off) {
+        for (int i = 7; i >= 0; i--) {
+            b[off + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
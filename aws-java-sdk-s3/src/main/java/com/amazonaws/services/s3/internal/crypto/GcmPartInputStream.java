@@ -0,0 +1,136 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.internal.SdkFilterInputStream;
+
+/**
+ * Hashes the ciphertext of a part encrypted independently with AES/CTR as it
+ * is read; and, for the last part, appends the AES/GCM tag of the whole
+ * content once the ciphertext has been read to the end.
+ *
+ * @see MultipartUploadParallelCryptoContext
+ */
+final class GcmPartInputStream extends SdkFilterInputStream {
+    private final MultipartUploadParallelCryptoContext uploadContext;
+    private final int partNumber;
+    private final boolean isLastPart;
+    private final GHash hash;
+    /* The tag being appended, or null if the ciphertext has not ended */
+    private byte[] tag;
+    private int tagPos;
+
+    private GHash markedHash;
+    private byte[] markedTag;
+    private int markedTagPos;
+
+    GcmPartInputStream(InputStream in,
+            MultipartUploadParallelCryptoContext uploadContext,
+            int partNumber, boolean isLastPart) {
+        super(in);
+        this.uploadContext = uploadContext;
+        this.partNumber = partNumber;
+        this.isLastPart = isLastPart;
+        this.hash = uploadContext.newPartHash();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0) {
+            return 0;
+        }
+        if (tag == null) {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                hash.update(b, off, n);
+                return n;
+            }
+            if (n == 0 || !isLastPart) {
+                return n;
+            }
+            tag = uploadContext.computeTag(partNumber, hash);
+        }
+        if (tagPos == tag.length) {
+            return -1;
+        }
+        int n = Math.min(len, tag.length - tagPos);
+        System.arraycopy(tag, tagPos, b, off, n);
+        tagPos += n;
+        return n;
+    }
+
+    /**
+     * Reads and discards the bytes skipped, so that they are hashed.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] b = new byte[(int) Math.min(n, 4096)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(b, 0, (int) Math.min(n - skipped, b.length));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        abortIfNeeded();
+        return tag == null ? in.available() : tag.length - tagPos;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        abortIfNeeded();
+        in.mark(readlimit);
+        markedHash = hash.copy();
+        markedTag = tag;
+        markedTagPos = tagPos;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        abortIfNeeded();
+        in.reset();
+        if (markedHash == null) {
+            hash.restore(uploadContext.newPartHash());
+        } else {
+            hash.restore(markedHash);
+        }
+        tag = markedTag;
+        tagPos = markedTagPos;
+    }
+
+    /**
+     * Returns the hash of the ciphertext read so far.
+     */
+    GHash getHash() {
+        return hash.copy();
+    }
+}
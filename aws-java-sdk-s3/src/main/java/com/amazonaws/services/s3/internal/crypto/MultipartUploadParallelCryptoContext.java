@@ -0,0 +1,160 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static com.amazonaws.util.Throwables.failure;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.GuardedBy;
+
+/**
+ * The cryptographic context of a multi-part upload whose parts are encrypted
+ * independently, so that they can be uploaded in parallel.
+ * <p>
+ * Each part is encrypted with AES/CTR from the counter block at its offset in
+ * the object, and the GHASH of its ciphertext is kept once it has been
+ * uploaded. The tag appended to the last part is computed by combining these
+ * hashes, so the object is the same AES/GCM ciphertext as if it had been
+ * encrypted as a whole, and can be decrypted by any existing client. This
+ * requires the offset of each part to be known before it is encrypted: all
+ * parts but the last must have the same size, and the last part must be
+ * uploaded after all the others.
+ */
+class MultipartUploadParallelCryptoContext extends MultipartUploadCryptoContext {
+    private static final int BLOCK_SIZE = 16;
+
+    private final byte[] hashSubkey;
+    private final byte[] encryptedJ0;
+
+    @GuardedBy("this")
+    private long partSize = -1;
+    @GuardedBy("this")
+    private int lastPartNumber = Integer.MAX_VALUE;
+    /* Part number -> the hash of the ciphertext of the part uploaded */
+    @GuardedBy("this")
+    private final Map<Integer, GHash> partHashes = new HashMap<Integer, GHash>();
+
+    MultipartUploadParallelCryptoContext(String bucketName, String key,
+            ContentCryptoMaterial cekMaterial) {
+        super(bucketName, key, cekMaterial);
+        byte[] iv = cekMaterial.getCipherLite().getIV();
+        if (iv == null || iv.length != 12) {
+            throw new UnsupportedOperationException(
+                    "Parallel part uploads require a 12-byte IV");
+        }
+        byte[] j0 = new byte[BLOCK_SIZE];
+        System.arraycopy(iv, 0, j0, 0, iv.length);
+        j0[BLOCK_SIZE - 1] = 0x01;
+        try {
+            CipherLite ctr = cekMaterial.getCipherLite().createAuxiliary(0);
+            this.hashSubkey = ctr.createUsingIV(new byte[BLOCK_SIZE]).doFinal(new byte[BLOCK_SIZE]);
+            this.encryptedJ0 = ctr.createUsingIV(j0).doFinal(new byte[BLOCK_SIZE]);
+        } catch (Exception e) {
+            throw failure(e, "Unable to set up the parallel part encryption");
+        }
+    }
+
+    /**
+     * Checks that the given part can be encrypted independently, and returns
+     * its offset in the content.
+     *
+     * @throws SdkClientException
+     *             if the offset of the part cannot be determined.
+     */
+    synchronized long beginPartUpload(int partNumber, long size, boolean isLastPart) {
+        if (partNumber < 1)
+            throw new IllegalArgumentException("part number must be at least 1");
+        if (partNumber > lastPartNumber
+        ||  (partNumber == lastPartNumber && !isLastPart)) {
+            throw new SdkClientException("Part " + partNumber
+                    + " is after the last part " + lastPartNumber);
+        }
+        if (isLastPart) {
+            for (int i = 1; i < partNumber; i++) {
+                if (!partHashes.containsKey(i)) {
+                    throw new SdkClientException(
+                            "The last part must be uploaded after all the other parts, but part "
+                          + i + " has not been uploaded");
+                }
+            }
+            lastPartNumber = partNumber;
+        } else {
+            if (size <= 0 || size % BLOCK_SIZE != 0) {
+                throw new SdkClientException("Invalid part size " + size
+                        + ": parts uploaded in parallel must be multiples of "
+                        + BLOCK_SIZE + " bytes with the exception of the last part");
+            }
+            if (partSize == -1) {
+                partSize = size;
+            } else if (partSize != size) {
+                throw new SdkClientException("Invalid part size " + size
+                        + ": all the parts uploaded in parallel but the last must be of the same size ("
+                        + partSize + ")");
+            }
+        }
+        return partNumber == 1 ? 0 : (partNumber - 1) * partSize;
+    }
+
+    /**
+     * Returns a new cipher lite for the encryption of the part at the given
+     * offset of the content.
+     */
+    CipherLite cipherLiteForPart(long offset) {
+        try {
+            return getCipherLite().createAuxiliary(offset);
+        } catch (Exception e) {
+            throw failure(e, "Unable to create the cipher of the part at offset " + offset);
+        }
+    }
+
+    /**
+     * Returns a new hash for the ciphertext of a part.
+     */
+    GHash newPartHash() {
+        return new GHash(hashSubkey);
+    }
+
+    /**
+     * Records the hash of the ciphertext of a part other than the last once
+     * it has been uploaded.
+     */
+    synchronized void partUploaded(int partNumber, GHash hash) {
+        if (hash.getLength() != partSize) {
+            throw new SdkClientException("Part " + partNumber + " has " + hash.getLength()
+                    + " bytes instead of the part size " + partSize);
+        }
+        partHashes.put(partNumber, hash);
+    }
+
+    /**
+     * Returns the authentication tag of the content, given the hash of the
+     * ciphertext of the last part.
+     */
+    synchronized byte[] computeTag(int partNumber, GHash lastPartHash) {
+        GHash hash = newPartHash();
+        for (int i = 1; i < partNumber; i++) {
+            GHash part = partHashes.get(i);
+            if (part == null) {
+                throw new SdkClientException("Part " + i + " has not been uploaded");
+            }
+            hash.append(part);
+        }
+        hash.append(lastPartHash);
+        return hash.tag(encryptedJ0);
+    }
+}
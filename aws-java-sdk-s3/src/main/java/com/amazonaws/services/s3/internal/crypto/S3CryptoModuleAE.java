@@ -18,6 +18,7 @@ import static com.amazonaws.services.s3.AmazonS3EncryptionClient.USER_AGENT;
 import static com.amazonaws.services.s3.model.CryptoMode.AuthenticatedEncryption;
 import static com.amazonaws.services.s3.model.CryptoMode.StrictAuthenticatedEncryption;
 import static com.amazonaws.services.s3.model.ExtraMaterialsDescription.NONE;
+import static com.amazonaws.services.s3.model.S3DataSource.Utils.cleanupDataSource;
 import static com.amazonaws.util.IOUtils.closeQuietly;
 
 import java.io.BufferedOutputStream;
@@ -48,6 +49,7 @@ import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectId;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import com.amazonaws.util.json.Jackson;
 
 /**
@@ -354,10 +356,73 @@ class S3CryptoModuleAE extends S3CryptoModuleBase<MultipartUploadCryptoContext>
     @Override
     final MultipartUploadCryptoContext newUploadContext(
             InitiateMultipartUploadRequest req, ContentCryptoMaterial cekMaterial) {
+        if (cryptoConfig.isParallelMultipartUploadEnabled()) {
+            return new MultipartUploadParallelCryptoContext(
+                    req.getBucketName(), req.getKey(), cekMaterial);
+        }
         return new MultipartUploadCryptoContext(
                 req.getBucketName(), req.getKey(), cekMaterial);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If parallel multi-part uploads are enabled, each part is encrypted
+     * independently of the others, so the parts of the same upload can be
+     * uploaded at the same time, with the exception of the last part.
+     */
+    @Override
+    public UploadPartResult uploadPartSecurely(UploadPartRequest req) {
+        MultipartUploadCryptoContext uploadContext =
+                multipartUploadContexts.get(req.getUploadId());
+        if (uploadContext instanceof MultipartUploadParallelCryptoContext) {
+            return uploadPartIndependently(req,
+                    (MultipartUploadParallelCryptoContext) uploadContext);
+        }
+        return super.uploadPartSecurely(req);
+    }
+
+    private UploadPartResult uploadPartIndependently(UploadPartRequest req,
+            MultipartUploadParallelCryptoContext uploadContext) {
+        appendUserAgent(req, USER_AGENT);
+        final boolean isLastPart = req.isLastPart();
+        final int partNumber = req.getPartNumber();
+        if (isLastPart && uploadContext.hasFinalPartBeenSeen()) {
+            throw new SdkClientException(
+                "This part was specified as the last part in a multipart upload, but a previous part was already marked as the last part.  "
+              + "Only the last part of the upload should be marked as the last part.");
+        }
+        final long offset = uploadContext.beginPartUpload(
+                partNumber, req.getPartSize(), isLastPart);
+        final File fileOrig = req.getFile();
+        final InputStream isOrig = req.getInputStream();
+        GcmPartInputStream isCurr = null;
+        final UploadPartResult result;
+        try {
+            isCurr = new GcmPartInputStream(
+                    newMultipartS3CipherInputStream(req,
+                            uploadContext.cipherLiteForPart(offset)),
+                    uploadContext, partNumber, isLastPart);
+            req.setInputStream(isCurr);
+            // Treat all encryption requests as input stream upload requests,
+            // not as file upload requests.
+            req.setFile(null);
+            req.setFileOffset(0);
+            // The last part of the multipart upload will contain an extra
+            // 16-byte mac
+            if (isLastPart)
+                req.setPartSize(computeLastPartSize(req));
+            result = s3.uploadPart(req);
+        } finally {
+            cleanupDataSource(req, fileOrig, isOrig, isCurr, log);
+        }
+        if (isLastPart)
+            uploadContext.setHasFinalPartBeenSeen(true);
+        else
+            uploadContext.partUploaded(partNumber, isCurr.getHash());
+        return result;
+    }
+
     //// specific overrides for uploading parts.
     @Override
     final CipherLite cipherLiteForNextPart(
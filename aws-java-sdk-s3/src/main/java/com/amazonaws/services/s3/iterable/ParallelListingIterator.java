@@ -0,0 +1,267 @@
+/*
+ * Copyright 2012-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.iterable;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.NotThreadSafe;
+
+/**
+ * Lists the contents of an Amazon S3 bucket with several concurrent requests,
+ * returned by {@link S3Objects#parallelIterator(int)} and
+ * {@link S3Versions#parallelIterator(int)}.
+ * <p>
+ * The listing is split into partitions by key prefix. A partition is listed
+ * with the delimiter while there are fewer partitions waiting than idle
+ * threads, so that the common prefixes it returns can be listed as partitions
+ * of their own; otherwise it is listed in full without one. Each partition is
+ * listed on its own thread, which requests the next page as soon as it has
+ * handed over the current one through a bounded buffer; when the buffer is
+ * full the threads wait for the iterator to catch up, so a listing of any size
+ * holds only a few pages at a time.
+ * <p>
+ * Results are <b>not</b> returned in key order: results of different
+ * partitions are interleaved as they arrive. An exception thrown while listing
+ * is rethrown by {@link #hasNext()} once the pages listed before it have been
+ * returned; the other partitions are then stopped.
+ * <p>
+ * Callers that stop iterating before the end of the listing should
+ * {@link #close()} the iterator to stop the threads that are still listing.
+ *
+ * @param <T>
+ *            The type of summaries returned by this iterator.
+ */
+@NotThreadSafe
+public final class ParallelListingIterator<T> implements Iterator<T>, Closeable {
+
+    /** How long the iterator waits for a page before re-checking whether the listing has ended. */
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final Lister<T, ?> lister;
+    private final String delimiter;
+    private final int parallelism;
+
+    private final BlockingQueue<List<T>> pages;
+    private final ExecutorService executor;
+    /* Partitions submitted and not yet finished */
+    private final AtomicInteger activePartitions = new AtomicInteger();
+    /* Partitions submitted and not yet started */
+    private final AtomicInteger waitingPartitions = new AtomicInteger();
+
+    private volatile RuntimeException failure;
+    private volatile boolean closed;
+
+    private Iterator<T> currentItems = Collections.<T>emptyList().iterator();
+
+    /**
+     * @param lister
+     *            lists the pages of a partition.
+     * @param prefix
+     *            the prefix of the keys to list, or null for the whole bucket.
+     * @param delimiter
+     *            the delimiter with which partitions are discovered, or null to
+     *            list the single partition of the prefix.
+     * @param parallelism
+     *            the maximum number of partitions listed at the same time.
+     */
+    ParallelListingIterator(Lister<T, ?> lister, String prefix, String delimiter, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.lister = lister;
+        this.delimiter = delimiter;
+        this.parallelism = parallelism;
+        this.pages = new ArrayBlockingQueue<List<T>>(2 * parallelism);
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        submit(prefix);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentItems.hasNext()) {
+            List<T> page = nextPage();
+            if (page == null) {
+                return false;
+            }
+            currentItems = page.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentItems.next();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Stops any partitions still being listed and discards the buffered pages.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        pages.clear();
+        currentItems = Collections.<T>emptyList().iterator();
+    }
+
+    private void submit(String prefix) {
+        activePartitions.incrementAndGet();
+        waitingPartitions.incrementAndGet();
+        executor.execute(new PartitionListing(prefix));
+    }
+
+    /**
+     * Waits for the next listed page, returning null once every partition has
+     * been listed to the end.
+     */
+    private List<T> nextPage() {
+        if (closed) {
+            return null;
+        }
+        try {
+            while (true) {
+                List<T> page = pages.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (page != null) {
+                    return page;
+                }
+                rethrowFailure();
+                if (activePartitions.get() == 0) {
+                    // Partitions finish only after handing over their last page
+                    page = pages.poll();
+                    if (page == null) {
+                        rethrowFailure();
+                    }
+                    return page;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdkClientException("Parallel listing interrupted by other thread.", e);
+        }
+    }
+
+    private void rethrowFailure() {
+        if (failure != null) {
+            close();
+            throw failure;
+        }
+    }
+
+    /**
+     * Lists one partition to the end, handing each page over to the iterator
+     * and submitting the common prefixes found as new partitions.
+     */
+    private final class PartitionListing implements Runnable {
+        private final String prefix;
+
+        private PartitionListing(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void run() {
+            // Fan out only while some of the threads would otherwise be idle
+            int waiting = waitingPartitions.decrementAndGet();
+            boolean fanOut = delimiter != null && waiting < parallelism - 1;
+            try {
+                // A partition submitted just before the iterator was closed may still start
+                if (!closed) {
+                    list(lister, fanOut ? delimiter : null);
+                }
+            } catch (InterruptedException e) {
+                if (!closed) {
+                    failure = new SdkClientException(
+                            "Listing of prefix " + prefix + " was interrupted.", e);
+                }
+            } catch (AmazonClientException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new SdkClientException(
+                        "Internal error during the listing of prefix " + prefix + ".", e);
+            } finally {
+                if (activePartitions.decrementAndGet() == 0) {
+                    executor.shutdown();
+                }
+            }
+        }
+
+        private <L> void list(Lister<T, L> lister, String partitionDelimiter)
+                throws InterruptedException {
+            L listing = lister.listFirstPage(prefix, partitionDelimiter);
+            while (true) {
+                List<T> items = lister.getItems(listing);
+                if (!items.isEmpty()) {
+                    pages.put(items);
+                }
+                if (partitionDelimiter != null) {
+                    for (String commonPrefix : lister.getCommonPrefixes(listing)) {
+                        if (closed) {
+                            return;
+                        }
+                        submit(commonPrefix);
+                    }
+                }
+                if (!lister.isTruncated(listing) || closed) {
+                    return;
+                }
+                listing = lister.listNextPage(listing);
+            }
+        }
+    }
+
+    /**
+     * Lists the pages of a partition.
+     *
+     * @param <T>
+     *            The type of summaries listed.
+     * @param <L>
+     *            The type of a page of the listing.
+     */
+    interface Lister<T, L> {
+        /**
+         * Returns the first page of the keys beginning with the given prefix,
+         * rolled up into common prefixes at the given delimiter if not null.
+         */
+        L listFirstPage(String prefix, String delimiter);
+
+        L listNextPage(L previous);
+
+        List<T> getItems(L listing);
+
+        List<String> getCommonPrefixes(L listing);
+
+        boolean isTruncated(L listing);
+    }
+}
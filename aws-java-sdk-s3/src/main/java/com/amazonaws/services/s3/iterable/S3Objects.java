@@ -15,6 +15,7 @@
 package com.amazonaws.services.s3.iterable;
 
 import java.util.Iterator;
+import java.util.List;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
@@ -34,6 +35,10 @@ import com.amazonaws.services.s3.model.S3ObjectSummary;
  * The list of {@link S3ObjectSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
  * {@link S3Objects#withBatchSize(int)} method.
+ * <p>
+ * Large listings can be sped up by listing several prefixes at the same time
+ * with {@link S3Objects#parallelIterator(int)}, at the cost of returning the
+ * summaries out of key order.
  */
 public class S3Objects implements Iterable<S3ObjectSummary> {
 
@@ -154,4 +159,69 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return new S3ObjectIterator();
     }
 
+    /**
+     * Returns an iterator that lists the objects with up to the given number
+     * of concurrent requests, splitting the listing at the common prefixes
+     * delimited by "/". Summaries are not returned in key order.
+     *
+     * @param parallelism
+     *            The maximum number of concurrent list requests.
+     * @return A closeable iterator for object summaries.
+     * @see ParallelListingIterator
+     */
+    public ParallelListingIterator<S3ObjectSummary> parallelIterator(int parallelism) {
+        return parallelIterator(parallelism, "/");
+    }
+
+    /**
+     * Returns an iterator that lists the objects with up to the given number
+     * of concurrent requests, splitting the listing at the common prefixes
+     * delimited by the given delimiter. Summaries are not returned in key
+     * order.
+     *
+     * @param parallelism
+     *            The maximum number of concurrent list requests.
+     * @param delimiter
+     *            The delimiter at which the listing is split.
+     * @return A closeable iterator for object summaries.
+     * @see ParallelListingIterator
+     */
+    public ParallelListingIterator<S3ObjectSummary> parallelIterator(int parallelism, String delimiter) {
+        return new ParallelListingIterator<S3ObjectSummary>(
+                new ObjectLister(), getPrefix(), delimiter, parallelism);
+    }
+
+    private class ObjectLister implements ParallelListingIterator.Lister<S3ObjectSummary, ObjectListing> {
+
+        @Override
+        public ObjectListing listFirstPage(String prefix, String delimiter) {
+            ListObjectsRequest req = new ListObjectsRequest();
+            req.setBucketName(getBucketName());
+            req.setPrefix(prefix);
+            req.setDelimiter(delimiter);
+            req.setMaxKeys(getBatchSize());
+            return getS3().listObjects(req);
+        }
+
+        @Override
+        public ObjectListing listNextPage(ObjectListing previous) {
+            return getS3().listNextBatchOfObjects(previous);
+        }
+
+        @Override
+        public List<S3ObjectSummary> getItems(ObjectListing listing) {
+            return listing.getObjectSummaries();
+        }
+
+        @Override
+        public List<String> getCommonPrefixes(ObjectListing listing) {
+            return listing.getCommonPrefixes();
+        }
+
+        @Override
+        public boolean isTruncated(ObjectListing listing) {
+            return listing.isTruncated();
+        }
+    }
+
 }
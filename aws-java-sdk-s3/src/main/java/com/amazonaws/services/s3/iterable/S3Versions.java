@@ -14,7 +14,9 @@
  */
 package com.amazonaws.services.s3.iterable;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ListVersionsRequest;
@@ -34,6 +36,10 @@ import com.amazonaws.services.s3.model.VersionListing;
  * The list of {@link S3VersionSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
  * {@link S3Versions#withBatchSize(int)} method.
+ * <p>
+ * Large listings can be sped up by listing several prefixes at the same time
+ * with {@link S3Versions#parallelIterator(int)}, at the cost of returning the
+ * summaries out of key order.
  */
 public class S3Versions implements Iterable<S3VersionSummary> {
 
@@ -202,4 +208,85 @@ public class S3Versions implements Iterable<S3VersionSummary> {
         return new VersionIterator();
     }
 
+    /**
+     * Returns an iterator that lists the object versions with up to the given
+     * number of concurrent requests, splitting the listing at the common
+     * prefixes delimited by "/". Summaries are not returned in key order.
+     * The versions of a single object are listed with a single request at a
+     * time.
+     *
+     * @param parallelism
+     *            The maximum number of concurrent list requests.
+     * @return A closeable iterator for object version summaries.
+     * @see ParallelListingIterator
+     */
+    public ParallelListingIterator<S3VersionSummary> parallelIterator(int parallelism) {
+        return parallelIterator(parallelism, "/");
+    }
+
+    /**
+     * Returns an iterator that lists the object versions with up to the given
+     * number of concurrent requests, splitting the listing at the common
+     * prefixes delimited by the given delimiter. Summaries are not returned in
+     * key order. The versions of a single object are listed with a single
+     * request at a time.
+     *
+     * @param parallelism
+     *            The maximum number of concurrent list requests.
+     * @param delimiter
+     *            The delimiter at which the listing is split.
+     * @return A closeable iterator for object version summaries.
+     * @see ParallelListingIterator
+     */
+    public ParallelListingIterator<S3VersionSummary> parallelIterator(int parallelism, String delimiter) {
+        if (getKey() != null) {
+            return new ParallelListingIterator<S3VersionSummary>(
+                    new VersionLister(), getKey(), null, parallelism);
+        }
+        return new ParallelListingIterator<S3VersionSummary>(
+                new VersionLister(), getPrefix(), delimiter, parallelism);
+    }
+
+    private class VersionLister implements ParallelListingIterator.Lister<S3VersionSummary, VersionListing> {
+
+        @Override
+        public VersionListing listFirstPage(String prefix, String delimiter) {
+            ListVersionsRequest req = new ListVersionsRequest();
+            req.setBucketName(getBucketName());
+            req.setPrefix(prefix);
+            req.setDelimiter(delimiter);
+            req.setMaxResults(getBatchSize());
+            return getS3().listVersions(req);
+        }
+
+        @Override
+        public VersionListing listNextPage(VersionListing previous) {
+            return getS3().listNextBatchOfVersions(previous);
+        }
+
+        @Override
+        public List<S3VersionSummary> getItems(VersionListing listing) {
+            if (getKey() == null) {
+                return listing.getVersionSummaries();
+            }
+            List<S3VersionSummary> matching = new ArrayList<S3VersionSummary>();
+            for (S3VersionSummary summary : listing.getVersionSummaries()) {
+                if (summary.getKey().equals(getKey())) {
+                    matching.add(summary);
+                }
+            }
+            return matching;
+        }
+
+        @Override
+        public List<String> getCommonPrefixes(VersionListing listing) {
+            return listing.getCommonPrefixes();
+        }
+
+        @Override
+        public boolean isTruncated(VersionListing listing) {
+            return listing.isTruncated();
+        }
+    }
+
 }
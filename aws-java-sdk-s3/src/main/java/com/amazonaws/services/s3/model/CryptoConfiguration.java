@@ -32,6 +32,12 @@ public class CryptoConfiguration implements Cloneable,Serializable {
 
     private static final long serialVersionUID = -8646831898339939580L;
 
+    /** Default time in milliseconds after which a cached data key is evicted. */
+    public static final long DEFAULT_DATA_KEY_CACHE_TTL_MILLIS = 60 * 1000;
+
+    /** Default number of times a cached data key is used before it is evicted. */
+    public static final long DEFAULT_DATA_KEY_CACHE_MAX_USES = 1000;
+
     private CryptoMode cryptoMode;
     private CryptoStorageMode storageMode;
     private Provider cryptoProvider;
@@ -48,6 +54,25 @@ public class CryptoConfiguration implements Cloneable,Serializable {
      * null if no explicit KMS region is specified.
      */
     private transient com.amazonaws.regions.Region awskmsRegion;
+    /**
+     * The maximum number of plaintext data keys generated or decrypted by AWS
+     * KMS that are cached for reuse; or zero if data keys are not cached.
+     * Default is zero.
+     */
+    private int dataKeyCacheSize;
+    /**
+     * The time in milliseconds after which a cached data key is evicted.
+     */
+    private long dataKeyCacheTtlMillis = DEFAULT_DATA_KEY_CACHE_TTL_MILLIS;
+    /**
+     * The number of times a cached data key is used before it is evicted.
+     */
+    private long dataKeyCacheMaxUses = DEFAULT_DATA_KEY_CACHE_MAX_USES;
+    /**
+     * True if the parts of multi-part uploads are encrypted independently, so
+     * that they can be uploaded in parallel; false otherwise. Default is false.
+     */
+    private boolean parallelMultipartUploadEnabled;
 
     /**
      * Creates a new CryptoConfiguration object with default storage mode and
@@ -288,6 +313,30 @@ public class CryptoConfiguration implements Cloneable,Serializable {
         @Override public CryptoConfiguration withKmsRegion(Regions kmsRegion) {
             throw new UnsupportedOperationException();
         }
+        @Override public void setDataKeyCacheSize(int dataKeyCacheSize) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public CryptoConfiguration withDataKeyCacheSize(int dataKeyCacheSize) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public void setDataKeyCacheTtlMillis(long dataKeyCacheTtlMillis) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public CryptoConfiguration withDataKeyCacheTtlMillis(long dataKeyCacheTtlMillis) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public void setDataKeyCacheMaxUses(long dataKeyCacheMaxUses) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public CryptoConfiguration withDataKeyCacheMaxUses(long dataKeyCacheMaxUses) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public void setParallelMultipartUploadEnabled(boolean parallelMultipartUploadEnabled) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public CryptoConfiguration withParallelMultipartUploadEnabled(boolean parallelMultipartUploadEnabled) {
+            throw new UnsupportedOperationException();
+        }
     }
 
     /**
@@ -310,6 +359,10 @@ public class CryptoConfiguration implements Cloneable,Serializable {
         that.cryptoProvider = this.cryptoProvider;
         that.ignoreMissingInstructionFile = this.ignoreMissingInstructionFile;
         that.awskmsRegion = this.awskmsRegion;
+        that.dataKeyCacheSize = this.dataKeyCacheSize;
+        that.dataKeyCacheTtlMillis = this.dataKeyCacheTtlMillis;
+        that.dataKeyCacheMaxUses = this.dataKeyCacheMaxUses;
+        that.parallelMultipartUploadEnabled = this.parallelMultipartUploadEnabled;
         return that;
     }
 
@@ -406,4 +459,148 @@ public class CryptoConfiguration implements Cloneable,Serializable {
         this.awskmsRegion = awsKmsRegion;
         return this;
     }
+
+    /**
+     * Returns the maximum number of plaintext data keys generated or decrypted
+     * by AWS KMS that are cached for reuse; or zero if data keys are not
+     * cached. Default is zero.
+     */
+    public int getDataKeyCacheSize() {
+        return dataKeyCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of plaintext data keys generated or decrypted by
+     * AWS KMS that are cached for reuse, or zero to not cache data keys. This
+     * property only applies to {@link KMSEncryptionMaterials}.
+     * <p>
+     * When data keys are cached, objects put with the same customer master key
+     * and encryption context share a data key until it is evicted, and objects
+     * sharing a data key are decrypted with it without a request to AWS KMS.
+     * This reduces the number of requests to AWS KMS, at the cost of keeping
+     * plaintext data keys in memory and of encrypting more objects under each
+     * data key; the time to live and maximum number of uses bound both.
+     * Evicted data keys are zeroed.
+     *
+     * @see #setDataKeyCacheTtlMillis(long)
+     * @see #setDataKeyCacheMaxUses(long)
+     */
+    public void setDataKeyCacheSize(int dataKeyCacheSize) {
+        this.dataKeyCacheSize = dataKeyCacheSize;
+    }
+
+    /**
+     * Fluent API for setting the maximum number of plaintext data keys
+     * generated or decrypted by AWS KMS that are cached for reuse.
+     *
+     * @see #setDataKeyCacheSize(int)
+     */
+    public CryptoConfiguration withDataKeyCacheSize(int dataKeyCacheSize) {
+        setDataKeyCacheSize(dataKeyCacheSize);
+        return this;
+    }
+
+    /**
+     * Returns the time in milliseconds after which a cached data key is
+     * evicted. Default is {@value #DEFAULT_DATA_KEY_CACHE_TTL_MILLIS}.
+     */
+    public long getDataKeyCacheTtlMillis() {
+        return dataKeyCacheTtlMillis;
+    }
+
+    /**
+     * Sets the time in milliseconds after which a cached data key is evicted.
+     *
+     * @see #setDataKeyCacheSize(int)
+     */
+    public void setDataKeyCacheTtlMillis(long dataKeyCacheTtlMillis) {
+        this.dataKeyCacheTtlMillis = dataKeyCacheTtlMillis;
+    }
+
+    /**
+     * Fluent API for setting the time in milliseconds after which a cached
+     * data key is evicted.
+     *
+     * @see #setDataKeyCacheSize(int)
+     */
+    public CryptoConfiguration withDataKeyCacheTtlMillis(long dataKeyCacheTtlMillis) {
+        setDataKeyCacheTtlMillis(dataKeyCacheTtlMillis);
+        return this;
+    }
+
+    /**
+     * Returns the number of times a cached data key is used, to encrypt or
+     * decrypt an object, before it is evicted. Default is
+     * {@value #DEFAULT_DATA_KEY_CACHE_MAX_USES}.
+     */
+    public long getDataKeyCacheMaxUses() {
+        return dataKeyCacheMaxUses;
+    }
+
+    /**
+     * Sets the number of times a cached data key is used, to encrypt or
+     * decrypt an object, before it is evicted.
+     *
+     * @see #setDataKeyCacheSize(int)
+     */
+    public void setDataKeyCacheMaxUses(long dataKeyCacheMaxUses) {
+        this.dataKeyCacheMaxUses = dataKeyCacheMaxUses;
+    }
+
+    /**
+     * Fluent API for setting the number of times a cached data key is used
+     * before it is evicted.
+     *
+     * @see #setDataKeyCacheSize(int)
+     */
+    public CryptoConfiguration withDataKeyCacheMaxUses(long dataKeyCacheMaxUses) {
+        setDataKeyCacheMaxUses(dataKeyCacheMaxUses);
+        return this;
+    }
+
+    /**
+     * Returns true if the parts of multi-part uploads are encrypted
+     * independently, so that they can be uploaded in parallel; false
+     * otherwise. Default is false.
+     */
+    public boolean isParallelMultipartUploadEnabled() {
+        return parallelMultipartUploadEnabled;
+    }
+
+    /**
+     * Sets whether the parts of multi-part uploads are encrypted
+     * independently, so that they can be uploaded in parallel, including by
+     * the {@link com.amazonaws.services.s3.transfer.TransferManager}.
+     * <p>
+     * The objects uploaded are the same AES/GCM ciphertext as those uploaded
+     * in series, and can be decrypted by any client. Since the offset of each
+     * part in the object must be known before it is encrypted, this is
+     * subject to the following constraints:
+     * <ul>
+     * <li>It applies only to the authenticated encryption modes,
+     * {@link CryptoMode#AuthenticatedEncryption} and
+     * {@link CryptoMode#StrictAuthenticatedEncryption}.</li>
+     * <li>All the parts of an upload but the last must have the same size, a
+     * multiple of 16 bytes.</li>
+     * <li>The last part must be uploaded after all the other parts have been
+     * uploaded.</li>
+     * <li>A part that is uploaded again must have the same content.</li>
+     * </ul>
+     * Downloads are not affected: the whole object is still needed to verify
+     * its authentication tag.
+     */
+    public void setParallelMultipartUploadEnabled(boolean parallelMultipartUploadEnabled) {
+        this.parallelMultipartUploadEnabled = parallelMultipartUploadEnabled;
+    }
+
+    /**
+     * Fluent API for setting whether the parts of multi-part uploads are
+     * encrypted independently, so that they can be uploaded in parallel.
+     *
+     * @see #setParallelMultipartUploadEnabled(boolean)
+     */
+    public CryptoConfiguration withParallelMultipartUploadEnabled(boolean parallelMultipartUploadEnabled) {
+        setParallelMultipartUploadEnabled(parallelMultipartUploadEnabled);
+        return this;
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replaces carriage return (\r) characters with explicit XML character entities while the
+ * document is read, to prevent the SAX parser from misinterpreting 0x0D characters as 0x0A and
+ * being unable to parse the XML. A 0x0D byte never occurs inside a multi-byte UTF-8 sequence, so
+ * the replacement is done on the raw bytes without buffering or decoding the document.
+ */
+@SdkInternalApi
+@NotThreadSafe
+class CarriageReturnEscapingInputStream extends InputStream {
+
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = {'&', '#', '0', '1', '3', ';'};
+
+    private final InputStream in;
+
+    private final byte[] buffer = new byte[8192];
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * Index of the next byte of {@link #ESCAPED_CARRIAGE_RETURN} to return, or -1 if no escape
+     * sequence is pending.
+     */
+    private int escapePosition = -1;
+
+    CarriageReturnEscapingInputStream(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (escapePosition >= 0) {
+            return nextEscapeByte();
+        }
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        byte b = buffer[position++];
+        if (b == CARRIAGE_RETURN) {
+            escapePosition = 0;
+            return nextEscapeByte();
+        }
+        return b & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len) {
+            if (escapePosition >= 0) {
+                b[off + count++] = nextEscapeByte();
+            } else if (position < limit) {
+                byte next = buffer[position++];
+                if (next == CARRIAGE_RETURN) {
+                    escapePosition = 0;
+                } else {
+                    b[off + count++] = next;
+                }
+            } else if (count > 0 || !fill()) {
+                // Don't block for more data once some has been returned.
+                break;
+            }
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return limit - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = in.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read == -1) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private byte nextEscapeByte() {
+        byte b = ESCAPED_CARRIAGE_RETURN[escapePosition++];
+        if (escapePosition == ESCAPED_CARRIAGE_RETURN.length) {
+            escapePosition = -1;
+        }
+        return b;
+    }
+}
@@ -19,12 +19,10 @@ package com.amazonaws.services.s3.model.transform;
 
 import com.amazonaws.services.s3.model.*;
 
-import static com.amazonaws.util.StringUtils.UTF8;
 
 import com.amazonaws.services.s3.model.inventory.ServerSideEncryptionKMS;
 import com.amazonaws.services.s3.model.inventory.ServerSideEncryptionS3;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -100,7 +98,17 @@ import com.amazonaws.util.StringUtils;
 public class XmlResponsesSaxParser {
     private static final Log log = LogFactory.getLog(XmlResponsesSaxParser.class);
 
-    private XMLReader xr = null;
+    /**
+     * Handler the cached readers are reset to after parsing, so that they don't keep the last
+     * parsed document reachable.
+     */
+    private static final DefaultHandler NO_OP_HANDLER = new DefaultHandler();
+
+    /**
+     * Creating an XMLReader is expensive (it loads the parser configuration), so each thread
+     * reuses one across parsers.
+     */
+    private static final ThreadLocal<XMLReader> CACHED_XML_READER = new ThreadLocal<XMLReader>();
 
     private boolean sanitizeXmlDocument = true;
 
@@ -111,9 +119,26 @@ public class XmlResponsesSaxParser {
      */
     public XmlResponsesSaxParser() throws SdkClientException {
         // Ensure we can load the XML Reader.
+        getXmlReader();
+    }
+
+    /**
+     * Returns the XML reader cached for the calling thread, creating it if needed.
+     */
+    static XMLReader getXmlReader() {
+        XMLReader xr = CACHED_XML_READER.get();
+        if (xr == null) {
+            xr = newXmlReader();
+            CACHED_XML_READER.set(xr);
+        }
+        return xr;
+    }
+
+    private static XMLReader newXmlReader() {
         try {
-            xr = XMLReaderFactory.createXMLReader();
+            XMLReader xr = XMLReaderFactory.createXMLReader();
             disableExternalResourceFetching(xr);
+            return xr;
         } catch (SAXException e) {
             throw new SdkClientException("Couldn't initialize a SAX driver to create an XMLReader", e);
         }
@@ -142,9 +167,18 @@ public class XmlResponsesSaxParser {
 
             BufferedReader breader = new BufferedReader(new InputStreamReader(inputStream,
                 Constants.DEFAULT_ENCODING));
-            xr.setContentHandler(handler);
-            xr.setErrorHandler(handler);
-            xr.parse(new InputSource(breader));
+            XMLReader xr = getXmlReader();
+            // Detach the reader while in use so a nested parse on this thread gets its own.
+            CACHED_XML_READER.remove();
+            try {
+                xr.setContentHandler(handler);
+                xr.setErrorHandler(handler);
+                xr.parse(new InputSource(breader));
+            } finally {
+                xr.setContentHandler(NO_OP_HANDLER);
+                xr.setErrorHandler(NO_OP_HANDLER);
+                CACHED_XML_READER.set(xr);
+            }
 
         } catch (IOException e) {
             throw e;
@@ -173,52 +207,12 @@ public class XmlResponsesSaxParser {
                 log.debug("Sanitizing XML document destined for handler " + handler.getClass());
             }
 
-            InputStream sanitizedInputStream = null;
-
-            try {
-
-                /*
-                 * Read object listing XML document from input stream provided into a
-                 * string buffer, so we can replace troublesome characters before
-                 * sending the document to the XML parser.
-                 */
-                StringBuilder listingDocBuffer = new StringBuilder();
-                BufferedReader br = new BufferedReader(
-                    new InputStreamReader(inputStream, Constants.DEFAULT_ENCODING));
-
-                char[] buf = new char[8192];
-                int read = -1;
-                while ((read = br.read(buf)) != -1) {
-                    listingDocBuffer.append(buf, 0, read);
-                }
-                br.close();
-
-                /*
-                 * Replace any carriage return (\r) characters with explicit XML
-                 * character entities, to prevent the SAX parser from
-                 * misinterpreting 0x0D characters as 0x0A and being unable to
-                 * parse the XML.
-                 */
-                String listingDoc = listingDocBuffer.toString().replaceAll("\r", "&#013;");
-
-                sanitizedInputStream = new ByteArrayInputStream(
-                    listingDoc.getBytes(UTF8));
-
-            } catch (IOException e) {
-                throw e;
-
-            } catch (Throwable t) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    if (log.isErrorEnabled()) {
-                        log.error("Unable to close response InputStream after failure sanitizing XML document", e);
-                    }
-                }
-                throw new SdkClientException("Failed to sanitize XML document destined for handler "
-                    + handler.getClass(), t);
-            }
-            return sanitizedInputStream;
+            /*
+             * Replace any carriage return (\r) characters with explicit XML
+             * character entities as the document is streamed to the parser, so
+             * that listings never need to be buffered in memory.
+             */
+            return new CarriageReturnEscapingInputStream(inputStream);
         }
     }
 
@@ -230,7 +224,7 @@ public class XmlResponsesSaxParser {
      * @throws SAXNotRecognizedException
      * @throws SAXNotSupportedException
      */
-    private void disableExternalResourceFetching(XMLReader reader) throws SAXNotRecognizedException, SAXNotSupportedException {
+    private static void disableExternalResourceFetching(XMLReader reader) throws SAXNotRecognizedException, SAXNotSupportedException {
         reader.setFeature("http://xml.org/sax/features/external-general-entities", false);
         reader.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
         reader.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd",false);
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.transfer.model.BulkDeleteResult;
+
+/**
+ * Represents an asynchronous deletion of many objects from Amazon S3, started
+ * with {@link TransferManager#deletePrefix(String, String)} or
+ * {@link TransferManager#deleteObjects(String, Iterable)}.
+ * <p>
+ * The progress of a bulk delete counts objects rather than bytes: the bytes
+ * transferred reported by {@link #getProgress()} are the number of objects
+ * deleted so far.
+ */
+public interface BulkDelete extends Transfer {
+
+    /**
+     * Waits for the deletion to complete and returns its result. Be prepared
+     * to handle errors when calling this method. Any errors that occurred
+     * during the asynchronous deletion will be re-thrown through this method;
+     * objects that could not be deleted are reported by a
+     * {@link com.amazonaws.services.s3.model.MultiObjectDeleteException}.
+     *
+     * @return The result of this deletion.
+     *
+     * @throws AmazonClientException
+     *             If any errors were encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     * @throws InterruptedException
+     *             If this thread is interrupted while waiting for the deletion
+     *             to complete.
+     */
+    public BulkDeleteResult waitForDeleteResult() throws AmazonClientException,
+            AmazonServiceException, InterruptedException;
+}
@@ -17,10 +17,13 @@ package com.amazonaws.services.s3.transfer;
 import java.io.File;
 import java.io.RandomAccessFile;
 import java.net.SocketException;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -44,10 +47,13 @@ import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
 import com.amazonaws.services.s3.transfer.exception.FileLockException;
 import com.amazonaws.services.s3.transfer.internal.AbstractTransfer;
+import com.amazonaws.services.s3.transfer.internal.CompleteInPlaceDownload;
 import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.DownloadMonitor;
 import com.amazonaws.services.s3.transfer.internal.DownloadPartCallable;
+import com.amazonaws.services.s3.transfer.internal.DownloadRangeCallable;
 import com.amazonaws.services.s3.transfer.internal.CompleteMultipartDownload;
+import com.amazonaws.services.s3.transfer.internal.TransferManagerUtils;
 import com.amazonaws.util.IOUtils;
 
 @SdkInternalApi
@@ -66,7 +72,13 @@ final class DownloadCallable implements Callable<File> {
     /** The thread pool in which parts are downloaded downloaded. */
     private final ExecutorService executor;
     private final List<Future<File>> futureFiles;
+    private final List<DownloadRangeCallable> rangeCallables;
+    private final List<Future<Long>> futureRanges;
     private final boolean isDownloadParallel;
+    /** Size of the byte ranges of a download written in place, or null to align them with the parts. */
+    private final Long downloadRangeSize;
+    /** Maximum number of byte ranges of a download written in place requested at the same time. */
+    private final int maxDownloadRangeConcurrency;
     private Integer lastFullyMergedPartNumber;
     private final boolean resumeOnRetry;
 
@@ -78,7 +90,8 @@ final class DownloadCallable implements Callable<File> {
             long expectedFileLength, long timeout,
             ScheduledExecutorService timedExecutor,
             ExecutorService executor,
-            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel, boolean resumeOnRetry)
+            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel, boolean resumeOnRetry,
+            Long downloadRangeSize, int maxDownloadRangeConcurrency)
     {
         if (s3 == null || latch == null || req == null || dstfile == null || download == null)
             throw new IllegalArgumentException();
@@ -94,9 +107,13 @@ final class DownloadCallable implements Callable<File> {
         this.timedExecutor = timedExecutor;
         this.executor = executor;
         this.futureFiles = new ArrayList<Future<File>>();
+        this.rangeCallables = new ArrayList<DownloadRangeCallable>();
+        this.futureRanges = new ArrayList<Future<Long>>();
         this.lastFullyMergedPartNumber = lastFullyDownloadedPartNumber;
         this.isDownloadParallel = isDownloadParallel;
         this.resumeOnRetry = resumeOnRetry;
+        this.downloadRangeSize = downloadRangeSize;
+        this.maxDownloadRangeConcurrency = Math.max(1, maxDownloadRangeConcurrency);
     }
 
     /**
@@ -129,7 +146,9 @@ final class DownloadCallable implements Callable<File> {
             download.setState(TransferState.InProgress);
             ServiceUtils.createParentDirectoryIfNecessary(dstfile);
 
-            if (isDownloadParallel) {
+            if (isDownloadParallel && download.getCompletedRanges() != null) {
+                downloadInPlace();
+            } else if (isDownloadParallel) {
                 downloadInParallel(ServiceUtils.getPartCount(req, s3));
             } else {
                 S3Object s3Object = retryableDownloadS3ObjectToFile(dstfile,
@@ -142,6 +161,12 @@ final class DownloadCallable implements Callable<File> {
             for (Future<File> f : futureFiles) {
                 f.cancel(true);
             }
+            // The ranges share the channel of the destination file, which is
+            // closed if a write is interrupted, so they are canceled cooperatively.
+            DownloadRangeCallable.cancelAll(rangeCallables);
+            for (Future<Long> f : futureRanges) {
+                f.cancel(false);
+            }
             // Downloads aren't allowed to move from canceled to failed
             if (download.getState() != TransferState.Canceled) {
                 download.setState(TransferState.Failed);
@@ -196,6 +221,107 @@ final class DownloadCallable implements Callable<File> {
         ((DownloadMonitor) download.getMonitor()).setFuture(future);
     }
 
+    /**
+     * Downloads the object as byte ranges, each written directly at its offset
+     * into the destination file which is preallocated to the size of the
+     * object, so no merge step is needed. Ranges are aligned with the parts of
+     * the object unless a range size is configured. Ranges already written
+     * before the download was paused are skipped.
+     */
+    private void downloadInPlace() throws Exception {
+        final long objectLength = download.getObjectMetadata().getContentLength();
+        final long rangeSize = downloadRangeSize != null
+                ? downloadRangeSize : ServiceUtils.getLastByteInPart(s3, req, 1) + 1;
+        final long[][] completedRanges = download.getCompletedRanges();
+
+        if (!FileLocks.lock(dstfile)) {
+            throw new FileLockException("Fail to lock " + dstfile);
+        }
+        FileChannel channel = null;
+        CompleteInPlaceDownload completion;
+        try {
+            channel = preallocateDestinationFile(objectLength, completedRanges.length > 0);
+
+            long completedBytes = 0;
+            for (long[] range : completedRanges) {
+                completedBytes += range[1] - range[0] + 1;
+            }
+            download.getProgress().updateProgress(completedBytes);
+
+            Queue<GetObjectRequest> getRangeRequests = new ConcurrentLinkedQueue<GetObjectRequest>();
+            for (long start = 0; start < objectLength; start += rangeSize) {
+                long end = Math.min(start + rangeSize, objectLength) - 1;
+                for (long[] missing : TransferManagerUtils.subtractRanges(start, end, completedRanges)) {
+                    getRangeRequests.add(newGetRangeRequest(missing[0], missing[1]));
+                }
+            }
+
+            int concurrency = Math.min(maxDownloadRangeConcurrency, getRangeRequests.size());
+            for (int i = 0; i < concurrency; i++) {
+                DownloadRangeCallable callable = new DownloadRangeCallable(s3, getRangeRequests, channel, download,
+                        resumeOnRetry);
+                rangeCallables.add(callable);
+                futureRanges.add(executor.submit(callable));
+            }
+
+            completion = new CompleteInPlaceDownload(rangeCallables, futureRanges, channel, dstfile, download);
+        } catch (Exception e) {
+            // Wait for the ranges already started before closing the channel they write into
+            DownloadRangeCallable.cancelAll(rangeCallables);
+            IOUtils.closeQuietly(channel, LOG);
+            FileLocks.unlock(dstfile);
+            throw e;
+        }
+        // Waited for in this task rather than submitted, as a completion task
+        // canceled before it starts would never release the file.
+        completion.call();
+    }
+
+    /**
+     * Opens the destination file, sizing it to the object length for a new
+     * download or checking it still has that length when resuming.
+     */
+    private FileChannel preallocateDestinationFile(long objectLength, boolean resuming) {
+        RandomAccessFile raf = null;
+        try {
+            raf = new RandomAccessFile(dstfile, "rw");
+            if (!resuming) {
+                raf.setLength(objectLength);
+            } else if (raf.length() != objectLength) {
+                throw new SdkClientException(
+                        "File " + dstfile.getAbsolutePath() + " has been modified since last pause.");
+            }
+            return raf.getChannel();
+        } catch (SdkClientException e) {
+            IOUtils.closeQuietly(raf, LOG);
+            throw e;
+        } catch (Exception e) {
+            IOUtils.closeQuietly(raf, LOG);
+            throw new SdkClientException("Unable to preallocate " + dstfile + ": " + e.getMessage(), e);
+        }
+    }
+
+    private GetObjectRequest newGetRangeRequest(long start, long end) {
+        GetObjectRequest getRangeRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
+                req.getVersionId()).withRange(start, end)
+                        .withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
+                        .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
+                        .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
+                        .withGeneralProgressListener(req.getGeneralProgressListener());
+
+        // Make sure all the ranges are read from the same version of the object.
+        String eTag = download.getObjectMetadata().getETag();
+        List<String> matchingETags = req.getMatchingETagConstraints();
+        if ((matchingETags == null || matchingETags.isEmpty()) && eTag != null) {
+            getRangeRequest.withMatchingETagConstraint(eTag);
+        } else {
+            getRangeRequest.setMatchingETagConstraints(matchingETags);
+        }
+        getRangeRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
+        getRangeRequest.setRequesterPays(req.isRequesterPays());
+        return getRangeRequest;
+    }
+
     /**
      * If only partial part object is merged into the dstFile(due to pause
      * operation), adjust the file length so that the part starts writing from
@@ -75,11 +75,26 @@ public final class PersistableDownload extends PersistableTransfer {
     @JsonProperty
     private final long lastModifiedTime;
 
+    /**
+     * For downloads written in place, the inclusive byte ranges of the object
+     * that have been written into the downloaded file. Null for other
+     * downloads.
+     */
+    @JsonProperty
+    private final long[][] completedRanges;
+
 
     public PersistableDownload() {
         this(null, null, null, null, null, false, null, null, 0L);
     }
 
+    public PersistableDownload(String bucketName, String key, String versionId, long[] range,
+            ResponseHeaderOverrides responseHeaders, boolean isRequesterPays, String file,
+            Integer lastFullyDownloadedPartNumber, long lastModifiedTime) {
+        this(bucketName, key, versionId, range, responseHeaders, isRequesterPays, file,
+                lastFullyDownloadedPartNumber, lastModifiedTime, null);
+    }
+
     public PersistableDownload(
             @JsonProperty(value = "bucketName") String bucketName,
             @JsonProperty(value = "key") String key,
@@ -89,7 +104,8 @@ public final class PersistableDownload extends PersistableTransfer {
             @JsonProperty(value = "isRequesterPays") boolean isRequesterPays,
             @JsonProperty(value = "file") String file,
             @JsonProperty(value = "lastFullyDownloadedPartNumber") Integer lastFullyDownloadedPartNumber,
-            @JsonProperty(value = "lastModifiedTime") long lastModifiedTime) {
+            @JsonProperty(value = "lastModifiedTime") long lastModifiedTime,
+            @JsonProperty(value = "completedRanges") long[][] completedRanges) {
         this.bucketName = bucketName;
         this.key = key;
         this.versionId = versionId;
@@ -99,6 +115,7 @@ public final class PersistableDownload extends PersistableTransfer {
         this.file = file;
         this.lastFullyDownloadedPartNumber = lastFullyDownloadedPartNumber;
         this.lastModifiedTime = lastModifiedTime;
+        this.completedRanges = copyOf(completedRanges);
     }
 
     /**
@@ -169,4 +186,23 @@ public final class PersistableDownload extends PersistableTransfer {
     Long getlastModifiedTime() {
         return lastModifiedTime;
     }
+
+    /**
+     * Returns the byte ranges already written into the downloaded file for a
+     * download written in place, or null for other downloads.
+     */
+    long[][] getCompletedRanges() {
+        return copyOf(completedRanges);
+    }
+
+    private static long[][] copyOf(long[][] ranges) {
+        if (ranges == null) {
+            return null;
+        }
+        long[][] copy = new long[ranges.length][];
+        for (int i = 0; i < ranges.length; i++) {
+            copy[i] = ranges[i].clone();
+        }
+        return copy;
+    }
 }
@@ -27,6 +27,8 @@ import com.amazonaws.event.ProgressListenerChain;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.internal.RequestCopyUtils;
+import com.amazonaws.services.s3.iterable.ParallelListingIterator;
+import com.amazonaws.services.s3.iterable.S3Objects;
 import com.amazonaws.services.s3.internal.FileLocks;
 import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.internal.ServiceUtils;
@@ -45,6 +47,9 @@ import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.model.ObjectTagging;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
 import com.amazonaws.services.s3.transfer.exception.FileLockException;
+import com.amazonaws.services.s3.transfer.internal.BulkDeleteCallable;
+import com.amazonaws.services.s3.transfer.internal.BulkDeleteImpl;
+import com.amazonaws.services.s3.transfer.internal.BulkDeleteMonitor;
 import com.amazonaws.services.s3.transfer.internal.CopyCallable;
 import com.amazonaws.services.s3.transfer.internal.CopyImpl;
 import com.amazonaws.services.s3.transfer.internal.CopyMonitor;
@@ -66,11 +71,14 @@ import com.amazonaws.util.VersionInfoUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Stack;
@@ -1024,6 +1032,30 @@ public class TransferManager {
             final Integer lastFullyDownloadedPart,
             final long lastModifiedTimeRecordedDuringPause,
             final boolean resumeOnRetry)
+    {
+        return doDownload(getObjectRequest, file, stateListener, s3progressListener,
+                resumeExistingDownload, timeoutMillis, lastFullyDownloadedPart,
+                lastModifiedTimeRecordedDuringPause, resumeOnRetry, null);
+    }
+
+    /**
+     * Same as public interface, but adds a state listener so that callers can
+     * be notified of state changes to the download.
+     *
+     * @param completedRanges
+     *            When resuming a download written in place, the byte ranges
+     *            already written into the file; otherwise null.
+     * @see TransferManager#download(GetObjectRequest, File)
+     */
+    private Download doDownload(final GetObjectRequest getObjectRequest,
+            final File file, final TransferStateChangeListener stateListener,
+            final S3ProgressListener s3progressListener,
+            final boolean resumeExistingDownload,
+            final long timeoutMillis,
+            final Integer lastFullyDownloadedPart,
+            final long lastModifiedTimeRecordedDuringPause,
+            final boolean resumeOnRetry,
+            final long[][] completedRanges)
     {
         assertParameterNotNull(getObjectRequest,
                 "A valid GetObjectRequest must be provided to initiate download");
@@ -1064,12 +1096,26 @@ public class TransferManager {
         }
 
         final long origStartingByte = startingByte;
-        final boolean isDownloadParallel = !configuration.isDisableParallelDownloads()
-                && TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest, ServiceUtils.getPartCount(getObjectRequest, s3));
+        final Integer partCount = ServiceUtils.getPartCount(getObjectRequest, s3);
+        // Large objects that were not uploaded in multiple parts are split into byte ranges instead
+        final boolean isDownloadRanged = !configuration.isDisableParallelDownloads()
+                && TransferManagerUtils.isDownloadRangeable(s3, getObjectRequest, partCount)
+                && (completedRanges != null || isAboveRangedDownloadThreshold(objectMetadata.getContentLength()));
+        final boolean isDownloadParallel = isDownloadRanged || (!configuration.isDisableParallelDownloads()
+                && TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest, partCount));
+
+        if (completedRanges != null && !isDownloadParallel) {
+            throw new AmazonClientException("The download of " + getObjectRequest.getKey() + " in bucket "
+                    + getObjectRequest.getBucketName() + " was written in place and can only be resumed as a parallel download.");
+        }
+        // A download written in place must be resumed in place, whatever the current configuration
+        final boolean isDownloadInPlace = isDownloadRanged || (isDownloadParallel
+                && (completedRanges != null || configuration.isDownloadInPlace()));
 
         // We still pass the unfiltered listener chain into DownloadImpl
         final DownloadImpl download = new DownloadImpl(description, transferProgress, listenerChain, null,
-                stateListener, getObjectRequest, file, objectMetadata, isDownloadParallel);
+                stateListener, getObjectRequest, file, objectMetadata, isDownloadParallel,
+                isDownloadInPlace ? (completedRanges == null ? new long[0][] : completedRanges) : null);
 
         long totalBytesToDownload = lastByte - startingByte + 1;
         transferProgress.setTotalBytesToTransfer(totalBytesToDownload);
@@ -1133,12 +1179,23 @@ public class TransferManager {
             new DownloadCallable(s3, latch,
                 getObjectRequest, resumeExistingDownload,
                 download, file, origStartingByte, fileLength, timeoutMillis, timedThreadPool,
-                executorService, lastFullyDownloadedPart, isDownloadParallel, resumeOnRetry));
+                executorService, lastFullyDownloadedPart, isDownloadParallel, resumeOnRetry,
+                isDownloadRanged ? Long.valueOf(configuration.getDownloadRangeSize()) : null,
+                configuration.getMaxDownloadRangeConcurrency()));
         download.setMonitor(new DownloadMonitor(download, future));
         latch.countDown();
         return download;
     }
 
+    /**
+     * Returns true if an object of the given size, that was not uploaded in
+     * multiple parts, is worth downloading as concurrent byte ranges.
+     */
+    private boolean isAboveRangedDownloadThreshold(long contentLength) {
+        return contentLength >= configuration.getRangedDownloadThreshold()
+                && contentLength > configuration.getDownloadRangeSize();
+    }
+
     private boolean isS3ObjectModifiedSincePause(final long lastModifiedTimeRecordedDuringResume,
             long lastModifiedTimeRecordedDuringPause) {
         return lastModifiedTimeRecordedDuringResume != lastModifiedTimeRecordedDuringPause;
@@ -1992,6 +2049,148 @@ public class TransferManager {
         return copy;
     }
 
+    /**
+     * <p>
+     * Schedules a new transfer to delete all the objects whose keys begin with
+     * the given prefix. This method is non-blocking and returns immediately
+     * (before the objects have been deleted).
+     * </p>
+     * <p>
+     * The objects are listed with several concurrent requests and deleted as
+     * they are listed, with up to
+     * {@link TransferManagerConfiguration#getMaxDeleteConcurrency()}
+     * DeleteObjects requests of 1000 keys at a time. In a versioned bucket,
+     * this only adds delete markers to the listed objects; use
+     * {@link #deleteObjects(String, Iterable)} with the keys returned by
+     * {@link com.amazonaws.services.s3.iterable.S3Versions} to remove their
+     * versions.
+     * </p>
+     * <p>
+     * Use the returned <code>BulkDelete</code> object to check if the deletion
+     * is complete. Its progress counts deleted objects rather than bytes.
+     * </p>
+     *
+     * @param bucketName
+     *            The name of the bucket to delete the objects from.
+     * @param prefix
+     *            The prefix of the keys of the objects to delete; the empty
+     *            prefix deletes every object of the bucket.
+     *
+     * @return A new <code>BulkDelete</code> object to use to check the state
+     *         of the deletion.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     */
+    public BulkDelete deletePrefix(String bucketName, String prefix) {
+        assertParameterNotNull(bucketName,
+                "The bucket name must be specified when a bulk delete is initiated.");
+        assertParameterNotNull(prefix,
+                "The prefix must be specified when a bulk delete is initiated.");
+
+        ParallelListingIterator<S3ObjectSummary> summaries = S3Objects.withPrefix(s3, bucketName, prefix)
+                .parallelIterator(configuration.getMaxDeleteConcurrency());
+        return doDelete(bucketName, new SummaryKeyIterator(summaries), new TransferProgress(),
+                "Deleting objects with prefix " + prefix + " from " + bucketName);
+    }
+
+    /**
+     * <p>
+     * Schedules a new transfer to delete the objects with the given keys. This
+     * method is non-blocking and returns immediately (before the objects have
+     * been deleted).
+     * </p>
+     * <p>
+     * The keys are read as they are needed, and deleted with up to
+     * {@link TransferManagerConfiguration#getMaxDeleteConcurrency()}
+     * DeleteObjects requests of 1000 keys at a time. Keys of objects that do
+     * not exist count as deleted. If the iterator of the keys is
+     * {@link java.io.Closeable}, it is closed once the deletion has ended.
+     * </p>
+     * <p>
+     * Use the returned <code>BulkDelete</code> object to check if the deletion
+     * is complete. Its progress counts deleted objects rather than bytes; the
+     * total is known only if the keys are a {@link Collection}.
+     * </p>
+     *
+     * @param bucketName
+     *            The name of the bucket to delete the objects from.
+     * @param keys
+     *            The keys of the objects to delete.
+     *
+     * @return A new <code>BulkDelete</code> object to use to check the state
+     *         of the deletion.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     */
+    public BulkDelete deleteObjects(String bucketName, Iterable<String> keys) {
+        assertParameterNotNull(bucketName,
+                "The bucket name must be specified when a bulk delete is initiated.");
+        assertParameterNotNull(keys,
+                "The keys must be specified when a bulk delete is initiated.");
+
+        TransferProgress transferProgress = new TransferProgress();
+        if (keys instanceof Collection) {
+            transferProgress.setTotalBytesToTransfer(((Collection<?>) keys).size());
+        }
+        return doDelete(bucketName, keys.iterator(), transferProgress,
+                "Deleting objects from " + bucketName);
+    }
+
+    private BulkDelete doDelete(String bucketName, Iterator<String> keys,
+            TransferProgress transferProgress, String description) {
+        ProgressListenerChain listenerChain = new ProgressListenerChain(
+                new TransferProgressUpdatingListener(transferProgress));
+        BulkDeleteImpl bulkDelete = new BulkDeleteImpl(description, transferProgress,
+                listenerChain, null);
+        Future<?> future = executorService.submit(new BulkDeleteCallable(s3, executorService,
+                bulkDelete, bucketName, keys, configuration.getMaxDeleteConcurrency(),
+                listenerChain));
+        bulkDelete.setMonitor(new BulkDeleteMonitor(bulkDelete, future));
+        return bulkDelete;
+    }
+
+    /**
+     * Returns the keys of the summaries of a listing, closing the listing when
+     * closed.
+     */
+    private static final class SummaryKeyIterator implements Iterator<String>, Closeable {
+        private final ParallelListingIterator<S3ObjectSummary> summaries;
+
+        private SummaryKeyIterator(ParallelListingIterator<S3ObjectSummary> summaries) {
+            this.summaries = summaries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return summaries.hasNext();
+        }
+
+        @Override
+        public String next() {
+            return summaries.next().getKey();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            summaries.close();
+        }
+    }
+
     /**
      * Resumes an upload operation. This upload operation uses the same
      * configuration {@link TransferManagerConfiguration} as the original
@@ -2057,7 +2256,8 @@ public class TransferManager {
         return doDownload(request, new File(persistableDownload.getFile()), null, null,
                 APPEND_MODE, 0,
                 persistableDownload.getLastFullyDownloadedPartNumber(),
-                persistableDownload.getlastModifiedTime());
+                persistableDownload.getlastModifiedTime(), false,
+                persistableDownload.getCompletedRanges());
     }
 
     /**
@@ -61,6 +61,16 @@ public final class TransferManagerBuilder {
 
     private Boolean disableParallelDownloads;
 
+    private Boolean downloadInPlace;
+
+    private Long rangedDownloadThreshold;
+
+    private Long downloadRangeSize;
+
+    private Integer maxDownloadRangeConcurrency;
+
+    private Integer maxDeleteConcurrency;
+
     /**
      * @return Create new instance of builder with all defaults set.
      */
@@ -410,6 +420,170 @@ public final class TransferManagerBuilder {
         return withDisableParallelDownloads(Boolean.TRUE);
     }
 
+    /**
+     * Returns if parallel downloads are written directly into the destination
+     * file. By default, the value is set to false.
+     *
+     * @return true if parallel downloads are written in place, otherwise false.
+     * @see #setDownloadInPlace(Boolean)
+     */
+    public Boolean isDownloadInPlace() {
+        return downloadInPlace;
+    }
+
+    /**
+     * Sets the option to write parallel downloads directly into the
+     * destination file. By default, the value is set to false.
+     *
+     * <p>
+     * When enabled, the destination file is preallocated to the size of the
+     * object and each byte range is written at its offset as soon as it is
+     * received, instead of being downloaded to a temporary file and appended
+     * to the destination file once all the preceding parts are done. This
+     * halves the disk I/O of a parallel download and needs no temporary
+     * space.
+     * </p>
+     *
+     * @param downloadInPlace boolean value to write parallel downloads in place.
+     */
+    public void setDownloadInPlace(Boolean downloadInPlace) {
+        this.downloadInPlace = downloadInPlace;
+    }
+
+    /**
+     * Sets the option to write parallel downloads directly into the
+     * destination file, see {@link #setDownloadInPlace(Boolean)}.
+     *
+     * @param downloadInPlace boolean value to write parallel downloads in place.
+     * @return this object for method chaining
+     */
+    public TransferManagerBuilder withDownloadInPlace(Boolean downloadInPlace) {
+        setDownloadInPlace(downloadInPlace);
+        return this;
+    }
+
+    /**
+     * @return The ranged download threshold currently configured in the builder.
+     */
+    public final Long getRangedDownloadThreshold() {
+        return rangedDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, for when to download an object that was not uploaded in
+     * multiple parts as concurrent byte ranges written directly into the destination file. Such
+     * objects smaller than this threshold are downloaded over a single connection. Ranged
+     * downloads are disabled by default, and do not check the MD5 of the object against its ETag.
+     *
+     * @param rangedDownloadThreshold Threshold in which ranged downloads will be performed.
+     */
+    public final void setRangedDownloadThreshold(Long rangedDownloadThreshold) {
+        this.rangedDownloadThreshold = rangedDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, for when to download an object that was not uploaded in
+     * multiple parts as concurrent byte ranges written directly into the destination file. Such
+     * objects smaller than this threshold are downloaded over a single connection. Ranged
+     * downloads are disabled by default, and do not check the MD5 of the object against its ETag.
+     *
+     * @param rangedDownloadThreshold Threshold in which ranged downloads will be performed.
+     * @return This object for method chaining.
+     */
+    public final TransferManagerBuilder withRangedDownloadThreshold(Long rangedDownloadThreshold) {
+        setRangedDownloadThreshold(rangedDownloadThreshold);
+        return this;
+    }
+
+    /**
+     * @return The download range size currently configured in the builder.
+     */
+    public final Long getDownloadRangeSize() {
+        return downloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range requested by a ranged download.
+     *
+     * @param downloadRangeSize New size of each byte range.
+     * @see #setRangedDownloadThreshold(Long)
+     */
+    public final void setDownloadRangeSize(Long downloadRangeSize) {
+        this.downloadRangeSize = downloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range requested by a ranged download.
+     *
+     * @param downloadRangeSize New size of each byte range.
+     * @return This object for method chaining.
+     * @see #setRangedDownloadThreshold(Long)
+     */
+    public final TransferManagerBuilder withDownloadRangeSize(Long downloadRangeSize) {
+        setDownloadRangeSize(downloadRangeSize);
+        return this;
+    }
+
+    /**
+     * @return The maximum number of concurrent requests per object currently configured in the
+     * builder.
+     */
+    public final Integer getMaxDownloadRangeConcurrency() {
+        return maxDownloadRangeConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of byte ranges or parts of a single object that are downloaded at
+     * the same time by downloads written in place, which include all ranged downloads.
+     *
+     * @param maxDownloadRangeConcurrency Maximum number of concurrent requests per object.
+     */
+    public final void setMaxDownloadRangeConcurrency(Integer maxDownloadRangeConcurrency) {
+        this.maxDownloadRangeConcurrency = maxDownloadRangeConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of byte ranges or parts of a single object that are downloaded at
+     * the same time by downloads written in place, which include all ranged downloads.
+     *
+     * @param maxDownloadRangeConcurrency Maximum number of concurrent requests per object.
+     * @return This object for method chaining.
+     */
+    public final TransferManagerBuilder withMaxDownloadRangeConcurrency(Integer maxDownloadRangeConcurrency) {
+        setMaxDownloadRangeConcurrency(maxDownloadRangeConcurrency);
+        return this;
+    }
+
+    /**
+     * @return The maximum number of concurrent requests per bulk delete currently configured in
+     * the builder.
+     */
+    public final Integer getMaxDeleteConcurrency() {
+        return maxDeleteConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of DeleteObjects requests of a single bulk delete that are sent at
+     * the same time.
+     *
+     * @param maxDeleteConcurrency Maximum number of concurrent requests per bulk delete.
+     */
+    public final void setMaxDeleteConcurrency(Integer maxDeleteConcurrency) {
+        this.maxDeleteConcurrency = maxDeleteConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of DeleteObjects requests of a single bulk delete that are sent at
+     * the same time.
+     *
+     * @param maxDeleteConcurrency Maximum number of concurrent requests per bulk delete.
+     * @return This object for method chaining.
+     */
+    public final TransferManagerBuilder withMaxDeleteConcurrency(Integer maxDeleteConcurrency) {
+        setMaxDeleteConcurrency(maxDeleteConcurrency);
+        return this;
+    }
+
     private TransferManagerConfiguration resolveConfiguration() {
         TransferManagerConfiguration configuration = new TransferManagerConfiguration();
         if (this.minimumUploadPartSize != null) {
@@ -428,6 +602,21 @@ public final class TransferManagerBuilder {
         if (this.disableParallelDownloads != null) {
             configuration.setDisableParallelDownloads(disableParallelDownloads);
         }
+        if (this.downloadInPlace != null) {
+            configuration.setDownloadInPlace(downloadInPlace);
+        }
+        if (this.rangedDownloadThreshold != null) {
+            configuration.setRangedDownloadThreshold(rangedDownloadThreshold);
+        }
+        if (this.downloadRangeSize != null) {
+            configuration.setDownloadRangeSize(downloadRangeSize);
+        }
+        if (this.maxDownloadRangeConcurrency != null) {
+            configuration.setMaxDownloadRangeConcurrency(maxDownloadRangeConcurrency);
+        }
+        if (this.maxDeleteConcurrency != null) {
+            configuration.setMaxDeleteConcurrency(maxDeleteConcurrency);
+        }
         return configuration;
     }
 
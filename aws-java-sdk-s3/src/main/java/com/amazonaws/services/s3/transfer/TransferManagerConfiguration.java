@@ -45,6 +45,22 @@ public class TransferManagerConfiguration {
     @SdkTestInternalApi
     static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 100 * MB;
 
+    /** Default size threshold for downloading a single part object in byte ranges: disabled. */
+    @SdkTestInternalApi
+    static final long DEFAULT_RANGED_DOWNLOAD_THRESHOLD = Long.MAX_VALUE;
+
+    /** Default size of each byte range of a ranged download. */
+    @SdkTestInternalApi
+    static final long DEFAULT_DOWNLOAD_RANGE_SIZE = 8 * MB;
+
+    /** Default maximum number of byte ranges of an object downloaded at the same time. */
+    @SdkTestInternalApi
+    static final int DEFAULT_MAX_DOWNLOAD_RANGE_CONCURRENCY = 10;
+
+    /** Default maximum number of batches of a bulk delete sent at the same time. */
+    @SdkTestInternalApi
+    static final int DEFAULT_MAX_DELETE_CONCURRENCY = 10;
+
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
      * will cause multipart uploads to be split into a larger number of smaller
@@ -101,6 +117,37 @@ public class TransferManagerConfiguration {
      */
     private boolean disableParallelDownloads = false;
 
+    /**
+     * Option to write parallel downloads directly into the destination file.
+     * By default, the value is set to false.
+     */
+    private boolean downloadInPlace = false;
+
+    /**
+     * The size threshold, in bytes, for when to download an object that was
+     * not uploaded in multiple parts as concurrent byte ranges. Such objects
+     * smaller than this threshold are downloaded over a single connection.
+     * Disabled by default.
+     */
+    private long rangedDownloadThreshold = DEFAULT_RANGED_DOWNLOAD_THRESHOLD;
+
+    /**
+     * The size in bytes of each byte range requested by a ranged download.
+     */
+    private long downloadRangeSize = DEFAULT_DOWNLOAD_RANGE_SIZE;
+
+    /**
+     * The maximum number of byte ranges or parts of a single object that are
+     * downloaded at the same time.
+     */
+    private int maxDownloadRangeConcurrency = DEFAULT_MAX_DOWNLOAD_RANGE_CONCURRENCY;
+
+    /**
+     * The maximum number of DeleteObjects requests of a single bulk delete
+     * that are sent at the same time.
+     */
+    private int maxDeleteConcurrency = DEFAULT_MAX_DELETE_CONCURRENCY;
+
     /**
      * Returns the minimum part size for upload parts.
      * Decreasing the minimum part size causes
@@ -292,4 +339,149 @@ public class TransferManagerConfiguration {
     public void setDisableParallelDownloads(boolean disableParallelDownloads) {
         this.disableParallelDownloads = disableParallelDownloads;
     }
+
+    /**
+     * Returns if parallel downloads are written directly into the destination
+     * file. By default, the value is set to false.
+     *
+     * @return true if parallel downloads are written in place, otherwise false.
+     * @see #setDownloadInPlace(boolean)
+     */
+    public boolean isDownloadInPlace() {
+        return downloadInPlace;
+    }
+
+    /**
+     * Sets the option to write parallel downloads directly into the
+     * destination file. By default, the value is set to false.
+     *
+     * <p>
+     * When enabled, the destination file is preallocated to the size of the
+     * object and each byte range is written at its offset as soon as it is
+     * received, instead of being downloaded to a temporary file and appended
+     * to the destination file once all the preceding parts are done. This
+     * halves the disk I/O of a parallel download and needs no temporary
+     * space. A paused download keeps track of the ranges that were written.
+     * </p>
+     * <p>
+     * Until the download completes, the destination file has the final
+     * length but parts of it hold no data yet.
+     * </p>
+     *
+     * @param downloadInPlace boolean value to write parallel downloads in place.
+     */
+    public void setDownloadInPlace(boolean downloadInPlace) {
+        this.downloadInPlace = downloadInPlace;
+    }
+
+    /**
+     * Returns the size threshold, in bytes, for when to download an object
+     * that was not uploaded in multiple parts as concurrent byte ranges.
+     *
+     * @return The size threshold in bytes for when to use ranged downloads.
+     */
+    public long getRangedDownloadThreshold() {
+        return rangedDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, for when to download an object that
+     * was not uploaded in multiple parts as concurrent byte ranges.
+     * <p>
+     * TransferManager downloads objects uploaded in multiple parts in
+     * parallel, one request per part. Objects uploaded with a single PUT or
+     * copied on the server side have no parts; the ones at least this large
+     * are split into byte ranges of {@link #getDownloadRangeSize()} bytes that
+     * are downloaded concurrently and written directly at their offset into
+     * the destination file, as with {@link #setDownloadInPlace(boolean)}.
+     * </p>
+     * <p>
+     * Ranged downloads are not used when parallel downloads are disabled.
+     * They are disabled by default: unlike a download over a single
+     * connection, a ranged download does not check the MD5 of the object
+     * against its ETag.
+     * </p>
+     *
+     * @param rangedDownloadThreshold
+     *            The size threshold in bytes for when to use ranged
+     *            downloads.
+     */
+    public void setRangedDownloadThreshold(long rangedDownloadThreshold) {
+        this.rangedDownloadThreshold = rangedDownloadThreshold;
+    }
+
+    /**
+     * Returns the size in bytes of each byte range requested by a ranged
+     * download.
+     *
+     * @return The size in bytes of each byte range of a ranged download.
+     * @see #setRangedDownloadThreshold(long)
+     */
+    public long getDownloadRangeSize() {
+        return downloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range requested by a ranged
+     * download. Smaller ranges spread an object over more connections at the
+     * cost of more requests.
+     *
+     * @param downloadRangeSize
+     *            The size in bytes of each byte range of a ranged download.
+     * @see #setRangedDownloadThreshold(long)
+     */
+    public void setDownloadRangeSize(long downloadRangeSize) {
+        this.downloadRangeSize = downloadRangeSize;
+    }
+
+    /**
+     * Returns the maximum number of byte ranges or parts of a single object
+     * that are downloaded at the same time.
+     *
+     * @return The maximum number of concurrent requests for a single object.
+     */
+    public int getMaxDownloadRangeConcurrency() {
+        return maxDownloadRangeConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of byte ranges or parts of a single object that
+     * are downloaded at the same time by downloads written in place, which
+     * include all ranged downloads. The requests also run on the thread pool
+     * of the TransferManager, so the effective concurrency is never higher
+     * than its number of threads.
+     *
+     * @param maxDownloadRangeConcurrency
+     *            The maximum number of concurrent requests for a single
+     *            object.
+     */
+    public void setMaxDownloadRangeConcurrency(int maxDownloadRangeConcurrency) {
+        this.maxDownloadRangeConcurrency = maxDownloadRangeConcurrency;
+    }
+
+    /**
+     * Returns the maximum number of DeleteObjects requests of a single bulk
+     * delete that are sent at the same time.
+     *
+     * @return The maximum number of concurrent requests for a single bulk
+     *         delete.
+     */
+    public int getMaxDeleteConcurrency() {
+        return maxDeleteConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of DeleteObjects requests, of up to 1000 keys
+     * each, that a single bulk delete sends at the same time. The requests
+     * also run on the thread pool of the TransferManager, so the effective
+     * concurrency is never higher than its number of threads.
+     *
+     * @param maxDeleteConcurrency
+     *            The maximum number of concurrent requests for a single bulk
+     *            delete.
+     * @see TransferManager#deletePrefix(String, String)
+     */
+    public void setMaxDeleteConcurrency(int maxDeleteConcurrency) {
+        this.maxDeleteConcurrency = maxDeleteConcurrency;
+    }
 }
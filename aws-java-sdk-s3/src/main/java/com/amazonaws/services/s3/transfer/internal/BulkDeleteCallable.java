@@ -0,0 +1,254 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
+import static com.amazonaws.event.SDKProgressPublisher.publishRequestBytesTransferred;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.DeleteObjectsResult.DeletedObject;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.model.BulkDeleteResult;
+import com.amazonaws.util.IOUtils;
+
+/**
+ * Deletes the objects of a bulk delete. Keys are taken from the source as it
+ * produces them, such as a listing still in progress, and grouped into
+ * DeleteObjects requests of up to {@value #MAX_KEYS_PER_REQUEST} keys, which
+ * run on the thread pool of the TransferManager. At most the configured number
+ * of requests are outstanding at a time: once the limit is reached, the oldest
+ * request is awaited before the next one is sent, or sent from this thread if
+ * the pool has not started it yet, so the deletion cannot be starved by other
+ * transfers occupying the pool.
+ * <p>
+ * Keys that Amazon S3 fails to delete with a transient error are retried a few
+ * times with an exponential backoff; the keys that still could not be deleted
+ * are reported at the end by a {@link MultiObjectDeleteException}. The progress
+ * of the deletion is published in number of objects.
+ */
+@SdkInternalApi
+public class BulkDeleteCallable implements Callable<BulkDeleteResult> {
+    private static final Log LOG = LogFactory.getLog(BulkDeleteCallable.class);
+
+    /** The maximum number of keys accepted by a DeleteObjects request. */
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    /** The maximum number of times a request is sent for the same keys. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    /** The delay before the first retry, doubled after each retry. */
+    private static final long BASE_RETRY_DELAY_MILLIS = 100;
+
+    private final AmazonS3 s3;
+    private final ExecutorService executorService;
+    private final BulkDeleteImpl bulkDelete;
+    private final String bucketName;
+    private final Iterator<String> keys;
+    private final int maxConcurrency;
+    private final ProgressListenerChain listenerChain;
+
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final List<DeleteError> errors =
+            Collections.synchronizedList(new ArrayList<DeleteError>());
+
+    /**
+     * @param keys
+     *            the keys of the objects to delete; closed once the deletion
+     *            has ended if it is {@link Closeable}.
+     * @param maxConcurrency
+     *            the maximum number of DeleteObjects requests outstanding at a
+     *            time.
+     */
+    public BulkDeleteCallable(AmazonS3 s3, ExecutorService executorService,
+            BulkDeleteImpl bulkDelete, String bucketName, Iterator<String> keys,
+            int maxConcurrency, ProgressListenerChain listenerChain) {
+        this.s3 = s3;
+        this.executorService = executorService;
+        this.bulkDelete = bulkDelete;
+        this.bucketName = bucketName;
+        this.keys = keys;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.listenerChain = listenerChain;
+    }
+
+    @Override
+    public BulkDeleteResult call() throws Exception {
+        Queue<FutureTask<Void>> batches = new LinkedList<FutureTask<Void>>();
+        try {
+            bulkDelete.setState(TransferState.InProgress);
+            publishProgress(listenerChain, ProgressEventType.TRANSFER_STARTED_EVENT);
+
+            List<KeyVersion> batch = new ArrayList<KeyVersion>(MAX_KEYS_PER_REQUEST);
+            while (keys.hasNext()) {
+                batch.add(new KeyVersion(keys.next()));
+                if (batch.size() == MAX_KEYS_PER_REQUEST) {
+                    submit(batches, batch);
+                    batch = new ArrayList<KeyVersion>(MAX_KEYS_PER_REQUEST);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batches, batch);
+            }
+            while (!batches.isEmpty()) {
+                await(batches.remove());
+            }
+
+            if (!errors.isEmpty()) {
+                throw new MultiObjectDeleteException(errors,
+                        Collections.<DeletedObject>emptyList());
+            }
+            BulkDeleteResult result = new BulkDeleteResult();
+            result.setBucketName(bucketName);
+            result.setDeletedObjectCount(deletedCount.get());
+            bulkDelete.setState(TransferState.Completed);
+            publishProgress(listenerChain, ProgressEventType.TRANSFER_COMPLETED_EVENT);
+            return result;
+        } catch (Exception e) {
+            for (FutureTask<Void> f : batches) {
+                f.cancel(true);
+            }
+            bulkDelete.setState(TransferState.Failed);
+            publishProgress(listenerChain, ProgressEventType.TRANSFER_FAILED_EVENT);
+            throw e;
+        } finally {
+            if (keys instanceof Closeable) {
+                IOUtils.closeQuietly((Closeable) keys, LOG);
+            }
+        }
+    }
+
+    /**
+     * Submits the given batch once fewer than the maximum number of batches
+     * are outstanding.
+     */
+    private void submit(Queue<FutureTask<Void>> batches, List<KeyVersion> batch)
+            throws Exception {
+        if (batches.size() == maxConcurrency) {
+            await(batches.remove());
+        }
+        FutureTask<Void> task = new FutureTask<Void>(new DeleteBatch(batch));
+        executorService.execute(task);
+        batches.add(task);
+    }
+
+    /**
+     * Waits for the given batch to be deleted, running it on this thread if
+     * the pool has not started it yet.
+     */
+    private void await(FutureTask<Void> task) throws Exception {
+        task.run();
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    /**
+     * Deletes one batch of keys, retrying the keys that failed with a
+     * transient error.
+     */
+    private final class DeleteBatch implements Callable<Void> {
+        private List<KeyVersion> keyVersions;
+
+        private DeleteBatch(List<KeyVersion> keyVersions) {
+            this.keyVersions = keyVersions;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            for (int attempt = 1; ; attempt++) {
+                DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                        .withKeys(keyVersions)
+                        .withQuiet(true);
+                TransferManager.appendSingleObjectUserAgent(request);
+                try {
+                    s3.deleteObjects(request);
+                    deleted(keyVersions.size());
+                    return null;
+                } catch (MultiObjectDeleteException e) {
+                    List<KeyVersion> retryable = new ArrayList<KeyVersion>();
+                    for (DeleteError error : e.getErrors()) {
+                        if (attempt < MAX_ATTEMPTS && isRetryable(error)) {
+                            retryable.add(new KeyVersion(error.getKey(), error.getVersionId()));
+                        } else {
+                            errors.add(error);
+                        }
+                    }
+                    deleted(keyVersions.size() - e.getErrors().size());
+                    if (retryable.isEmpty()) {
+                        return null;
+                    }
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Retrying the deletion of " + retryable.size() + " objects from "
+                                  + bucketName + " after attempt " + attempt);
+                    }
+                    keyVersions = retryable;
+                    pause(attempt);
+                }
+            }
+        }
+
+        private void deleted(int count) {
+            deletedCount.addAndGet(count);
+            publishRequestBytesTransferred(listenerChain, count);
+        }
+
+        private void pause(int attempt) {
+            try {
+                Thread.sleep(BASE_RETRY_DELAY_MILLIS << (attempt - 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SdkClientException("Bulk delete interrupted by other thread.", e);
+            }
+        }
+    }
+
+    private static boolean isRetryable(DeleteError error) {
+        String code = error.getCode();
+        return "InternalError".equals(code)
+               || "SlowDown".equals(code)
+               || "ServiceUnavailable".equals(code);
+    }
+}
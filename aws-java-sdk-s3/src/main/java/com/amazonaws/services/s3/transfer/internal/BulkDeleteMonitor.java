@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.util.concurrent.Future;
+
+/**
+ * Monitors the future of a bulk delete, whose state is kept up to date by
+ * its {@link BulkDeleteCallable}.
+ */
+public class BulkDeleteMonitor implements TransferMonitor {
+
+    private final Future<?> future;
+    private final BulkDeleteImpl bulkDelete;
+
+    public BulkDeleteMonitor(BulkDeleteImpl bulkDelete, Future<?> future) {
+        this.bulkDelete = bulkDelete;
+        this.future = future;
+    }
+
+    @Override
+    public Future<?> getFuture() {
+        return future;
+    }
+
+    @Override
+    public boolean isDone() {
+        return bulkDelete.isDone();
+    }
+}
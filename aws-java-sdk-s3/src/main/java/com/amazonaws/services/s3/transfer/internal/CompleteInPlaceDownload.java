@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.services.s3.internal.FileLocks;
+import com.amazonaws.services.s3.transfer.Transfer;
+import com.amazonaws.util.IOUtils;
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Helper class to wait for all the byte ranges of a download written in place
+ * and release the destinationFile once they are done. Unlike
+ * {@link CompleteMultipartDownload} there is nothing left to merge.
+ */
+@SdkInternalApi
+public class CompleteInPlaceDownload implements Callable<File> {
+    private static final Log LOG = LogFactory.getLog(CompleteInPlaceDownload.class);
+
+    private final List<DownloadRangeCallable> rangeCallables;
+    private final List<Future<Long>> ranges;
+    private final FileChannel destination;
+    private final File destinationFile;
+    private final DownloadImpl download;
+
+    /**
+     * @param rangeCallables The callables downloading the ranges, canceled if
+     *            the download fails or is canceled.
+     * @param ranges The futures of the callables.
+     */
+    public CompleteInPlaceDownload(List<DownloadRangeCallable> rangeCallables, List<Future<Long>> ranges,
+            FileChannel destination, File destinationFile, DownloadImpl download) {
+        this.rangeCallables = rangeCallables;
+        this.ranges = ranges;
+        this.destination = destination;
+        this.destinationFile = destinationFile;
+        this.download = download;
+    }
+
+    @Override
+    public File call() throws Exception {
+        try {
+            for (Future<Long> range : ranges) {
+                range.get();
+            }
+        } catch (Exception e) {
+            // Not interrupted: an interrupt during a write would close the shared channel.
+            DownloadRangeCallable.cancelAll(rangeCallables);
+            for (Future<Long> range : ranges) {
+                range.cancel(false);
+            }
+            // Downloads aren't allowed to move from canceled to failed
+            if (download.getState() != Transfer.TransferState.Canceled) {
+                download.setState(Transfer.TransferState.Failed);
+            }
+            if (e instanceof ExecutionException && e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } finally {
+            IOUtils.closeQuietly(destination, LOG);
+            FileLocks.unlock(destinationFile);
+        }
+
+        download.setState(Transfer.TransferState.Completed);
+        return destinationFile;
+    }
+}
@@ -16,6 +16,8 @@ package com.amazonaws.services.s3.transfer.internal;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.event.ProgressEventType;
@@ -41,6 +43,12 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      */
     private Integer lastFullyDownloadedPartNumber;
 
+    /**
+     * For downloads written in place, the sorted and coalesced inclusive byte
+     * ranges that have been written into the downloaded file; null otherwise.
+     */
+    private List<long[]> completedRanges;
+
     private final GetObjectRequest getObjectRequest;
     private final File file;
     private final ObjectMetadata objectMetadata;
@@ -58,7 +66,27 @@ public class DownloadImpl extends AbstractTransfer implements Download {
             ProgressListenerChain progressListenerChain, S3Object s3Object, TransferStateChangeListener listener,
             GetObjectRequest getObjectRequest, File file,
             ObjectMetadata objectMetadata, boolean isDownloadParallel) {
+        this(description, transferProgress, progressListenerChain, s3Object, listener,
+                getObjectRequest, file, objectMetadata, isDownloadParallel, null);
+    }
+
+    /**
+     * @param completedRanges For a download written in place, the byte ranges
+     *            already written into the file (empty for a new download);
+     *            null for other downloads.
+     */
+    @SdkInternalApi
+    public DownloadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, S3Object s3Object, TransferStateChangeListener listener,
+            GetObjectRequest getObjectRequest, File file,
+            ObjectMetadata objectMetadata, boolean isDownloadParallel, long[][] completedRanges) {
         super(description, transferProgress, progressListenerChain, listener);
+        if (completedRanges != null) {
+            this.completedRanges = new ArrayList<long[]>();
+            for (long[] range : completedRanges) {
+                addCompletedRange(range[0], range[1]);
+            }
+        }
         this.s3Object = s3Object;
         this.objectMetadata = objectMetadata;
         this.getObjectRequest = getObjectRequest;
@@ -123,6 +151,56 @@ public class DownloadImpl extends AbstractTransfer implements Download {
         return lastFullyDownloadedPartNumber;
     }
 
+    /**
+     * Only for internal use.
+     * For downloads written in place, records that the given inclusive byte
+     * range has been written into the download file. Then notify the
+     * listeners that new persistableTransfer is available.
+     */
+    @SdkInternalApi
+    public void markRangeDownloaded(long firstByte, long lastByte) {
+        synchronized (this) {
+            addCompletedRange(firstByte, lastByte);
+        }
+
+        persistableDownload = captureDownloadState(getObjectRequest, file);
+        S3ProgressPublisher.publishTransferPersistable(progressListenerChain, persistableDownload);
+    }
+
+    /**
+     * For downloads written in place, returns the inclusive byte ranges that
+     * have been written into the download file.
+     * Returns null for other downloads.
+     */
+    @SdkInternalApi
+    public synchronized long[][] getCompletedRanges() {
+        if (completedRanges == null) {
+            return null;
+        }
+        long[][] ranges = new long[completedRanges.size()][];
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = completedRanges.get(i).clone();
+        }
+        return ranges;
+    }
+
+    /**
+     * Inserts the range keeping the list sorted and merging it with any range
+     * it overlaps or adjoins.
+     */
+    private void addCompletedRange(long firstByte, long lastByte) {
+        int i = 0;
+        while (i < completedRanges.size() && completedRanges.get(i)[1] + 1 < firstByte) {
+            i++;
+        }
+        while (i < completedRanges.size() && completedRanges.get(i)[0] <= lastByte + 1) {
+            long[] adjacent = completedRanges.remove(i);
+            firstByte = Math.min(firstByte, adjacent[0]);
+            lastByte = Math.max(lastByte, adjacent[1]);
+        }
+        completedRanges.add(i, new long[] {firstByte, lastByte});
+    }
+
     /**
      * Cancels this download.
      *
@@ -190,7 +268,7 @@ public class DownloadImpl extends AbstractTransfer implements Download {
                     getObjectRequest.getVersionId(), getObjectRequest.getRange(),
                     getObjectRequest.getResponseHeaders(), getObjectRequest.isRequesterPays(),
                     file.getAbsolutePath(), getLastFullyDownloadedPartNumber(),
-                    getObjectMetadata().getLastModified().getTime());
+                    getObjectMetadata().getLastModified().getTime(), getCompletedRanges());
         }
         return null;
     }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.IOUtils;
+import java.io.IOException;
+import java.net.SocketException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.net.ssl.SSLProtocolException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Helper class to get byte ranges of an object from s3 and write each of them
+ * directly at its offset into the destination file. Ranges are taken from a
+ * queue shared by all the callables of a download, which bounds the number of
+ * concurrent requests for the object to the number of callables.
+ * <p>
+ * The callables are canceled with {@link #cancel()} rather than by
+ * interrupting them: an interrupt during a write would close the channel
+ * shared by all the ranges.
+ * <p>
+ * As for a download over a single connection, a range whose content fails to
+ * be written is retried once. With resumeOnRetry the retry only requests the
+ * bytes that have not been recorded as downloaded.
+ */
+@SdkInternalApi
+public class DownloadRangeCallable implements Callable<Long> {
+    private static final Log LOG = LogFactory.getLog(DownloadRangeCallable.class);
+
+    private final AmazonS3 s3;
+    private final Queue<GetObjectRequest> getRangeRequests;
+    private final FileChannel destination;
+    private final DownloadImpl download;
+    private final boolean resumeOnRetry;
+    /** Set once the callable has started running or has been canceled before starting. */
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    /** Released once the callable no longer writes into the destination channel. */
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile boolean canceled;
+    /** Content of the range being downloaded, aborted on cancel. */
+    private volatile S3ObjectInputStream currentContent;
+
+    /**
+     * @param getRangeRequests Requests with the inclusive byte ranges left to
+     *            download, shared by all the callables of the download.
+     * @param destination Channel of the destination file, shared by all the
+     *            ranges of the download.
+     * @param resumeOnRetry If true, the retry of a failed range only requests
+     *            the bytes that were not written by the failed attempt.
+     */
+    public DownloadRangeCallable(AmazonS3 s3, Queue<GetObjectRequest> getRangeRequests,
+            FileChannel destination, DownloadImpl download, boolean resumeOnRetry) {
+        this.s3 = s3;
+        this.getRangeRequests = getRangeRequests;
+        this.destination = destination;
+        this.download = download;
+        this.resumeOnRetry = resumeOnRetry;
+    }
+
+    /**
+     * @return The number of bytes downloaded by this callable.
+     */
+    public Long call() throws Exception {
+        if (!claimed.compareAndSet(false, true)) {
+            // Canceled before starting
+            return 0L;
+        }
+        try {
+            long downloaded = 0;
+            GetObjectRequest getRangeRequest;
+            while (!canceled && (getRangeRequest = getRangeRequests.poll()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+                downloaded += downloadRange(getRangeRequest);
+            }
+            return downloaded;
+        } finally {
+            done.countDown();
+        }
+    }
+
+    /**
+     * Stops this callable: no further range is taken from the shared queue,
+     * which is cleared, and the range in progress is aborted by closing its
+     * HTTP connection. Use {@link #awaitCompletion()} to wait until the
+     * callable no longer writes into the destination channel.
+     */
+    public void cancel() {
+        canceled = true;
+        getRangeRequests.clear();
+        S3ObjectInputStream content = currentContent;
+        if (content != null) {
+            content.abort();
+        }
+        if (claimed.compareAndSet(false, true)) {
+            done.countDown();
+        }
+    }
+
+    /**
+     * Waits, without being interruptible, until this callable has finished
+     * or has been canceled before starting.
+     */
+    public void awaitCompletion() {
+        boolean interrupted = false;
+        try {
+            for (;;) {
+                try {
+                    done.await();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Cancels all the given callables and waits until none of them writes
+     * into the destination channel any more, so that it can be closed.
+     */
+    public static void cancelAll(List<DownloadRangeCallable> callables) {
+        for (DownloadRangeCallable callable : callables) {
+            callable.cancel();
+        }
+        for (DownloadRangeCallable callable : callables) {
+            callable.awaitCompletion();
+        }
+    }
+
+    private long downloadRange(GetObjectRequest getRangeRequest) {
+        final long[] range = getRangeRequest.getRange();
+        boolean hasRetried = false;
+        for (;;) {
+            // Failures to get the range are not retried here, as for downloads over a single connection
+            S3Object s3Object = s3.getObject(getRangeRequest);
+            if (s3Object == null) {
+                throw new SdkClientException(
+                        "There is no object in S3 satisfying this request. The getObject method returned null");
+            }
+            try {
+                writeRange(getRangeRequest.getRange(), s3Object);
+                return range[1] - range[0] + 1;
+            } catch (AmazonClientException ace) {
+                if (hasRetried || !isRetryable(ace)) {
+                    throw ace;
+                }
+                hasRetried = true;
+                if (resumeOnRetry) {
+                    List<long[]> missing = TransferManagerUtils.subtractRanges(range[0], range[1],
+                            download.getCompletedRanges());
+                    if (missing.isEmpty()) {
+                        return range[1] - range[0] + 1;
+                    }
+                    getRangeRequest.setRange(missing.get(0)[0], missing.get(missing.size() - 1)[1]);
+                } else {
+                    getRangeRequest.setRange(range[0], range[1]);
+                }
+                LOG.info("Retry the download of range " + getRangeRequest.getRange()[0] + "-"
+                        + getRangeRequest.getRange()[1] + " of object " + getRangeRequest.getKey()
+                        + " (bucket " + getRangeRequest.getBucketName() + ")", ace);
+            }
+        }
+    }
+
+    /**
+     * Failures to write the content of a range are retried, except when the
+     * download has been canceled or the connection has been closed on the
+     * client side, like for downloads over a single connection.
+     */
+    private boolean isRetryable(AmazonClientException ace) {
+        if (canceled || !ace.isRetryable()) {
+            return false;
+        }
+        final Throwable cause = ace.getCause();
+        return !((cause instanceof SocketException && !"Connection reset".equals(cause.getMessage()))
+                || cause instanceof SSLProtocolException);
+    }
+
+    /**
+     * Writes the content of the range at its offset, and records the bytes
+     * written, even if only part of the range could be written.
+     *
+     * @throws SdkClientException If the whole range could not be written.
+     */
+    private void writeRange(long[] range, S3Object s3Object) {
+        S3ObjectInputStream content = s3Object.getObjectContent();
+        currentContent = content;
+        if (canceled) {
+            content.abort();
+        }
+        long expected = range[1] - range[0] + 1;
+        long written = 0;
+        try {
+            ReadableByteChannel source = Channels.newChannel(content);
+            while (written < expected) {
+                // Positional writes, so ranges can be written concurrently through the shared channel.
+                long transferred = destination.transferFrom(source, range[0] + written, expected - written);
+                if (transferred == 0) {
+                    break;
+                }
+                written += transferred;
+            }
+        } catch (IOException e) {
+            content.abort();
+            throw new SdkClientException("Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            currentContent = null;
+            IOUtils.closeQuietly(content, LOG);
+            if (written > 0) {
+                download.markRangeDownloaded(range[0], range[0] + written - 1);
+            }
+        }
+
+        if (written != expected) {
+            throw new SdkClientException("Expected to download " + expected + " bytes for range "
+                    + range[0] + "-" + range[1] + " but received " + written);
+        }
+    }
+}
@@ -17,6 +17,8 @@ package com.amazonaws.services.s3.transfer.internal;
 import static com.amazonaws.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -61,14 +63,16 @@ public class TransferManagerUtils {
      * @param putObjectRequest
      *            The request to check.
      * @param isUsingEncryption
-     *            True if the upload is an encrypted upload, otherwise false.
+     *            True if the upload is an encrypted upload whose parts depend
+     *            on each other, otherwise false.
      *
      * @return True if this request can use parallel part uploads for faster
      *         uploads.
      */
     public static boolean isUploadParallelizable(final PutObjectRequest putObjectRequest, final boolean isUsingEncryption) {
         // Each uploaded part in an encrypted upload depends on the encryption context
-        // from the previous upload, so we cannot parallelize encrypted upload parts.
+        // from the previous upload, so we cannot parallelize encrypted upload parts,
+        // unless the client encrypts each part independently.
         if (isUsingEncryption) return false;
 
         // Otherwise, if there's a file, we can process the uploads concurrently.
@@ -210,4 +214,65 @@ public class TransferManagerUtils {
         }
         return true;
     }
+
+    /**
+     * Returns true if the specified download request is for an object that was
+     * not uploaded in multiple parts and can be downloaded as concurrent byte
+     * ranges instead.
+     *
+     * @param s3
+     *            The Amazon s3 client.
+     * @param getObjectRequest
+     *            The request to check.
+     * @param partCount
+     *            The number of parts of the object, or null if it was not
+     *            uploaded in multiple parts.
+     *
+     * @return True if this request can use ranged downloads.
+     */
+    public static boolean isDownloadRangeable(final AmazonS3 s3, final GetObjectRequest getObjectRequest,
+            Integer partCount) {
+        ValidationUtils.assertNotNull(s3, "S3 client");
+        ValidationUtils.assertNotNull(getObjectRequest, "GetObjectRequest");
+
+        if (s3 instanceof AmazonS3Encryption || getObjectRequest.getRange() != null
+                || getObjectRequest.getPartNumber() != null || partCount != null) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the parts of the inclusive byte range [start, end] that are not
+     * covered by the given sorted, non overlapping inclusive byte ranges.
+     *
+     * @param start
+     *            The first byte of the range.
+     * @param end
+     *            The last byte of the range.
+     * @param completedRanges
+     *            The ranges to remove, sorted by their first byte.
+     *
+     * @return The sorted inclusive byte ranges left, which may be empty.
+     */
+    public static List<long[]> subtractRanges(long start, long end, long[][] completedRanges) {
+        List<long[]> missing = new ArrayList<long[]>();
+        long next = start;
+        for (long[] completed : completedRanges) {
+            if (completed[1] < next) {
+                continue;
+            }
+            if (completed[0] > end) {
+                break;
+            }
+            if (completed[0] > next) {
+                missing.add(new long[] { next, completed[0] - 1 });
+            }
+            next = completed[1] + 1;
+        }
+        if (next <= end) {
+            missing.add(new long[] { next, end });
+        }
+        return missing;
+    }
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import com.amazonaws.services.s3.model.ObjectTagging;
 import com.amazonaws.services.s3.model.SetObjectTaggingRequest;
@@ -35,6 +36,7 @@ import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.event.ProgressListenerChain;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Encryption;
+import com.amazonaws.services.s3.AmazonS3EncryptionClient;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
@@ -173,6 +175,9 @@ public class UploadCallable implements Callable<UploadResult> {
      */
     private UploadResult uploadInParts() throws Exception {
         boolean isUsingEncryption = s3 instanceof AmazonS3Encryption;
+        // Parts encrypted independently of each other can be uploaded in parallel
+        boolean isEncryptingInParallel = s3 instanceof AmazonS3EncryptionClient
+                && ((AmazonS3EncryptionClient) s3).isParallelMultipartUploadEnabled();
         long optimalPartSize = getOptimalPartSize(isUsingEncryption);
 
         try {
@@ -183,9 +188,15 @@ public class UploadCallable implements Callable<UploadResult> {
 
             UploadPartRequestFactory requestFactory = new UploadPartRequestFactory(origReq, multipartUploadId, optimalPartSize);
 
-            if (TransferManagerUtils.isUploadParallelizable(origReq, isUsingEncryption)) {
-                captureUploadStateIfPossible();
-                uploadPartsInParallel(requestFactory, multipartUploadId);
+            if (TransferManagerUtils.isUploadParallelizable(origReq,
+                    isUsingEncryption && !isEncryptingInParallel)) {
+                if (isUsingEncryption) {
+                    // The encryption context of the upload cannot be resumed
+                    uploadEncryptedPartsInParallel(requestFactory);
+                } else {
+                    captureUploadStateIfPossible();
+                    uploadPartsInParallel(requestFactory, multipartUploadId);
+                }
                 return null;
             } else {
                 return uploadPartsInSeries(requestFactory);
@@ -300,6 +311,39 @@ public class UploadCallable implements Callable<UploadResult> {
         }
     }
 
+    /**
+     * Submits a task for each part of an encrypted upload to our thread pool
+     * and records its corresponding Future. The last part carries the
+     * authentication tag of the whole object, so it is uploaded only once all
+     * the other parts have been.
+     */
+    private void uploadEncryptedPartsInParallel(UploadPartRequestFactory requestFactory) {
+        final List<FutureTask<PartETag>> parts = new ArrayList<FutureTask<PartETag>>();
+        while (requestFactory.hasMoreRequests()) {
+            if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
+            final UploadPartRequest request = requestFactory.getNextUploadPartRequest();
+            if (request.isLastPart()) {
+                futures.add(threadPool.submit(new Callable<PartETag>() {
+                    @Override
+                    public PartETag call() throws Exception {
+                        for (FutureTask<PartETag> part : parts) {
+                            // Uploads the part in this thread if no other thread has started it,
+                            // so that the last part never waits for a thread it is holding
+                            part.run();
+                            part.get();
+                        }
+                        return new UploadPartCallable(s3, request).call();
+                    }
+                }));
+            } else {
+                FutureTask<PartETag> part = new FutureTask<PartETag>(new UploadPartCallable(s3, request));
+                parts.add(part);
+                futures.add(part);
+                threadPool.execute(part);
+            }
+        }
+    }
+
     private Map<Integer, PartSummary> identifyExistingPartsForResume(
             String uploadId) {
         Map<Integer, PartSummary> partNumbers = new HashMap<Integer, PartSummary>();
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.model;
+
+import com.amazonaws.services.s3.transfer.TransferManager;
+
+/**
+ * Contains information about a completed bulk delete.
+ * <p>
+ * See {@link TransferManager} for more information about creating transfers.
+ *
+ * @see TransferManager#deletePrefix(String, String)
+ * @see TransferManager#deleteObjects(String, Iterable)
+ */
+public class BulkDeleteResult {
+
+    /** The name of the bucket the objects were deleted from */
+    private String bucketName;
+
+    /** The number of objects deleted */
+    private long deletedObjectCount;
+
+    /**
+     * Returns the name of the bucket the objects were deleted from.
+     *
+     * @return The name of the bucket the objects were deleted from.
+     */
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    /**
+     * Sets the name of the bucket the objects were deleted from.
+     *
+     * @param bucketName
+     *            The name of the bucket the objects were deleted from.
+     */
+    public void setBucketName(String bucketName) {
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Returns the number of objects deleted, including keys that did not
+     * exist.
+     *
+     * @return The number of objects deleted.
+     */
+    public long getDeletedObjectCount() {
+        return deletedObjectCount;
+    }
+
+    /**
+     * Sets the number of objects deleted.
+     *
+     * @param deletedObjectCount
+     *            The number of objects deleted.
+     */
+    public void setDeletedObjectCount(long deletedObjectCount) {
+        this.deletedObjectCount = deletedObjectCount;
+    }
+}
@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 public class AmazonS3Waiters {
 
@@ -32,6 +33,8 @@ public class AmazonS3Waiters {
     private final ExecutorService executorService = Executors
             .newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AmazonS3Waiters with the given client
      * 
@@ -40,7 +43,24 @@ public class AmazonS3Waiters {
      */
     @SdkInternalApi
     public AmazonS3Waiters(AmazonS3 client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AmazonS3Waiters with the given client, whose asynchronous
+     * waits are polled on the given scheduled executor service instead of
+     * holding a thread each. The scheduled executor service can be shared with
+     * other waiters and is never shut down by this class.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AmazonS3Waiters(AmazonS3 client,
+            ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -59,7 +79,8 @@ public class AmazonS3Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(20),
                                 new FixedDelayStrategy(5)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -81,7 +102,8 @@ public class AmazonS3Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(20),
                                 new FixedDelayStrategy(5)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -101,7 +123,8 @@ public class AmazonS3Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(20),
                                 new FixedDelayStrategy(5)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     /**
@@ -120,7 +143,8 @@ public class AmazonS3Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(20),
                                 new FixedDelayStrategy(5)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduledExecutorService(scheduledExecutorService).build();
     }
 
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2014-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Test;
+
+import com.amazonaws.util.BinaryUtils;
+
+/**
+ * Compares the encoding of payloads with the encoding done by the former
+ * implementation, which built each chunk from strings.
+ */
+public class AwsChunkedEncodingInputStreamTest {
+
+    private static final String DATE_TIME = "20180101T000000Z";
+    private static final String SCOPE = "20180101/us-east-1/s3/aws4_request";
+    private static final String HEADER_SIGNATURE =
+            "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final String RETRY_HEADER_SIGNATURE =
+            "fedcba9876543210fedcba9876543210fedcba9876543210fedcba9876543210";
+
+    private static final int[] CHUNK_SIZES = {
+            AwsChunkedEncodingInputStream.MINIMUM_CHUNK_SIZE, 10000 };
+    private static final int[] PAYLOAD_SIZES = { 0, 1, 8191, 8192, 8193, 10000, 3 * 8192 + 17, 100000 };
+
+    private final Random random = new Random(3);
+    private final byte[] signingKey = new byte[32];
+    private final AWS4Signer signer = new AWS4Signer();
+
+    public AwsChunkedEncodingInputStreamTest() {
+        random.nextBytes(signingKey);
+    }
+
+    @Test
+    public void testEncodingMatchesFormerImplementation() throws Exception {
+        for (int chunkSize : CHUNK_SIZES) {
+            for (int payloadSize : PAYLOAD_SIZES) {
+                byte[] payload = payload(payloadSize);
+                byte[] expected = formerEncoding(payload, chunkSize, HEADER_SIGNATURE);
+                String description = payloadSize + " bytes in chunks of " + chunkSize;
+                assertEquals(description,
+                        AwsChunkedEncodingInputStream.calculateStreamContentLength(payloadSize, chunkSize),
+                        expected.length);
+                for (int readSize : new int[] { 1, 100, 65536 }) {
+                    assertArrayEquals(description + " read by " + readSize, expected,
+                            readAll(encoding(payload, chunkSize, true), readSize));
+                }
+                assertArrayEquals(description + " read a byte at a time", expected,
+                        readByteAtATime(encoding(payload, chunkSize, false)));
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultChunkSize() throws Exception {
+        byte[] payload = payload(3 * AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE + 5);
+        AwsChunkedEncodingInputStream in = new AwsChunkedEncodingInputStream(
+                new ByteArrayInputStream(payload), signingKey, DATE_TIME, SCOPE,
+                HEADER_SIGNATURE, signer);
+        assertArrayEquals(
+                formerEncoding(payload, AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE, HEADER_SIGNATURE),
+                readAll(in, 8192));
+    }
+
+    @Test
+    public void testResetReplaysEncoding() throws Exception {
+        for (boolean markSupported : new boolean[] { true, false }) {
+            for (int chunkSize : CHUNK_SIZES) {
+                for (int payloadSize : PAYLOAD_SIZES) {
+                    byte[] payload = payload(payloadSize);
+                    byte[] expected = formerEncoding(payload, chunkSize, HEADER_SIGNATURE);
+                    for (int readBeforeReset : new int[] { 0, 1, expected.length / 2, expected.length }) {
+                        AwsChunkedEncodingInputStream in = encoding(payload, chunkSize, markSupported);
+                        in.mark(0);
+                        readAll(in, readBeforeReset, 4096);
+                        in.reset();
+                        assertArrayEquals(payloadSize + " bytes in chunks of " + chunkSize
+                                + ", reset after " + readBeforeReset, expected, readAll(in, 4096));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSkip() throws Exception {
+        for (int chunkSize : CHUNK_SIZES) {
+            for (int payloadSize : PAYLOAD_SIZES) {
+                byte[] payload = payload(payloadSize);
+                byte[] expected = formerEncoding(payload, chunkSize, HEADER_SIGNATURE);
+                for (int skip : new int[] { 1, 50, chunkSize, chunkSize + 200, expected.length + 1 }) {
+                    AwsChunkedEncodingInputStream in = encoding(payload, chunkSize, false);
+                    int skipped = Math.min(skip, expected.length);
+                    assertEquals(skipped, in.skip(skip));
+                    assertArrayEquals(payloadSize + " bytes in chunks of " + chunkSize + ", skipped " + skip,
+                            Arrays.copyOfRange(expected, skipped, expected.length), readAll(in, 4096));
+                }
+            }
+        }
+    }
+
+    /**
+     * On a retry the request is signed again and the stream of the previous
+     * attempt is wrapped, replaying the payload from its mark.
+     */
+    @Test
+    public void testRetryReencodesPayloadWithNewSignature() throws Exception {
+        for (boolean markSupported : new boolean[] { true, false }) {
+            for (int chunkSize : CHUNK_SIZES) {
+                for (int retryChunkSize : CHUNK_SIZES) {
+                    for (int payloadSize : PAYLOAD_SIZES) {
+                        byte[] payload = payload(payloadSize);
+                        byte[] expected = formerEncoding(payload, retryChunkSize, RETRY_HEADER_SIGNATURE);
+                        AwsChunkedEncodingInputStream first = encoding(payload, chunkSize, markSupported);
+                        first.mark(0);
+                        readAll(first, 2 * chunkSize, 4096);
+                        first.reset();
+
+                        AwsChunkedEncodingInputStream retry = new AwsChunkedEncodingInputStream(first,
+                                256 * 1024, retryChunkSize, signingKey, DATE_TIME, SCOPE,
+                                RETRY_HEADER_SIGNATURE, signer);
+                        assertArrayEquals(payloadSize + " bytes in chunks of " + chunkSize
+                                + " retried in chunks of " + retryChunkSize
+                                + (markSupported ? "" : " from the decoded stream buffer"),
+                                expected, readAll(retry, 4096));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testHeaderSignatureOfAnyLength() throws Exception {
+        byte[] payload = payload(20000);
+        AwsChunkedEncodingInputStream in = new AwsChunkedEncodingInputStream(
+                new ByteArrayInputStream(payload), 256 * 1024, 8192, signingKey, DATE_TIME, SCOPE,
+                "abc", signer);
+        assertArrayEquals(formerEncoding(payload, 8192, "abc"), readAll(in, 4096));
+    }
+
+    private byte[] payload(int size) {
+        byte[] payload = new byte[size];
+        random.nextBytes(payload);
+        return payload;
+    }
+
+    private AwsChunkedEncodingInputStream encoding(byte[] payload, int chunkSize,
+            boolean markSupported) {
+        InputStream in = new ByteArrayInputStream(payload);
+        if (!markSupported) {
+            in = new UnmarkableInputStream(in);
+        }
+        return new AwsChunkedEncodingInputStream(in, 256 * 1024, chunkSize, signingKey,
+                DATE_TIME, SCOPE, HEADER_SIGNATURE, signer);
+    }
+
+    /**
+     * The encoding of the former implementation: each chunk is framed by its
+     * size and signature, signed over the signature of the previous chunk.
+     */
+    private byte[] formerEncoding(byte[] payload, int chunkSize, String headerSignature)
+            throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(signingKey, "HmacSHA256"));
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String priorChunkSignature = headerSignature;
+        int offset = 0;
+        int length;
+        do {
+            length = Math.min(chunkSize, payload.length - offset);
+            byte[] chunk = Arrays.copyOfRange(payload, offset, offset + length);
+            String stringToSign = "AWS4-HMAC-SHA256-PAYLOAD\n"
+                    + DATE_TIME + "\n"
+                    + SCOPE + "\n"
+                    + priorChunkSignature + "\n"
+                    + AbstractAWSSigner.EMPTY_STRING_SHA256_HEX + "\n"
+                    + BinaryUtils.toHex(sha256.digest(chunk));
+            String chunkSignature = BinaryUtils.toHex(mac.doFinal(stringToSign.getBytes(UTF8)));
+            priorChunkSignature = chunkSignature;
+            out.write((Integer.toHexString(length) + ";chunk-signature=" + chunkSignature + "\r\n")
+                    .getBytes(UTF8));
+            out.write(chunk);
+            out.write("\r\n".getBytes(UTF8));
+            offset += length;
+        } while (length > 0);
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream in, int readSize) throws IOException {
+        return readAll(in, Integer.MAX_VALUE, readSize);
+    }
+
+    private static byte[] readAll(InputStream in, int limit, int readSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] b = new byte[readSize];
+        int n;
+        while (out.size() < limit
+                && (n = in.read(b, 0, Math.min(readSize, limit - out.size()))) != -1) {
+            out.write(b, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readByteAtATime(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
+
+    private static class UnmarkableInputStream extends FilterInputStream {
+        private UnmarkableInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
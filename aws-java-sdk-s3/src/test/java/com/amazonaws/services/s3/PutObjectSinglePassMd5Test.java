@@ -0,0 +1,165 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.Md5Utils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests the option to compute the MD5 of an uploaded file while it is sent
+ * rather than reading the file beforehand.
+ */
+public class PutObjectSinglePassMd5Test {
+
+    private static final String BUCKET = "bucket";
+    private static final byte[] CONTENT = "Content of the uploaded file".getBytes();
+    private static final String CONTENT_MD5 = Md5Utils.md5AsBase64(CONTENT);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> contentMd5Headers = Collections.synchronizedList(new ArrayList<String>());
+    private volatile String eTag = BinaryUtils.toHex(Md5Utils.computeMD5Hash(CONTENT));
+    private HttpServer server;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                IOUtils.toByteArray(exchange.getRequestBody());
+                contentMd5Headers.add(exchange.getRequestHeaders().getFirst("Content-MD5"));
+                exchange.getResponseHeaders().add("ETag", "\"" + eTag + "\"");
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        file = folder.newFile();
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(CONTENT);
+        } finally {
+            out.close();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testFileIsReadForContentMd5ByDefault() {
+        PutObjectResult result = client(false).putObject(BUCKET, "key", file);
+
+        assertEquals(Collections.singletonList(CONTENT_MD5), contentMd5Headers);
+        assertEquals(CONTENT_MD5, result.getContentMd5());
+    }
+
+    @Test
+    public void testSinglePassSkipsReadingFileForContentMd5() {
+        PutObjectResult result = client(true).putObject(BUCKET, "key", file);
+
+        assertEquals(Collections.singletonList((String) null), contentMd5Headers);
+        // Computed while the file was sent and checked against the ETag
+        assertEquals(CONTENT_MD5, result.getContentMd5());
+    }
+
+    @Test
+    public void testSinglePassFailsWhenETagDoesNotMatch() {
+        eTag = BinaryUtils.toHex(Md5Utils.computeMD5Hash("Other content".getBytes()));
+
+        try {
+            client(true).putObject(BUCKET, "key", file);
+            fail("Expected the upload to fail");
+        } catch (SdkClientException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Unable to verify integrity of data upload"));
+        }
+    }
+
+    @Test
+    public void testSinglePassStillReadsFileWhenETagIsNotTheMd5() {
+        // The ETag of an object encrypted with a KMS key is not its MD5
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setHeader(Headers.SERVER_SIDE_ENCRYPTION_AWS_KMS_KEYID, "key-id");
+        client(true).putObject(new PutObjectRequest(BUCKET, "key", file).withMetadata(metadata));
+
+        assertEquals(Collections.singletonList(CONTENT_MD5), contentMd5Headers);
+    }
+
+    @Test
+    public void testOptionRoundTripsThroughBuilderAndClientOptions() {
+        assertFalse(S3ClientOptions.builder().build().isSinglePassMd5Enabled());
+        assertFalse(AmazonS3ClientBuilder.standard().resolveS3ClientOptions().isSinglePassMd5Enabled());
+        assertNull(AmazonS3ClientBuilder.standard().isSinglePassMd5Enabled());
+
+        S3ClientOptions options = S3ClientOptions.builder().enableSinglePassMd5().build();
+        assertTrue(options.isSinglePassMd5Enabled());
+        assertTrue(new S3ClientOptions(options).isSinglePassMd5Enabled());
+
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard().enableSinglePassMd5();
+        assertTrue(builder.isSinglePassMd5Enabled());
+        assertTrue(builder.resolveS3ClientOptions().isSinglePassMd5Enabled());
+        assertFalse(AmazonS3ClientBuilder.standard().withSinglePassMd5Enabled(false)
+                .resolveS3ClientOptions().isSinglePassMd5Enabled());
+    }
+
+    private AmazonS3 client(boolean singlePassMd5Enabled) {
+        return AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new EndpointConfiguration(
+                        "http://localhost:" + server.getAddress().getPort(), "us-east-1"))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("akid", "skid")))
+                .withPathStyleAccessEnabled(true)
+                .withChunkedEncodingDisabled(true)
+                .withSinglePassMd5Enabled(singlePassMd5Enabled)
+                .build();
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static com.amazonaws.util.BinaryUtils.copyAllBytesFrom;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.SdkClock;
+import com.amazonaws.services.kms.AbstractAWSKMS;
+import com.amazonaws.services.kms.model.DataKeySpec;
+import com.amazonaws.services.kms.model.DecryptRequest;
+import com.amazonaws.services.kms.model.DecryptResult;
+import com.amazonaws.services.kms.model.GenerateDataKeyRequest;
+import com.amazonaws.services.kms.model.GenerateDataKeyResult;
+import com.amazonaws.services.s3.internal.S3Direct;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
+import com.amazonaws.services.s3.model.CryptoConfiguration;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.KMSEncryptionMaterialsProvider;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.IOUtils;
+
+public class DataKeyCachingKMSTest {
+
+    private static final String KEY_ID = "keyId";
+    private static final long TTL_MILLIS = 60000;
+
+    private final AtomicLong now = new AtomicLong(1000000);
+    private final SdkClock clock = new SdkClock() {
+        @Override
+        public long currentTimeMillis() {
+            return now.get();
+        }
+    };
+    private KmsStub kms;
+
+    @Before
+    public void setUp() {
+        kms = new KmsStub();
+    }
+
+    @Test
+    public void testGeneratedDataKeyIsReused() {
+        DataKeyCachingKMS cache = cache(10, 100);
+
+        GenerateDataKeyResult first = cache.generateDataKey(generateRequest("bucket/a"));
+        GenerateDataKeyResult second = cache.generateDataKey(generateRequest("bucket/a"));
+        GenerateDataKeyResult other = cache.generateDataKey(generateRequest("bucket/b"));
+
+        assertEquals(2, kms.generateCount.get());
+        assertArrayEquals(bytes(first.getPlaintext()), bytes(second.getPlaintext()));
+        assertArrayEquals(bytes(first.getCiphertextBlob()), bytes(second.getCiphertextBlob()));
+        assertEquals(KEY_ID, second.getKeyId());
+        assertFalse(Arrays.equals(bytes(first.getPlaintext()), bytes(other.getPlaintext())));
+    }
+
+    @Test
+    public void testDataKeyExpiresAfterTimeToLive() {
+        DataKeyCachingKMS cache = cache(10, 100);
+        cache.generateDataKey(generateRequest("ctx"));
+        byte[] cached = cache.getCachedPlaintexts().get(0);
+
+        now.addAndGet(TTL_MILLIS - 1);
+        cache.generateDataKey(generateRequest("ctx"));
+        assertEquals(1, kms.generateCount.get());
+
+        now.addAndGet(1);
+        cache.generateDataKey(generateRequest("ctx"));
+        assertEquals(2, kms.generateCount.get());
+        assertZeroed(cached);
+    }
+
+    @Test
+    public void testDataKeyEvictedAfterMaxUses() {
+        DataKeyCachingKMS cache = cache(10, 3);
+        cache.generateDataKey(generateRequest("ctx"));
+        byte[] cached = cache.getCachedPlaintexts().get(0);
+
+        cache.generateDataKey(generateRequest("ctx"));
+        cache.generateDataKey(generateRequest("ctx"));
+        assertEquals(1, kms.generateCount.get());
+        assertZeroed(cached);
+
+        cache.generateDataKey(generateRequest("ctx"));
+        assertEquals(2, kms.generateCount.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDataKeyIsEvictedAndZeroed() {
+        DataKeyCachingKMS cache = cache(2, 100);
+        cache.decrypt(decryptRequest(1, "ctx"));
+        cache.decrypt(decryptRequest(2, "ctx"));
+        List<byte[]> cached = cache.getCachedPlaintexts();
+        // Using the first data key makes the second the least recently used
+        cache.decrypt(decryptRequest(1, "ctx"));
+        assertEquals(2, kms.decryptCount.get());
+
+        cache.decrypt(decryptRequest(3, "ctx"));
+
+        assertEquals(3, kms.decryptCount.get());
+        assertNotZeroed(cached.get(0));
+        assertZeroed(cached.get(1));
+        cache.decrypt(decryptRequest(1, "ctx"));
+        assertEquals(3, kms.decryptCount.get());
+        cache.decrypt(decryptRequest(2, "ctx"));
+        assertEquals(4, kms.decryptCount.get());
+    }
+
+    @Test
+    public void testCallersCannotModifyCachedDataKeys() {
+        DataKeyCachingKMS cache = cache(10, 100);
+        GenerateDataKeyResult generated = cache.generateDataKey(generateRequest("ctx"));
+        byte[] expected = bytes(generated.getPlaintext());
+
+        Arrays.fill(generated.getPlaintext().array(), (byte) 0xff);
+        GenerateDataKeyResult reused = cache.generateDataKey(generateRequest("ctx"));
+        assertArrayEquals(expected, bytes(reused.getPlaintext()));
+
+        Arrays.fill(reused.getPlaintext().array(), (byte) 0xff);
+        Arrays.fill(reused.getCiphertextBlob().array(), (byte) 0xff);
+        GenerateDataKeyResult again = cache.generateDataKey(generateRequest("ctx"));
+        assertArrayEquals(expected, bytes(again.getPlaintext()));
+        assertArrayEquals(kms.ciphertextBlob(1), bytes(again.getCiphertextBlob()));
+
+        DecryptResult decrypted = cache.decrypt(decryptRequest(1, "ctx"));
+        Arrays.fill(decrypted.getPlaintext().array(), (byte) 0xff);
+        assertArrayEquals(kms.plaintext(1), bytes(cache.decrypt(decryptRequest(1, "ctx")).getPlaintext()));
+    }
+
+    @Test
+    public void testGeneratedDataKeyCanBeDecryptedWithoutKms() {
+        DataKeyCachingKMS cache = cache(10, 100);
+        GenerateDataKeyResult generated = cache.generateDataKey(generateRequest("ctx"));
+
+        DecryptResult decrypted = cache.decrypt(new DecryptRequest()
+                .withCiphertextBlob(ByteBuffer.wrap(bytes(generated.getCiphertextBlob())))
+                .withEncryptionContext(context("ctx")));
+
+        assertEquals(0, kms.decryptCount.get());
+        assertEquals(KEY_ID, decrypted.getKeyId());
+        assertArrayEquals(bytes(generated.getPlaintext()), bytes(decrypted.getPlaintext()));
+
+        // The encryption context is part of the cache key
+        cache.decrypt(new DecryptRequest()
+                .withCiphertextBlob(ByteBuffer.wrap(bytes(generated.getCiphertextBlob())))
+                .withEncryptionContext(context("other")));
+        assertEquals(1, kms.decryptCount.get());
+    }
+
+    @Test
+    public void testShutdownZeroesAllDataKeys() {
+        DataKeyCachingKMS cache = cache(10, 100);
+        cache.generateDataKey(generateRequest("ctx"));
+        cache.decrypt(decryptRequest(5, "ctx"));
+        List<byte[]> cached = cache.getCachedPlaintexts();
+        assertEquals(3, cached.size());
+
+        cache.shutdown();
+
+        for (byte[] plaintext : cached) {
+            assertZeroed(plaintext);
+        }
+        assertTrue(cache.getCachedPlaintexts().isEmpty());
+        cache.generateDataKey(generateRequest("ctx"));
+        assertEquals(2, kms.generateCount.get());
+    }
+
+    @Test
+    public void testDispatcherShutdownEvictsDataKeys() throws Exception {
+        S3DirectStub s3 = new S3DirectStub();
+        CryptoModuleDispatcher crypto = new CryptoModuleDispatcher(kms, s3,
+                new AWSStaticCredentialsProvider(new BasicAWSCredentials("akid", "skid")),
+                new KMSEncryptionMaterialsProvider(KEY_ID),
+                new CryptoConfiguration().withDataKeyCacheSize(10));
+
+        crypto.putObjectSecurely(putRequest("a"));
+        crypto.putObjectSecurely(putRequest("b"));
+        assertEquals(1, kms.generateCount.get());
+        assertEquals(2, s3.puts.get());
+
+        crypto.shutdown();
+        crypto.putObjectSecurely(putRequest("c"));
+        assertEquals(2, kms.generateCount.get());
+    }
+
+    private static PutObjectRequest putRequest(String key) {
+        byte[] content = new byte[100];
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        return new PutObjectRequest("bucket", key, new ByteArrayInputStream(content), metadata);
+    }
+
+    private DataKeyCachingKMS cache(int maxSize, long maxUses) {
+        return new DataKeyCachingKMS(kms, maxSize, TTL_MILLIS, maxUses, clock);
+    }
+
+    private static GenerateDataKeyRequest generateRequest(String context) {
+        return new GenerateDataKeyRequest()
+                .withKeyId(KEY_ID)
+                .withKeySpec(DataKeySpec.AES_256)
+                .withEncryptionContext(context(context));
+    }
+
+    private DecryptRequest decryptRequest(int dataKey, String context) {
+        return new DecryptRequest()
+                .withCiphertextBlob(ByteBuffer.wrap(kms.ciphertextBlob(dataKey)))
+                .withEncryptionContext(context(context));
+    }
+
+    private static Map<String, String> context(String value) {
+        return Collections.singletonMap("aws:x-amz-cek-alg", value);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        return copyAllBytesFrom(buffer);
+    }
+
+    private static void assertZeroed(byte[] plaintext) {
+        assertArrayEquals(new byte[plaintext.length], plaintext);
+    }
+
+    private static void assertNotZeroed(byte[] plaintext) {
+        assertFalse(Arrays.equals(new byte[plaintext.length], plaintext));
+    }
+
+    private static class S3DirectStub extends S3Direct {
+        private final AtomicInteger puts = new AtomicInteger();
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest req) {
+            try {
+                IOUtils.toByteArray(req.getInputStream());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            puts.incrementAndGet();
+            return new PutObjectResult();
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ObjectMetadata getObject(GetObjectRequest req, File dest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(
+                CompleteMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(
+                InitiateMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CopyPartResult copyPart(CopyPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Generates numbered data keys whose plaintext and ciphertext are derived
+     * from their number.
+     */
+    private static class KmsStub extends AbstractAWSKMS {
+        private final AtomicInteger generateCount = new AtomicInteger();
+        private final AtomicInteger decryptCount = new AtomicInteger();
+
+        @Override
+        public GenerateDataKeyResult generateDataKey(GenerateDataKeyRequest request) {
+            int dataKey = generateCount.incrementAndGet();
+            return new GenerateDataKeyResult()
+                    .withKeyId(KEY_ID)
+                    .withCiphertextBlob(ByteBuffer.wrap(ciphertextBlob(dataKey)))
+                    .withPlaintext(ByteBuffer.wrap(plaintext(dataKey)));
+        }
+
+        @Override
+        public DecryptResult decrypt(DecryptRequest request) {
+            decryptCount.incrementAndGet();
+            byte[] ciphertextBlob = copyAllBytesFrom(request.getCiphertextBlob());
+            return new DecryptResult()
+                    .withKeyId(KEY_ID)
+                    .withPlaintext(ByteBuffer.wrap(plaintext(ciphertextBlob[0])));
+        }
+
+        private byte[] ciphertextBlob(int dataKey) {
+            byte[] ciphertextBlob = new byte[48];
+            Arrays.fill(ciphertextBlob, (byte) dataKey);
+            ciphertextBlob[47] = -1;
+            return ciphertextBlob;
+        }
+
+        private byte[] plaintext(int dataKey) {
+            byte[] plaintext = new byte[32];
+            Arrays.fill(plaintext, (byte) (dataKey + 100));
+            return plaintext;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Test;
+
+public class GHashTest {
+
+    private final Random random = new Random(1234);
+
+    @Test
+    public void testTagOfWholeCiphertextMatchesJce() throws Exception {
+        for (int length = 0; length <= 100; length++) {
+            Gcm gcm = new Gcm();
+            byte[] ciphertext = gcm.encrypt(length);
+
+            GHash hash = new GHash(gcm.hashSubkey);
+            hash.update(ciphertext, 0, length);
+
+            assertArrayEquals("length " + length, gcm.tagOf(ciphertext), hash.tag(gcm.encryptedJ0));
+        }
+    }
+
+    @Test
+    public void testTagOfCombinedPartsMatchesJce() throws Exception {
+        for (int trial = 0; trial < 200; trial++) {
+            Gcm gcm = new Gcm();
+            int parts = 1 + random.nextInt(6);
+            int partSize = 16 * (1 + random.nextInt(20));
+            int lastPartSize = random.nextInt(3 * 16);
+            int length = (parts - 1) * partSize + lastPartSize;
+            byte[] ciphertext = gcm.encrypt(length);
+
+            GHash hash = new GHash(gcm.hashSubkey);
+            for (int part = 0; part < parts; part++) {
+                int offset = part * partSize;
+                int size = part == parts - 1 ? lastPartSize : partSize;
+                GHash partHash = new GHash(gcm.hashSubkey);
+                updateInChunks(partHash, ciphertext, offset, size);
+                assertEquals(size, partHash.getLength());
+                hash.append(partHash);
+            }
+
+            assertEquals(length, hash.getLength());
+            assertArrayEquals("trial " + trial, gcm.tagOf(ciphertext), hash.tag(gcm.encryptedJ0));
+        }
+    }
+
+    @Test
+    public void testRestoreDiscardsBytesHashedAfterCopy() throws Exception {
+        Gcm gcm = new Gcm();
+        byte[] ciphertext = gcm.encrypt(77);
+        GHash hash = new GHash(gcm.hashSubkey);
+        hash.update(ciphertext, 0, 21);
+        GHash marked = hash.copy();
+
+        hash.update(new byte[40], 0, 40);
+        hash.restore(marked);
+        hash.update(ciphertext, 21, 56);
+
+        assertArrayEquals(gcm.tagOf(ciphertext), hash.tag(gcm.encryptedJ0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testOnlyLastPartMayEndWithinBlock() throws Exception {
+        Gcm gcm = new Gcm();
+        GHash hash = new GHash(gcm.hashSubkey);
+        hash.update(new byte[20], 0, 20);
+        hash.append(new GHash(gcm.hashSubkey));
+    }
+
+    /**
+     * Hashes the given range in chunks of random sizes, unaligned to blocks.
+     */
+    private void updateInChunks(GHash hash, byte[] b, int offset, int length) {
+        int end = offset + length;
+        while (offset < end) {
+            int n = Math.min(end - offset, random.nextInt(40));
+            hash.update(b, offset, n);
+            offset += n;
+        }
+    }
+
+    /**
+     * AES/GCM encryption with a random key and IV, done by the JCE.
+     */
+    private class Gcm {
+        private final SecretKeySpec key;
+        private final byte[] iv = new byte[12];
+        private final byte[] hashSubkey;
+        private final byte[] encryptedJ0;
+
+        private Gcm() throws Exception {
+            byte[] keyBytes = new byte[32];
+            random.nextBytes(keyBytes);
+            random.nextBytes(iv);
+            key = new SecretKeySpec(keyBytes, "AES");
+            Cipher aes = Cipher.getInstance("AES/ECB/NoPadding");
+            aes.init(Cipher.ENCRYPT_MODE, key);
+            hashSubkey = aes.doFinal(new byte[16]);
+            byte[] j0 = Arrays.copyOf(iv, 16);
+            j0[15] = 1;
+            encryptedJ0 = aes.doFinal(j0);
+        }
+
+        /**
+         * Returns the ciphertext of a random plaintext of the given length,
+         * followed by its tag.
+         */
+        private byte[] encrypt(int length) throws Exception {
+            byte[] plaintext = new byte[length];
+            random.nextBytes(plaintext);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+            return cipher.doFinal(plaintext);
+        }
+
+        private byte[] tagOf(byte[] ciphertext) {
+            return Arrays.copyOfRange(ciphertext, ciphertext.length - 16, ciphertext.length);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.spec.AlgorithmParameterSpec;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.CipherSpi;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Stands in for the Bouncy Castle provider, which this module does not depend
+ * on, so that the authenticated encryption mode can be tested. AES is served
+ * by the SunJCE provider; GCM ciphers accept an {@link IvParameterSpec} and
+ * keys of any algorithm name, as Bouncy Castle does.
+ */
+@SuppressWarnings("serial")
+public class JceGcmProvider extends Provider {
+
+    public JceGcmProvider() {
+        super(CryptoRuntime.BOUNCY_CASTLE_PROVIDER, 1.0, "AES/GCM from SunJCE");
+        put("Cipher.AES", AesCipher.class.getName());
+        put("Cipher.AESWrap", "com.sun.crypto.provider.AESWrapCipher$General");
+        put("KeyGenerator.AES", "com.sun.crypto.provider.AESKeyGenerator");
+    }
+
+    /**
+     * Makes AES/GCM available to the crypto modules, using Bouncy Castle if it
+     * is on the class path.
+     */
+    static synchronized void install() {
+        CryptoRuntime.enableBouncyCastle();
+        if (!CryptoRuntime.isBouncyCastleAvailable()) {
+            Security.addProvider(new JceGcmProvider());
+        }
+        CryptoRuntime.recheck();
+    }
+
+    public static final class AesCipher extends CipherSpi {
+        private String mode = "ECB";
+        private String padding = "NoPadding";
+        private Cipher cipher;
+
+        @Override
+        protected void engineSetMode(String mode) {
+            this.mode = mode;
+        }
+
+        @Override
+        protected void engineSetPadding(String padding) throws NoSuchPaddingException {
+            this.padding = padding;
+        }
+
+        @Override
+        protected int engineGetBlockSize() {
+            return 16;
+        }
+
+        @Override
+        protected int engineGetOutputSize(int inputLen) {
+            return cipher.getOutputSize(inputLen);
+        }
+
+        @Override
+        protected byte[] engineGetIV() {
+            return cipher.getIV();
+        }
+
+        @Override
+        protected AlgorithmParameters engineGetParameters() {
+            return cipher.getParameters();
+        }
+
+        @Override
+        protected void engineInit(int opmode, Key key, SecureRandom random)
+                throws InvalidKeyException {
+            try {
+                newCipher().init(opmode, aesKey(key), random);
+            } catch (InvalidKeyException e) {
+                throw e;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        protected void engineInit(int opmode, Key key, AlgorithmParameterSpec params,
+                SecureRandom random) throws InvalidKeyException, InvalidAlgorithmParameterException {
+            if ("GCM".equalsIgnoreCase(mode) && params instanceof IvParameterSpec) {
+                params = new GCMParameterSpec(128, ((IvParameterSpec) params).getIV());
+            }
+            try {
+                newCipher().init(opmode, aesKey(key), params, random);
+            } catch (InvalidKeyException e) {
+                throw e;
+            } catch (InvalidAlgorithmParameterException e) {
+                throw e;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        protected void engineInit(int opmode, Key key, AlgorithmParameters params,
+                SecureRandom random) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected byte[] engineUpdate(byte[] input, int inputOffset, int inputLen) {
+            return cipher.update(nonNull(input), inputOffset, inputLen);
+        }
+
+        @Override
+        protected int engineUpdate(byte[] input, int inputOffset, int inputLen,
+                byte[] output, int outputOffset) throws ShortBufferException {
+            return cipher.update(nonNull(input), inputOffset, inputLen, output, outputOffset);
+        }
+
+        @Override
+        protected byte[] engineDoFinal(byte[] input, int inputOffset, int inputLen)
+                throws IllegalBlockSizeException, BadPaddingException {
+            return cipher.doFinal(nonNull(input), inputOffset, inputLen);
+        }
+
+        @Override
+        protected int engineDoFinal(byte[] input, int inputOffset, int inputLen,
+                byte[] output, int outputOffset)
+                throws ShortBufferException, IllegalBlockSizeException, BadPaddingException {
+            return cipher.doFinal(nonNull(input), inputOffset, inputLen, output, outputOffset);
+        }
+
+        private Cipher newCipher() throws GeneralSecurityException {
+            cipher = Cipher.getInstance("AES/" + mode + "/" + padding, "SunJCE");
+            return cipher;
+        }
+
+        /* Keys unwrapped by the SunJCE provider are named after the wrapping algorithm */
+        private static Key aesKey(Key key) {
+            return "AES".equals(key.getAlgorithm()) ? key : new SecretKeySpec(key.getEncoded(), "AES");
+        }
+
+        private static byte[] nonNull(byte[] input) {
+            return input == null ? new byte[0] : input;
+        }
+    }
+}
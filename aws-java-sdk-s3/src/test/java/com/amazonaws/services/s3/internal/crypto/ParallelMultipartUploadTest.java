@@ -0,0 +1,402 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.internal.S3Direct;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
+import com.amazonaws.services.s3.model.CryptoConfiguration;
+import com.amazonaws.services.s3.model.CryptoMode;
+import com.amazonaws.services.s3.model.EncryptionMaterials;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.StaticEncryptionMaterialsProvider;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.IOUtils;
+
+public class ParallelMultipartUploadTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final int PART_SIZE = 8192;
+    private static final int PARTS = 8;
+
+    private final Random random = new Random(42);
+    private final S3DirectStub s3 = new S3DirectStub();
+    private SecretKey kek;
+    private S3CryptoModuleAE crypto;
+    private File file;
+
+    @BeforeClass
+    public static void setUpProvider() {
+        JceGcmProvider.install();
+    }
+
+    @Before
+    public void setUp() {
+        byte[] kekBytes = new byte[32];
+        random.nextBytes(kekBytes);
+        kek = new SecretKeySpec(kekBytes, "AES");
+        crypto = new S3CryptoModuleAE(s3,
+                new StaticEncryptionMaterialsProvider(new EncryptionMaterials(kek)),
+                new CryptoConfiguration(CryptoMode.AuthenticatedEncryption)
+                        .withParallelMultipartUploadEnabled(true)
+                        .readOnly());
+    }
+
+    @After
+    public void tearDown() {
+        if (file != null) {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testPartsUploadedInAnyOrderMatchSingleGcmPass() throws Exception {
+        for (int lastPartSize : new int[] { 1, 15, 16, 1000, PART_SIZE }) {
+            byte[] plaintext = randomBytes((PARTS - 1) * PART_SIZE + lastPartSize);
+            file = writeToFile(plaintext);
+            String uploadId = initiate();
+            MultipartUploadParallelCryptoContext context = uploadContext(uploadId);
+
+            List<Integer> partNumbers = new ArrayList<Integer>();
+            for (int i = 1; i < PARTS; i++) {
+                partNumbers.add(i);
+            }
+            Collections.shuffle(partNumbers, random);
+            uploadConcurrently(uploadId, partNumbers);
+            crypto.uploadPartSecurely(partRequest(uploadId, PARTS, lastPartSize).withLastPart(true));
+            crypto.completeMultipartUploadSecurely(
+                    new CompleteMultipartUploadRequest(BUCKET, KEY, uploadId, new ArrayList<PartETag>()));
+
+            assertArrayEquals("last part size " + lastPartSize,
+                    encryptWithJce(context.getContentCryptoMaterial(), plaintext),
+                    s3.object());
+
+            S3Object decrypted = crypto.getObjectSecurely(new GetObjectRequest(BUCKET, KEY));
+            assertArrayEquals(plaintext, IOUtils.toByteArray(decrypted.getObjectContent()));
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testLastPartMustBeUploadedAfterAllOthers() throws Exception {
+        file = writeToFile(randomBytes(3 * PART_SIZE));
+        String uploadId = initiate();
+        crypto.uploadPartSecurely(partRequest(uploadId, 1, PART_SIZE));
+        try {
+            crypto.uploadPartSecurely(partRequest(uploadId, 3, PART_SIZE).withLastPart(true));
+            fail();
+        } catch (SdkClientException expected) {
+        }
+        crypto.uploadPartSecurely(partRequest(uploadId, 2, PART_SIZE));
+        crypto.uploadPartSecurely(partRequest(uploadId, 3, PART_SIZE).withLastPart(true));
+    }
+
+    @Test
+    public void testPartsMustHaveTheSameBlockAlignedSize() throws Exception {
+        file = writeToFile(randomBytes(3 * PART_SIZE));
+        String uploadId = initiate();
+        try {
+            crypto.uploadPartSecurely(partRequest(uploadId, 1, PART_SIZE - 1));
+            fail();
+        } catch (SdkClientException expected) {
+        }
+        crypto.uploadPartSecurely(partRequest(uploadId, 1, PART_SIZE));
+        try {
+            crypto.uploadPartSecurely(partRequest(uploadId, 2, 2 * PART_SIZE));
+            fail();
+        } catch (SdkClientException expected) {
+        }
+    }
+
+    @Test
+    public void testGcmPartInputStreamResetsHashAndTag() throws Exception {
+        byte[] plaintext = randomBytes(100);
+        String uploadId = initiate();
+        MultipartUploadParallelCryptoContext context = uploadContext(uploadId);
+        byte[] expected = encryptWithJce(context.getContentCryptoMaterial(), plaintext);
+        byte[] ciphertext = Arrays.copyOf(expected, plaintext.length);
+        context.beginPartUpload(1, plaintext.length, true);
+
+        // Reset within the ciphertext
+        GcmPartInputStream in = lastPart(context, ciphertext);
+        byte[] head = read(in, 10);
+        in.mark(1000);
+        read(in, 50);
+        in.reset();
+        assertArrayEquals(expected, concat(head, IOUtils.toByteArray(in)));
+
+        // Reset within the tag
+        in = lastPart(context, ciphertext);
+        head = read(in, 105);
+        in.mark(1000);
+        byte[] tail = IOUtils.toByteArray(in);
+        in.reset();
+        assertArrayEquals(tail, IOUtils.toByteArray(in));
+        assertArrayEquals(expected, concat(head, tail));
+
+        // Reset to the beginning without a mark
+        in = lastPart(context, ciphertext);
+        read(in, 30);
+        in.reset();
+        assertArrayEquals(expected, IOUtils.toByteArray(in));
+
+        // Skipped bytes are hashed
+        in = lastPart(context, ciphertext);
+        assertEquals(40, in.skip(40));
+        assertArrayEquals(Arrays.copyOfRange(expected, 40, expected.length), IOUtils.toByteArray(in));
+    }
+
+    @Test
+    public void testGcmPartInputStreamResetsHashOfPart() throws Exception {
+        String uploadId = initiate();
+        MultipartUploadParallelCryptoContext context = uploadContext(uploadId);
+        context.beginPartUpload(1, 32, false);
+        GcmPartInputStream in = new GcmPartInputStream(
+                new ByteArrayInputStream(randomBytes(32)), context, 1, false);
+        read(in, 20);
+        in.mark(1000);
+        read(in, 12);
+        assertEquals(32, in.getHash().getLength());
+        in.reset();
+        assertEquals(20, in.getHash().getLength());
+        assertEquals(12, IOUtils.toByteArray(in).length);
+        assertEquals(32, in.getHash().getLength());
+    }
+
+    private String initiate() {
+        return crypto.initiateMultipartUploadSecurely(
+                new InitiateMultipartUploadRequest(BUCKET, KEY)).getUploadId();
+    }
+
+    private MultipartUploadParallelCryptoContext uploadContext(String uploadId) {
+        return (MultipartUploadParallelCryptoContext) crypto.multipartUploadContexts.get(uploadId);
+    }
+
+    private void uploadConcurrently(final String uploadId, List<Integer> partNumbers)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<UploadPartResult>> futures = new ArrayList<Future<UploadPartResult>>();
+            for (final int partNumber : partNumbers) {
+                futures.add(executor.submit(new Callable<UploadPartResult>() {
+                    @Override
+                    public UploadPartResult call() {
+                        return crypto.uploadPartSecurely(partRequest(uploadId, partNumber, PART_SIZE));
+                    }
+                }));
+            }
+            for (Future<UploadPartResult> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private UploadPartRequest partRequest(String uploadId, int partNumber, long partSize) {
+        return new UploadPartRequest()
+                .withBucketName(BUCKET)
+                .withKey(KEY)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withFile(file)
+                .withFileOffset((long) (partNumber - 1) * PART_SIZE)
+                .withPartSize(partSize);
+    }
+
+    /**
+     * Encrypts the plaintext as a whole with the content encryption key and
+     * IV of the upload.
+     */
+    private byte[] encryptWithJce(ContentCryptoMaterial material, byte[] plaintext)
+            throws Exception {
+        Cipher unwrap = Cipher.getInstance("AESWrap", "SunJCE");
+        unwrap.init(Cipher.UNWRAP_MODE, kek);
+        SecretKey cek = (SecretKey) unwrap.unwrap(material.getEncryptedCEK(), "AES", Cipher.SECRET_KEY);
+        Cipher gcm = Cipher.getInstance("AES/GCM/NoPadding", "SunJCE");
+        gcm.init(Cipher.ENCRYPT_MODE, cek,
+                new GCMParameterSpec(128, material.getCipherLite().getIV()));
+        return gcm.doFinal(plaintext);
+    }
+
+    private static GcmPartInputStream lastPart(
+            MultipartUploadParallelCryptoContext context, byte[] ciphertext) {
+        return new GcmPartInputStream(new ByteArrayInputStream(ciphertext), context, 1, true);
+    }
+
+    private static byte[] read(InputStream in, int length) throws IOException {
+        byte[] b = new byte[length];
+        int off = 0;
+        while (off < length) {
+            int n = in.read(b, off, length - off);
+            assertTrue(n > 0);
+            off += n;
+        }
+        return b;
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] c = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, c, a.length, b.length);
+        return c;
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] b = new byte[length];
+        random.nextBytes(b);
+        return b;
+    }
+
+    private static File writeToFile(byte[] content) throws IOException {
+        File f = File.createTempFile("parallel-upload", ".tmp");
+        FileOutputStream out = new FileOutputStream(f);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+        return f;
+    }
+
+    /**
+     * Keeps the parts uploaded in memory. Each part is read twice, as it
+     * would be if the first attempt to upload it failed part way through.
+     */
+    private static class S3DirectStub extends S3Direct {
+        private final Map<Integer, byte[]> parts = new ConcurrentHashMap<Integer, byte[]>();
+        private volatile ObjectMetadata metadata;
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(
+                InitiateMultipartUploadRequest req) {
+            parts.clear();
+            metadata = req.getObjectMetadata();
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId("upload-" + System.nanoTime());
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest req) {
+            InputStream in = req.getInputStream();
+            try {
+                in.mark(PART_SIZE + 16);
+                in.read(new byte[PART_SIZE / 3]);
+                in.reset();
+                byte[] part = IOUtils.toByteArray(in);
+                assertEquals(req.getPartSize(), part.length);
+                parts.put(req.getPartNumber(), part);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(req.getPartNumber());
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(
+                CompleteMultipartUploadRequest req) {
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest req) {
+            S3Object object = new S3Object();
+            object.setBucketName(req.getBucketName());
+            object.setKey(req.getKey());
+            object.setObjectMetadata(metadata);
+            object.setObjectContent(new S3ObjectInputStream(
+                    new ByteArrayInputStream(object()), null));
+            return object;
+        }
+
+        byte[] object() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (int i = 1; i <= parts.size(); i++) {
+                byte[] part = parts.get(i);
+                out.write(part, 0, part.length);
+            }
+            return out.toByteArray();
+        }
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ObjectMetadata getObject(GetObjectRequest req, File dest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CopyPartResult copyPart(CopyPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2012-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+public class ParallelListingIteratorTest {
+
+    private static final String BUCKET_NAME = "bucket";
+
+    @Test
+    public void testEveryKeyIsReturnedOnce() {
+        ListingStub s3 = new ListingStub(keys(5, 4, 30));
+
+        List<String> listed = listAll(S3Objects.inBucket(s3, BUCKET_NAME)
+                .withBatchSize(7).parallelIterator(4));
+
+        assertEquals(s3.keys.size(), listed.size());
+        assertEquals(s3.keys, new TreeSet<String>(listed));
+        // The listing was split into more than the one partition of the bucket
+        assertTrue(s3.prefixes.size() > 1);
+    }
+
+    @Test
+    public void testEveryKeyUnderPrefixIsReturnedOnceWithoutDelimiter() {
+        ListingStub s3 = new ListingStub(keys(3, 3, 20));
+
+        List<String> listed = listAll(S3Objects.withPrefix(s3, BUCKET_NAME, "p1/")
+                .withBatchSize(6).parallelIterator(4, null));
+
+        Set<String> expected = new TreeSet<String>();
+        for (String key : s3.keys) {
+            if (key.startsWith("p1/")) {
+                expected.add(key);
+            }
+        }
+        assertEquals(expected.size(), listed.size());
+        assertEquals(expected, new TreeSet<String>(listed));
+        assertEquals(Collections.singleton("p1/"), s3.prefixes);
+    }
+
+    @Test
+    public void testHasNextRethrowsListingFailure() {
+        final AmazonServiceException failure = new AmazonServiceException("Listing failed");
+        ListingStub s3 = new ListingStub(keys(5, 4, 30)) {
+            @Override
+            void beforeList(String prefix) {
+                if ("p3/".equals(prefix)) {
+                    throw failure;
+                }
+            }
+        };
+
+        ParallelListingIterator<S3ObjectSummary> iterator =
+                S3Objects.inBucket(s3, BUCKET_NAME).withBatchSize(7).parallelIterator(4);
+        try {
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+            fail("Expected the listing failure");
+        } catch (AmazonServiceException expected) {
+            assertSame(failure, expected);
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testCloseStopsListingThreads() throws InterruptedException {
+        ListingStub s3 = new ListingStub(keys(8, 1, 500));
+
+        ParallelListingIterator<S3ObjectSummary> iterator =
+                S3Objects.inBucket(s3, BUCKET_NAME).withBatchSize(5).parallelIterator(4);
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        iterator.close();
+
+        for (Thread thread : s3.threadsSnapshot()) {
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+        }
+        // A thread may send one last request if it was about to when the iterator was closed
+        Thread.sleep(200);
+        int requests = s3.requests.get();
+        assertTrue(requests < s3.keys.size() / 5);
+        Thread.sleep(200);
+        assertEquals(requests, s3.requests.get());
+        assertFalse(iterator.hasNext());
+    }
+
+    private static List<String> listAll(ParallelListingIterator<S3ObjectSummary> iterator) {
+        List<String> keys = new ArrayList<String>();
+        try {
+            while (iterator.hasNext()) {
+                keys.add(iterator.next().getKey());
+            }
+        } finally {
+            iterator.close();
+        }
+        return keys;
+    }
+
+    /**
+     * Returns keys nested two levels deep under the given numbers of
+     * prefixes, with a few keys at each level.
+     */
+    private static TreeSet<String> keys(int prefixes, int subPrefixes, int keysPerPrefix) {
+        TreeSet<String> keys = new TreeSet<String>();
+        keys.add("top-level");
+        for (int p = 0; p < prefixes; p++) {
+            keys.add("p" + p + "/key");
+            for (int s = 0; s < subPrefixes; s++) {
+                for (int k = 0; k < keysPerPrefix; k++) {
+                    keys.add("p" + p + "/s" + s + "/key-" + k);
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Lists a fixed set of keys the way Amazon S3 does, rolling keys up into
+     * common prefixes at the delimiter and paging at the max keys.
+     */
+    private static class ListingStub extends AbstractAmazonS3 {
+        private final TreeSet<String> keys;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final Set<String> prefixes = Collections.synchronizedSet(new HashSet<String>());
+        private final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+
+        private ListingStub(TreeSet<String> keys) {
+            this.keys = keys;
+        }
+
+        void beforeList(String prefix) {
+        }
+
+        private List<Thread> threadsSnapshot() {
+            synchronized (threads) {
+                return new ArrayList<Thread>(threads);
+            }
+        }
+
+        @Override
+        public ObjectListing listObjects(ListObjectsRequest request) {
+            return list(request.getPrefix(), request.getDelimiter(), request.getMarker(),
+                    request.getMaxKeys());
+        }
+
+        @Override
+        public ObjectListing listNextBatchOfObjects(ObjectListing previous) {
+            return list(previous.getPrefix(), previous.getDelimiter(), previous.getNextMarker(),
+                    previous.getMaxKeys());
+        }
+
+        private ObjectListing list(String prefix, String delimiter, String marker, Integer maxKeys) {
+            requests.incrementAndGet();
+            threads.add(Thread.currentThread());
+            prefixes.add(String.valueOf(prefix));
+            beforeList(prefix);
+
+            String keyPrefix = prefix == null ? "" : prefix;
+            int max = maxKeys == null ? 1000 : maxKeys;
+            ObjectListing listing = new ObjectListing();
+            listing.setBucketName(BUCKET_NAME);
+            listing.setPrefix(prefix);
+            listing.setDelimiter(delimiter);
+            listing.setMaxKeys(max);
+            String last = null;
+            int count = 0;
+            for (String key : marker == null ? keys : keys.tailSet(marker, false)) {
+                if (!key.startsWith(keyPrefix)) {
+                    if (key.compareTo(keyPrefix) > 0) {
+                        break;
+                    }
+                    continue;
+                }
+                // Keys rolled up into the common prefix of the marker were returned with it
+                if (marker != null && delimiter != null && marker.endsWith(delimiter)
+                        && key.startsWith(marker)) {
+                    continue;
+                }
+                int end = delimiter == null ? -1 : key.indexOf(delimiter, keyPrefix.length());
+                String next = end == -1 ? key : key.substring(0, end + delimiter.length());
+                if (next.equals(last)) {
+                    continue;
+                }
+                if (count == max) {
+                    listing.setTruncated(true);
+                    listing.setNextMarker(last);
+                    break;
+                }
+                if (end == -1) {
+                    S3ObjectSummary summary = new S3ObjectSummary();
+                    summary.setBucketName(BUCKET_NAME);
+                    summary.setKey(key);
+                    listing.getObjectSummaries().add(summary);
+                } else {
+                    listing.getCommonPrefixes().add(next);
+                }
+                last = next;
+                count++;
+            }
+            return listing;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CarriageReturnEscapingInputStreamTest {
+
+    private static final List<String> DOCUMENTS = new ArrayList<String>(Arrays.asList(
+            "",
+            "<Key>no carriage return</Key>",
+            "\r",
+            "\r\n",
+            "\r\r\r",
+            "<Key>a\rb</Key>\r\n<Key>c\r\nd</Key>\r",
+            "<Key>\u00e9\r\u6f22\u5b57\r\n\ud83d\ude00\r</Key>"));
+
+    static {
+        // Longer than the internal buffer, with carriage returns at its boundaries
+        Random random = new Random(7);
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 20000) {
+            sb.append(random.nextInt(5) == 0 ? '\r' : (char) ('a' + random.nextInt(26)));
+            if (sb.length() % 8192 == 8191) {
+                sb.append('\r');
+            }
+        }
+        DOCUMENTS.add(sb.toString());
+    }
+
+    @Test
+    public void testReadByteAtATime() throws IOException {
+        for (String document : DOCUMENTS) {
+            InputStream in = escaping(document, Integer.MAX_VALUE);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                out.write(b);
+            }
+            assertArrayEquals(document, oldSanitizeXmlDocument(document), out.toByteArray());
+        }
+    }
+
+    @Test
+    public void testEscapeSplitAcrossReads() throws IOException {
+        for (String document : DOCUMENTS) {
+            for (int len = 1; len <= 8; len++) {
+                assertArrayEquals(document + " read by " + len, oldSanitizeXmlDocument(document),
+                        readAll(escaping(document, Integer.MAX_VALUE), len));
+            }
+        }
+    }
+
+    @Test
+    public void testCarriageReturnSplitAcrossUnderlyingReads() throws IOException {
+        for (String document : DOCUMENTS) {
+            for (int chunk = 1; chunk <= 3; chunk++) {
+                assertArrayEquals(document + " in chunks of " + chunk,
+                        oldSanitizeXmlDocument(document),
+                        readAll(escaping(document, chunk), 5));
+            }
+        }
+    }
+
+    @Test
+    public void testReadAtOffset() throws IOException {
+        InputStream in = escaping("a\rb", Integer.MAX_VALUE);
+        byte[] b = new byte[12];
+        assertEquals(0, in.read(b, 3, 0));
+        assertEquals(8, in.read(b, 3, 9));
+        assertArrayEquals("\0\0\0a&#013;b\0".getBytes(UTF8), b);
+        assertEquals(-1, in.read(b, 0, 12));
+    }
+
+    @Test
+    public void testCloseClosesUnderlyingStream() throws IOException {
+        final boolean[] closed = new boolean[1];
+        InputStream in = new CarriageReturnEscapingInputStream(
+                new ByteArrayInputStream(new byte[0]) {
+                    @Override
+                    public void close() {
+                        closed[0] = true;
+                    }
+                });
+        in.close();
+        assertTrue(closed[0]);
+    }
+
+    /**
+     * The sanitization done before the document was escaped while streamed.
+     */
+    private static byte[] oldSanitizeXmlDocument(String document) {
+        return document.replaceAll("\r", "&#013;").getBytes(UTF8);
+    }
+
+    private static InputStream escaping(String document, int maxChunk) {
+        return new CarriageReturnEscapingInputStream(
+                new ChunkedInputStream(document.getBytes(UTF8), maxChunk));
+    }
+
+    private static byte[] readAll(InputStream in, int len) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] b = new byte[len];
+        int n;
+        while ((n = in.read(b, 0, len)) != -1) {
+            assertTrue(n > 0);
+            out.write(b, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns at most the given number of bytes per read, as a network stream
+     * may.
+     */
+    private static class ChunkedInputStream extends FilterInputStream {
+        private final int maxChunk;
+
+        private ChunkedInputStream(byte[] content, int maxChunk) {
+            super(new ByteArrayInputStream(content));
+            this.maxChunk = maxChunk;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, maxChunk));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+public class XmlResponsesSaxParserTest {
+
+    @Test
+    public void testCarriageReturnsInKeysArePreserved() throws IOException {
+        assertEquals("a\rb", parseKey("a\rb"));
+        assertEquals("a\r\nb", parseKey("a\r\nb"));
+        assertEquals("\r", parseKey("\r"));
+    }
+
+    @Test
+    public void testReaderIsReusedOnThread() throws IOException {
+        XMLReader reader = XmlResponsesSaxParser.getXmlReader();
+        assertEquals("key", parseKey("key"));
+        assertSame(reader, XmlResponsesSaxParser.getXmlReader());
+        assertEquals("other", parseKey("other"));
+        assertSame(reader, XmlResponsesSaxParser.getXmlReader());
+    }
+
+    @Test
+    public void testReaderIsReusableAfterFailure() throws IOException {
+        XMLReader reader = XmlResponsesSaxParser.getXmlReader();
+        try {
+            new XmlResponsesSaxParser().parseListBucketObjectsResponse(
+                    stream("<ListBucketResult><Contents>"), false);
+            fail();
+        } catch (SdkClientException expected) {
+        }
+        assertSame(reader, XmlResponsesSaxParser.getXmlReader());
+        assertEquals("key", parseKey("key"));
+    }
+
+    @Test
+    public void testNestedParseUsesAnotherReader() throws IOException {
+        final XMLReader outerReader = XmlResponsesSaxParser.getXmlReader();
+        final List<String> nestedKeys = new ArrayList<String>();
+        final List<String> outerElements = new ArrayList<String>();
+        DefaultHandler handler = new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName,
+                    Attributes attributes) throws SAXException {
+                outerElements.add(localName);
+                try {
+                    nestedKeys.add(parseKey("nested-" + localName));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                assertNotSame(outerReader, XmlResponsesSaxParser.getXmlReader());
+            }
+        };
+
+        new XmlResponsesSaxParser().parseXmlInputStream(handler, stream("<a><b/><c/></a>"));
+
+        assertEquals(Arrays.asList("a", "b", "c"), outerElements);
+        assertEquals(Arrays.asList("nested-a", "nested-b", "nested-c"), nestedKeys);
+        assertSame(outerReader, XmlResponsesSaxParser.getXmlReader());
+    }
+
+    @Test
+    public void testConcurrentParsing() throws Exception {
+        final int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<XMLReader>> futures = new ArrayList<Future<XMLReader>>();
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                futures.add(executor.submit(new Callable<XMLReader>() {
+                    @Override
+                    public XMLReader call() throws IOException {
+                        XMLReader reader = XmlResponsesSaxParser.getXmlReader();
+                        for (int i = 0; i < 200; i++) {
+                            String key = "thread-" + thread + "\r\nkey-" + i;
+                            assertEquals(key, parseKey(key));
+                            assertSame(reader, XmlResponsesSaxParser.getXmlReader());
+                        }
+                        return reader;
+                    }
+                }));
+            }
+            Map<XMLReader, Boolean> readers = new IdentityHashMap<XMLReader, Boolean>();
+            for (Future<XMLReader> future : futures) {
+                readers.put(future.get(), Boolean.TRUE);
+            }
+            assertEquals(threads, readers.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static String parseKey(String key) throws IOException {
+        List<S3ObjectSummary> summaries = new XmlResponsesSaxParser()
+                .parseListBucketObjectsResponse(stream(listing(key)), false)
+                .getObjectListing()
+                .getObjectSummaries();
+        assertEquals(1, summaries.size());
+        return summaries.get(0).getKey();
+    }
+
+    private static String listing(String key) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+               + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+               + "<Name>bucket</Name><Prefix></Prefix><Marker></Marker>"
+               + "<MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>"
+               + "<Contents><Key>" + key + "</Key>"
+               + "<LastModified>2018-01-01T00:00:00.000Z</LastModified>"
+               + "<ETag>&quot;etag&quot;</ETag><Size>1</Size>"
+               + "<StorageClass>STANDARD</StorageClass></Contents>"
+               + "</ListBucketResult>";
+    }
+
+    private static InputStream stream(String document) {
+        return new ByteArrayInputStream(document.getBytes(UTF8));
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.internal.FileLocks;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.Md5Utils;
+
+/**
+ * Tests downloads of objects that were not uploaded in multiple parts, which
+ * are split into byte ranges written in place into the destination file.
+ */
+public class RangedDownloadTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final long LAST_MODIFIED = 1500000000000L;
+    private static final byte[] CONTENT = new byte[100];
+
+    static {
+        for (int i = 0; i < CONTENT.length; i++) {
+            CONTENT[i] = (byte) i;
+        }
+    }
+
+    private static final String ETAG = BinaryUtils.toHex(Md5Utils.computeMD5Hash(CONTENT));
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final RangeStub s3 = new RangeStub();
+    private TransferManager tm;
+
+    @After
+    public void tearDown() {
+        if (tm != null) {
+            tm.shutdownNow(false);
+        }
+    }
+
+    @Test
+    public void testObjectIsSplitIntoRanges() throws Exception {
+        File file = folder.newFile();
+
+        transferManager(3).download(new GetObjectRequest(BUCKET, KEY), file).waitForCompletion();
+
+        assertEquals(Arrays.asList("0-29", "30-59", "60-89", "90-99"), s3.sortedRequestedRanges());
+        assertEquals(Collections.singletonList(ETAG), s3.matchingETags);
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void testObjectBelowThresholdIsNotRanged() throws Exception {
+        File file = folder.newFile();
+        tm = TransferManagerBuilder.standard().withS3Client(s3).withDownloadRangeSize(30L).build();
+
+        tm.download(new GetObjectRequest(BUCKET, KEY), file).waitForCompletion();
+
+        assertEquals(Collections.singletonList("0-99"), s3.sortedRequestedRanges());
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void testShortReadFailsAfterOneRetry() throws Exception {
+        File file = folder.newFile();
+        s3.shortReads.put("30-59", 2);
+
+        AmazonClientException e = transferManager(3)
+                .download(new GetObjectRequest(BUCKET, KEY), file, null, 0, false).waitForException();
+
+        assertNotNull(e);
+        assertTrue(e.getMessage(), e.getMessage().contains("Expected to download 30 bytes for range 30-59 but received 10"));
+        assertEquals(2, Collections.frequency(s3.requestedRanges, "30-59"));
+        assertFalse(FileLocks.isFileLocked(file));
+    }
+
+    @Test
+    public void testRetryRequestsWholeRangeWithoutResumeOnRetry() throws Exception {
+        File file = folder.newFile();
+        s3.shortReads.put("30-59", 1);
+
+        transferManager(1).download(new GetObjectRequest(BUCKET, KEY), file, null, 0, false).waitForCompletion();
+
+        assertEquals(Arrays.asList("0-29", "30-59", "30-59", "60-89", "90-99"), s3.requestedRanges);
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void testRetryRequestsOnlyMissingBytesWithResumeOnRetry() throws Exception {
+        File file = folder.newFile();
+        s3.shortReads.put("30-59", 1);
+
+        transferManager(1).download(new GetObjectRequest(BUCKET, KEY), file, null, 0, true).waitForCompletion();
+
+        assertEquals(Arrays.asList("0-29", "30-59", "40-59", "60-89", "90-99"), s3.requestedRanges);
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void testPausedDownloadResumesWithMissingRanges() throws Exception {
+        File file = folder.newFile();
+        s3.blockedRange = "60-89";
+
+        Download download = transferManager(1).download(new GetObjectRequest(BUCKET, KEY), file);
+        assertTrue(s3.blocked.await(10, TimeUnit.SECONDS));
+
+        PersistableDownload paused = download.pause();
+        s3.release.countDown();
+        awaitUnlocked(file);
+
+        PersistableDownload deserialized = PersistableTransfer.deserializeFrom(paused.serialize());
+        assertEquals(1, deserialized.getCompletedRanges().length);
+        assertArrayEquals(new long[] {0, 59}, deserialized.getCompletedRanges()[0]);
+        assertEquals(LAST_MODIFIED, deserialized.getlastModifiedTime().longValue());
+        assertEquals(file.getAbsolutePath(), deserialized.getFile());
+
+        s3.requestedRanges.clear();
+        tm.resumeDownload(deserialized).waitForCompletion();
+
+        assertEquals(Arrays.asList("60-89", "90-99"), s3.requestedRanges);
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void testResumeFailsWhenFileHasBeenModified() throws Exception {
+        File file = folder.newFile();
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(10);
+        } finally {
+            raf.close();
+        }
+        PersistableDownload paused = new PersistableDownload(BUCKET, KEY, null, null, null, false,
+                file.getAbsolutePath(), null, LAST_MODIFIED, new long[][] {{0, 29}});
+
+        AmazonClientException e = transferManager(3).resumeDownload(paused).waitForException();
+
+        assertNotNull(e);
+        assertTrue(e.getMessage(), e.getMessage().contains("has been modified since last pause"));
+        assertTrue(s3.requestedRanges.isEmpty());
+        assertFalse(FileLocks.isFileLocked(file));
+    }
+
+    @Test(expected = AmazonClientException.class)
+    public void testResumeFailsWhenObjectHasBeenModified() {
+        PersistableDownload paused = new PersistableDownload(BUCKET, KEY, null, null, null, false,
+                new File(folder.getRoot(), "file").getAbsolutePath(), null, LAST_MODIFIED - 1,
+                new long[][] {{0, 29}});
+
+        transferManager(3).resumeDownload(paused);
+    }
+
+    private TransferManager transferManager(int maxDownloadRangeConcurrency) {
+        tm = TransferManagerBuilder.standard()
+                .withS3Client(s3)
+                .withRangedDownloadThreshold(1L)
+                .withDownloadRangeSize(30L)
+                .withMaxDownloadRangeConcurrency(maxDownloadRangeConcurrency)
+                .build();
+        return tm;
+    }
+
+    private static byte[] contentOf(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            return IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void awaitUnlocked(File file) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (FileLocks.isFileLocked(file)) {
+            assertTrue("Paused download did not stop", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Serves ranges of {@link #CONTENT} as an object that was not uploaded in
+     * multiple parts.
+     */
+    private static class RangeStub extends AbstractAmazonS3 {
+
+        private final List<String> requestedRanges = Collections.synchronizedList(new ArrayList<String>());
+        private final List<String> matchingETags = Collections.synchronizedList(new ArrayList<String>());
+        /** Number of times each range is served truncated to ten bytes. */
+        private final Map<String, Integer> shortReads = new HashMap<String, Integer>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile String blockedRange;
+
+        @Override
+        public ObjectMetadata getObjectMetadata(GetObjectMetadataRequest getObjectMetadataRequest) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(CONTENT.length);
+            metadata.setLastModified(new Date(LAST_MODIFIED));
+            metadata.setHeader("ETag", ETAG);
+            return metadata;
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest getObjectRequest) {
+            long[] range = getObjectRequest.getRange();
+            if (range == null) {
+                range = new long[] {0, CONTENT.length - 1};
+            }
+            String key = range[0] + "-" + range[1];
+            requestedRanges.add(key);
+            List<String> eTags = getObjectRequest.getMatchingETagConstraints();
+            if (eTags != null) {
+                for (String eTag : eTags) {
+                    if (!matchingETags.contains(eTag)) {
+                        matchingETags.add(eTag);
+                    }
+                }
+            }
+
+            if (key.equals(blockedRange)) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            int length = (int) (range[1] - range[0] + 1);
+            synchronized (shortReads) {
+                Integer remaining = shortReads.get(key);
+                if (remaining != null && remaining > 0) {
+                    shortReads.put(key, remaining - 1);
+                    length = 10;
+                }
+            }
+
+            S3Object object = new S3Object();
+            object.setBucketName(getObjectRequest.getBucketName());
+            object.setKey(getObjectRequest.getKey());
+            object.getObjectMetadata().setContentLength(length);
+            object.getObjectMetadata().setHeader("ETag", ETAG);
+            object.setObjectContent(new S3ObjectInputStream(
+                    new ByteArrayInputStream(CONTENT, (int) range[0], length), null));
+            return object;
+        }
+
+        private List<String> sortedRequestedRanges() {
+            List<String> sorted = new ArrayList<String>(requestedRanges);
+            Collections.sort(sorted, new Comparator<String>() {
+                @Override
+                public int compare(String a, String b) {
+                    return Long.valueOf(a.substring(0, a.indexOf('-')))
+                            .compareTo(Long.valueOf(b.substring(0, b.indexOf('-'))));
+                }
+            });
+            return sorted;
+        }
+    }
+}
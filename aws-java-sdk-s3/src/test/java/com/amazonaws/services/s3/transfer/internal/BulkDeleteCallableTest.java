@@ -0,0 +1,228 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.DeleteObjectsResult.DeletedObject;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.services.s3.transfer.TransferProgress;
+import com.amazonaws.services.s3.transfer.model.BulkDeleteResult;
+
+public class BulkDeleteCallableTest {
+
+    private static final String BUCKET = "bucket";
+
+    private final DeleteStub s3 = new DeleteStub();
+    private final ExecutorService executor = Executors.newFixedThreadPool(10);
+    private final TransferProgress progress = new TransferProgress();
+    private final ProgressListenerChain listenerChain = new ProgressListenerChain(
+            new TransferProgressUpdatingListener(progress));
+    private final BulkDeleteImpl bulkDelete = new BulkDeleteImpl("delete", progress,
+            listenerChain, null);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testKeysAreDeletedInBatchesOfAThousand() throws Exception {
+        BulkDeleteResult result = callable(keys(2500), 10).call();
+
+        assertEquals(Arrays.asList(500, 1000, 1000), s3.sortedRequestSizes());
+        assertEquals(new HashSet<String>(keys(2500)), s3.deleted);
+        assertEquals(2500, s3.deleteCount.get());
+        assertEquals(BUCKET, result.getBucketName());
+        assertEquals(2500, result.getDeletedObjectCount());
+        assertEquals(2500, progress.getBytesTransferred());
+        assertEquals(TransferState.Completed, bulkDelete.getState());
+    }
+
+    @Test
+    public void testTransientFailuresAreRetried() throws Exception {
+        s3.fail("key-1", "InternalError");
+        s3.fail("key-2", "SlowDown", "SlowDown");
+        s3.fail("key-3", "ServiceUnavailable");
+
+        BulkDeleteResult result = callable(keys(10), 10).call();
+
+        assertEquals(Arrays.asList(1, 3, 10), s3.sortedRequestSizes());
+        assertEquals(new HashSet<String>(keys(10)), s3.deleted);
+        assertEquals(10, result.getDeletedObjectCount());
+        assertEquals(10, progress.getBytesTransferred());
+        assertEquals(TransferState.Completed, bulkDelete.getState());
+    }
+
+    @Test
+    public void testFailuresAreAggregated() throws Exception {
+        s3.fail("key-5", "AccessDenied");
+        s3.fail("key-1500", "InternalError", "SlowDown", "ServiceUnavailable");
+        s3.fail("key-2100", "SlowDown");
+        s3.fail("key-2200", "InternalError", "NoSuchVersion");
+
+        try {
+            callable(keys(2500), 10).call();
+            fail();
+        } catch (MultiObjectDeleteException e) {
+            Set<String> failed = new HashSet<String>();
+            for (DeleteError error : e.getErrors()) {
+                failed.add(error.getKey() + ":" + error.getCode());
+            }
+            assertEquals(new HashSet<String>(Arrays.asList(
+                    "key-5:AccessDenied", "key-1500:ServiceUnavailable", "key-2200:NoSuchVersion")),
+                    failed);
+        }
+        // A request per batch, two retries of key-1500 and one retry of
+        // key-2100 and key-2200
+        assertEquals(Arrays.asList(1, 1, 2, 500, 1000, 1000), s3.sortedRequestSizes());
+        assertEquals(2497, s3.deleteCount.get());
+        assertEquals(2497, progress.getBytesTransferred());
+        assertEquals(TransferState.Failed, bulkDelete.getState());
+    }
+
+    @Test
+    public void testOutstandingBatchesNeverExceedMaxConcurrency() throws Exception {
+        s3.delayMillis = 20;
+
+        BulkDeleteResult result = callable(keys(20500), 3).call();
+
+        assertEquals(21, s3.requestSizes.size());
+        assertEquals(20500, result.getDeletedObjectCount());
+        assertTrue("max outstanding " + s3.maxOutstanding, s3.maxOutstanding.get() <= 3);
+        assertTrue("max outstanding " + s3.maxOutstanding, s3.maxOutstanding.get() > 1);
+    }
+
+    @Test
+    public void testLastBatchWaitsForAnOutstandingBatch() throws Exception {
+        s3.delayMillis = 20;
+
+        callable(keys(3500), 3).call();
+
+        assertEquals(4, s3.requestSizes.size());
+        assertTrue("max outstanding " + s3.maxOutstanding, s3.maxOutstanding.get() <= 3);
+    }
+
+    private BulkDeleteCallable callable(List<String> keys, int maxConcurrency) {
+        return new BulkDeleteCallable(s3, executor, bulkDelete, BUCKET, keys.iterator(),
+                maxConcurrency, listenerChain);
+    }
+
+    private static List<String> keys(int count) {
+        List<String> keys = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add("key-" + i);
+        }
+        return keys;
+    }
+
+    /**
+     * Deletes keys unless they are set to fail, counting the requests
+     * outstanding at a time.
+     */
+    private static class DeleteStub extends AbstractAmazonS3 {
+        /* Key -> the codes of the errors of its next delete attempts */
+        private final Map<String, Queue<String>> failures = new HashMap<String, Queue<String>>();
+        private final Set<String> deleted = Collections.synchronizedSet(new HashSet<String>());
+        private final List<Integer> requestSizes =
+                Collections.synchronizedList(new ArrayList<Integer>());
+        private final AtomicInteger deleteCount = new AtomicInteger();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger maxOutstanding = new AtomicInteger();
+        private volatile long delayMillis;
+
+        void fail(String key, String... codes) {
+            failures.put(key, new LinkedList<String>(Arrays.asList(codes)));
+        }
+
+        List<Integer> sortedRequestSizes() {
+            List<Integer> sizes = new ArrayList<Integer>(requestSizes);
+            Collections.sort(sizes);
+            return sizes;
+        }
+
+        @Override
+        public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+            int n = outstanding.incrementAndGet();
+            try {
+                while (true) {
+                    int max = maxOutstanding.get();
+                    if (n <= max || maxOutstanding.compareAndSet(max, n)) {
+                        break;
+                    }
+                }
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                assertEquals(BUCKET, request.getBucketName());
+                assertTrue(request.getQuiet());
+                requestSizes.add(request.getKeys().size());
+                List<DeleteError> errors = new ArrayList<DeleteError>();
+                for (KeyVersion keyVersion : request.getKeys()) {
+                    String code = nextFailure(keyVersion.getKey());
+                    if (code == null) {
+                        assertTrue(deleted.add(keyVersion.getKey()));
+                        deleteCount.incrementAndGet();
+                    } else {
+                        DeleteError error = new DeleteError();
+                        error.setKey(keyVersion.getKey());
+                        error.setCode(code);
+                        errors.add(error);
+                    }
+                }
+                if (!errors.isEmpty()) {
+                    throw new MultiObjectDeleteException(errors,
+                            Collections.<DeletedObject>emptyList());
+                }
+                return new DeleteObjectsResult(Collections.<DeletedObject>emptyList());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                outstanding.decrementAndGet();
+            }
+        }
+
+        private synchronized String nextFailure(String key) {
+            Queue<String> codes = failures.get(key);
+            return codes == null ? null : codes.poll();
+        }
+    }
+}
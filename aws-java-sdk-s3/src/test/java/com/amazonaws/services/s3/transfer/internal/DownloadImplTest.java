@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.transfer.TransferProgress;
+
+public class DownloadImplTest {
+
+    @Test
+    public void testDownloadNotInPlaceHasNoCompletedRanges() {
+        assertNull(download(null).getCompletedRanges());
+    }
+
+    @Test
+    public void testInitialRangesAreSortedAndMerged() {
+        DownloadImpl download = download(new long[][] {{20, 29}, {0, 9}, {10, 14}});
+
+        assertRanges(new long[][] {{0, 14}, {20, 29}}, download.getCompletedRanges());
+    }
+
+    @Test
+    public void testRangesMarkedOutOfOrderAreSorted() {
+        DownloadImpl download = download(new long[0][]);
+
+        download.markRangeDownloaded(60, 89);
+        download.markRangeDownloaded(0, 29);
+
+        assertRanges(new long[][] {{0, 29}, {60, 89}}, download.getCompletedRanges());
+    }
+
+    @Test
+    public void testAdjacentRangesAreMerged() {
+        DownloadImpl download = download(new long[0][]);
+
+        download.markRangeDownloaded(0, 29);
+        download.markRangeDownloaded(60, 89);
+        download.markRangeDownloaded(30, 59);
+
+        assertRanges(new long[][] {{0, 89}}, download.getCompletedRanges());
+    }
+
+    @Test
+    public void testOverlappingRangesAreMerged() {
+        DownloadImpl download = download(new long[0][]);
+
+        download.markRangeDownloaded(10, 19);
+        download.markRangeDownloaded(30, 39);
+        download.markRangeDownloaded(15, 34);
+        download.markRangeDownloaded(12, 13);
+
+        assertRanges(new long[][] {{10, 39}}, download.getCompletedRanges());
+    }
+
+    @Test
+    public void testGapsAreKept() {
+        DownloadImpl download = download(new long[0][]);
+
+        download.markRangeDownloaded(0, 9);
+        download.markRangeDownloaded(11, 19);
+        download.markRangeDownloaded(40, 49);
+
+        assertRanges(new long[][] {{0, 9}, {11, 19}, {40, 49}}, download.getCompletedRanges());
+    }
+
+    @Test
+    public void testCompletedRangesAreCopies() {
+        DownloadImpl download = download(new long[][] {{0, 9}});
+
+        download.getCompletedRanges()[0][1] = 99;
+
+        assertRanges(new long[][] {{0, 9}}, download.getCompletedRanges());
+    }
+
+    private static DownloadImpl download(long[][] completedRanges) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(100);
+        metadata.setLastModified(new Date());
+        return new DownloadImpl("download", new TransferProgress(), new ProgressListenerChain(), null, null,
+                new GetObjectRequest("bucket", "key"), new File("file"), metadata, true, completedRanges);
+    }
+
+    private static void assertRanges(long[][] expected, long[][] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual[i]);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class TransferManagerUtilsTest {
+
+    @Test
+    public void testNothingCompletedLeavesWholeRange() {
+        assertRanges(new long[][] {{0, 29}}, TransferManagerUtils.subtractRanges(0, 29, new long[0][]));
+    }
+
+    @Test
+    public void testRangesOutsideBoundsAreIgnored() {
+        long[][] completed = {{0, 9}, {40, 49}};
+
+        assertRanges(new long[][] {{10, 39}}, TransferManagerUtils.subtractRanges(10, 39, completed));
+    }
+
+    @Test
+    public void testOverlappingRangesAreRemoved() {
+        long[][] completed = {{5, 14}, {25, 34}};
+
+        assertRanges(new long[][] {{15, 24}}, TransferManagerUtils.subtractRanges(10, 29, completed));
+    }
+
+    @Test
+    public void testAdjacentRangesAreRemoved() {
+        long[][] completed = {{0, 9}, {20, 29}, {30, 39}};
+
+        assertRanges(new long[][] {{10, 19}}, TransferManagerUtils.subtractRanges(10, 29, completed));
+    }
+
+    @Test
+    public void testGapsBetweenCompletedRangesAreReturned() {
+        long[][] completed = {{2, 3}, {6, 6}};
+
+        assertRanges(new long[][] {{0, 1}, {4, 5}, {7, 9}}, TransferManagerUtils.subtractRanges(0, 9, completed));
+    }
+
+    @Test
+    public void testFullyCoveredRangeLeavesNothing() {
+        assertRanges(new long[0][], TransferManagerUtils.subtractRanges(10, 29, new long[][] {{0, 99}}));
+        assertRanges(new long[0][], TransferManagerUtils.subtractRanges(10, 29, new long[][] {{10, 19}, {20, 29}}));
+    }
+
+    private static void assertRanges(long[][] expected, List<long[]> actual) {
+        assertEquals(expected.length, actual.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual.get(i));
+        }
+    }
+}
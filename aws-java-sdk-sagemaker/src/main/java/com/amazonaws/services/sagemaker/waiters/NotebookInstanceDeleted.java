@@ -69,6 +69,8 @@ class NotebookInstanceDeleted {
 
         private static final JmesPathExpression ast = new JmesPathField("NotebookInstanceStatus");
 
+        private static final CompiledJmesPathExpression compiledAst = CompiledJmesPathExpression.compile(ast);
+
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -79,8 +81,7 @@ class NotebookInstanceDeleted {
          */
         @Override
         public boolean matches(DescribeNotebookInstanceResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
+            JsonNode finalResult = compiledAst.evaluate(result);
             return AcceptorPathMatcher.path(expectedResult, finalResult);
         }
 
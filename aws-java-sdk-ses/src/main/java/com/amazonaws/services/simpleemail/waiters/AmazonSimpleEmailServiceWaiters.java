@@ -21,6 +21,7 @@ import com.amazonaws.waiters.*;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Generated("com.amazonaws:aws-java-sdk-code-generator")
 public class AmazonSimpleEmailServiceWaiters {
@@ -32,6 +33,8 @@ public class AmazonSimpleEmailServiceWaiters {
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    private final ScheduledExecutorService scheduledExecutorService;
+
     /**
      * Constructs a new AmazonSimpleEmailServiceWaiters with the given client
      * 
@@ -40,7 +43,22 @@ public class AmazonSimpleEmailServiceWaiters {
      */
     @SdkInternalApi
     public AmazonSimpleEmailServiceWaiters(AmazonSimpleEmailService client) {
+        this(client, null);
+    }
+
+    /**
+     * Constructs a new AmazonSimpleEmailServiceWaiters with the given client, whose asynchronous waits are polled on
+     * the given scheduled executor service instead of holding a thread each. The scheduled executor service can be
+     * shared with other waiters and is not shut down by {@link #shutdown()}.
+     * 
+     * @param client
+     *        Service client
+     * @param scheduledExecutorService
+     *        Scheduled executor service polling asynchronous waits
+     */
+    public AmazonSimpleEmailServiceWaiters(AmazonSimpleEmailService client, ScheduledExecutorService scheduledExecutorService) {
         this.client = client;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     /**
@@ -53,7 +71,7 @@ public class AmazonSimpleEmailServiceWaiters {
         return new WaiterBuilder<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult>()
                 .withSdkFunction(new GetIdentityVerificationAttributesFunction(client)).withAcceptors(new IdentityExists.IsSuccessMatcher())
                 .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(20), new FixedDelayStrategy(3)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService).withScheduledExecutorService(scheduledExecutorService).build();
     }
 
     public void shutdown() {
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sizes the number of receive batches a {@link ReceiveQueueBuffer} keeps in flight and prefetched
+ * from the rate at which the application consumes messages and the time SQS takes to return a
+ * batch. By Little's law, keeping {@code rate * latency} messages on the way is enough to never
+ * leave a consumer waiting; anything beyond that only sits in the buffer while its visibility
+ * timeout runs out.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+class AdaptivePrefetchController {
+
+    /** Length of the window over which the consume rate is measured. */
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** Shortest window used when looking at the consume rate of the current window. */
+    private static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Weight of the latest sample in the moving averages. */
+    private static final double SMOOTHING = 0.5;
+
+    /** Factor applied to the estimated demand, so bursts don't immediately starve consumers. */
+    private static final double HEADROOM = 2.0;
+
+    private final int batchSize;
+
+    private long windowStartNanos;
+    private int consumedInWindow;
+
+    /** Smoothed consume rate in messages per second. */
+    private double consumeRate;
+
+    /** Smoothed time to receive a non-empty batch, in nanoseconds. */
+    private double receiveLatencyNanos;
+
+    AdaptivePrefetchController(int batchSize, long nowNanos) {
+        this.batchSize = Math.max(1, batchSize);
+        this.windowStartNanos = nowNanos;
+    }
+
+    /**
+     * Records messages handed out to the application.
+     */
+    synchronized void messagesConsumed(int count, long nowNanos) {
+        roll(nowNanos);
+        consumedInWindow += count;
+    }
+
+    /**
+     * Records the time a receive call took. Calls that returned no messages are ignored, since a
+     * long poll on an empty queue says nothing about how fast messages can be fetched.
+     */
+    synchronized void batchReceived(int messageCount, long latencyNanos) {
+        if (messageCount > 0) {
+            receiveLatencyNanos = receiveLatencyNanos == 0 ? latencyNanos
+                    : SMOOTHING * latencyNanos + (1 - SMOOTHING) * receiveLatencyNanos;
+        }
+    }
+
+    /**
+     * Returns the number of batches needed to keep up with the current demand, between 1 and the
+     * given maximum.
+     */
+    synchronized int targetBatches(int max, long nowNanos) {
+        roll(nowNanos);
+        double messages = currentRate(nowNanos) * receiveLatencyNanos / TimeUnit.SECONDS.toNanos(1) * HEADROOM;
+        long batches = (long) Math.ceil(messages / batchSize);
+        return (int) Math.max(1, Math.min(max, batches));
+    }
+
+    /**
+     * @return the consume rate in messages per second
+     */
+    synchronized double getConsumeRate(long nowNanos) {
+        roll(nowNanos);
+        return currentRate(nowNanos);
+    }
+
+    /**
+     * @return the average time to receive a non-empty batch, in nanoseconds
+     */
+    synchronized double getReceiveLatencyNanos() {
+        return receiveLatencyNanos;
+    }
+
+    /**
+     * The smoothed rate lags behind a burst by up to a window, so the rate of the current window
+     * is used if it is higher.
+     */
+    private double currentRate(long nowNanos) {
+        long elapsed = Math.max(MIN_WINDOW_NANOS, nowNanos - windowStartNanos);
+        return Math.max(consumeRate, consumedInWindow * (double) TimeUnit.SECONDS.toNanos(1) / elapsed);
+    }
+
+    private void roll(long nowNanos) {
+        long elapsed = nowNanos - windowStartNanos;
+        if (elapsed >= WINDOW_NANOS) {
+            double rate = consumedInWindow * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            // weigh the old rate down once for every window that passed, so that it decays
+            // even when nobody consumed anything for a while.
+            double keep = Math.pow(1 - SMOOTHING, (double) elapsed / WINDOW_NANOS);
+            consumeRate = (1 - keep) * rate + keep * consumeRate;
+            consumedInWindow = 0;
+            windowStartNanos = nowNanos;
+        }
+    }
+}
@@ -191,6 +191,22 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
         }
     }
 
+    /**
+     * Returns a snapshot of the messages prefetched for the given queue, including the consume
+     * rate observed by adaptive prefetching and the number of prefetched messages that expired or
+     * had their visibility extended.
+     *
+     * @return the statistics of the receive buffer of the queue, or null if this client has not
+     *         been used with the queue
+     */
+    public ReceiveQueueBufferStatistics getReceiveQueueBufferStatistics(String queueUrl) {
+        QueueBuffer buffer;
+        synchronized (this) {
+            buffer = buffers.get(queueUrl);
+        }
+        return buffer == null ? null : buffer.getReceiveQueueBufferStatistics();
+    }
+
     public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest)
             throws AmazonServiceException, AmazonClientException {
         ResultConverter.appendUserAgent(changeMessageVisibilityBatchRequest, USER_AGENT);
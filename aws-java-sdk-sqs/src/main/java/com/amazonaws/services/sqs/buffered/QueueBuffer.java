@@ -210,6 +210,13 @@ class QueueBuffer {
         sendBuffer.flush();
     }
 
+    /**
+     * @return a snapshot of the prefetching done by the {@link ReceiveQueueBuffer}
+     */
+    ReceiveQueueBufferStatistics getReceiveQueueBufferStatistics() {
+        return receiveBuffer.getStatistics();
+    }
+
     /**
      * We prefetch and load results in the buffer by making basic requests. I.E. we don't request
      * queue or message attributes and we have a default visibility timeout. If the user's request
@@ -118,6 +118,42 @@ public class QueueBufferConfig {
      */
     private boolean flushOnShutdown = false;
 
+    /**
+     * The number of independent open batches kept for each type of outbound request. Each
+     * producer thread always adds its requests to the same shard, so with more than one shard
+     * threads sending to a busy queue contend on fewer locks. Each shard batches requests on its
+     * own, so a higher number of shards may result in smaller batches at low request rates. The
+     * number of shards is capped at maxInflightOutboundBatches.
+     */
+    private int outboundBatchShards = OUTBOUND_BATCH_SHARDS_DEFAULT;
+
+    /** 1 shard, i.e. all producers share a single open batch */
+    public static final int OUTBOUND_BATCH_SHARDS_DEFAULT = 1;
+
+    /**
+     * Option to size the receive prefetching from the rate at which the application consumes
+     * messages and the time SQS takes to return a batch. When enabled, maxInflightReceiveBatches
+     * and maxDoneReceiveBatches become upper limits, and the buffer only prefetches as many
+     * batches as the application is expected to consume while the next batch is being received.
+     * This keeps fewer messages waiting in the buffer while their visibility timeout runs out.
+     * <p>
+     * The default value is false, which always prefetches up to the configured limits.
+     * </p>
+     */
+    private boolean adaptivePrefetching = false;
+
+    /**
+     * Option to extend the visibility timeout of prefetched messages that are still in the buffer
+     * once half of their visibility timeout has passed, so that they are not delivered again by
+     * SQS while waiting for the application. The extensions are sent as
+     * {@code ChangeMessageVisibilityBatch} calls while the application keeps receiving messages
+     * from the buffer.
+     * <p>
+     * The default value is false.
+     * </p>
+     */
+    private boolean autoExtendVisibility = false;
+
     public QueueBufferConfig(long maxBatchOpenMs, int maxInflightOutboundBatches, int maxInflightReceiveBatches,
             int maxDoneReceiveBatches, boolean paramLongPoll, long maxBatchSizeBytes, int visibilityTimeout,
             int longPollTimeout, int maxBatch) {
@@ -151,6 +187,9 @@ public class QueueBufferConfig {
         maxInflightReceiveBatches = other.maxInflightReceiveBatches;
         visibilityTimeoutSeconds = other.visibilityTimeoutSeconds;
         flushOnShutdown = other.flushOnShutdown;
+        outboundBatchShards = other.outboundBatchShards;
+        adaptivePrefetching = other.adaptivePrefetching;
+        autoExtendVisibility = other.autoExtendVisibility;
     }
 
     @Override
@@ -159,7 +198,9 @@ public class QueueBufferConfig {
                 + longPoll + ", maxInflightOutboundBatches=" + maxInflightOutboundBatches
                 + ", maxInflightReceiveBatches=" + maxInflightReceiveBatches + ", maxDoneReceiveBatches="
                 + maxDoneReceiveBatches + ", maxBatchSizeBytes=" + maxBatchSizeBytes + ", visibilityTimeoutSeconds="
-                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds + "]";
+                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds
+                + ", outboundBatchShards=" + outboundBatchShards + ", adaptivePrefetching=" + adaptivePrefetching
+                + ", autoExtendVisibility=" + autoExtendVisibility + "]";
     }
 
     /**
@@ -474,6 +515,126 @@ public class QueueBufferConfig {
         return this;
     }
 
+    /**
+     * The number of independent open batches kept for each type of outbound request. Each
+     * producer thread always adds its requests to the same shard, so with more than one shard
+     * threads sending to a busy queue contend on fewer locks. Each shard batches requests on its
+     * own, so a higher number of shards may result in smaller batches at low request rates. The
+     * number of shards is capped at maxInflightOutboundBatches.
+     */
+    public int getOutboundBatchShards() {
+        return outboundBatchShards;
+    }
+
+    /**
+     * The number of independent open batches kept for each type of outbound request. Each
+     * producer thread always adds its requests to the same shard, so with more than one shard
+     * threads sending to a busy queue contend on fewer locks. Each shard batches requests on its
+     * own, so a higher number of shards may result in smaller batches at low request rates. The
+     * number of shards is capped at maxInflightOutboundBatches.
+     */
+    public void setOutboundBatchShards(int outboundBatchShards) {
+        this.outboundBatchShards = outboundBatchShards;
+    }
+
+    /**
+     * The number of independent open batches kept for each type of outbound request. Each
+     * producer thread always adds its requests to the same shard, so with more than one shard
+     * threads sending to a busy queue contend on fewer locks. Each shard batches requests on its
+     * own, so a higher number of shards may result in smaller batches at low request rates. The
+     * number of shards is capped at maxInflightOutboundBatches.
+     */
+    public QueueBufferConfig withOutboundBatchShards(int outboundBatchShards) {
+        setOutboundBatchShards(outboundBatchShards);
+        return this;
+    }
+
+    /**
+     * Option to size the receive prefetching from the rate at which the application consumes
+     * messages and the time SQS takes to return a batch. When enabled, maxInflightReceiveBatches
+     * and maxDoneReceiveBatches become upper limits, and the buffer only prefetches as many
+     * batches as the application is expected to consume while the next batch is being received.
+     * This keeps fewer messages waiting in the buffer while their visibility timeout runs out.
+     * <p>
+     * The default value is false, which always prefetches up to the configured limits.
+     * </p>
+     */
+    public boolean isAdaptivePrefetching() {
+        return adaptivePrefetching;
+    }
+
+    /**
+     * Option to size the receive prefetching from the rate at which the application consumes
+     * messages and the time SQS takes to return a batch. When enabled, maxInflightReceiveBatches
+     * and maxDoneReceiveBatches become upper limits, and the buffer only prefetches as many
+     * batches as the application is expected to consume while the next batch is being received.
+     * This keeps fewer messages waiting in the buffer while their visibility timeout runs out.
+     * <p>
+     * The default value is false, which always prefetches up to the configured limits.
+     * </p>
+     */
+    public void setAdaptivePrefetching(boolean adaptivePrefetching) {
+        this.adaptivePrefetching = adaptivePrefetching;
+    }
+
+    /**
+     * Option to size the receive prefetching from the rate at which the application consumes
+     * messages and the time SQS takes to return a batch. When enabled, maxInflightReceiveBatches
+     * and maxDoneReceiveBatches become upper limits, and the buffer only prefetches as many
+     * batches as the application is expected to consume while the next batch is being received.
+     * This keeps fewer messages waiting in the buffer while their visibility timeout runs out.
+     * <p>
+     * The default value is false, which always prefetches up to the configured limits.
+     * </p>
+     */
+    public QueueBufferConfig withAdaptivePrefetching(boolean adaptivePrefetching) {
+        setAdaptivePrefetching(adaptivePrefetching);
+        return this;
+    }
+
+    /**
+     * Option to extend the visibility timeout of prefetched messages that are still in the buffer
+     * once half of their visibility timeout has passed, so that they are not delivered again by
+     * SQS while waiting for the application. The extensions are sent as
+     * {@code ChangeMessageVisibilityBatch} calls while the application keeps receiving messages
+     * from the buffer.
+     * <p>
+     * The default value is false.
+     * </p>
+     */
+    public boolean isAutoExtendVisibility() {
+        return autoExtendVisibility;
+    }
+
+    /**
+     * Option to extend the visibility timeout of prefetched messages that are still in the buffer
+     * once half of their visibility timeout has passed, so that they are not delivered again by
+     * SQS while waiting for the application. The extensions are sent as
+     * {@code ChangeMessageVisibilityBatch} calls while the application keeps receiving messages
+     * from the buffer.
+     * <p>
+     * The default value is false.
+     * </p>
+     */
+    public void setAutoExtendVisibility(boolean autoExtendVisibility) {
+        this.autoExtendVisibility = autoExtendVisibility;
+    }
+
+    /**
+     * Option to extend the visibility timeout of prefetched messages that are still in the buffer
+     * once half of their visibility timeout has passed, so that they are not delivered again by
+     * SQS while waiting for the application. The extensions are sent as
+     * {@code ChangeMessageVisibilityBatch} calls while the application keeps receiving messages
+     * from the buffer.
+     * <p>
+     * The default value is false.
+     * </p>
+     */
+    public QueueBufferConfig withAutoExtendVisibility(boolean autoExtendVisibility) {
+        setAutoExtendVisibility(autoExtendVisibility);
+        return this;
+    }
+
     /**
      * this method checks the config for validity. If the config is deemed to be invalid, an
      * informative exception is thrown.
@@ -485,6 +646,9 @@ public class QueueBufferConfig {
         if (visibilityTimeoutSeconds == 0) {
             throw new AmazonClientException("Visibility timeout value may not be equal to zero ");
         }
+        if (outboundBatchShards < 1) {
+            throw new AmazonClientException("The number of outbound batch shards must be at least 1");
+        }
     }
 
 }
@@ -17,18 +17,25 @@ package com.amazonaws.services.sqs.buffered;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.SdkTestInternalApi;
 import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
 import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
 import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
 import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
 import com.amazonaws.services.sqs.model.Message;
 import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
@@ -62,6 +69,20 @@ public class ReceiveQueueBuffer {
         boolean test(T t);
     }
 
+    /**
+     * Source of the time used to expire, extend and size the prefetched batches.
+     */
+    interface NanoClock {
+        long nanoTime();
+    }
+
+    private static final NanoClock SYSTEM_CLOCK = new NanoClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
     private static Log log = LogFactory.getLog(ReceiveQueueBuffer.class);
 
     private final QueueBufferConfig config;
@@ -72,6 +93,8 @@ public class ReceiveQueueBuffer {
 
     private final AmazonSQS sqsClient;
 
+    private final NanoClock clock;
+
     private long bufferCounter = 0;
 
     /**
@@ -101,12 +124,31 @@ public class ReceiveQueueBuffer {
     /** finished batches are stored in this list. */
     private LinkedList<ReceiveMessageBatchTask> finishedTasks = new LinkedList<ReceiveMessageBatchTask>();
 
+    /**
+     * Sizes the prefetching from the observed demand. Null unless adaptive prefetching is enabled.
+     */
+    private final AdaptivePrefetchController prefetchController;
+
+    /** number of prefetched messages discarded because their visibility timeout expired */
+    private final AtomicLong expiredMessages = new AtomicLong();
+
+    /** number of visibility timeout extensions of prefetched messages */
+    private final AtomicLong extendedMessages = new AtomicLong();
+
     ReceiveQueueBuffer(AmazonSQS paramSQS, Executor paramExecutor, QueueBufferConfig paramConfig, String url) {
+        this(paramSQS, paramExecutor, paramConfig, url, SYSTEM_CLOCK);
+    }
+
+    @SdkTestInternalApi
+    ReceiveQueueBuffer(AmazonSQS paramSQS, Executor paramExecutor, QueueBufferConfig paramConfig, String url,
+                       NanoClock paramClock) {
         config = paramConfig;
         executor = paramExecutor;
         sqsClient = paramSQS;
         qUrl = url;
-
+        clock = paramClock;
+        prefetchController = config.isAdaptivePrefetching() ? new AdaptivePrefetchController(
+                config.getMaxBatchSize(), clock.nanoTime()) : null;
     }
 
     /**
@@ -149,6 +191,9 @@ public class ReceiveQueueBuffer {
         // spawn more receive tasks if we need them...
         spawnMoreReceiveTasks();
 
+        // and keep the messages still waiting in the buffer visible to us only.
+        extendVisibilityOfBufferedMessages();
+
         return toReturn;
     }
 
@@ -216,6 +261,9 @@ public class ReceiveQueueBuffer {
                 break;
             }
         }
+        if (prefetchController != null && numRetrieved > 0) {
+            prefetchController.messagesConsumed(numRetrieved, clock.nanoTime());
+        }
         // we may have just drained the batch.
         batchDone = batchDone || task.isEmpty() || (exception != null);
         if (batchDone) {
@@ -242,7 +290,12 @@ public class ReceiveQueueBuffer {
         int numberExpiredTasksPruned = pruneHeadTasks(new Predicate<ReceiveQueueBuffer.ReceiveMessageBatchTask>() {
             @Override
             public boolean test(ReceiveMessageBatchTask t) {
-                return t.isExpired() && t.getException() == null;
+                if (t.isExpired() && t.getException() == null) {
+                    // the task is about to be pruned, count what is lost with it.
+                    expiredMessages.addAndGet(t.size());
+                    return true;
+                }
+                return false;
             }
         });
         // If we pruned any tasks because they are expired we also want to prune any empty tasks
@@ -288,8 +341,7 @@ public class ReceiveQueueBuffer {
             return;
         }
 
-        int desiredBatches = config.getMaxDoneReceiveBatches();
-        desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
+        int desiredBatches = targetDoneReceiveBatches();
 
         synchronized (finishedTasks) {
             if (finishedTasks.size() >= desiredBatches)
@@ -314,10 +366,7 @@ public class ReceiveQueueBuffer {
                 visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
             }
 
-            int max = config.getMaxInflightReceiveBatches();
-            // must allow at least one inflight receive task, or receive won't
-            // work at all.
-            max = max > 0 ? max : 1;
+            int max = targetInflightReceiveBatches();
             int toSpawn = max - inflightReceiveMessageBatches;
             if (toSpawn > 0) {
                 ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
@@ -332,6 +381,69 @@ public class ReceiveQueueBuffer {
         }
     }
 
+    /**
+     * @return the number of completed batches to keep in the buffer
+     */
+    private int targetDoneReceiveBatches() {
+        int desiredBatches = config.getMaxDoneReceiveBatches();
+        desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
+        if (prefetchController != null) {
+            desiredBatches = prefetchController.targetBatches(desiredBatches, clock.nanoTime());
+        }
+        return desiredBatches;
+    }
+
+    /**
+     * @return the number of receive batches to keep in flight
+     */
+    private int targetInflightReceiveBatches() {
+        int max = config.getMaxInflightReceiveBatches();
+        // must allow at least one inflight receive task, or receive won't
+        // work at all.
+        max = max > 0 ? max : 1;
+        if (prefetchController != null) {
+            max = prefetchController.targetBatches(max, clock.nanoTime());
+        }
+        return max;
+    }
+
+    /**
+     * Extends the visibility timeout of the buffered batches that have used up half of it, if
+     * enabled in the config.
+     */
+    private void extendVisibilityOfBufferedMessages() {
+        if (!config.isAutoExtendVisibility() || shutDown) {
+            return;
+        }
+        long now = clock.nanoTime();
+        synchronized (finishedTasks) {
+            for (ReceiveMessageBatchTask task : finishedTasks) {
+                task.extendVisibilityIfDue(now);
+            }
+        }
+    }
+
+    /**
+     * @return a snapshot of the prefetching done by this buffer
+     */
+    ReceiveQueueBufferStatistics getStatistics() {
+        int bufferedMessages = 0;
+        synchronized (finishedTasks) {
+            for (ReceiveMessageBatchTask task : finishedTasks) {
+                bufferedMessages += task.size();
+            }
+        }
+        double consumeRate = 0;
+        double receiveLatencyMillis = 0;
+        if (prefetchController != null) {
+            consumeRate = prefetchController.getConsumeRate(clock.nanoTime());
+            receiveLatencyMillis = prefetchController.getReceiveLatencyNanos() / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+        return new ReceiveQueueBufferStatistics(bufferedMessages, inflightReceiveMessageBatches,
+                targetInflightReceiveBatches(), targetDoneReceiveBatches(), consumeRate, receiveLatencyMillis,
+                expiredMessages.get(), extendedMessages.get());
+    }
+
     /**
      * This method is called by the batches after they have finished retrieving the messages.
      */
@@ -393,8 +505,11 @@ public class ReceiveQueueBuffer {
     private class ReceiveMessageBatchTask implements Runnable {
         private Exception exception = null;
         private List<Message> messages;
-        private long visibilityDeadlineNano;
+        private volatile long visibilityDeadlineNano;
+        private long batchVisibilityTimeoutNanos;
         private boolean open = false;
+        /** true while a visibility extension of this batch is in flight */
+        private boolean extending = false;
         private ReceiveQueueBuffer parentBuffer;
 
         /**
@@ -416,6 +531,17 @@ public class ReceiveQueueBuffer {
             return messages.isEmpty();
         }
 
+        /**
+         * @return the number of messages remaining in the batch
+         */
+        synchronized int size() {
+            if (!open) {
+                throw new IllegalStateException("batch is not open");
+            }
+
+            return messages.size();
+        }
+
         /**
          * @return the exception that was thrown during execution, or null if there was no exception
          */
@@ -441,6 +567,7 @@ public class ReceiveQueueBuffer {
 
             // our messages expired.
             if (isExpired()) {
+                expiredMessages.addAndGet(messages.size());
                 messages.clear();
                 return null;
             }
@@ -452,7 +579,91 @@ public class ReceiveQueueBuffer {
         }
 
         boolean isExpired() {
-            return System.nanoTime() > visibilityDeadlineNano;
+            return clock.nanoTime() > visibilityDeadlineNano;
+        }
+
+        /**
+         * Extends the visibility timeout of the messages remaining in the batch if less than half
+         * of it is left. The extension is sent from the executor, so that the caller does not wait
+         * for SQS.
+         */
+        synchronized void extendVisibilityIfDue(long nowNanos) {
+            if (!open || extending || exception != null || messages.isEmpty()) {
+                return;
+            }
+            long remaining = visibilityDeadlineNano - nowNanos;
+            if (remaining <= 0 || remaining > batchVisibilityTimeoutNanos / 2) {
+                return;
+            }
+
+            final ChangeMessageVisibilityBatchRequest batchRequest = new ChangeMessageVisibilityBatchRequest()
+                    .withQueueUrl(qUrl);
+            ResultConverter.appendUserAgent(batchRequest, AmazonSQSBufferedAsyncClient.USER_AGENT);
+
+            int visibilityTimeoutSeconds = (int) TimeUnit.SECONDS.convert(batchVisibilityTimeoutNanos,
+                    TimeUnit.NANOSECONDS);
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<ChangeMessageVisibilityBatchRequestEntry>(
+                    messages.size());
+            int i = 0;
+            for (Message m : messages) {
+                entries.add(new ChangeMessageVisibilityBatchRequestEntry().withId(Integer.toString(i))
+                        .withReceiptHandle(m.getReceiptHandle()).withVisibilityTimeout(visibilityTimeoutSeconds));
+                ++i;
+            }
+            batchRequest.setEntries(entries);
+
+            extending = true;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    extendVisibility(batchRequest);
+                }
+            });
+        }
+
+        /**
+         * Sends a visibility extension and moves the deadline of the batch. Messages still in the
+         * batch whose extension failed are dropped, since SQS will deliver them again at the old
+         * deadline.
+         */
+        private void extendVisibility(ChangeMessageVisibilityBatchRequest batchRequest) {
+            // the new timeout runs from the time SQS handles the request, so start counting before
+            // sending it.
+            long requestedNanos = clock.nanoTime();
+            ChangeMessageVisibilityBatchResult batchResult = null;
+            try {
+                batchResult = sqsClient.changeMessageVisibilityBatch(batchRequest);
+                extendedMessages.addAndGet(batchResult.getSuccessful().size());
+            } catch (AmazonClientException e) {
+                // Log and ignore, the batch will expire as if it was never extended.
+                log.warn("ReceiveMessageBatchTask: changeMessageVisibility failed " + e);
+            } finally {
+                synchronized (this) {
+                    if (batchResult != null) {
+                        if (!batchResult.getFailed().isEmpty()) {
+                            Set<String> failedReceiptHandles = new HashSet<String>();
+                            for (BatchResultErrorEntry errorEntry : batchResult.getFailed()) {
+                                int index = Integer.parseInt(errorEntry.getId());
+                                failedReceiptHandles.add(batchRequest.getEntries().get(index).getReceiptHandle());
+                            }
+                            for (Iterator<Message> it = messages.iterator(); it.hasNext();) {
+                                if (failedReceiptHandles.contains(it.next().getReceiptHandle())) {
+                                    it.remove();
+                                    expiredMessages.incrementAndGet();
+                                }
+                            }
+                        }
+                        if (messages.isEmpty()) {
+                            // nothing is left to hand out, let the batch be pruned like an expired
+                            // one rather than returned as an empty result.
+                            visibilityDeadlineNano = requestedNanos - 1;
+                        } else {
+                            visibilityDeadlineNano = requestedNanos + batchVisibilityTimeoutNanos;
+                        }
+                    }
+                    extending = false;
+                }
+            }
         }
 
         /**
@@ -496,16 +707,19 @@ public class ReceiveQueueBuffer {
          */
         public void run() {
 
+            long startNanos = clock.nanoTime();
             try {
-                visibilityDeadlineNano = System.nanoTime() + visibilityTimeoutNanos;
+                batchVisibilityTimeoutNanos = visibilityTimeoutNanos;
+                visibilityDeadlineNano = clock.nanoTime() + visibilityTimeoutNanos;
                 ReceiveMessageRequest request = new ReceiveMessageRequest(qUrl).withMaxNumberOfMessages(config
                         .getMaxBatchSize());
                 ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
 
                 if (config.getVisibilityTimeoutSeconds() > 0) {
                     request.setVisibilityTimeout(config.getVisibilityTimeoutSeconds());
-                    visibilityDeadlineNano = System.nanoTime()
-                            + TimeUnit.NANOSECONDS.convert(config.getVisibilityTimeoutSeconds(), TimeUnit.SECONDS);
+                    batchVisibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(config.getVisibilityTimeoutSeconds(),
+                            TimeUnit.SECONDS);
+                    visibilityDeadlineNano = clock.nanoTime() + batchVisibilityTimeoutNanos;
                 }
 
                 if (config.isLongPoll()) {
@@ -513,6 +727,9 @@ public class ReceiveQueueBuffer {
                 }
 
                 messages = sqsClient.receiveMessage(request).getMessages();
+                if (prefetchController != null) {
+                    prefetchController.batchReceived(messages.size(), clock.nanoTime() - startNanos);
+                }
             } catch (AmazonClientException e) {
                 exception = e;
             } finally {
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+/**
+ * A point in time snapshot of the prefetching done by the receive buffer of a single queue,
+ * returned by {@link AmazonSQSBufferedAsyncClient#getReceiveQueueBufferStatistics(String)}.
+ */
+public class ReceiveQueueBufferStatistics {
+
+    private final int bufferedMessages;
+    private final int inflightReceiveBatches;
+    private final int targetInflightReceiveBatches;
+    private final int targetDoneReceiveBatches;
+    private final double consumedMessagesPerSecond;
+    private final double receiveLatencyMillis;
+    private final long expiredMessages;
+    private final long extendedMessages;
+
+    ReceiveQueueBufferStatistics(int bufferedMessages, int inflightReceiveBatches, int targetInflightReceiveBatches,
+            int targetDoneReceiveBatches, double consumedMessagesPerSecond, double receiveLatencyMillis,
+            long expiredMessages, long extendedMessages) {
+        this.bufferedMessages = bufferedMessages;
+        this.inflightReceiveBatches = inflightReceiveBatches;
+        this.targetInflightReceiveBatches = targetInflightReceiveBatches;
+        this.targetDoneReceiveBatches = targetDoneReceiveBatches;
+        this.consumedMessagesPerSecond = consumedMessagesPerSecond;
+        this.receiveLatencyMillis = receiveLatencyMillis;
+        this.expiredMessages = expiredMessages;
+        this.extendedMessages = extendedMessages;
+    }
+
+    /**
+     * @return the number of prefetched messages waiting in the buffer
+     */
+    public int getBufferedMessages() {
+        return bufferedMessages;
+    }
+
+    /**
+     * @return the number of receive batches currently in flight
+     */
+    public int getInflightReceiveBatches() {
+        return inflightReceiveBatches;
+    }
+
+    /**
+     * @return the number of receive batches the buffer currently keeps in flight at most. Equal
+     *         to {@link QueueBufferConfig#getMaxInflightReceiveBatches()} unless adaptive
+     *         prefetching is enabled.
+     */
+    public int getTargetInflightReceiveBatches() {
+        return targetInflightReceiveBatches;
+    }
+
+    /**
+     * @return the number of completed receive batches the buffer currently keeps at most. Equal
+     *         to {@link QueueBufferConfig#getMaxDoneReceiveBatches()} unless adaptive prefetching
+     *         is enabled.
+     */
+    public int getTargetDoneReceiveBatches() {
+        return targetDoneReceiveBatches;
+    }
+
+    /**
+     * @return the rate at which the application receives messages from the buffer, in messages
+     *         per second. Only measured when adaptive prefetching is enabled.
+     */
+    public double getConsumedMessagesPerSecond() {
+        return consumedMessagesPerSecond;
+    }
+
+    /**
+     * @return the average time SQS took to return a non-empty receive batch, in milliseconds.
+     *         Only measured when adaptive prefetching is enabled.
+     */
+    public double getReceiveLatencyMillis() {
+        return receiveLatencyMillis;
+    }
+
+    /**
+     * @return the total number of prefetched messages discarded because their visibility timeout
+     *         expired before the application received them. These messages will be delivered
+     *         again by SQS.
+     */
+    public long getExpiredMessages() {
+        return expiredMessages;
+    }
+
+    /**
+     * @return the total number of times the visibility timeout of a prefetched message was
+     *         extended.
+     */
+    public long getExtendedMessages() {
+        return extendedMessages;
+    }
+
+    @Override
+    public String toString() {
+        return "ReceiveQueueBufferStatistics [bufferedMessages=" + bufferedMessages + ", inflightReceiveBatches="
+                + inflightReceiveBatches + ", targetInflightReceiveBatches=" + targetInflightReceiveBatches
+                + ", targetDoneReceiveBatches=" + targetDoneReceiveBatches + ", consumedMessagesPerSecond="
+                + consumedMessagesPerSecond + ", receiveLatencyMillis=" + receiveLatencyMillis
+                + ", expiredMessages=" + expiredMessages + ", extendedMessages=" + extendedMessages + "]";
+    }
+}
@@ -19,6 +19,8 @@ import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -83,37 +85,53 @@ public class SendQueueBuffer {
     private final Executor executor;
 
     /**
-     * Object used to serialize sendMessage calls.
+     * Locks used to serialize sendMessage calls, one per shard.
      */
-    private final Object sendMessageLock = new Object();
+    private final ReentrantLock[] sendMessageLocks;
 
     /**
-     * Object used to serialize deleteMessage calls.
+     * Locks used to serialize deleteMessage calls, one per shard.
      */
-    private final Object deleteMessageLock = new Object();
+    private final ReentrantLock[] deleteMessageLocks;
 
     /**
-     * Object used to serialize changeMessageVisibility calls.
+     * Locks used to serialize changeMessageVisibility calls, one per shard.
      */
-    private final Object changeMessageVisibilityLock = new Object();
+    private final ReentrantLock[] changeMessageVisibilityLocks;
 
     /**
-     * Current batching task for sendMessage. Using a size 1 array to allow "passing by reference".
-     * Synchronized by {@code sendMessageLock}.
+     * Current batching tasks for sendMessage, one per shard. Each element is synchronized by the
+     * {@code sendMessageLocks} element at the same index.
      */
-    private final SendMessageBatchTask[] openSendMessageBatchTask = new SendMessageBatchTask[1];
+    private final SendMessageBatchTask[] openSendMessageBatchTasks;
 
     /**
-     * Current batching task for deleteMessage. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code deleteMessageLock}.
+     * Current batching tasks for deleteMessage, one per shard. Each element is synchronized by the
+     * {@code deleteMessageLocks} element at the same index.
      */
-    private final DeleteMessageBatchTask[] openDeleteMessageBatchTask = new DeleteMessageBatchTask[1];
+    private final DeleteMessageBatchTask[] openDeleteMessageBatchTasks;
 
     /**
-     * Current batching task for changeMessageVisibility. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code changeMessageVisibilityLock}.
+     * Current batching tasks for changeMessageVisibility, one per shard. Each element is
+     * synchronized by the {@code changeMessageVisibilityLocks} element at the same index.
      */
-    private final ChangeMessageVisibilityBatchTask[] openChangeMessageVisibilityBatchTask = new ChangeMessageVisibilityBatchTask[1];
+    private final ChangeMessageVisibilityBatchTask[] openChangeMessageVisibilityBatchTasks;
+
+    /**
+     * The shard of each producer thread, assigned round robin on its first call so that threads
+     * spread evenly across the shards.
+     */
+    private final ThreadLocal<Integer> threadShard = new ThreadLocal<Integer>() {
+        @Override
+        protected Integer initialValue() {
+            return (nextThreadShard.getAndIncrement() & Integer.MAX_VALUE) % sendMessageLocks.length;
+        }
+    };
+
+    /**
+     * Counter assigning the shards of producer threads.
+     */
+    private final AtomicInteger nextThreadShard = new AtomicInteger();
 
     /**
      * Permits controlling the number of in flight SendMessage batches.
@@ -142,6 +160,24 @@ public class SendQueueBuffer {
         this.inflightSendMessageBatches = new Semaphore(maxBatch);
         this.inflightDeleteMessageBatches = new Semaphore(maxBatch);
         this.inflightChangeMessageVisibilityBatches = new Semaphore(maxBatch);
+
+        // every open batch holds an in flight permit, so there is no point in having more shards
+        // than permits.
+        int shards = Math.max(1, Math.min(config.getOutboundBatchShards(), maxBatch));
+        this.sendMessageLocks = newLocks(shards);
+        this.deleteMessageLocks = newLocks(shards);
+        this.changeMessageVisibilityLocks = newLocks(shards);
+        this.openSendMessageBatchTasks = new SendMessageBatchTask[shards];
+        this.openDeleteMessageBatchTasks = new DeleteMessageBatchTask[shards];
+        this.openChangeMessageVisibilityBatchTasks = new ChangeMessageVisibilityBatchTask[shards];
+    }
+
+    private static ReentrantLock[] newLocks(int count) {
+        ReentrantLock[] locks = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
     }
 
     public QueueBufferConfig getConfig() {
@@ -153,8 +189,8 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<SendMessageRequest, SendMessageResult> sendMessage(SendMessageRequest request,
                                                                                 QueueBufferCallback<SendMessageRequest, SendMessageResult> callback) {
-        QueueBufferFuture<SendMessageRequest, SendMessageResult> result = submitOutboundRequest(sendMessageLock,
-                openSendMessageBatchTask, request, inflightSendMessageBatches, callback);
+        QueueBufferFuture<SendMessageRequest, SendMessageResult> result = submitOutboundRequest(sendMessageLocks,
+                openSendMessageBatchTasks, request, inflightSendMessageBatches, callback);
         return result;
     }
 
@@ -163,7 +199,7 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<DeleteMessageRequest, DeleteMessageResult> deleteMessage(DeleteMessageRequest request,
                                                                        QueueBufferCallback<DeleteMessageRequest, DeleteMessageResult> callback) {
-        return submitOutboundRequest(deleteMessageLock, openDeleteMessageBatchTask, request,
+        return submitOutboundRequest(deleteMessageLocks, openDeleteMessageBatchTasks, request,
                 inflightDeleteMessageBatches, callback);
     }
 
@@ -172,7 +208,7 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> changeMessageVisibility(ChangeMessageVisibilityRequest request,
                                                                                            QueueBufferCallback<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> callback) {
-        return submitOutboundRequest(changeMessageVisibilityLock, openChangeMessageVisibilityBatchTask, request,
+        return submitOutboundRequest(changeMessageVisibilityLocks, openChangeMessageVisibilityBatchTasks, request,
                 inflightChangeMessageVisibilityBatches, callback);
     }
 
@@ -203,32 +239,44 @@ public class SendQueueBuffer {
     public void flush() {
 
         try {
-            synchronized (sendMessageLock) {
-                inflightSendMessageBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightSendMessageBatches.release(config.getMaxInflightOutboundBatches());
-            }
-            synchronized (deleteMessageLock) {
-                inflightDeleteMessageBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightDeleteMessageBatches.release(config.getMaxInflightOutboundBatches());
-            }
-            synchronized (changeMessageVisibilityLock) {
-                inflightChangeMessageVisibilityBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightChangeMessageVisibilityBatches.release(config.getMaxInflightOutboundBatches());
-            }
+            awaitInflightBatches(sendMessageLocks, inflightSendMessageBatches);
+            awaitInflightBatches(deleteMessageLocks, inflightDeleteMessageBatches);
+            awaitInflightBatches(changeMessageVisibilityLocks, inflightChangeMessageVisibilityBatches);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Waits for all in flight batches of one operation type to complete. The locks of all shards
+     * are held while waiting, so that no new batch can be opened in the meantime.
+     */
+    private void awaitInflightBatches(ReentrantLock[] operationLocks, Semaphore inflightOperationBatches)
+            throws InterruptedException {
+        int locked = 0;
+        try {
+            // Always locked in the same order, so concurrent flushes cannot deadlock
+            for (; locked < operationLocks.length; locked++) {
+                operationLocks[locked].lock();
+            }
+            inflightOperationBatches.acquire(config.getMaxInflightOutboundBatches());
+            inflightOperationBatches.release(config.getMaxInflightOutboundBatches());
+        } finally {
+            while (locked > 0) {
+                operationLocks[--locked].unlock();
+            }
+        }
+    }
+
     /**
      * Submits an outbound request for delivery to the queue associated with this buffer.
      * <p>
      *
-     * @param operationLock
-     *            the lock synchronizing calls for the call type ( {@code sendMessage},
-     *            {@code deleteMessage}, {@code changeMessageVisibility} )
-     * @param openOutboundBatchTask
-     *            the open batch task for this call type
+     * @param operationLocks
+     *            the locks synchronizing calls for the call type ( {@code sendMessage},
+     *            {@code deleteMessage}, {@code changeMessageVisibility} ), one per shard
+     * @param openOutboundBatchTasks
+     *            the open batch tasks for this call type, one per shard
      * @param request
      *            the request to submit
      * @param inflightOperationBatches
@@ -238,29 +286,34 @@ public class SendQueueBuffer {
      *             (see the various outbound calls for details)
      */
     @SuppressWarnings("unchecked")
-    <OBT extends OutboundBatchTask<R, Result>, R extends AmazonWebServiceRequest, Result> QueueBufferFuture<R, Result> submitOutboundRequest(Object operationLock,
-                                                                                                                                             OBT[] openOutboundBatchTask,
+    <OBT extends OutboundBatchTask<R, Result>, R extends AmazonWebServiceRequest, Result> QueueBufferFuture<R, Result> submitOutboundRequest(ReentrantLock[] operationLocks,
+                                                                                                                                             OBT[] openOutboundBatchTasks,
                                                                                                                                              R request,
                                                                                                                                              final Semaphore inflightOperationBatches,
                                                                                                                                              QueueBufferCallback<R, Result> callback) {
         /*
-         * Callers add requests to a single batch task (openOutboundBatchTask) until it is full or
-         * maxBatchOpenMs elapses. The total number of batch task in flight is controlled by the
-         * inflightOperationBatch semaphore capped at maxInflightOutboundBatches.
+         * Callers add requests to the batch task of their shard (openOutboundBatchTasks[shard])
+         * until it is full or maxBatchOpenMs elapses. A thread always uses the same shard, so its
+         * requests are batched in the order it makes them, and producers on different shards
+         * never contend with each other. The total number of batch
+         * task in flight is controlled by the inflightOperationBatch semaphore capped at
+         * maxInflightOutboundBatches.
          */
+        int shard = operationLocks.length == 1 ? 0 : threadShard.get();
         QueueBufferFuture<R, Result> theFuture = null;
         try {
-            synchronized (operationLock) {
-                if (openOutboundBatchTask[0] == null
-                        || ((theFuture = openOutboundBatchTask[0].addRequest(request, callback))) == null) {
+            operationLocks[shard].lock();
+            try {
+                if (openOutboundBatchTasks[shard] == null
+                        || ((theFuture = openOutboundBatchTasks[shard].addRequest(request, callback))) == null) {
 
                     OBT obt = (OBT) newOutboundBatchTask(request);
                     inflightOperationBatches.acquire();
-                    openOutboundBatchTask[0] = obt;
+                    openOutboundBatchTasks[shard] = obt;
 
                     // Register a listener for the event signaling that the
                     // batch task has completed (successfully or not).
-                    openOutboundBatchTask[0].setOnCompleted(new Listener<OutboundBatchTask<R, Result>>() {
+                    openOutboundBatchTasks[shard].setOnCompleted(new Listener<OutboundBatchTask<R, Result>>() {
                         @Override
                         public void invoke(OutboundBatchTask<R, Result> task) {
                             inflightOperationBatches.release();
@@ -272,8 +325,8 @@ public class SendQueueBuffer {
                                 + inflightOperationBatches.availablePermits() + " free slots remain");
                     }
 
-                    theFuture = openOutboundBatchTask[0].addRequest(request, callback);
-                    executor.execute(openOutboundBatchTask[0]);
+                    theFuture = openOutboundBatchTasks[shard].addRequest(request, callback);
+                    executor.execute(openOutboundBatchTasks[shard]);
                     if (null == theFuture) {
                         // this can happen only if the request itself is flawed,
                         // so that it can't be added to any batch, even a brand
@@ -281,6 +334,8 @@ public class SendQueueBuffer {
                         throw new AmazonClientException("Failed to schedule request " + request + " for execution");
                     }
                 }
+            } finally {
+                operationLocks[shard].unlock();
             }
 
         } catch (InterruptedException e) {
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class AdaptivePrefetchControllerTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long LATENCY = 125 * MILLIS;
+
+    private final AdaptivePrefetchController controller = new AdaptivePrefetchController(10, 0);
+
+    @Test
+    public void testOneBatchWithoutDemand() {
+        assertEquals(1, controller.targetBatches(10, 0));
+        controller.batchReceived(10, LATENCY);
+        assertEquals(1, controller.targetBatches(10, 5000 * MILLIS));
+    }
+
+    @Test
+    public void testTargetIsTwiceConsumeRateTimesLatency() {
+        controller.batchReceived(10, LATENCY);
+        long now = consume(100, 10000 * MILLIS, 0);
+
+        assertEquals(100, controller.getConsumeRate(now), 5);
+        // 100 messages/s * 0.125 s * 2 = 25 messages
+        assertEquals(3, controller.targetBatches(10, now));
+        assertEquals(2, controller.targetBatches(2, now));
+    }
+
+    @Test
+    public void testEmptyReceivesDoNotCountTowardsLatency() {
+        controller.batchReceived(10, LATENCY);
+        controller.batchReceived(0, 20000 * MILLIS);
+        assertEquals(LATENCY, controller.getReceiveLatencyNanos(), 0);
+
+        controller.batchReceived(10, 3 * LATENCY);
+        assertEquals(2 * LATENCY, controller.getReceiveLatencyNanos(), 0);
+    }
+
+    @Test
+    public void testBurstIsSeenBeforeWindowEnds() {
+        controller.batchReceived(10, LATENCY);
+        controller.messagesConsumed(50, 50 * MILLIS);
+        // 50 messages in the shortest window of 100 ms: 500 messages/s * 0.125 s * 2 = 125 messages
+        assertEquals(13, controller.targetBatches(50, 50 * MILLIS));
+    }
+
+    @Test
+    public void testRateDecaysWhenIdle() {
+        controller.batchReceived(10, LATENCY);
+        long now = consume(100, 10000 * MILLIS, 0);
+        assertEquals(3, controller.targetBatches(10, now));
+
+        assertEquals(1, controller.targetBatches(10, now + 5000 * MILLIS));
+    }
+
+    /**
+     * Consumes messages at the given rate, ten at a time.
+     *
+     * @return the time consumption ended
+     */
+    private long consume(int messagesPerSecond, long durationNanos, long startNanos) {
+        long interval = TimeUnit.SECONDS.toNanos(10) / messagesPerSecond;
+        long now = startNanos;
+        while (now < startNanos + durationNanos) {
+            now += interval;
+            controller.messagesConsumed(10, now);
+        }
+        return now;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.amazonaws.services.sqs.AbstractAmazonSQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+/**
+ * Consumes messages from a queue with a visibility timeout of 2 s at 20 messages per second,
+ * with the time and the execution of the receive batches under the control of the test.
+ */
+public class ReceiveQueueBufferTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long CONSUME_INTERVAL = 50 * MILLIS;
+    private static final long RECEIVE_LATENCY = 20 * MILLIS;
+
+    private final ManualClock clock = new ManualClock();
+    private final ManualExecutor executor = new ManualExecutor();
+    private final SqsStub sqs = new SqsStub();
+
+    @Test
+    public void testPrefetchedMessagesExpireWithSlowConsumer() throws Exception {
+        ReceiveQueueBuffer buffer = buffer(new QueueBufferConfig());
+        consume(buffer, 120);
+
+        assertTrue(buffer.getStatistics().getExpiredMessages() > 0);
+        assertEquals(10, buffer.getStatistics().getTargetDoneReceiveBatches());
+    }
+
+    @Test
+    public void testAdaptivePrefetchingSizesBufferToDemand() throws Exception {
+        ReceiveQueueBuffer buffer = buffer(new QueueBufferConfig().withAdaptivePrefetching(true));
+        consume(buffer, 120);
+
+        ReceiveQueueBufferStatistics statistics = buffer.getStatistics();
+        assertEquals(0, statistics.getExpiredMessages());
+        assertEquals(20, statistics.getConsumedMessagesPerSecond(), 2);
+        assertEquals(20, statistics.getReceiveLatencyMillis(), 0.001);
+        // 20 messages/s * 0.02 s * 2 is less than one batch
+        assertEquals(1, statistics.getTargetInflightReceiveBatches());
+        assertEquals(1, statistics.getTargetDoneReceiveBatches());
+        assertTrue(sqs.received.size() <= 130);
+    }
+
+    @Test
+    public void testAdaptivePrefetchingRampsUpWithFastConsumer() throws Exception {
+        ReceiveQueueBuffer buffer = buffer(new QueueBufferConfig().withAdaptivePrefetching(true)
+                .withMaxInflightReceiveBatches(5).withMaxDoneReceiveBatches(5));
+        for (int i = 0; i < 100; i++) {
+            clock.advance(MILLIS);
+            receive(buffer, 10);
+        }
+
+        ReceiveQueueBufferStatistics statistics = buffer.getStatistics();
+        double messages = statistics.getConsumedMessagesPerSecond()
+                * statistics.getReceiveLatencyMillis() / 1000 * 2;
+        int expected = (int) Math.ceil(messages / 10);
+        assertTrue(expected > 1);
+        assertEquals(expected, statistics.getTargetInflightReceiveBatches());
+        assertEquals(expected, statistics.getTargetDoneReceiveBatches());
+    }
+
+    @Test
+    public void testVisibilityOfBufferedMessagesIsExtended() throws Exception {
+        ReceiveQueueBuffer buffer = buffer(new QueueBufferConfig().withAutoExtendVisibility(true));
+        consume(buffer, 120);
+
+        ReceiveQueueBufferStatistics statistics = buffer.getStatistics();
+        assertEquals(0, statistics.getExpiredMessages());
+        assertTrue(statistics.getExtendedMessages() > 0);
+        assertFalse(sqs.visibilityChanges.isEmpty());
+        for (ChangeMessageVisibilityBatchRequest request : sqs.visibilityChanges) {
+            assertEquals(QUEUE_URL, request.getQueueUrl());
+            assertTrue(request.getEntries().size() <= 10);
+            for (ChangeMessageVisibilityBatchRequestEntry entry : request.getEntries()) {
+                assertEquals(Integer.valueOf(2), entry.getVisibilityTimeout());
+            }
+        }
+    }
+
+    @Test
+    public void testExtensionIsSentForRemainingMessagesOfBatchOnce() throws Exception {
+        ReceiveQueueBuffer buffer = buffer(new QueueBufferConfig().withAutoExtendVisibility(true)
+                .withMaxDoneReceiveBatches(1).withMaxInflightReceiveBatches(1));
+        // Messages are handed out from the end of the batch
+        assertEquals(bodies("9", "8", "7", "6"), receive(buffer, 4));
+        clock.advance(1100 * MILLIS);
+        // The batch has less than half of its visibility timeout left
+        assertEquals(bodies("5"), receive(buffer, 1));
+        assertEquals(bodies("4"), receive(buffer, 1));
+
+        assertEquals(1, sqs.visibilityChanges.size());
+        List<String> receiptHandles = new ArrayList<String>();
+        for (ChangeMessageVisibilityBatchRequestEntry entry : sqs.visibilityChanges.get(0).getEntries()) {
+            receiptHandles.add(entry.getReceiptHandle());
+        }
+        assertEquals(receiptHandles("0", "1", "2", "3", "4"), receiptHandles);
+
+        // Past the original deadline, the remaining messages are still returned
+        clock.advance(1500 * MILLIS);
+        assertEquals(bodies("3", "2", "1", "0"), receive(buffer, 10));
+        assertEquals(0, buffer.getStatistics().getExpiredMessages());
+    }
+
+    @Test
+    public void testMessagesWhoseExtensionFailedAreDropped() throws Exception {
+        for (int i = 50; i < 60; i++) {
+            sqs.failedExtensions.add("receipt-" + i);
+        }
+        ReceiveQueueBuffer buffer = buffer(new QueueBufferConfig().withAutoExtendVisibility(true));
+        List<String> consumed = consume(buffer, 120);
+
+        assertEquals(10, buffer.getStatistics().getExpiredMessages());
+        assertTrue(consumed.contains("49"));
+        assertTrue(consumed.contains("60"));
+        for (int i = 50; i < 60; i++) {
+            assertFalse(consumed.contains(Integer.toString(i)));
+        }
+    }
+
+    private ReceiveQueueBuffer buffer(QueueBufferConfig config) {
+        return new ReceiveQueueBuffer(sqs, executor, config.withLongPoll(false), QUEUE_URL, clock);
+    }
+
+    /**
+     * Receives the given number of messages one at a time, every 50 ms.
+     *
+     * @return the bodies of the messages received
+     */
+    private List<String> consume(ReceiveQueueBuffer buffer, int count) throws Exception {
+        List<String> bodies = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            clock.advance(CONSUME_INTERVAL);
+            bodies.addAll(receive(buffer, 1));
+        }
+        assertEquals(count, bodies.size());
+        return bodies;
+    }
+
+    private List<String> receive(ReceiveQueueBuffer buffer, int maxNumberOfMessages) throws Exception {
+        QueueBufferFuture<ReceiveMessageRequest, ReceiveMessageResult> future = buffer.receiveMessageAsync(
+                new ReceiveMessageRequest(QUEUE_URL).withMaxNumberOfMessages(maxNumberOfMessages), null);
+        executor.runAll();
+        assertTrue(future.isDone());
+        List<String> bodies = new ArrayList<String>();
+        for (Message message : future.get().getMessages()) {
+            bodies.add(message.getBody());
+        }
+        return bodies;
+    }
+
+    private static List<String> bodies(String... bodies) {
+        List<String> list = new ArrayList<String>();
+        Collections.addAll(list, bodies);
+        return list;
+    }
+
+    private static List<String> receiptHandles(String... bodies) {
+        List<String> list = new ArrayList<String>();
+        for (String body : bodies) {
+            list.add("receipt-" + body);
+        }
+        return list;
+    }
+
+    private static class ManualClock implements ReceiveQueueBuffer.NanoClock {
+        private long now = 1000 * MILLIS;
+
+        @Override
+        public synchronized long nanoTime() {
+            return now;
+        }
+
+        synchronized void advance(long nanos) {
+            now += nanos;
+        }
+    }
+
+    /**
+     * Runs the submitted tasks when told to, on the calling thread.
+     */
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new LinkedList<Runnable>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * A queue that always has more messages, numbered from 0.
+     */
+    private class SqsStub extends AbstractAmazonSQS {
+        private final List<Message> received = new ArrayList<Message>();
+        private final List<ChangeMessageVisibilityBatchRequest> visibilityChanges =
+                new ArrayList<ChangeMessageVisibilityBatchRequest>();
+        private final Set<String> failedExtensions = new HashSet<String>();
+
+        @Override
+        public GetQueueAttributesResult getQueueAttributes(GetQueueAttributesRequest request) {
+            return new GetQueueAttributesResult().addAttributesEntry("VisibilityTimeout", "2");
+        }
+
+        @Override
+        public ReceiveMessageResult receiveMessage(ReceiveMessageRequest request) {
+            clock.advance(RECEIVE_LATENCY);
+            List<Message> messages = new ArrayList<Message>();
+            for (int i = 0; i < request.getMaxNumberOfMessages(); i++) {
+                String id = Integer.toString(received.size());
+                Message message = new Message().withMessageId(id).withBody(id).withReceiptHandle("receipt-" + id);
+                received.add(message);
+                messages.add(message);
+            }
+            return new ReceiveMessageResult().withMessages(messages);
+        }
+
+        @Override
+        public ChangeMessageVisibilityBatchResult changeMessageVisibilityBatch(
+                ChangeMessageVisibilityBatchRequest request) {
+            visibilityChanges.add(request);
+            ChangeMessageVisibilityBatchResult result = new ChangeMessageVisibilityBatchResult();
+            for (ChangeMessageVisibilityBatchRequestEntry entry : request.getEntries()) {
+                if (failedExtensions.contains(entry.getReceiptHandle())) {
+                    result.getFailed().add(new BatchResultErrorEntry().withId(entry.getId())
+                            .withCode("ReceiptHandleIsInvalid").withSenderFault(true));
+                } else {
+                    result.getSuccessful().add(new ChangeMessageVisibilityBatchResultEntry().withId(entry.getId()));
+                }
+            }
+            return result;
+        }
+    }
+}
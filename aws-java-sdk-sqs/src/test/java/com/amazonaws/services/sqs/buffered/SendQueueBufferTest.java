@@ -0,0 +1,202 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.sqs.AbstractAmazonSQS;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+
+/**
+ * Sends messages from several producer threads through a buffer with one or more outbound batch
+ * shards.
+ */
+public class SendQueueBufferTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final int MESSAGES_PER_PRODUCER = 2;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final SqsStub sqs = new SqsStub();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testFlushSendsBatchesOfAllShards() throws Exception {
+        SendQueueBuffer buffer = buffer(new QueueBufferConfig().withOutboundBatchShards(4)
+                .withMaxInflightOutboundBatches(4));
+
+        List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> futures = produce(buffer, 4);
+        buffer.flush();
+
+        for (QueueBufferFuture<SendMessageRequest, SendMessageResult> future : futures) {
+            assertTrue(future.isDone());
+            future.get();
+        }
+        // Each producer has a shard of its own
+        assertEquals(4, sqs.batches.size());
+        Set<String> producers = new HashSet<String>();
+        for (List<String> batch : sqs.batches) {
+            producers.add(producerOf(batch.get(0)));
+        }
+        assertEquals(4, producers.size());
+    }
+
+    @Test
+    public void testMessagesOfAProducerKeepTheirOrderAcrossShards() throws Exception {
+        SendQueueBuffer buffer = buffer(new QueueBufferConfig().withOutboundBatchShards(4)
+                .withMaxInflightOutboundBatches(4));
+
+        produce(buffer, 4);
+        buffer.flush();
+
+        for (List<String> batch : sqs.batches) {
+            String producer = producerOf(batch.get(0));
+            List<String> expected = new ArrayList<String>();
+            for (int i = 0; i < MESSAGES_PER_PRODUCER; i++) {
+                expected.add(producer + "-" + i);
+            }
+            assertEquals(expected, batch);
+        }
+    }
+
+    @Test
+    public void testProducersShareOneBatchWithOneShard() throws Exception {
+        SendQueueBuffer buffer = buffer(new QueueBufferConfig());
+
+        produce(buffer, 3);
+        buffer.flush();
+
+        assertEquals(1, sqs.batches.size());
+        assertEquals(3 * MESSAGES_PER_PRODUCER, sqs.batches.get(0).size());
+    }
+
+    @Test
+    public void testShardsAreCappedAtMaxInflightBatches() throws Exception {
+        SendQueueBuffer buffer = buffer(new QueueBufferConfig().withOutboundBatchShards(8)
+                .withMaxInflightOutboundBatches(2));
+
+        produce(buffer, 8);
+        buffer.flush();
+
+        assertEquals(2, sqs.batches.size());
+        assertEquals(8 * MESSAGES_PER_PRODUCER, sqs.batches.get(0).size() + sqs.batches.get(1).size());
+    }
+
+    @Test(expected = AmazonClientException.class)
+    public void testAtLeastOneShardIsRequired() {
+        new QueueBufferConfig().withOutboundBatchShards(0).validate();
+    }
+
+    @Test
+    public void testShardsAreCopied() {
+        QueueBufferConfig config = new QueueBufferConfig().withOutboundBatchShards(3);
+        config.validate();
+
+        assertEquals(3, new QueueBufferConfig(config).getOutboundBatchShards());
+        assertEquals(QueueBufferConfig.OUTBOUND_BATCH_SHARDS_DEFAULT,
+                new QueueBufferConfig().getOutboundBatchShards());
+    }
+
+    private SendQueueBuffer buffer(QueueBufferConfig config) {
+        // Batches stay open long enough for all producers to add their messages
+        return new SendQueueBuffer(sqs, executor, config.withMaxBatchOpenMs(500), QUEUE_URL);
+    }
+
+    /**
+     * Sends messages from the given number of producer threads started together, and returns
+     * their futures once they have all been submitted.
+     */
+    private List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> produce(final SendQueueBuffer buffer,
+            int producers) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<QueueBufferFuture<SendMessageRequest, SendMessageResult>>>> submitted =
+                new ArrayList<Future<List<QueueBufferFuture<SendMessageRequest, SendMessageResult>>>>();
+        for (int p = 0; p < producers; p++) {
+            final String producer = "producer" + p;
+            submitted.add(executor.submit(
+                    new Callable<List<QueueBufferFuture<SendMessageRequest, SendMessageResult>>>() {
+                        @Override
+                        public List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> call()
+                                throws InterruptedException {
+                            start.await();
+                            List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> futures =
+                                    new ArrayList<QueueBufferFuture<SendMessageRequest, SendMessageResult>>();
+                            for (int i = 0; i < MESSAGES_PER_PRODUCER; i++) {
+                                futures.add(buffer.sendMessage(
+                                        new SendMessageRequest(QUEUE_URL, producer + "-" + i), null));
+                            }
+                            return futures;
+                        }
+                    }));
+        }
+        start.countDown();
+        List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> futures =
+                new ArrayList<QueueBufferFuture<SendMessageRequest, SendMessageResult>>();
+        for (Future<List<QueueBufferFuture<SendMessageRequest, SendMessageResult>>> future : submitted) {
+            futures.addAll(future.get());
+        }
+        return futures;
+    }
+
+    private static String producerOf(String body) {
+        return body.substring(0, body.indexOf('-'));
+    }
+
+    /**
+     * Records the message bodies of each batch sent.
+     */
+    private static class SqsStub extends AbstractAmazonSQS {
+
+        private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<List<String>>());
+
+        @Override
+        public SendMessageBatchResult sendMessageBatch(SendMessageBatchRequest request) {
+            List<String> bodies = new ArrayList<String>();
+            SendMessageBatchResult result = new SendMessageBatchResult();
+            for (SendMessageBatchRequestEntry entry : request.getEntries()) {
+                bodies.add(entry.getMessageBody());
+                result.withSuccessful(new SendMessageBatchResultEntry().withId(entry.getId())
+                        .withMessageId(entry.getId()));
+            }
+            batches.add(bodies);
+            return result;
+        }
+    }
+}
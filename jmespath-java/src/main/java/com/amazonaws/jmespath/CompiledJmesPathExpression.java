@@ -0,0 +1,66 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.jmespath;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A JmesPath expression compiled to be evaluated directly against the model
+ * objects returned by a service call.
+ * <p>
+ * Evaluating a {@link JmesPathExpression} with the
+ * {@link JmesPathEvaluationVisitor} requires converting the whole model object
+ * to a Json tree first. A compiled expression instead walks the model object
+ * through its getters and only converts the values it selects, which avoids
+ * allocating a tree for the parts of a large result that the expression does
+ * not look at. Field, sub-expression, projection, flatten and identity
+ * expressions are evaluated directly; any other expression falls back to the
+ * evaluation visitor over the Json tree of the value it applies to. The
+ * result is the same as the one of the evaluation visitor.
+ * <p>
+ * Compiled expressions are immutable and safe to share between threads.
+ */
+public final class CompiledJmesPathExpression {
+
+    private final JmesPathCompiler.Accessor accessor;
+
+    private CompiledJmesPathExpression(JmesPathCompiler.Accessor accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * Compiles the given JmesPath expression.
+     *
+     * @param expression Expression to compile
+     * @return Compiled expression
+     */
+    public static CompiledJmesPathExpression compile(JmesPathExpression expression) {
+        return new CompiledJmesPathExpression(expression.accept(new JmesPathCompiler(), null));
+    }
+
+    /**
+     * Evaluates the expression against the given object.
+     *
+     * @param input Model object, or Json node, against which evaluation is
+     *              done
+     * @return Result of the evaluation, as the evaluation visitor would
+     * return it for the Json tree of the input
+     * @throws InvalidTypeException
+     */
+    public JsonNode evaluate(Object input) throws InvalidTypeException {
+        return JmesPathCompiler.toJsonNode(accessor.evaluate(input));
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.jmespath;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles a JmesPath expression into a tree of accessors evaluated against
+ * model objects, see {@link CompiledJmesPathExpression}.
+ * <p>
+ * While evaluating, a value is either a Json node, a model object, a
+ * collection (from the model or produced by a projection) or null when a field
+ * does not exist. Values are converted to Json nodes only when an expression
+ * which can't be evaluated directly is reached, or at the end of the
+ * evaluation.
+ */
+class JmesPathCompiler implements JmesPathVisitor<Void, JmesPathCompiler.Accessor> {
+
+    /**
+     * Compiled form of a single JmesPath expression.
+     */
+    interface Accessor {
+        Object evaluate(Object input) throws InvalidTypeException;
+    }
+
+    /**
+     * Serializable properties of the model classes met so far, by Json field
+     * name. Classes which are not serialized as Json objects map to an empty
+     * map.
+     */
+    private static final Map<Class<?>, Map<String, BeanPropertyWriter>> PROPERTIES =
+            new ConcurrentHashMap<Class<?>, Map<String, BeanPropertyWriter>>();
+
+    @Override
+    public Accessor visit(JmesPathSubExpression subExpression, Void input) throws InvalidTypeException {
+        final List<Accessor> accessors = new ArrayList<Accessor>();
+        for (JmesPathExpression expression : subExpression.getExpressions()) {
+            accessors.add(expression.accept(this, input));
+        }
+        return new Accessor() {
+            @Override
+            public Object evaluate(Object input) throws InvalidTypeException {
+                Object result = input;
+                for (Accessor accessor : accessors) {
+                    result = accessor.evaluate(result);
+                }
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public Accessor visit(JmesPathField fieldNode, Void input) {
+        final String fieldName = CamelCaseUtils.toCamelCase(fieldNode.getValue());
+        return new Accessor() {
+            @Override
+            public Object evaluate(Object input) {
+                return getField(input, fieldName);
+            }
+        };
+    }
+
+    @Override
+    public Accessor visit(JmesPathProjection jmesPathProjection, Void input) throws InvalidTypeException {
+        final Accessor lhs = jmesPathProjection.getLhsExpr().accept(this, input);
+        final Accessor projection = jmesPathProjection.getProjectionExpr().accept(this, input);
+        return new Accessor() {
+            @Override
+            public Object evaluate(Object input) throws InvalidTypeException {
+                Object lhsResult = lhs.evaluate(input);
+                if (!isArray(lhsResult)) {
+                    return NullNode.getInstance();
+                }
+                List<Object> projected = new ArrayList<Object>();
+                for (Object element : elements(lhsResult)) {
+                    Object projectedElement = projection.evaluate(element);
+                    if (projectedElement != null) {
+                        projected.add(projectedElement);
+                    }
+                }
+                return projected;
+            }
+        };
+    }
+
+    @Override
+    public Accessor visit(JmesPathFlatten flatten, Void input) throws InvalidTypeException {
+        final Accessor flattenExpr = flatten.getFlattenExpr().accept(this, input);
+        return new Accessor() {
+            @Override
+            public Object evaluate(Object input) throws InvalidTypeException {
+                Object flattenResult = flattenExpr.evaluate(input);
+                if (!isArray(flattenResult)) {
+                    return NullNode.getInstance();
+                }
+                List<Object> flattened = new ArrayList<Object>();
+                for (Object element : elements(flattenResult)) {
+                    if (isArray(element)) {
+                        for (Object innerElement : elements(element)) {
+                            flattened.add(innerElement);
+                        }
+                    } else {
+                        flattened.add(element);
+                    }
+                }
+                return flattened;
+            }
+        };
+    }
+
+    @Override
+    public Accessor visit(JmesPathIdentity jmesPathIdentity, Void input) {
+        return new Accessor() {
+            @Override
+            public Object evaluate(Object input) {
+                return input;
+            }
+        };
+    }
+
+    @Override
+    public Accessor visit(JmesPathValueProjection valueProjection, Void input) {
+        return evaluateAsJsonNode(valueProjection);
+    }
+
+    @Override
+    public Accessor visit(JmesPathFunction function, Void input) {
+        return evaluateAsJsonNode(function);
+    }
+
+    @Override
+    public Accessor visit(JmesPathLiteral literal, Void input) {
+        return evaluateAsJsonNode(literal);
+    }
+
+    @Override
+    public Accessor visit(JmesPathFilter filter, Void input) {
+        return evaluateAsJsonNode(filter);
+    }
+
+    @Override
+    public Accessor visit(Comparator op, Void input) {
+        return evaluateAsJsonNode(op);
+    }
+
+    @Override
+    public Accessor visit(JmesPathNotExpression expression, Void input) {
+        return evaluateAsJsonNode(expression);
+    }
+
+    @Override
+    public Accessor visit(JmesPathAndExpression expression, Void input) {
+        return evaluateAsJsonNode(expression);
+    }
+
+    @Override
+    public Accessor visit(JmesPathMultiSelectList multiSelectList, Void input) {
+        return evaluateAsJsonNode(multiSelectList);
+    }
+
+    /**
+     * Falls back to the evaluation visitor, over the Json tree of the value
+     * the expression applies to.
+     */
+    private static Accessor evaluateAsJsonNode(final JmesPathExpression expression) {
+        return new Accessor() {
+            @Override
+            public Object evaluate(Object input) throws InvalidTypeException {
+                return expression.accept(new JmesPathEvaluationVisitor(), toJsonNode(input));
+            }
+        };
+    }
+
+    /**
+     * Converts a value to the Json node it would have been in the Json tree
+     * of the whole model object.
+     */
+    static JsonNode toJsonNode(Object value) {
+        if (value == null || value instanceof JsonNode) {
+            return (JsonNode) value;
+        }
+        if (value instanceof Collection) {
+            ArrayNode arrayNode = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+            for (Object element : (Collection<?>) value) {
+                arrayNode.add(element == null ? NullNode.getInstance() : toJsonNode(element));
+            }
+            return arrayNode;
+        }
+        return ObjectMapperSingleton.getObjectMapper().valueToTree(value);
+    }
+
+    private static boolean isArray(Object value) {
+        return value instanceof Collection || (value instanceof JsonNode && ((JsonNode) value).isArray());
+    }
+
+    private static List<Object> elements(Object array) {
+        List<Object> elements = new ArrayList<Object>();
+        if (array instanceof JsonNode) {
+            Iterator<JsonNode> iterator = ((JsonNode) array).elements();
+            while (iterator.hasNext()) {
+                elements.add(iterator.next());
+            }
+        } else {
+            for (Object element : (Collection<?>) array) {
+                // Null elements are serialized as Json nulls
+                elements.add(element == null ? NullNode.getInstance() : element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Retrieves the value of a field of a Json object, reading model objects
+     * through the same property accessors Jackson serializes them with.
+     */
+    private static Object getField(Object input, String fieldName) {
+        if (input == null || input instanceof JsonNode) {
+            return getField((JsonNode) input, fieldName);
+        }
+        Map<String, BeanPropertyWriter> properties = input instanceof Collection
+                ? Collections.<String, BeanPropertyWriter>emptyMap() : getProperties(input.getClass());
+        if (properties.isEmpty()) {
+            // Not serialized as a bean, look the field up in its Json form
+            return getField(toJsonNode(input), fieldName);
+        }
+        BeanPropertyWriter property = properties.get(fieldName);
+        if (property == null) {
+            return null;
+        }
+        Object value;
+        try {
+            value = property.get(input);
+        } catch (Exception e) {
+            throw new InvalidTypeException("Unable to read field " + fieldName, e);
+        }
+        if (value == null) {
+            return property.willSuppressNulls() ? null : NullNode.getInstance();
+        }
+        return value;
+    }
+
+    private static JsonNode getField(JsonNode input, String fieldName) {
+        if (input != null && input.isObject()) {
+            return input.get(fieldName);
+        }
+        return NullNode.getInstance();
+    }
+
+    private static Map<String, BeanPropertyWriter> getProperties(Class<?> clazz) {
+        Map<String, BeanPropertyWriter> properties = PROPERTIES.get(clazz);
+        if (properties == null) {
+            properties = findProperties(clazz);
+            PROPERTIES.put(clazz, properties);
+        }
+        return properties;
+    }
+
+    private static Map<String, BeanPropertyWriter> findProperties(Class<?> clazz) {
+        ObjectMapper mapper = ObjectMapperSingleton.getObjectMapper();
+        JsonSerializer<Object> serializer;
+        try {
+            serializer = ((DefaultSerializerProvider) mapper.getSerializerProvider())
+                    .createInstance(mapper.getSerializationConfig(), mapper.getSerializerFactory())
+                    .findValueSerializer(clazz);
+        } catch (JsonMappingException e) {
+            return Collections.emptyMap();
+        }
+        if (!(serializer instanceof BeanSerializerBase)) {
+            return Collections.emptyMap();
+        }
+        Map<String, BeanPropertyWriter> properties = new HashMap<String, BeanPropertyWriter>();
+        Iterator<PropertyWriter> writers = ((BeanSerializerBase) serializer).properties();
+        while (writers.hasNext()) {
+            PropertyWriter writer = writers.next();
+            if (writer instanceof BeanPropertyWriter) {
+                properties.put(writer.getName(), (BeanPropertyWriter) writer);
+            }
+        }
+        return properties;
+    }
+}
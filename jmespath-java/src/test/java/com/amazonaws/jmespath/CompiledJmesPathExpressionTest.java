@@ -0,0 +1,475 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.jmespath;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Checks that a compiled expression evaluated against a model object returns
+ * what the evaluation visitor returns for the Json tree of that object.
+ */
+public class CompiledJmesPathExpressionTest {
+
+    private static final JmesPathExpression RESERVATIONS = new JmesPathFlatten(new JmesPathField("Reservations"));
+
+    private static final JmesPathExpression INSTANCES = new JmesPathFlatten(
+            new JmesPathProjection(RESERVATIONS, new JmesPathField("Instances")));
+
+    @Test
+    public void field() {
+        DescribeResult result = describeResult();
+        assertEquals("token", evaluate(new JmesPathField("NextToken"), result).asText());
+        assertNull(evaluate(new JmesPathField("Missing"), result));
+        assertSame(NullNode.getInstance(), evaluate(new JmesPathField("NextToken"), new DescribeResult()));
+    }
+
+    @Test
+    public void subExpression() {
+        Instance instance = instance("i-1", "running", 4);
+        instance.getAttributes().put("color", "red");
+        JmesPathExpression stateName = new JmesPathSubExpression(new JmesPathField("State"), new JmesPathField("Name"));
+        assertEquals("running", evaluate(stateName, instance).asText());
+        assertEquals(16, evaluate(new JmesPathSubExpression(new JmesPathField("State"), new JmesPathField("Code")),
+                instance).asInt());
+        assertEquals("red", evaluate(new JmesPathSubExpression(new JmesPathField("Attributes"),
+                new JmesPathField("color")), instance).asText());
+
+        // A null property is serialized as a Json null, whose fields are null
+        instance.setState(null);
+        assertSame(NullNode.getInstance(), evaluate(stateName, instance));
+    }
+
+    @Test
+    public void projection() {
+        DescribeResult result = describeResult();
+        JsonNode ids = evaluate(new JmesPathProjection(INSTANCES, new JmesPathField("InstanceId")), result);
+        assertEquals("[\"i-1\",\"i-2\",\"i-3\"]", ids.toString());
+
+        // Absent fields are left out of the projection, null ones are kept
+        result.getReservations().get(0).getInstances().get(0).setState(null);
+        assertEquals("[null,\"stopped\",\"running\"]", evaluate(new JmesPathProjection(INSTANCES,
+                new JmesPathSubExpression(new JmesPathField("State"), new JmesPathField("Name"))), result).toString());
+        assertEquals("[]", evaluate(new JmesPathProjection(INSTANCES, new JmesPathField("Missing")), result)
+                .toString());
+
+        assertSame(NullNode.getInstance(), evaluate(new JmesPathProjection(new JmesPathField("NextToken"),
+                new JmesPathIdentity()), result));
+    }
+
+    @Test
+    public void flatten() {
+        DescribeResult result = describeResult();
+        assertEquals(3, evaluate(INSTANCES, result).size());
+        assertEquals(2, evaluate(new JmesPathProjection(RESERVATIONS, new JmesPathField("Instances")), result)
+                .size());
+        assertEquals("[\"a\",\"b\",\"c\"]", evaluate(new JmesPathFlatten(new JmesPathField("Groups")), result)
+                .toString());
+        assertSame(NullNode.getInstance(), evaluate(new JmesPathFlatten(new JmesPathField("NextToken")), result));
+
+        result.getReservations().add(null);
+        assertEquals(3, evaluate(RESERVATIONS, result).size());
+        assertSame(NullNode.getInstance(), evaluate(RESERVATIONS, result).get(2));
+    }
+
+    @Test
+    public void filterAndComparison() {
+        DescribeResult result = describeResult();
+        JmesPathExpression running = new JmesPathProjection(RESERVATIONS, new JmesPathFilter(
+                new JmesPathField("Instances"), new JmesPathField("InstanceId"),
+                new OpEquals(new JmesPathSubExpression(new JmesPathField("State"), new JmesPathField("Name")),
+                        new JmesPathLiteral("\"running\""))));
+        assertEquals("[[\"i-1\"],[\"i-3\"]]", evaluate(running, result).toString());
+
+        assertEquals("[\"i-1\",\"i-3\"]", evaluate(new JmesPathFilter(INSTANCES, new JmesPathField("InstanceId"),
+                new OpGreaterThanOrEqualTo(new JmesPathField("CpuCount"), new JmesPathLiteral("4"))), result)
+                .toString());
+        assertEquals("[\"i-2\"]", evaluate(new JmesPathFilter(INSTANCES, new JmesPathField("InstanceId"),
+                new OpLessThan(new JmesPathField("CpuCount"), new JmesPathLiteral("4"))), result).toString());
+        assertEquals("[\"i-2\"]", evaluate(new JmesPathFilter(INSTANCES, new JmesPathField("InstanceId"),
+                new OpNotEquals(new JmesPathField("EbsOptimized"), new JmesPathLiteral("true"))), result)
+                .toString());
+
+        assertSame(BooleanNode.TRUE, evaluate(new OpEquals(new JmesPathField("NextToken"),
+                new JmesPathLiteral("\"token\"")), result));
+        assertSame(BooleanNode.FALSE, evaluate(new OpGreaterThan(new JmesPathSubExpression(
+                new JmesPathField("Reservations"), new JmesPathLengthFunction(new JmesPathIdentity())),
+                new JmesPathLiteral("2")), result));
+    }
+
+    @Test
+    public void length() {
+        DescribeResult result = describeResult();
+        assertEquals(new IntNode(3), evaluate(new JmesPathLengthFunction(INSTANCES), result));
+        assertEquals(new IntNode(5), evaluate(new JmesPathLengthFunction(new JmesPathField("NextToken")), result));
+        assertEquals(new IntNode(2), evaluate(new JmesPathLengthFunction(new JmesPathField("Reservations")), result));
+        assertSame(BooleanNode.TRUE, evaluate(new OpGreaterThan(new JmesPathLengthFunction(INSTANCES),
+                new JmesPathLiteral("2")), result));
+        assertEquals("[true,false]", evaluate(new JmesPathProjection(RESERVATIONS, new OpGreaterThanOrEqualTo(
+                new JmesPathLengthFunction(new JmesPathField("Instances")), new JmesPathLiteral("2"))), result)
+                .toString());
+    }
+
+    @Test
+    public void dateAndMapValuesAreConvertedAsInTheTree() {
+        DescribeResult result = describeResult();
+        assertEquals("[1000,2000,3000]", evaluate(new JmesPathProjection(INSTANCES,
+                new JmesPathField("LaunchTime")), result).toString());
+        assertEquals("[\"red\",null,\"blue\"]", evaluate(new JmesPathProjection(INSTANCES,
+                new JmesPathSubExpression(new JmesPathField("Attributes"), new JmesPathField("color"))), result)
+                .toString());
+        assertEquals("{\"color\":\"red\"}", evaluate(new JmesPathSubExpression(RESERVATIONS, new JmesPathIdentity()),
+                result).get(0).get("instances").get(0).get("attributes").toString());
+    }
+
+    /**
+     * The evaluation visitor fails when a field is looked up in the result of
+     * an absent field, or when an absent field is projected or flattened. The
+     * compiled expression evaluates those as if the absent field was a Json
+     * null instead.
+     */
+    @Test
+    public void absentIntermediatesEvaluateToNullInsteadOfFailing() {
+        DescribeResult result = describeResult();
+        assertSame(NullNode.getInstance(), evaluateAbsentIntermediate(new JmesPathSubExpression(
+                new JmesPathField("Missing"), new JmesPathField("Name")), result));
+        assertSame(NullNode.getInstance(), evaluateAbsentIntermediate(new JmesPathProjection(
+                new JmesPathField("Missing"), new JmesPathIdentity()), result));
+        assertSame(NullNode.getInstance(), evaluateAbsentIntermediate(new JmesPathFlatten(
+                new JmesPathField("Missing")), result));
+        assertEquals("[null,null,null]", evaluateAbsentIntermediate(new JmesPathProjection(INSTANCES,
+                new JmesPathSubExpression(new JmesPathField("Missing"), new JmesPathField("Name"))), result)
+                .toString());
+
+        // Null properties of classes excluding nulls from their Json form are absent
+        assertSame(NullNode.getInstance(), evaluateAbsentIntermediate(new JmesPathSubExpression(
+                new JmesPathField("Suppressed"), new JmesPathField("Name")), new Annotated()));
+    }
+
+    @Test
+    public void fieldsAreTheOnesJacksonSerializes() {
+        Annotated annotated = new Annotated();
+        annotated.setSuppressed(new State(16, "running"));
+        assertEquals("renamed", evaluate(new JmesPathField("renamed"), annotated).asText());
+        assertNull(evaluate(new JmesPathField("Original"), annotated));
+        assertNull(evaluate(new JmesPathField("Ignored"), annotated));
+        assertNull(evaluate(new JmesPathField("NotAGetter"), annotated));
+        assertEquals("running", evaluate(new JmesPathSubExpression(new JmesPathField("Suppressed"),
+                new JmesPathField("Name")), annotated).asText());
+
+        // Property lookups don't leave state behind in the shared object mapper
+        assertEquals("{\"suppressed\":{\"code\":16,\"name\":\"running\"},\"renamed\":\"renamed\"}",
+                ObjectMapperSingleton.getObjectMapper().valueToTree(annotated).toString());
+    }
+
+    @Test
+    public void onlyTheSelectedPropertiesAreRead() {
+        Counting counting = new Counting();
+        assertEquals("selected", CompiledJmesPathExpression.compile(new JmesPathField("Selected"))
+                .evaluate(counting).asText());
+        assertEquals(1, counting.selectedReads());
+        assertEquals(0, counting.unselectedReads());
+
+        // Serializing the whole object for the evaluation visitor reads both
+        assertEquals("selected", evaluate(new JmesPathField("Selected"), counting).asText());
+        assertEquals(3, counting.selectedReads());
+        assertEquals(1, counting.unselectedReads());
+    }
+
+    @Test
+    public void compiledExpressionsAreSafeToShare() throws Exception {
+        final CompiledJmesPathExpression compiled = CompiledJmesPathExpression.compile(
+                new JmesPathProjection(INSTANCES, new JmesPathSubExpression(new JmesPathField("State"),
+                        new JmesPathField("Name"))));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JsonNode>> futures = new ArrayList<Future<JsonNode>>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(new Callable<JsonNode>() {
+                    @Override
+                    public JsonNode call() {
+                        return compiled.evaluate(describeResult());
+                    }
+                }));
+            }
+            for (Future<JsonNode> future : futures) {
+                assertEquals("[\"running\",\"stopped\",\"running\"]", future.get().toString());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Evaluates the expression with the evaluation visitor over the Json tree
+     * of the input, and checks the compiled expression returns the same result
+     * for both the input and its tree.
+     */
+    private static JsonNode evaluate(JmesPathExpression expression, Object input) {
+        JsonNode tree = ObjectMapperSingleton.getObjectMapper().valueToTree(input);
+        JsonNode expected = expression.accept(new JmesPathEvaluationVisitor(), tree);
+        CompiledJmesPathExpression compiled = CompiledJmesPathExpression.compile(expression);
+        assertEquals(expected, compiled.evaluate(input));
+        assertEquals(expected, compiled.evaluate(tree));
+        return expected;
+    }
+
+    /**
+     * Checks the evaluation visitor fails over the Json tree of the input, and
+     * returns the result of the compiled expression, the same for the input
+     * and its tree.
+     */
+    private static JsonNode evaluateAbsentIntermediate(JmesPathExpression expression, Object input) {
+        JsonNode tree = ObjectMapperSingleton.getObjectMapper().valueToTree(input);
+        try {
+            expression.accept(new JmesPathEvaluationVisitor(), tree);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException expected) {
+        }
+        CompiledJmesPathExpression compiled = CompiledJmesPathExpression.compile(expression);
+        JsonNode result = compiled.evaluate(input);
+        assertEquals(result, compiled.evaluate(tree));
+        return result;
+    }
+
+    private static DescribeResult describeResult() {
+        Instance first = instance("i-1", "running", 4);
+        first.getAttributes().put("color", "red");
+        Instance second = instance("i-2", "stopped", 2);
+        second.setEbsOptimized(false);
+        Instance third = instance("i-3", "running", 8);
+        third.getAttributes().put("color", "blue");
+        second.setAttributes(null);
+
+        DescribeResult result = new DescribeResult();
+        result.setNextToken("token");
+        result.setGroups(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c")));
+        result.setReservations(new ArrayList<Reservation>(Arrays.asList(
+                new Reservation("1", first, second), new Reservation("2", third))));
+        return result;
+    }
+
+    private static Instance instance(String instanceId, String stateName, int cpuCount) {
+        Instance instance = new Instance();
+        instance.setInstanceId(instanceId);
+        instance.setState(new State(16, stateName));
+        instance.setCpuCount(cpuCount);
+        instance.setEbsOptimized(true);
+        instance.setLaunchTime(new Date(Long.parseLong(instanceId.substring(2)) * 1000));
+        return instance;
+    }
+
+    public static class DescribeResult {
+        private List<Reservation> reservations;
+        private List<List<String>> groups;
+        private String nextToken;
+
+        public List<Reservation> getReservations() {
+            return reservations;
+        }
+
+        public void setReservations(List<Reservation> reservations) {
+            this.reservations = reservations;
+        }
+
+        public List<List<String>> getGroups() {
+            return groups;
+        }
+
+        public void setGroups(List<List<String>> groups) {
+            this.groups = groups;
+        }
+
+        public String getNextToken() {
+            return nextToken;
+        }
+
+        public void setNextToken(String nextToken) {
+            this.nextToken = nextToken;
+        }
+    }
+
+    public static class Reservation {
+        private final String ownerId;
+        private final List<Instance> instances;
+
+        Reservation(String ownerId, Instance... instances) {
+            this.ownerId = ownerId;
+            this.instances = Arrays.asList(instances);
+        }
+
+        public String getOwnerId() {
+            return ownerId;
+        }
+
+        public List<Instance> getInstances() {
+            return instances;
+        }
+    }
+
+    public static class Instance {
+        private String instanceId;
+        private State state;
+        private Integer cpuCount;
+        private Boolean ebsOptimized;
+        private Date launchTime;
+        private Map<String, String> attributes = new LinkedHashMap<String, String>();
+
+        public String getInstanceId() {
+            return instanceId;
+        }
+
+        public void setInstanceId(String instanceId) {
+            this.instanceId = instanceId;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public void setState(State state) {
+            this.state = state;
+        }
+
+        public Integer getCpuCount() {
+            return cpuCount;
+        }
+
+        public void setCpuCount(Integer cpuCount) {
+            this.cpuCount = cpuCount;
+        }
+
+        public Boolean getEbsOptimized() {
+            return ebsOptimized;
+        }
+
+        public Boolean isEbsOptimized() {
+            return ebsOptimized;
+        }
+
+        public void setEbsOptimized(Boolean ebsOptimized) {
+            this.ebsOptimized = ebsOptimized;
+        }
+
+        public Date getLaunchTime() {
+            return launchTime;
+        }
+
+        public void setLaunchTime(Date launchTime) {
+            this.launchTime = launchTime;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+    }
+
+    public static class State {
+        private final Integer code;
+        private final String name;
+
+        State(Integer code, String name) {
+            this.code = code;
+            this.name = name;
+        }
+
+        public Integer getCode() {
+            return code;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Counting {
+        private int selectedReads;
+        private int unselectedReads;
+
+        public String getSelected() {
+            selectedReads++;
+            return "selected";
+        }
+
+        public String getUnselected() {
+            unselectedReads++;
+            return "unselected";
+        }
+
+        int selectedReads() {
+            return selectedReads;
+        }
+
+        int unselectedReads() {
+            return unselectedReads;
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Annotated {
+        private State suppressed;
+
+        public State getSuppressed() {
+            return suppressed;
+        }
+
+        public void setSuppressed(State suppressed) {
+            this.suppressed = suppressed;
+        }
+
+        @JsonProperty("renamed")
+        public String getOriginal() {
+            return "renamed";
+        }
+
+        @JsonIgnore
+        public String getIgnored() {
+            return "ignored";
+        }
+
+        public String notAGetter() {
+            return "notAGetter";
+        }
+    }
+}